@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.cosmos.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The bulk execution options of the repository methods saving, updating or deleting multiple items.
+ * Overrides the bulk settings from the database configuration, the negative values fall back to the configuration.
+ *
+ * @since 4.12.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE})
+@Documented
+public @interface CosmosBulkOptions {
+
+    /**
+     * @return The maximum number of operations sent in one micro batch
+     */
+    int microBatchSize() default -1;
+
+    /**
+     * @return The maximum number of micro batches executed concurrently per partition
+     */
+    int maxMicroBatchConcurrency() default -1;
+
+    /**
+     * @return The request units per second the bulk operations should consume
+     */
+    double requestUnitsPerSecond() default -1;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.cosmos.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The options of the change feed processor of a {@link io.micronaut.data.cosmos.operations.CosmosChangeFeedListener} bean.
+ * Overrides the change feed settings from the database configuration, the negative and empty values fall back to the configuration.
+ *
+ * @since 4.12.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.TYPE})
+@Documented
+public @interface CosmosChangeFeed {
+
+    /**
+     * The name of the processor used as the prefix of its leases. Listeners with the same name share the leases
+     * and split the partitions of the container between them. Defaults to the name of the listener class.
+     *
+     * @return The processor name
+     */
+    String value() default "";
+
+    /**
+     * @return The maximum number of changed items delivered in one batch
+     */
+    int maxItemCount() default -1;
+
+    /**
+     * The delay between polling a partition for new changes once all the current changes are processed, for example {@code 5s}.
+     *
+     * @return The poll delay
+     */
+    String pollDelay() default "";
+}
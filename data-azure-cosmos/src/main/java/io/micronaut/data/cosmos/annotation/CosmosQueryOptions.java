@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.cosmos.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The execution options of the repository query methods.
+ * Overrides the query settings from the database configuration, the negative values of the buffered item count and page size
+ * fall back to the configuration.
+ *
+ * @since 4.12.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE})
+@Documented
+public @interface CosmosQueryOptions {
+
+    /**
+     * The value of {@link #maxDegreeOfParallelism()} falling back to the configuration.
+     */
+    int CONFIGURED_PARALLELISM = Integer.MIN_VALUE;
+
+    /**
+     * @return The number of partitions queried concurrently by the cross-partition query, zero executes the query serially
+     * and a negative value lets the SDK decide the parallelism
+     */
+    int maxDegreeOfParallelism() default CONFIGURED_PARALLELISM;
+
+    /**
+     * @return The maximum number of items buffered on the client during the cross-partition query
+     */
+    int maxBufferedItemCount() default -1;
+
+    /**
+     * @return The maximum number of items fetched in one round trip
+     */
+    int pageSize() default -1;
+}
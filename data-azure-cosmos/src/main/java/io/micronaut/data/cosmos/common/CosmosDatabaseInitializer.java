@@ -25,6 +25,7 @@ import com.azure.cosmos.models.CosmosResponse;
 import com.azure.cosmos.models.PartitionKeyDefinition;
 import com.azure.cosmos.models.ThroughputProperties;
 import com.azure.cosmos.models.ThroughputResponse;
+import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.Context;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.exceptions.ConfigurationException;
@@ -37,6 +38,7 @@ import io.micronaut.data.annotation.MappedEntity;
 import io.micronaut.data.cosmos.config.CosmosDatabaseConfiguration;
 import io.micronaut.data.cosmos.config.StorageUpdatePolicy;
 import io.micronaut.data.cosmos.config.ThroughputSettings;
+import io.micronaut.data.cosmos.operations.CosmosChangeFeedListener;
 import io.micronaut.data.cosmos.operations.CosmosDiagnosticsProcessor;
 import io.micronaut.data.model.runtime.RuntimeEntityRegistry;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
@@ -72,6 +74,7 @@ final class CosmosDatabaseInitializer {
     // True to opt out of this new query feature, then OLD query features will be used to operate correctly.
     private static final String DISABLE_NON_STREAMING_ORDER_BY = "COSMOS.AZURE_COSMOS_DISABLE_NON_STREAMING_ORDER_BY";
     private static final Logger LOG = LoggerFactory.getLogger(CosmosDatabaseInitializer.class);
+    private static final String LEASE_PARTITION_KEY = "/id";
 
     /**
      * The initialize method will be called when dependencies are established so Cosmos Db can be initialized if needed.
@@ -80,13 +83,15 @@ final class CosmosDatabaseInitializer {
      * @param runtimeEntityRegistry the runtime entity registry
      * @param cosmosDiagnosticsProcessor the Cosmos diagnostics processor (can be null)
      * @param configuration the Cosmos Db configuration
+     * @param beanContext the bean context
      */
     @PostConstruct
     void initialize(CosmosClient cosmosClient,
                     RuntimeEntityRegistry runtimeEntityRegistry,
                     @Nullable
                     CosmosDiagnosticsProcessor cosmosDiagnosticsProcessor,
-                    CosmosDatabaseConfiguration configuration) {
+                    CosmosDatabaseConfiguration configuration,
+                    BeanContext beanContext) {
         System.setProperty(DISABLE_NON_STREAMING_ORDER_BY, Boolean.toString(configuration.isDisableNonStreamingOrderBy()));
         if (LOG.isDebugEnabled()) {
             LOG.debug("Cosmos Db Initialization Start");
@@ -100,6 +105,12 @@ final class CosmosDatabaseInitializer {
             cosmosDatabase = createOrUpdateDatabase(cosmosClient, cosmosDiagnosticsProcessor, configuration.getDatabaseName(), storageUpdatePolicy, throughputProperties);
         }
         initContainers(configuration, cosmosDatabase, runtimeEntityRegistry, cosmosDiagnosticsProcessor);
+        if (!StorageUpdatePolicy.NONE.equals(storageUpdatePolicy) && !beanContext.getBeanDefinitions(CosmosChangeFeedListener.class).isEmpty()) {
+            // The change feed processors store their leases in the lease container
+            String leaseContainerName = configuration.getChangeFeed().getLeaseContainerName();
+            CosmosContainerResponse containerResponse = createContainer(cosmosDatabase, leaseContainerName, LEASE_PARTITION_KEY, null, cosmosDiagnosticsProcessor);
+            processDiagnostics(CosmosDiagnosticsProcessor.CREATE_CONTAINER_IF_NOT_EXISTS, cosmosDiagnosticsProcessor, containerResponse);
+        }
         if (LOG.isDebugEnabled()) {
             LOG.debug("Cosmos Db Initialization Finish");
         }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.cosmos.config;
+
+/**
+ * The position in the change feed the processor starts reading from when there are no leases yet.
+ * Once the leases exist, the processor continues from the checkpointed position.
+ *
+ * @since 4.12.0
+ */
+public enum ChangeFeedStartPosition {
+
+    /**
+     * The processor reads only the changes made after it started.
+     */
+    NOW,
+
+    /**
+     * The processor reads all the changes from the beginning of the container.
+     */
+    BEGINNING
+}
@@ -23,6 +23,7 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Inject;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -53,6 +54,12 @@ public final class CosmosDatabaseConfiguration {
 
     private boolean disableNonStreamingOrderBy = false;
 
+    private BulkSettings bulk = new BulkSettings();
+
+    private QuerySettings query = new QuerySettings();
+
+    private ChangeFeedSettings changeFeed = new ChangeFeedSettings();
+
     public ThroughputSettings getThroughput() {
         return throughput;
     }
@@ -158,6 +165,66 @@ public final class CosmosDatabaseConfiguration {
         this.disableNonStreamingOrderBy = disableNonStreamingOrderBy;
     }
 
+    /**
+     * @return the bulk execution settings
+     * @since 4.12.0
+     */
+    @NonNull
+    public BulkSettings getBulk() {
+        return bulk;
+    }
+
+    /**
+     * Sets the bulk execution settings.
+     *
+     * @param bulk the bulk execution settings
+     * @since 4.12.0
+     */
+    @Inject
+    public void setBulk(@Nullable BulkSettings bulk) {
+        this.bulk = bulk == null ? new BulkSettings() : bulk;
+    }
+
+    /**
+     * @return the query execution settings
+     * @since 4.12.0
+     */
+    @NonNull
+    public QuerySettings getQuery() {
+        return query;
+    }
+
+    /**
+     * Sets the query execution settings.
+     *
+     * @param query the query execution settings
+     * @since 4.12.0
+     */
+    @Inject
+    public void setQuery(@Nullable QuerySettings query) {
+        this.query = query == null ? new QuerySettings() : query;
+    }
+
+    /**
+     * @return the change feed processor settings
+     * @since 4.12.0
+     */
+    @NonNull
+    public ChangeFeedSettings getChangeFeed() {
+        return changeFeed;
+    }
+
+    /**
+     * Sets the change feed processor settings.
+     *
+     * @param changeFeed the change feed processor settings
+     * @since 4.12.0
+     */
+    @Inject
+    public void setChangeFeed(@Nullable ChangeFeedSettings changeFeed) {
+        this.changeFeed = changeFeed == null ? new ChangeFeedSettings() : changeFeed;
+    }
+
     /**
      * Throughput settings for database.
      */
@@ -238,4 +305,250 @@ public final class CosmosDatabaseConfiguration {
         public static final class ContainerThroughputSettings extends ThroughputSettings {
         }
     }
+
+    /**
+     * The settings of the bulk operations executed by the batch saves, updates and deletes.
+     *
+     * @since 4.12.0
+     */
+    @ConfigurationProperties("bulk")
+    public static final class BulkSettings {
+
+        private Integer microBatchSize;
+
+        private Integer maxMicroBatchConcurrency;
+
+        private Double requestUnitsPerSecond;
+
+        /**
+         * @return the maximum number of operations sent in one micro batch, null for the SDK default
+         */
+        @Nullable
+        public Integer getMicroBatchSize() {
+            return microBatchSize;
+        }
+
+        /**
+         * Sets the maximum number of operations sent in one micro batch.
+         *
+         * @param microBatchSize the micro batch size
+         */
+        public void setMicroBatchSize(@Nullable Integer microBatchSize) {
+            this.microBatchSize = microBatchSize;
+        }
+
+        /**
+         * @return the maximum number of micro batches executed concurrently per partition, null for the SDK default
+         */
+        @Nullable
+        public Integer getMaxMicroBatchConcurrency() {
+            return maxMicroBatchConcurrency;
+        }
+
+        /**
+         * Sets the maximum number of micro batches executed concurrently per partition.
+         *
+         * @param maxMicroBatchConcurrency the micro batch concurrency
+         */
+        public void setMaxMicroBatchConcurrency(@Nullable Integer maxMicroBatchConcurrency) {
+            this.maxMicroBatchConcurrency = maxMicroBatchConcurrency;
+        }
+
+        /**
+         * Gets the request units per second the bulk operations of a container should consume.
+         * The operations are throttled on the client by a token bucket fed by the request charges of the responses,
+         * the rate is lowered when the requests are throttled by the service.
+         *
+         * @return the request units budget, null when the operations are not throttled
+         */
+        @Nullable
+        public Double getRequestUnitsPerSecond() {
+            return requestUnitsPerSecond;
+        }
+
+        /**
+         * Sets the request units per second the bulk operations of a container should consume.
+         *
+         * @param requestUnitsPerSecond the request units budget
+         */
+        public void setRequestUnitsPerSecond(@Nullable Double requestUnitsPerSecond) {
+            this.requestUnitsPerSecond = requestUnitsPerSecond;
+        }
+    }
+
+    /**
+     * The default settings of the queries executed by the repositories.
+     *
+     * @since 4.12.0
+     */
+    @ConfigurationProperties("query")
+    public static final class QuerySettings {
+
+        private Integer maxDegreeOfParallelism;
+
+        private Integer maxBufferedItemCount;
+
+        private Integer pageSize;
+
+        /**
+         * Gets the number of concurrent operations run client side during the cross-partition query execution.
+         * A negative value lets the SDK decide the parallelism.
+         *
+         * @return the maximum degree of parallelism, null for the SDK default
+         */
+        @Nullable
+        public Integer getMaxDegreeOfParallelism() {
+            return maxDegreeOfParallelism;
+        }
+
+        /**
+         * Sets the number of concurrent operations run client side during the cross-partition query execution.
+         *
+         * @param maxDegreeOfParallelism the maximum degree of parallelism
+         */
+        public void setMaxDegreeOfParallelism(@Nullable Integer maxDegreeOfParallelism) {
+            this.maxDegreeOfParallelism = maxDegreeOfParallelism;
+        }
+
+        /**
+         * @return the maximum number of items buffered client side during the cross-partition query execution, null for the SDK default
+         */
+        @Nullable
+        public Integer getMaxBufferedItemCount() {
+            return maxBufferedItemCount;
+        }
+
+        /**
+         * Sets the maximum number of items buffered client side during the cross-partition query execution.
+         *
+         * @param maxBufferedItemCount the maximum buffered item count
+         */
+        public void setMaxBufferedItemCount(@Nullable Integer maxBufferedItemCount) {
+            this.maxBufferedItemCount = maxBufferedItemCount;
+        }
+
+        /**
+         * @return the maximum number of items returned in one page of the query results, null for the SDK default
+         */
+        @Nullable
+        public Integer getPageSize() {
+            return pageSize;
+        }
+
+        /**
+         * Sets the maximum number of items returned in one page of the query results.
+         *
+         * @param pageSize the page size
+         */
+        public void setPageSize(@Nullable Integer pageSize) {
+            this.pageSize = pageSize;
+        }
+    }
+
+    /**
+     * The settings of the change feed processors of the {@code CosmosChangeFeedListener} beans.
+     *
+     * @since 4.12.0
+     */
+    @ConfigurationProperties("change-feed")
+    public static final class ChangeFeedSettings {
+
+        public static final String DEFAULT_LEASE_CONTAINER_NAME = "leases";
+
+        private String leaseContainerName = DEFAULT_LEASE_CONTAINER_NAME;
+
+        private String hostName;
+
+        private Integer maxItemCount;
+
+        private Duration pollDelay;
+
+        private ChangeFeedStartPosition startPosition = ChangeFeedStartPosition.NOW;
+
+        /**
+         * @return the name of the container storing the leases of the processors
+         */
+        @NonNull
+        public String getLeaseContainerName() {
+            return leaseContainerName;
+        }
+
+        /**
+         * Sets the name of the container storing the leases of the processors.
+         * The container is created by the database initializer unless the update policy is {@link StorageUpdatePolicy#NONE}.
+         *
+         * @param leaseContainerName the lease container name
+         */
+        public void setLeaseContainerName(@NonNull String leaseContainerName) {
+            this.leaseContainerName = leaseContainerName;
+        }
+
+        /**
+         * @return the name identifying the application instance owning the leases, null for a random name
+         */
+        @Nullable
+        public String getHostName() {
+            return hostName;
+        }
+
+        /**
+         * Sets the name identifying the application instance owning the leases. Must be unique per instance.
+         *
+         * @param hostName the host name
+         */
+        public void setHostName(@Nullable String hostName) {
+            this.hostName = hostName;
+        }
+
+        /**
+         * @return the maximum number of changed items delivered in one batch, null for the SDK default
+         */
+        @Nullable
+        public Integer getMaxItemCount() {
+            return maxItemCount;
+        }
+
+        /**
+         * Sets the maximum number of changed items delivered in one batch.
+         *
+         * @param maxItemCount the batch size
+         */
+        public void setMaxItemCount(@Nullable Integer maxItemCount) {
+            this.maxItemCount = maxItemCount;
+        }
+
+        /**
+         * @return the delay between polling a partition for new changes, null for the SDK default
+         */
+        @Nullable
+        public Duration getPollDelay() {
+            return pollDelay;
+        }
+
+        /**
+         * Sets the delay between polling a partition for new changes once all the current changes are processed.
+         *
+         * @param pollDelay the poll delay
+         */
+        public void setPollDelay(@Nullable Duration pollDelay) {
+            this.pollDelay = pollDelay;
+        }
+
+        /**
+         * @return the position the processors start reading from when there are no leases yet
+         */
+        @NonNull
+        public ChangeFeedStartPosition getStartPosition() {
+            return startPosition;
+        }
+
+        /**
+         * Sets the position the processors start reading from when there are no leases yet.
+         *
+         * @param startPosition the start position
+         */
+        public void setStartPosition(@NonNull ChangeFeedStartPosition startPosition) {
+            this.startPosition = startPosition;
+        }
+    }
 }
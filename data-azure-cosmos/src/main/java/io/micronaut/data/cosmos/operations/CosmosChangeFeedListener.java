@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.cosmos.operations;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.List;
+
+/**
+ * The listener of the Cosmos DB change feed of the container of the entity type.
+ * Every listener bean gets its own change feed processor started with the application,
+ * the processor can be customized with the {@link io.micronaut.data.cosmos.annotation.CosmosChangeFeed} annotation.
+ *
+ * <p>The changes are checkpointed after the listener returns, if the listener throws an exception
+ * the same batch is delivered again.</p>
+ *
+ * @param <T> The entity type
+ * @since 4.12.0
+ */
+@FunctionalInterface
+public interface CosmosChangeFeedListener<T> {
+
+    /**
+     * Handles the batch of the inserted or updated entities, in the order of the changes within a partition.
+     *
+     * @param entities The changed entities
+     */
+    void onChanges(@NonNull List<T> entities);
+}
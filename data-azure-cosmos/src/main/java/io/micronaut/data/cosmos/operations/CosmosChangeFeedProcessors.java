@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.cosmos.operations;
+
+import com.azure.cosmos.ChangeFeedProcessor;
+import com.azure.cosmos.ChangeFeedProcessorBuilder;
+import com.azure.cosmos.CosmosAsyncClient;
+import com.azure.cosmos.CosmosAsyncDatabase;
+import com.azure.cosmos.models.ChangeFeedProcessorOptions;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.cosmos.annotation.CosmosChangeFeed;
+import io.micronaut.data.cosmos.common.CosmosEntity;
+import io.micronaut.data.cosmos.config.ChangeFeedStartPosition;
+import io.micronaut.data.cosmos.config.CosmosDatabaseConfiguration;
+import io.micronaut.data.model.runtime.RuntimeEntityRegistry;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.inject.BeanDefinition;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the change feed processors of the {@link CosmosChangeFeedListener} beans once the application is started
+ * and the containers are initialized, and stops them when the application is stopped.
+ * The leases of the processors are stored in the lease container from the configuration.
+ *
+ * @since 4.12.0
+ */
+@Singleton
+@Internal
+@Requires(classes = CosmosAsyncClient.class)
+@Requires(property = "azure.cosmos.endpoint")
+@Requires(property = "azure.cosmos.key")
+final class CosmosChangeFeedProcessors implements ApplicationEventListener<StartupEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CosmosChangeFeedProcessors.class);
+
+    private final BeanContext beanContext;
+    private final RuntimeEntityRegistry runtimeEntityRegistry;
+    private final ConversionService conversionService;
+    private final CosmosSerde cosmosSerde;
+    private final CosmosAsyncDatabase cosmosAsyncDatabase;
+    private final CosmosDatabaseConfiguration.ChangeFeedSettings settings;
+    private final String hostName;
+    private final List<ChangeFeedProcessor> processors = new ArrayList<>();
+
+    CosmosChangeFeedProcessors(BeanContext beanContext,
+                               RuntimeEntityRegistry runtimeEntityRegistry,
+                               ConversionService conversionService,
+                               CosmosSerde cosmosSerde,
+                               CosmosAsyncClient cosmosAsyncClient,
+                               CosmosDatabaseConfiguration configuration) {
+        this.beanContext = beanContext;
+        this.runtimeEntityRegistry = runtimeEntityRegistry;
+        this.conversionService = conversionService;
+        this.cosmosSerde = cosmosSerde;
+        this.cosmosAsyncDatabase = cosmosAsyncClient.getDatabase(configuration.getDatabaseName());
+        this.settings = configuration.getChangeFeed();
+        this.hostName = StringUtils.isNotEmpty(settings.getHostName()) ? settings.getHostName() : UUID.randomUUID().toString();
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        for (BeanDefinition<CosmosChangeFeedListener> beanDefinition : beanContext.getBeanDefinitions(CosmosChangeFeedListener.class)) {
+            ChangeFeedProcessor processor = createProcessor(beanDefinition);
+            processor.start().block();
+            processors.add(processor);
+        }
+    }
+
+    /**
+     * Stops the processors, the leases are released so other instances can take over the partitions.
+     */
+    @PreDestroy
+    void stop() {
+        for (ChangeFeedProcessor processor : processors) {
+            try {
+                processor.stop().block();
+            } catch (Exception e) {
+                LOG.warn("Failed to stop the change feed processor: {}", e.getMessage(), e);
+            }
+        }
+        processors.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChangeFeedProcessor createProcessor(BeanDefinition<CosmosChangeFeedListener> beanDefinition) {
+        List<Argument<?>> typeArguments = beanDefinition.getTypeArguments(CosmosChangeFeedListener.class);
+        if (typeArguments.isEmpty() || typeArguments.get(0).getType() == Object.class) {
+            throw new ConfigurationException("Cannot resolve the entity type of the change feed listener: " + beanDefinition.getBeanType().getName());
+        }
+        Argument<Object> entityType = (Argument<Object>) typeArguments.get(0);
+        RuntimePersistentEntity<Object> persistentEntity = runtimeEntityRegistry.getEntity(entityType.getType());
+        CosmosChangeFeedListener<Object> listener = beanContext.getBean(beanDefinition);
+
+        String name = beanDefinition.stringValue(CosmosChangeFeed.class).filter(StringUtils::isNotEmpty).orElse(beanDefinition.getBeanType().getName());
+        ChangeFeedProcessorOptions options = new ChangeFeedProcessorOptions();
+        options.setLeasePrefix(name + ".");
+        int maxItemCount = beanDefinition.intValue(CosmosChangeFeed.class, "maxItemCount").orElse(-1);
+        if (maxItemCount <= 0 && settings.getMaxItemCount() != null) {
+            maxItemCount = settings.getMaxItemCount();
+        }
+        if (maxItemCount > 0) {
+            options.setMaxItemCount(maxItemCount);
+        }
+        Duration pollDelay = beanDefinition.stringValue(CosmosChangeFeed.class, "pollDelay")
+            .filter(StringUtils::isNotEmpty)
+            .map(value -> conversionService.convertRequired(value, Duration.class))
+            .orElse(settings.getPollDelay());
+        if (pollDelay != null) {
+            options.setFeedPollDelay(pollDelay);
+        }
+        options.setStartFromBeginning(settings.getStartPosition() == ChangeFeedStartPosition.BEGINNING);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Starting change feed processor {} of entity {}", name, persistentEntity.getName());
+        }
+        return new ChangeFeedProcessorBuilder()
+            .hostName(hostName)
+            .feedContainer(cosmosAsyncDatabase.getContainer(CosmosEntity.get(persistentEntity).getContainerName()))
+            .leaseContainer(cosmosAsyncDatabase.getContainer(settings.getLeaseContainerName()))
+            .options(options)
+            .handleChanges(changes -> listener.onChanges(decode(persistentEntity, entityType, changes)))
+            .buildChangeFeedProcessor();
+    }
+
+    private List<Object> decode(RuntimePersistentEntity<Object> persistentEntity, Argument<Object> entityType, List<JsonNode> changes) {
+        List<Object> entities = new ArrayList<>(changes.size());
+        for (JsonNode change : changes) {
+            entities.add(cosmosSerde.deserialize(persistentEntity, (ObjectNode) change, entityType));
+        }
+        return entities;
+    }
+}
@@ -33,6 +33,8 @@ public interface CosmosDiagnosticsProcessor {
     String REPLACE_CONTAINER_THROUGHPUT = "ReplaceContainerThroughput";
     String REPLACE_CONTAINER = "ReplaceContainer";
     String QUERY_ITEMS = "QueryItems";
+    String READ_ITEM = "ReadItem";
+    String READ_MANY = "ReadMany";
     String EXECUTE_BULK = "ExecuteBulk";
     String CREATE_ITEM = "CreateItem";
     String REPLACE_ITEM = "ReplaceItem";
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.cosmos.operations;
+
+import io.micronaut.core.annotation.Internal;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * The client side token bucket limiting the request units consumed by the bulk operations.
+ * The cost of an operation is estimated from the request charges of the previous responses,
+ * the estimate reserved for an operation is corrected by its actual charge when the response arrives.
+ * The rate is halved when the service throttles the requests and recovers gradually after successful responses.
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class CosmosRequestUnitsLimiter {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final double MIN_RATE_RATIO = 0.05;
+    private static final double RECOVERY_RATIO = 0.01;
+    private static final double CHARGE_SMOOTHING = 0.2;
+
+    private final double targetRate;
+    private double rate;
+    private double tokens;
+    private double estimatedCharge = 1;
+    private long lastRefillNanos;
+
+    CosmosRequestUnitsLimiter(double requestUnitsPerSecond) {
+        this.targetRate = requestUnitsPerSecond;
+        this.rate = requestUnitsPerSecond;
+        this.tokens = requestUnitsPerSecond;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Reserves the estimated charge of one operation.
+     *
+     * @return The mono emitting the reserved charge when the operation is allowed to be sent
+     */
+    Mono<Double> acquire() {
+        double reservedCharge;
+        Duration delay;
+        synchronized (this) {
+            reservedCharge = estimatedCharge;
+            delay = reserve(reservedCharge);
+        }
+        return delay.isZero() ? Mono.just(reservedCharge) : Mono.delay(delay).thenReturn(reservedCharge);
+    }
+
+    /**
+     * Records the response of an operation.
+     * In the bulk mode the SDK retries the throttled operations internally,
+     * the status 429 is only received after the retries are exhausted.
+     *
+     * @param statusCode     The status code
+     * @param requestCharge  The request charge
+     * @param reservedCharge The charge reserved for the operation by {@link #acquire()}
+     */
+    synchronized void record(int statusCode, double requestCharge, double reservedCharge) {
+        if (statusCode == TOO_MANY_REQUESTS) {
+            rate = Math.max(rate / 2, targetRate * MIN_RATE_RATIO);
+            // Drop the burst allowance so the lowered rate applies immediately
+            tokens = Math.min(tokens, 0);
+            return;
+        }
+        if (requestCharge > 0) {
+            // The reservation used the estimate at the reservation time, correct the bucket by the actual charge
+            tokens -= requestCharge - reservedCharge;
+            estimatedCharge += CHARGE_SMOOTHING * (requestCharge - estimatedCharge);
+        }
+        rate = Math.min(targetRate, rate + targetRate * RECOVERY_RATIO);
+    }
+
+    private Duration reserve(double charge) {
+        long now = System.nanoTime();
+        tokens = Math.min(rate, tokens + (now - lastRefillNanos) * rate / 1_000_000_000d);
+        lastRefillNanos = now;
+        tokens -= charge;
+        if (tokens >= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) (-tokens / rate * 1_000_000_000d));
+    }
+}
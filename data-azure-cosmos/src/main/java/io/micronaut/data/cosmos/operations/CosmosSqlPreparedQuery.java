@@ -16,13 +16,21 @@
 package io.micronaut.data.cosmos.operations;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.CursoredPageable;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Pageable.Cursor;
 import io.micronaut.data.model.query.builder.sql.AbstractSqlLikeQueryBuilder2;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Azure Cosmos DB implementation of {@link io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery}.
  *
@@ -35,6 +43,14 @@ import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery
 @Internal
 final class CosmosSqlPreparedQuery<E, R> extends DefaultSqlPreparedQuery<E, R> {
 
+    /**
+     * The continuation token of the cursors created for the last page.
+     */
+    static final String NO_MORE_RESULTS = "";
+
+    @Nullable
+    private String nextContinuationToken;
+
     public CosmosSqlPreparedQuery(PreparedQuery<E, R> preparedQuery) {
         super(preparedQuery);
     }
@@ -72,6 +88,85 @@ final class CosmosSqlPreparedQuery<E, R> extends DefaultSqlPreparedQuery<E, R> {
         return cosmosSqlStoredQuery.getUpdate();
     }
 
+    /**
+     * @return true if the query selects the entity only by its id and can be executed as a point read
+     */
+    public boolean isIdQuery() {
+        return getCosmosSqlStoredQuery(sqlStoredQuery).isIdQuery() && getPageable().isUnpaged() && !getPageable().isSorted();
+    }
+
+    /**
+     * @return true if the query selects the entities only by their ids and can be executed as a multi-item read
+     */
+    public boolean isIdsQuery() {
+        return getCosmosSqlStoredQuery(sqlStoredQuery).isIdsQuery() && getPageable().isUnpaged() && !getPageable().isSorted();
+    }
+
+    /**
+     * The cursored pageable is backed by the continuation tokens, only the sort is appended to the query.
+     * The continuation tokens don't depend on the offset, so reading any page costs the same.
+     *
+     * @param pageable       The pageable
+     * @param isSingleResult Whether the query is for a single result
+     */
+    @Override
+    public void attachPageable(Pageable pageable, boolean isSingleResult) {
+        if (pageable instanceof CursoredPageable cursored) {
+            if (cursored.isBackward()) {
+                throw new UnsupportedOperationException("Cosmos DB continuation tokens only support paging forward");
+            }
+            super.attachPageable(Pageable.from(cursored.getSort()), isSingleResult);
+        } else {
+            super.attachPageable(pageable, isSingleResult);
+        }
+    }
+
+    /**
+     * @return the continuation token of the cursored pageable or null when reading the first page
+     */
+    @Nullable
+    public String getContinuationToken() {
+        Cursor cursor = getPageable().cursor().orElse(null);
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.size() != 1 || !(cursor.get(0) instanceof String continuationToken)) {
+            throw new IllegalArgumentException("The cursor of Cosmos DB query must contain only the continuation token");
+        }
+        return continuationToken;
+    }
+
+    /**
+     * Sets the continuation token of the page following the read page.
+     *
+     * @param nextContinuationToken the continuation token or null if there are no more results
+     */
+    public void setNextContinuationToken(@Nullable String nextContinuationToken) {
+        this.nextContinuationToken = nextContinuationToken;
+    }
+
+    /**
+     * Creates a cursor for every item of the page. The continuation tokens only exist at the page boundaries,
+     * so every cursor carries the token of the next page, the next pageable is created from the cursor at the last index.
+     * When there are no more results the cursors carry {@link #NO_MORE_RESULTS} and reading the next page returns no items.
+     *
+     * @param results                 The results of the page
+     * @param pageable                The pageable
+     * @param runtimePersistentEntity The persistent entity
+     * @return The cursors
+     */
+    @Override
+    public List<Cursor> createCursors(List<Object> results, Pageable pageable, RuntimePersistentEntity<Object> runtimePersistentEntity) {
+        if (pageable instanceof CursoredPageable) {
+            if (results.isEmpty()) {
+                return List.of();
+            }
+            Cursor cursor = Cursor.of(nextContinuationToken == null ? NO_MORE_RESULTS : nextContinuationToken);
+            return Collections.nCopies(results.size(), cursor);
+        }
+        return super.createCursors(results, pageable, runtimePersistentEntity);
+    }
+
     private <T, K> CosmosSqlStoredQuery<T, K> getCosmosSqlStoredQuery(StoredQuery<T, K> storedQuery) {
         if (storedQuery instanceof CosmosSqlStoredQuery<T, K> cosmosSqlStoredQuery) {
             return cosmosSqlStoredQuery;
@@ -16,6 +16,8 @@
 package io.micronaut.data.cosmos.operations;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.StoredQuery;
@@ -34,6 +36,8 @@ import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlStoredQuery;
 final class CosmosSqlStoredQuery<E, R> extends DefaultSqlStoredQuery<E, R> {
 
     private final String update;
+    private final boolean idQuery;
+    private final boolean idsQuery;
 
     /**
      * @param storedQuery             The stored query
@@ -45,6 +49,12 @@ final class CosmosSqlStoredQuery<E, R> extends DefaultSqlStoredQuery<E, R> {
                                 String update) {
         super(storedQuery, runtimePersistentEntity, queryBuilder);
         this.update = update;
+        // The id lookups, for example findById and findByIdIn, are flagged by the annotation processor
+        boolean idLookup = update == null && !isRawQuery()
+            && storedQuery.getAnnotationMetadata().isTrue(DataMethod.NAME, DataMethod.META_MEMBER_ID_LOOKUP)
+            && getQueryBindings().size() == 1 && getResultDataType() == DataType.ENTITY && !isDtoProjection();
+        this.idQuery = idLookup && !getQueryBindings().get(0).isExpandable();
+        this.idsQuery = idLookup && getQueryBindings().get(0).isExpandable();
     }
 
     /**
@@ -53,4 +63,18 @@ final class CosmosSqlStoredQuery<E, R> extends DefaultSqlStoredQuery<E, R> {
     public String getUpdate() {
         return update;
     }
+
+    /**
+     * @return true if the query selects the entity only by its id and can be executed as a point read
+     */
+    public boolean isIdQuery() {
+        return idQuery;
+    }
+
+    /**
+     * @return true if the query selects the entities only by their ids and can be executed as a multi-item read
+     */
+    public boolean isIdsQuery() {
+        return idsQuery;
+    }
 }
@@ -21,11 +21,17 @@ import com.azure.cosmos.CosmosAsyncDatabase;
 import com.azure.cosmos.CosmosException;
 import com.azure.cosmos.implementation.RequestOptions;
 import com.azure.cosmos.implementation.batch.ItemBulkOperation;
+import com.azure.cosmos.models.CosmosBulkExecutionOptions;
 import com.azure.cosmos.models.CosmosBulkItemResponse;
+import com.azure.cosmos.models.CosmosBulkOperationResponse;
+import com.azure.cosmos.models.CosmosBulkOperations;
+import com.azure.cosmos.models.CosmosBulkPatchItemRequestOptions;
+import com.azure.cosmos.models.CosmosItemIdentity;
 import com.azure.cosmos.models.CosmosItemOperation;
 import com.azure.cosmos.models.CosmosItemOperationType;
 import com.azure.cosmos.models.CosmosItemRequestOptions;
 import com.azure.cosmos.models.CosmosItemResponse;
+import com.azure.cosmos.models.CosmosPatchOperations;
 import com.azure.cosmos.models.CosmosQueryRequestOptions;
 import com.azure.cosmos.models.FeedResponse;
 import com.azure.cosmos.models.PartitionKey;
@@ -45,8 +51,9 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.Relation;
+import io.micronaut.data.cosmos.annotation.CosmosBulkOptions;
+import io.micronaut.data.cosmos.annotation.CosmosQueryOptions;
 import io.micronaut.data.cosmos.common.Constants;
-import io.micronaut.data.cosmos.common.CosmosAccessException;
 import io.micronaut.data.cosmos.common.CosmosEntity;
 import io.micronaut.data.cosmos.common.CosmosUtils;
 import io.micronaut.data.cosmos.config.CosmosDatabaseConfiguration;
@@ -56,6 +63,7 @@ import io.micronaut.data.exceptions.EmptyResultException;
 import io.micronaut.data.exceptions.NonUniqueResultException;
 import io.micronaut.data.exceptions.OptimisticLockException;
 import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.PersistentProperty;
@@ -91,6 +99,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
@@ -105,10 +114,16 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -130,6 +145,9 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
     // This should return exact collection item by the id in given container
     private static final String FIND_ONE_DEFAULT_QUERY = "SELECT * FROM root WHERE root.id = @ROOT_ID";
     private static final String FAILED_TO_QUERY_ITEMS = "Failed to query items: ";
+    // The patch request supports at most 10 operations
+    private static final int MAX_PATCH_OPERATIONS = 10;
+    private static final Pattern SELECT_ALL_PATTERN = Pattern.compile("^SELECT \\*\\s+FROM\\s+(\\S+)\\s+(\\S+)");
 
     private static final Logger QUERY_LOG = DataSettings.QUERY_LOG;
     private static final Logger LOG = LoggerFactory.getLogger(DefaultReactiveCosmosRepositoryOperations.class);
@@ -139,6 +157,9 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
     private CosmosSqlQueryBuilder2 defaultCosmosSqlQueryBuilder;
     private final CosmosDiagnosticsProcessor cosmosDiagnosticsProcessor;
     private final boolean queryMetricsEnabled;
+    private final CosmosDatabaseConfiguration.BulkSettings bulkSettings;
+    private final CosmosDatabaseConfiguration.QuerySettings querySettings;
+    private final Map<RequestUnitsLimiterKey, CosmosRequestUnitsLimiter> requestUnitsLimiters = new ConcurrentHashMap<>();
 
     /**
      * Default constructor.
@@ -166,6 +187,8 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
         this.cosmosAsyncDatabase = cosmosAsyncClient.getDatabase(configuration.getDatabaseName());
         this.cosmosDiagnosticsProcessor = cosmosDiagnosticsProcessor;
         this.queryMetricsEnabled = configuration.isQueryMetricsEnabled();
+        this.bulkSettings = configuration.getBulk();
+        this.querySettings = configuration.getQuery();
     }
 
     @Override
@@ -190,14 +213,15 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
     @NonNull
     public <T> Mono<T> findOne(@NonNull Class<T> type, Object id) {
         RuntimePersistentEntity<T> persistentEntity = runtimeEntityRegistry.getEntity(type);
+        if (isIdPartitionKey(persistentEntity)) {
+            // The partition key is known, the point read is cheaper than the query
+            return readItem(persistentEntity, id.toString(), new PartitionKey(id.toString()), Argument.of(type));
+        }
         CosmosAsyncContainer container = getContainer(persistentEntity);
         final SqlParameter param = new SqlParameter("@ROOT_ID", id.toString());
         final SqlQuerySpec querySpec = new SqlQuerySpec(FIND_ONE_DEFAULT_QUERY, param);
         logQuery(querySpec);
-        final CosmosQueryRequestOptions options = createCosmosQueryRequestOptions();
-        if (isIdPartitionKey(persistentEntity)) {
-            options.setPartitionKey(new PartitionKey(id.toString()));
-        }
+        final CosmosQueryRequestOptions options = createCosmosQueryRequestOptions(AnnotationMetadata.EMPTY_METADATA);
         CosmosPagedFlux<ObjectNode> result = container.queryItems(querySpec, options, ObjectNode.class);
         return result.byPage().flatMap(response -> {
             CosmosUtils.processDiagnostics(cosmosDiagnosticsProcessor, CosmosDiagnosticsProcessor.QUERY_ITEMS, response.getCosmosDiagnostics(),
@@ -238,6 +262,14 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
         preparedQuery.attachPageable(preparedQuery.getPageable(), true);
         preparedQuery.prepare(null);
         SqlQuerySpec querySpec = new SqlQuerySpec(preparedQuery.getQuery(), new ParameterBinder().bindParameters(preparedQuery));
+        if (getCosmosSqlPreparedQuery(preparedQuery).isIdQuery()) {
+            PartitionKey partitionKey = getPointReadPartitionKey(preparedQuery, querySpec);
+            if (partitionKey != null) {
+                RuntimePersistentEntity<T> persistentEntity = runtimeEntityRegistry.getEntity(preparedQuery.getRootEntity());
+                Object id = querySpec.getParameters().get(0).getValue(Object.class);
+                return readItem(persistentEntity, id.toString(), partitionKey, Argument.of(preparedQuery.getResultType()));
+            }
+        }
         logQuery(querySpec);
         boolean dtoProjection = preparedQuery.isDtoProjection();
         boolean isEntity = preparedQuery.getResultDataType() == DataType.ENTITY;
@@ -281,17 +313,23 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
         boolean dtoProjection = preparedQuery.isDtoProjection();
         boolean isEntity = preparedQuery.getResultDataType() == DataType.ENTITY;
         SqlQuerySpec querySpec = new SqlQuerySpec(preparedQuery.getQuery(), new ParameterBinder().bindParameters(preparedQuery));
+        if (getCosmosSqlPreparedQuery(preparedQuery).isIdsQuery()) {
+            List<CosmosItemIdentity> itemIdentities = getPointReadItemIdentities(preparedQuery, querySpec);
+            if (itemIdentities != null) {
+                return readMany(runtimeEntityRegistry.getEntity(preparedQuery.getRootEntity()), itemIdentities, Argument.of(preparedQuery.getResultType()));
+            }
+        }
         logQuery(querySpec);
+        CosmosSqlPreparedQuery<T, R> cosmosSqlPreparedQuery = getCosmosSqlPreparedQuery(preparedQuery);
         if (isEntity || dtoProjection) {
             CosmosPagedFlux<ObjectNode> result = getCosmosResults(preparedQuery, querySpec, ObjectNode.class);
             Argument<R> argument;
             if (dtoProjection) {
                 argument = (Argument<R>) Argument.of(ReflectionUtils.getWrapperType(preparedQuery.getResultType()));
-                return result.map(item -> cosmosSerde.deserialize(item, argument)).onErrorResume(e ->  Flux.error(new CosmosAccessException(FAILED_TO_QUERY_ITEMS + e.getMessage(), e)));
             } else {
                 argument = Argument.of(preparedQuery.getResultType());
             }
-            return result.byPage().flatMap(response -> {
+            return queryPages(cosmosSqlPreparedQuery, result).flatMap(response -> {
                 CosmosUtils.processDiagnostics(cosmosDiagnosticsProcessor, CosmosDiagnosticsProcessor.QUERY_ITEMS, response.getCosmosDiagnostics(),
                     response.getActivityId(), response.getRequestCharge());
                 return Flux.fromIterable(response.getResults().stream().map(item -> cosmosSerde.deserialize(item, argument)).toList());
@@ -301,7 +339,7 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
         DataType dataType = preparedQuery.getResultDataType();
         Class<R> resultType = preparedQuery.getResultType();
         CosmosPagedFlux<?> result = getCosmosResults(preparedQuery, querySpec, getDataTypeClass(dataType));
-        return result.byPage().flatMap(response -> {
+        return queryPages(cosmosSqlPreparedQuery, result).flatMap(response -> {
             CosmosUtils.processDiagnostics(cosmosDiagnosticsProcessor, CosmosDiagnosticsProcessor.QUERY_ITEMS, response.getCosmosDiagnostics(),
                 response.getActivityId(), response.getRequestCharge());
             return Flux.fromIterable(response.getResults().stream().map(item -> {
@@ -386,8 +424,20 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
         }
         CosmosAsyncContainer container = getContainer(persistentEntity);
         Optional<PartitionKey> optPartitionKey = preparedQuery.getParameterInRole(Constants.PARTITION_KEY_ROLE, PartitionKey.class);
+        if (propertiesToUpdate.size() <= MAX_PATCH_OPERATIONS) {
+            // Patch the properties on the server, only the item ids, partition keys and ETags are queried
+            boolean versioned = CosmosEntity.get(persistentEntity).getVersionField() != null;
+            SqlQuerySpec patchQuerySpec = new SqlQuerySpec(selectPatchedItemFields(querySpec.getQueryText(), persistentEntity, versioned), querySpec.getParameters());
+            logQuery(patchQuerySpec);
+            CosmosPatchOperations patchOperations = createPatchOperations(propertiesToUpdate);
+            CosmosPagedFlux<ObjectNode> items = getCosmosResults(preparedQuery, patchQuerySpec, ObjectNode.class);
+            return executeBulk(container, preparedQuery.getAnnotationMetadata(), items, BulkOperationType.PATCH,
+                    results -> createPatchBulkOperations(results, persistentEntity, optPartitionKey, patchOperations, versioned))
+                .onErrorMap(e -> handleCosmosOperationException("Failed to update item(s)", e, CosmosDiagnosticsProcessor.EXECUTE_BULK, persistentEntity));
+        }
+        logQuery(querySpec);
         CosmosPagedFlux<ObjectNode> items = getCosmosResults(preparedQuery, querySpec, ObjectNode.class);
-        return executeBulk(container, items, BulkOperationType.UPDATE, persistentEntity, optPartitionKey, item -> updateProperties(item, propertiesToUpdate))
+        return executeBulk(container, preparedQuery.getAnnotationMetadata(), items, BulkOperationType.UPDATE, persistentEntity, optPartitionKey, item -> updateProperties(item, propertiesToUpdate))
             .onErrorMap(e -> handleCosmosOperationException("Failed to update item(s)", e, CosmosDiagnosticsProcessor.EXECUTE_BULK, persistentEntity));
     }
 
@@ -404,7 +454,7 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
         Optional<PartitionKey> optPartitionKey = preparedQuery.getParameterInRole(Constants.PARTITION_KEY_ROLE, PartitionKey.class);
         SqlQuerySpec querySpec = new SqlQuerySpec(preparedQuery.getQuery(), new ParameterBinder().bindParameters(preparedQuery));
         CosmosPagedFlux<ObjectNode> items = getCosmosResults(preparedQuery, querySpec, ObjectNode.class);
-        return executeBulk(container, items, BulkOperationType.DELETE, persistentEntity, optPartitionKey, null)
+        return executeBulk(container, preparedQuery.getAnnotationMetadata(), items, BulkOperationType.DELETE, persistentEntity, optPartitionKey, null)
             .onErrorMap(e -> handleCosmosOperationException("Failed to delete item(s)", e, CosmosDiagnosticsProcessor.EXECUTE_BULK, persistentEntity));
     }
 
@@ -448,11 +498,164 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
     private <T, R, I> CosmosPagedFlux<I> getCosmosResults(PreparedQuery<T, R> preparedQuery, SqlQuerySpec querySpec, Class<I> itemsType) {
         RuntimePersistentEntity<T> persistentEntity = runtimeEntityRegistry.getEntity(preparedQuery.getRootEntity());
         CosmosAsyncContainer container = getContainer(persistentEntity);
-        CosmosQueryRequestOptions requestOptions = createCosmosQueryRequestOptions();
+        CosmosQueryRequestOptions requestOptions = createCosmosQueryRequestOptions(preparedQuery.getAnnotationMetadata());
         preparedQuery.getParameterInRole(Constants.PARTITION_KEY_ROLE, PartitionKey.class).ifPresent(requestOptions::setPartitionKey);
         return container.queryItems(querySpec, requestOptions, itemsType);
     }
 
+    /**
+     * Reads the pages of the query results.
+     * The cursored pageable reads a single page starting at the continuation token of its cursor,
+     * the continuation token of the next page is kept by the prepared query for the cursors of the page.
+     *
+     * @param preparedQuery the prepared query
+     * @param results the query results
+     * @param <T> The entity type
+     * @param <R> The result type
+     * @param <I> the Cosmos iterator items type
+     * @return the pages of the results
+     */
+    private <T, R, I> Flux<FeedResponse<I>> queryPages(CosmosSqlPreparedQuery<T, R> preparedQuery, CosmosPagedFlux<I> results) {
+        if (!(preparedQuery.getPageable() instanceof CursoredPageable cursored)) {
+            return byPage(results, preparedQuery.getAnnotationMetadata());
+        }
+        String startContinuationToken = preparedQuery.getContinuationToken();
+        if (CosmosSqlPreparedQuery.NO_MORE_RESULTS.equals(startContinuationToken)) {
+            // The cursor of the last page
+            return Flux.empty();
+        }
+        int size = cursored.getSize();
+        AtomicInteger remaining = new AtomicInteger(size);
+        // The cross-partition query can return fewer items than requested, the next pages are read until the page is filled
+        return results.byPage(startContinuationToken, size).next()
+            .expand(response -> {
+                String continuationToken = response.getContinuationToken();
+                int left = remaining.addAndGet(-response.getResults().size());
+                if (continuationToken == null || left <= 0) {
+                    return Mono.empty();
+                }
+                return results.byPage(continuationToken, left).next();
+            })
+            .doOnNext(response -> preparedQuery.setNextContinuationToken(response.getContinuationToken()));
+    }
+
+    /**
+     * Reads the pages of the query results with the page size of the method or the database configuration.
+     *
+     * @param results the query results
+     * @param annotationMetadata the annotation metadata of the method
+     * @param <I> the Cosmos iterator items type
+     * @return the pages of the results
+     */
+    private <I> Flux<FeedResponse<I>> byPage(CosmosPagedFlux<I> results, AnnotationMetadata annotationMetadata) {
+        int pageSize = annotationMetadata.intValue(CosmosQueryOptions.class, "pageSize").orElse(-1);
+        if (pageSize <= 0 && querySettings.getPageSize() != null) {
+            pageSize = querySettings.getPageSize();
+        }
+        if (pageSize > 0) {
+            return results.byPage(pageSize);
+        }
+        return results.byPage();
+    }
+
+    /**
+     * Reads the item by its id and partition key. The point read is cheaper than the query selecting the item by id.
+     *
+     * @param persistentEntity the persistent entity
+     * @param id the item id
+     * @param partitionKey the partition key
+     * @param argument the result argument
+     * @param <T> The entity type
+     * @param <R> The result type
+     * @return the entity or empty if the item doesn't exist
+     */
+    private <T, R> Mono<R> readItem(RuntimePersistentEntity<T> persistentEntity, String id, PartitionKey partitionKey, Argument<R> argument) {
+        if (QUERY_LOG.isDebugEnabled()) {
+            QUERY_LOG.debug("Reading item: id={}, partitionKey={}", id, partitionKey);
+        }
+        CosmosAsyncContainer container = getContainer(persistentEntity);
+        return container.readItem(id, partitionKey, new CosmosItemRequestOptions(), ObjectNode.class).map(response -> {
+            CosmosUtils.processDiagnostics(cosmosDiagnosticsProcessor, CosmosDiagnosticsProcessor.READ_ITEM, response.getDiagnostics(),
+                response.getActivityId(), response.getRequestCharge());
+            return cosmosSerde.deserialize(persistentEntity, response.getItem(), argument);
+        }).onErrorResume(e -> e instanceof CosmosException cosmosException && cosmosException.getStatusCode() == HttpResponseStatus.NOT_FOUND.code(),
+            e -> Mono.empty()
+        ).onErrorMap(e -> CosmosUtils.cosmosAccessException(cosmosDiagnosticsProcessor, CosmosDiagnosticsProcessor.READ_ITEM,
+            "Failed to read item by id", e));
+    }
+
+    /**
+     * Reads the items by their ids and partition keys in a single request.
+     *
+     * @param persistentEntity the persistent entity
+     * @param itemIdentities the item ids and partition keys
+     * @param argument the result argument
+     * @param <T> The entity type
+     * @param <R> The result type
+     * @return the found entities
+     */
+    private <T, R> Flux<R> readMany(RuntimePersistentEntity<T> persistentEntity, List<CosmosItemIdentity> itemIdentities, Argument<R> argument) {
+        if (itemIdentities.isEmpty()) {
+            return Flux.empty();
+        }
+        if (QUERY_LOG.isDebugEnabled()) {
+            QUERY_LOG.debug("Reading {} items by ids", itemIdentities.size());
+        }
+        CosmosAsyncContainer container = getContainer(persistentEntity);
+        return container.readMany(itemIdentities, ObjectNode.class).flatMapMany(response -> {
+            CosmosUtils.processDiagnostics(cosmosDiagnosticsProcessor, CosmosDiagnosticsProcessor.READ_MANY, response.getCosmosDiagnostics(),
+                response.getActivityId(), response.getRequestCharge());
+            return Flux.fromIterable(response.getResults().stream().map(item -> cosmosSerde.deserialize(persistentEntity, item, argument)).toList());
+        }).onErrorMap(e -> CosmosUtils.cosmosAccessException(cosmosDiagnosticsProcessor, CosmosDiagnosticsProcessor.READ_MANY,
+            "Failed to read items by ids", e));
+    }
+
+    /**
+     * Gets the partition key of the point read. Either supplied as the method parameter or the id when it is the partition key.
+     *
+     * @param preparedQuery the prepared query selecting the item by id
+     * @param querySpec the query spec with the bound id
+     * @return the partition key or null if the point read cannot be used
+     */
+    @Nullable
+    private PartitionKey getPointReadPartitionKey(PreparedQuery<?, ?> preparedQuery, SqlQuerySpec querySpec) {
+        Optional<PartitionKey> optPartitionKey = preparedQuery.getParameterInRole(Constants.PARTITION_KEY_ROLE, PartitionKey.class);
+        if (optPartitionKey.isPresent()) {
+            return optPartitionKey.get();
+        }
+        if (querySpec.getParameters().size() == 1 && isIdPartitionKey(runtimeEntityRegistry.getEntity(preparedQuery.getRootEntity()))) {
+            Object id = querySpec.getParameters().get(0).getValue(Object.class);
+            return id == null ? null : new PartitionKey(id.toString());
+        }
+        return null;
+    }
+
+    /**
+     * Gets the item identities of the multi-item read, the partition key is either supplied as the method parameter
+     * or the id when it is the partition key.
+     *
+     * @param preparedQuery the prepared query selecting the items by ids
+     * @param querySpec the query spec with the bound ids
+     * @return the item identities or null if the multi-item read cannot be used
+     */
+    @Nullable
+    private List<CosmosItemIdentity> getPointReadItemIdentities(PreparedQuery<?, ?> preparedQuery, SqlQuerySpec querySpec) {
+        PartitionKey partitionKey = preparedQuery.getParameterInRole(Constants.PARTITION_KEY_ROLE, PartitionKey.class).orElse(null);
+        if (partitionKey == null && !isIdPartitionKey(runtimeEntityRegistry.getEntity(preparedQuery.getRootEntity()))) {
+            return null;
+        }
+        List<CosmosItemIdentity> itemIdentities = new ArrayList<>(querySpec.getParameters().size());
+        for (SqlParameter parameter : querySpec.getParameters()) {
+            Object id = parameter.getValue(Object.class);
+            if (id == null) {
+                return null;
+            }
+            String itemId = id.toString();
+            itemIdentities.add(new CosmosItemIdentity(partitionKey == null ? new PartitionKey(itemId) : partitionKey, itemId));
+        }
+        return itemIdentities;
+    }
+
     /**
      * Finds one entity or DTO projection.
      *
@@ -576,11 +779,41 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
 
     /**
      * Creates new {@link CosmosQueryRequestOptions} and inits default settings.
+     *
+     * @param annotationMetadata the annotation metadata of the method
      * @return the {@link CosmosQueryRequestOptions} instance
      */
-    private CosmosQueryRequestOptions createCosmosQueryRequestOptions() {
+    private CosmosQueryRequestOptions createCosmosQueryRequestOptions(AnnotationMetadata annotationMetadata) {
+        return createCosmosQueryRequestOptions(annotationMetadata, querySettings, queryMetricsEnabled);
+    }
+
+    /**
+     * Creates new {@link CosmosQueryRequestOptions}.
+     * The parallelism and buffering of the method override the settings from the database configuration.
+     *
+     * @param annotationMetadata the annotation metadata of the method
+     * @param querySettings the query settings of the database configuration
+     * @param queryMetricsEnabled whether the query metrics are enabled
+     * @return the {@link CosmosQueryRequestOptions} instance
+     */
+    static CosmosQueryRequestOptions createCosmosQueryRequestOptions(AnnotationMetadata annotationMetadata,
+                                                                     CosmosDatabaseConfiguration.QuerySettings querySettings,
+                                                                     boolean queryMetricsEnabled) {
         CosmosQueryRequestOptions options = new CosmosQueryRequestOptions();
-        options.setQueryMetricsEnabled(this.queryMetricsEnabled);
+        options.setQueryMetricsEnabled(queryMetricsEnabled);
+        // Zero executes the query serially and a negative value lets the SDK decide, both can be requested by the method
+        int methodParallelism = annotationMetadata.intValue(CosmosQueryOptions.class, "maxDegreeOfParallelism").orElse(CosmosQueryOptions.CONFIGURED_PARALLELISM);
+        Integer maxDegreeOfParallelism = methodParallelism != CosmosQueryOptions.CONFIGURED_PARALLELISM ? Integer.valueOf(methodParallelism) : querySettings.getMaxDegreeOfParallelism();
+        if (maxDegreeOfParallelism != null) {
+            options.setMaxDegreeOfParallelism(maxDegreeOfParallelism);
+        }
+        int maxBufferedItemCount = annotationMetadata.intValue(CosmosQueryOptions.class, "maxBufferedItemCount").orElse(-1);
+        if (maxBufferedItemCount <= 0 && querySettings.getMaxBufferedItemCount() != null) {
+            maxBufferedItemCount = querySettings.getMaxBufferedItemCount();
+        }
+        if (maxBufferedItemCount > 0) {
+            options.setMaxBufferedItemCount(maxBufferedItemCount);
+        }
         return options;
     }
 
@@ -786,6 +1019,56 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
         return item;
     }
 
+    /**
+     * Creates the patch operations setting the updated properties.
+     *
+     * @param propertiesToUpdate the properties to update
+     * @return the patch operations
+     */
+    private CosmosPatchOperations createPatchOperations(Map<String, Object> propertiesToUpdate) {
+        CosmosPatchOperations patchOperations = CosmosPatchOperations.create();
+        for (Map.Entry<String, Object> propertyToUpdate : propertiesToUpdate.entrySet()) {
+            Object value = propertyToUpdate.getValue();
+            com.fasterxml.jackson.databind.JsonNode jsonNode;
+            if (value == null) {
+                jsonNode = NullNode.getInstance();
+            } else {
+                jsonNode = cosmosSerde.serialize(value, Argument.of(value.getClass()));
+            }
+            patchOperations.set("/" + propertyToUpdate.getKey(), jsonNode);
+        }
+        return patchOperations;
+    }
+
+    /**
+     * Replaces the selection of the update query with the fields needed to patch the items: the id, the partition key and the ETag.
+     * The query is returned unchanged if it doesn't select whole items or the partition key is not a top level field.
+     *
+     * @param query the update query
+     * @param persistentEntity the persistent entity
+     * @param versioned whether the ETag should be selected
+     * @return the query selecting the item fields used by the patch
+     */
+    private String selectPatchedItemFields(String query, RuntimePersistentEntity<?> persistentEntity, boolean versioned) {
+        Matcher matcher = SELECT_ALL_PATTERN.matcher(query);
+        String partitionKeyDefinition = getPartitionKeyDefinition(persistentEntity);
+        if (!matcher.find() || partitionKeyDefinition.lastIndexOf(Constants.PARTITION_KEY_SEPARATOR) > 0) {
+            return query;
+        }
+        String alias = matcher.group(2);
+        StringBuilder selection = new StringBuilder("SELECT ").append(alias).append('.').append(Constants.INTERNAL_ID);
+        if (!partitionKeyDefinition.isEmpty() && !partitionKeyDefinition.equals(Constants.NO_PARTITION_KEY)) {
+            String partitionKeyField = partitionKeyDefinition.substring(Constants.PARTITION_KEY_SEPARATOR.length());
+            if (!partitionKeyField.equals(Constants.INTERNAL_ID)) {
+                selection.append(", ").append(alias).append('.').append(partitionKeyField);
+            }
+        }
+        if (versioned) {
+            selection.append(", ").append(alias).append('.').append(Constants.ETAG_FIELD_NAME);
+        }
+        return selection.append(" FROM ").append(matcher.group(1)).append(' ').append(alias).append(query.substring(matcher.end())).toString();
+    }
+
     /**
      * Gets update statement from the prepared query for {@link #executeUpdate(PreparedQuery)}.
      * In this case, it is list of properties to be updated.
@@ -831,10 +1114,40 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
         return bulkOperations;
     }
 
+    /**
+     * Creates the bulk patch operations for the items.
+     *
+     * @param items the items with the id, the partition key and the ETag
+     * @param persistentEntity the persistent entity
+     * @param optPartitionKey {@link Optional} with {@link PartitionKey} as value, if empty then will obtain partition key from each item
+     * @param patchOperations the patch operations
+     * @param versioned whether the items must match the queried ETag
+     * @return the list of bulk operations
+     */
+    private List<CosmosItemOperation> createPatchBulkOperations(Iterable<ObjectNode> items, RuntimePersistentEntity<?> persistentEntity,
+                                                                Optional<PartitionKey> optPartitionKey, CosmosPatchOperations patchOperations,
+                                                                boolean versioned) {
+        List<CosmosItemOperation> bulkOperations = new ArrayList<>();
+        for (ObjectNode item : items) {
+            PartitionKey partitionKey = optPartitionKey.orElseGet(() -> getPartitionKey(persistentEntity, item));
+            CosmosBulkPatchItemRequestOptions requestOptions = new CosmosBulkPatchItemRequestOptions();
+            if (versioned) {
+                com.fasterxml.jackson.databind.JsonNode versionValue = item.get(Constants.ETAG_FIELD_NAME);
+                if (versionValue != null) {
+                    requestOptions.setIfMatchETag(versionValue.textValue());
+                }
+            }
+            bulkOperations.add(CosmosBulkOperations.getPatchItemOperation(getItemId(item), partitionKey == null ? PartitionKey.NONE : partitionKey,
+                patchOperations, requestOptions));
+        }
+        return bulkOperations;
+    }
+
     /**
      * Executes bulk operation (update or delete) for given iterable of {@link ObjectNode}.
      *
      * @param container the container where documents are being updated or deleted
+     * @param annotationMetadata the annotation metadata of the method
      * @param items the items being updated or deleted
      * @param bulkOperationType the bulk operation type (DELETE or UPDATE)
      * @param persistentEntity the persistent entity corresponding to the items
@@ -842,16 +1155,27 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
      * @param handleItem function that will apply some changes before adding item to the list, if null then ignored
      * @return number of affected items
      */
-    private Mono<Number> executeBulk(CosmosAsyncContainer container, CosmosPagedFlux<ObjectNode> items, BulkOperationType bulkOperationType, RuntimePersistentEntity<?> persistentEntity, Optional<PartitionKey> optPartitionKey,
-                                     UnaryOperator<ObjectNode> handleItem) {
-
+    private Mono<Number> executeBulk(CosmosAsyncContainer container, AnnotationMetadata annotationMetadata, CosmosPagedFlux<ObjectNode> items, BulkOperationType bulkOperationType,
+                                     RuntimePersistentEntity<?> persistentEntity, Optional<PartitionKey> optPartitionKey, UnaryOperator<ObjectNode> handleItem) {
         // Update/replace using provided partition key or partition key calculated from each item
-        Flux<CosmosItemOperation> updateItems = items.byPage().flatMap(response -> {
-            List<CosmosItemOperation> bulkOperations = createBulkOperations(response.getResults(), bulkOperationType, persistentEntity, optPartitionKey, handleItem);
-            return Flux.fromIterable(bulkOperations);
-        });
-        return container.executeBulkOperations(updateItems).reduce(-1, (affectedCount, bulkOperationResponse) -> {
-            CosmosBulkItemResponse response = bulkOperationResponse.getResponse();
+        return executeBulk(container, annotationMetadata, items, bulkOperationType, results -> createBulkOperations(results, bulkOperationType, persistentEntity, optPartitionKey, handleItem));
+    }
+
+    /**
+     * Executes bulk operations created for given iterable of {@link ObjectNode}.
+     *
+     * @param container the container where documents are being changed
+     * @param annotationMetadata the annotation metadata of the method
+     * @param items the queried items
+     * @param bulkOperationType the bulk operation type
+     * @param createOperations function creating the bulk operations for each page of the items
+     * @return number of affected items
+     */
+    private Mono<Number> executeBulk(CosmosAsyncContainer container, AnnotationMetadata annotationMetadata, CosmosPagedFlux<ObjectNode> items, BulkOperationType bulkOperationType,
+                                     Function<List<ObjectNode>, List<CosmosItemOperation>> createOperations) {
+        Flux<CosmosItemOperation> updateItems = byPage(items, annotationMetadata).flatMap(response -> Flux.fromIterable(createOperations.apply(response.getResults())));
+        return executeBulkOperations(container, annotationMetadata, updateItems).reduce(-1, (affectedCount, bulkOperationResponse) -> {
+            CosmosBulkItemResponse response = getBulkItemResponse(bulkOperationResponse);
             if (affectedCount.intValue() == -1) {
                 // The response diagnostic is the same for each iteration, so we don't want to log it for each item
                 affectedCount = 0;
@@ -865,6 +1189,94 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
         });
     }
 
+    /**
+     * Gets the response of the bulk operation. The operations with the ETag not matching anymore,
+     * failing with {@code 412 Precondition Failed}, are reported as {@link OptimisticLockException}
+     * like the single item operations.
+     *
+     * @param bulkOperationResponse the bulk operation response
+     * @return the item response
+     */
+    private static CosmosBulkItemResponse getBulkItemResponse(CosmosBulkOperationResponse<?> bulkOperationResponse) {
+        CosmosBulkItemResponse response = bulkOperationResponse.getResponse();
+        Exception exception = bulkOperationResponse.getException();
+        int statusCode;
+        if (response != null) {
+            statusCode = response.getStatusCode();
+        } else if (exception instanceof CosmosException cosmosException) {
+            statusCode = cosmosException.getStatusCode();
+        } else {
+            throw Exceptions.propagate(exception == null ? new IllegalStateException("Bulk operation completed without a response") : exception);
+        }
+        if (statusCode == HttpResponseStatus.PRECONDITION_FAILED.code()) {
+            throw new OptimisticLockException("Operation failed due to optimistic locking conflict.");
+        }
+        if (response == null) {
+            throw Exceptions.propagate(exception);
+        }
+        return response;
+    }
+
+    /**
+     * Executes the bulk operations with the options of the method or the database configuration.
+     * When the request units budget is set, the operations are throttled by the container's limiter.
+     *
+     * @param container the container
+     * @param annotationMetadata the annotation metadata of the method
+     * @param operations the operations
+     * @return the responses
+     */
+    private Flux<CosmosBulkOperationResponse<Object>> executeBulkOperations(CosmosAsyncContainer container,
+                                                                           AnnotationMetadata annotationMetadata,
+                                                                           Flux<CosmosItemOperation> operations) {
+        CosmosBulkExecutionOptions options = new CosmosBulkExecutionOptions();
+        int microBatchSize = annotationMetadata.intValue(CosmosBulkOptions.class, "microBatchSize").orElse(-1);
+        if (microBatchSize <= 0 && bulkSettings.getMicroBatchSize() != null) {
+            microBatchSize = bulkSettings.getMicroBatchSize();
+        }
+        if (microBatchSize > 0) {
+            options.setInitialMicroBatchSize(microBatchSize);
+            options.setMaxMicroBatchSize(microBatchSize);
+        }
+        int maxMicroBatchConcurrency = annotationMetadata.intValue(CosmosBulkOptions.class, "maxMicroBatchConcurrency").orElse(-1);
+        if (maxMicroBatchConcurrency <= 0 && bulkSettings.getMaxMicroBatchConcurrency() != null) {
+            maxMicroBatchConcurrency = bulkSettings.getMaxMicroBatchConcurrency();
+        }
+        if (maxMicroBatchConcurrency > 0) {
+            options.setMaxMicroBatchConcurrency(maxMicroBatchConcurrency);
+        }
+        double requestUnitsPerSecond = annotationMetadata.doubleValue(CosmosBulkOptions.class, "requestUnitsPerSecond").orElse(-1);
+        if (requestUnitsPerSecond <= 0 && bulkSettings.getRequestUnitsPerSecond() != null) {
+            requestUnitsPerSecond = bulkSettings.getRequestUnitsPerSecond();
+        }
+        if (requestUnitsPerSecond <= 0) {
+            return container.executeBulkOperations(operations, options);
+        }
+        double budget = requestUnitsPerSecond;
+        CosmosRequestUnitsLimiter limiter = requestUnitsLimiters.computeIfAbsent(new RequestUnitsLimiterKey(container.getId(), budget),
+            key -> new CosmosRequestUnitsLimiter(budget));
+        // The charges reserved for the operations sent and not yet answered
+        Map<CosmosItemOperation, Double> reservedCharges = Collections.synchronizedMap(new IdentityHashMap<>());
+        Flux<CosmosItemOperation> throttledOperations = operations.concatMap(operation -> limiter.acquire().map(reservedCharge -> {
+            reservedCharges.put(operation, reservedCharge);
+            return operation;
+        }));
+        // The SDK retries the operations throttled with the status 429 internally in the bulk mode,
+        // the limiter only sees the final response of each operation
+        return container.<Object>executeBulkOperations(throttledOperations, options).doOnNext(bulkOperationResponse -> {
+            Double reservedCharge = reservedCharges.remove(bulkOperationResponse.getOperation());
+            if (reservedCharge == null) {
+                return;
+            }
+            CosmosBulkItemResponse response = bulkOperationResponse.getResponse();
+            if (response != null) {
+                limiter.record(response.getStatusCode(), response.getRequestCharge(), reservedCharge);
+            } else if (bulkOperationResponse.getException() instanceof CosmosException cosmosException) {
+                limiter.record(cosmosException.getStatusCode(), cosmosException.getRequestCharge(), reservedCharge);
+            }
+        });
+    }
+
     private <T> CosmosReactiveEntityOperation<T> createCosmosInsertOneOperation(CosmosReactiveOperationContext<T> ctx, T entity) {
         return new CosmosReactiveEntityOperation<>(entityEventRegistry, conversionService, ctx, ctx.getPersistentEntity(), entity, true) {
 
@@ -896,6 +1308,9 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
     }
 
     private Throwable handleCosmosOperationException(String message, Throwable e, String operationName, RuntimePersistentEntity<?> persistentEntity) {
+        if (e instanceof OptimisticLockException) {
+            return e;
+        }
         if (e instanceof CosmosException cosmosException) {
             if (cosmosException.getStatusCode() == HttpResponseStatus.PRECONDITION_FAILED.code()) {
                 CosmosEntity cosmosEntity = CosmosEntity.get(persistentEntity);
@@ -1053,7 +1468,8 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
 
         CREATE(CosmosItemOperationType.CREATE, HttpResponseStatus.CREATED.code()),
         DELETE(CosmosItemOperationType.DELETE, HttpResponseStatus.NO_CONTENT.code()),
-        UPDATE(CosmosItemOperationType.REPLACE, HttpResponseStatus.OK.code());
+        UPDATE(CosmosItemOperationType.REPLACE, HttpResponseStatus.OK.code()),
+        PATCH(CosmosItemOperationType.PATCH, HttpResponseStatus.OK.code());
 
         final CosmosItemOperationType cosmosItemOperationType;
         final int expectedOperationStatusCode;
@@ -1242,8 +1658,8 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
         }
 
         private Mono<Number> executeAndGetRowsUpdated(List<ItemBulkOperation<?, ?>> bulkOperations, Map<String, T> entitiesById) {
-            return ctx.getContainer().executeBulkOperations(Flux.fromIterable(bulkOperations)).reduce(-1, (count, bulkOperationResponse) -> {
-                CosmosBulkItemResponse response = bulkOperationResponse.getResponse();
+            return executeBulkOperations(ctx.getContainer(), ctx.annotationMetadata, Flux.fromIterable(bulkOperations)).reduce(-1, (count, bulkOperationResponse) -> {
+                CosmosBulkItemResponse response = getBulkItemResponse(bulkOperationResponse);
                 if (count.intValue() == -1) {
                     count = 0;
                     // The response diagnostic is the same for each iteration, so we don't want to log it for each item
@@ -1277,4 +1693,7 @@ public final class DefaultReactiveCosmosRepositoryOperations extends AbstractRep
             return new ItemBulkOperation<>(cosmosItemOperationType, id, partitionKey, requestOptions, item, null);
         }
     }
+
+    private record RequestUnitsLimiterKey(String containerId, double requestUnitsPerSecond) {
+    }
 }
@@ -57,6 +57,8 @@ import spock.lang.IgnoreIf
 import spock.lang.Shared
 import spock.lang.Specification
 
+import java.util.concurrent.CopyOnWriteArrayList
+
 import static io.micronaut.data.azure.repositories.FamilyRepository.Specifications.idsIn
 import static io.micronaut.data.azure.repositories.FamilyRepository.Specifications.idsInAndNotIn
 import static io.micronaut.data.azure.repositories.FamilyRepository.Specifications.idsNotIn
@@ -165,10 +167,67 @@ class CosmosBasicSpec extends Specification implements AzureCosmosTestProperties
         then:
             loadedBook
             loadedBook.totalPages == book.totalPages
+        when:
+            def otherBook = new CosmosBook()
+            otherBook.id = UUID.randomUUID().toString()
+            otherBook.title = "Carrie"
+            otherBook.totalPages = 200
+            bookRepository.save(otherBook)
+            def loadedBooks = bookRepository.findByIdIn([book.id, otherBook.id, nonExistingId])
+        then:
+            loadedBooks.size() == 2
+            loadedBooks*.id.toSet() == [book.id, otherBook.id].toSet()
+            loadedBooks.find { it.id == otherBook.id }.totalPages == 200
         cleanup:
             bookRepository.deleteAll()
     }
 
+    def "test lookups by id use point reads"() {
+        given:
+            def diagnosticsProcessor = context.getBean(LoggingCosmosDiagnosticsProcessor)
+            def book = new CosmosBook()
+            book.title = "The Shining"
+            book.totalPages = 447
+            bookRepository.save(book)
+            saveSampleFamilies()
+        when:"The entity is found by the id which is the partition key"
+            diagnosticsProcessor.operationNames.clear()
+            def optBook = bookRepository.findById(book.id)
+            def nonExistingBook = bookRepository.findById(UUID.randomUUID().toString())
+        then:"The item is read by the id"
+            optBook.present
+            optBook.get().title == book.title
+            !nonExistingBook.present
+            diagnosticsProcessor.operationNames == [CosmosDiagnosticsProcessor.READ_ITEM, CosmosDiagnosticsProcessor.READ_ITEM]
+        when:"The entity is found by the id and the partition key parameter"
+            diagnosticsProcessor.operationNames.clear()
+            optBook = bookRepository.queryById(book.id, new PartitionKey(book.id))
+        then:
+            optBook.present
+            diagnosticsProcessor.operationNames == [CosmosDiagnosticsProcessor.READ_ITEM]
+        when:"The entities are found by the ids"
+            diagnosticsProcessor.operationNames.clear()
+            def books = bookRepository.findByIdIn([book.id])
+        then:
+            books*.id == [book.id]
+            diagnosticsProcessor.operationNames == [CosmosDiagnosticsProcessor.READ_MANY]
+        when:"The entity is not only looked up by the id"
+            diagnosticsProcessor.operationNames.clear()
+            def bookByTitle = bookRepository.searchByTitle(book.title)
+        then:"The items are queried"
+            bookByTitle.id == book.id
+            diagnosticsProcessor.operationNames == [CosmosDiagnosticsProcessor.QUERY_ITEMS]
+        when:"The id is not the partition key and the partition key is not given"
+            diagnosticsProcessor.operationNames.clear()
+            def family = familyRepository.findById(ANDERSEN_FAMILY.id)
+        then:"The items are queried"
+            family.present
+            diagnosticsProcessor.operationNames == [CosmosDiagnosticsProcessor.QUERY_ITEMS]
+        cleanup:
+            bookRepository.deleteAll()
+            familyRepository.deleteAll()
+    }
+
     def "test find with query and other entity fields and annotations"() {
         given:
             def book1 = new CosmosBook()
@@ -261,6 +320,54 @@ class CosmosBasicSpec extends Specification implements AzureCosmosTestProperties
             bookRepository.deleteAll()
     }
 
+    def "test update by query patches the items"() {
+        given:
+            def book1 = new CosmosBook("Dune", 412)
+            book1.itemPrice = new ItemPrice(19.99)
+            def book2 = new CosmosBook("Dune", 412)
+            def book3 = new CosmosBook("Dune Messiah", 256)
+            bookRepository.saveAll([book1, book2, book3])
+        when:"The matching items are patched"
+            def updated = bookRepository.updateByTitle("Dune", 896)
+            def loadedBook1 = bookRepository.findById(book1.id).get()
+            def loadedBook2 = bookRepository.findById(book2.id).get()
+            def loadedBook3 = bookRepository.findById(book3.id).get()
+        then:"Only the updated property changes"
+            updated == 2
+            loadedBook1.totalPages == 896
+            loadedBook1.itemPrice.price == Double.valueOf(19.99)
+            loadedBook1.version != book1.version
+            loadedBook2.totalPages == 896
+            loadedBook3.totalPages == 256
+            loadedBook3.version == book3.version
+        when:"The entities are updated with a stale version"
+            def staleBook = bookRepository.findById(book1.id).get()
+            loadedBook1.totalPages = 900
+            bookRepository.update(loadedBook1)
+            staleBook.totalPages = 901
+            bookRepository.updateAll([staleBook])
+        then:"The bulk conflict is reported"
+            thrown(OptimisticLockException)
+            bookRepository.findById(book1.id).get().totalPages == 900
+        cleanup:
+            bookRepository.deleteAll()
+    }
+
+    def "test throttled bulk delete by query"() {
+        given:
+            def books = (1..5).collect { new CosmosBook("Throttled", 100 + it) }
+            bookRepository.saveAll(books)
+            bookRepository.save(new CosmosBook("Kept", 10))
+        when:"The items are deleted within the request units budget"
+            def deleted = bookRepository.deleteByTitle("Throttled")
+        then:
+            deleted == 5
+            bookRepository.count() == 1
+            bookRepository.searchByTitle("Kept")
+        cleanup:
+            bookRepository.deleteAll()
+    }
+
     def "crud family in cosmos repo"() {
         given:
             saveSampleFamilies()
@@ -655,8 +762,11 @@ class CosmosBasicSpec extends Specification implements AzureCosmosTestProperties
     static class LoggingCosmosDiagnosticsProcessor implements CosmosDiagnosticsProcessor {
         private static final Logger LOG = LoggerFactory.getLogger(CosmosBasicSpec)
 
+        final List<String> operationNames = new CopyOnWriteArrayList<>()
+
         @Override
         void processDiagnostics(String operationName, CosmosDiagnostics cosmosDiagnostics, String activityId, double requestCharge) {
+            operationNames.add(operationName)
             if (LOG.isInfoEnabled()) {
                 LOG.info("Operation Name: {};\nDiagnostics: {};\nactivityId: {};\nrequestCharge: {}", cosmosDiagnostics, activityId, requestCharge)
             }
@@ -0,0 +1,66 @@
+package io.micronaut.data.azure
+
+import com.azure.cosmos.CosmosClient
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.data.azure.entities.CosmosBook
+import io.micronaut.data.azure.repositories.CosmosBookRepository
+import io.micronaut.data.cosmos.annotation.CosmosChangeFeed
+import io.micronaut.data.cosmos.config.CosmosDatabaseConfiguration
+import io.micronaut.data.cosmos.operations.CosmosChangeFeedListener
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.IgnoreIf
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+@IgnoreIf({ env["GITHUB_WORKFLOW"] })
+class CosmosChangeFeedSpec extends Specification implements AzureCosmosTestProperties {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext context = ApplicationContext.run(properties)
+
+    CosmosBookRepository bookRepository = context.getBean(CosmosBookRepository)
+
+    BookChangesListener listener = context.getBean(BookChangesListener)
+
+    def "test the change feed listener receives the inserted and updated items"() {
+        given:
+            def conditions = new PollingConditions(timeout: 60, delay: 0.5)
+            def config = context.getBean(CosmosDatabaseConfiguration)
+        expect:"The lease container is created"
+            context.getBean(CosmosClient).getDatabase(config.databaseName).getContainer(config.changeFeed.leaseContainerName).read()
+        when:"An item is inserted after the processor has started"
+            def book = bookRepository.save(new CosmosBook("The Change Feed", 42))
+        then:"The listener receives the inserted entity"
+            conditions.eventually {
+                assert listener.books.find { it.id == book.id }?.title == "The Change Feed"
+            }
+        when:"The item is updated"
+            book.totalPages = 43
+            bookRepository.update(book)
+        then:"The listener receives the updated entity"
+            conditions.eventually {
+                assert listener.books.find { it.id == book.id && it.totalPages == 43 }
+            }
+        cleanup:
+            bookRepository.deleteAll()
+    }
+
+    @Requires(property = "spec.name", value = "CosmosChangeFeedSpec")
+    @Singleton
+    @CosmosChangeFeed(value = "change-feed-spec", pollDelay = "200ms")
+    static class BookChangesListener implements CosmosChangeFeedListener<CosmosBook> {
+
+        final List<CosmosBook> books = new CopyOnWriteArrayList<>()
+
+        @Override
+        void onChanges(List<CosmosBook> entities) {
+            books.addAll(entities)
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.micronaut.data.azure
+
+import com.azure.cosmos.CosmosDiagnostics
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.data.azure.entities.CosmosBook
+import io.micronaut.data.azure.repositories.CosmosBookRepository
+import io.micronaut.data.cosmos.operations.CosmosDiagnosticsProcessor
+import io.micronaut.data.model.CursoredPage
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.Sort
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.IgnoreIf
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+@IgnoreIf({ env["GITHUB_WORKFLOW"] })
+class CosmosCursoredPageSpec extends Specification implements AzureCosmosTestProperties {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext context = ApplicationContext.run(properties)
+
+    CosmosBookRepository bookRepository = context.getBean(CosmosBookRepository)
+
+    QueryPagesCounter queryPagesCounter = context.getBean(QueryPagesCounter)
+
+    def setup() {
+        bookRepository.saveAll((1..7).collect { new CosmosBook("Book " + it, 100 + it) })
+    }
+
+    def cleanup() {
+        bookRepository.deleteAll()
+    }
+
+    def "test cursored pages are read with continuation tokens"() {
+        given:
+            def pageable = Pageable.from(0, 3, Sort.of(Sort.Order.asc("totalPages")))
+            List<List<Integer>> pages = []
+        when:"The pages are walked forward"
+            CursoredPage<CosmosBook> page = bookRepository.searchByTotalPagesGreaterThan(100, pageable)
+            pages << page.content*.totalPages
+            while (page.hasNext()) {
+                page = bookRepository.searchByTotalPagesGreaterThan(100, page.nextPageable())
+                pages << page.content*.totalPages
+            }
+        then:
+            pages == [[101, 102, 103], [104, 105, 106], [107]]
+            page.totalSize == 7
+        when:"The first page is read again"
+            def firstPage = bookRepository.searchByTotalPagesGreaterThan(100, pageable)
+        then:"Every item has a cursor"
+            firstPage.cursors.size() == 3
+            firstPage.content*.totalPages == [101, 102, 103]
+    }
+
+    def "test the page after the last full page is empty"() {
+        when:
+            def page = bookRepository.searchByTotalPagesGreaterThan(100, Pageable.from(0, 7, Sort.of(Sort.Order.asc("totalPages"))))
+        then:
+            page.content.size() == 7
+            page.cursors.size() == 7
+            page.hasNext()
+        when:
+            def nextPage = bookRepository.searchByTotalPagesGreaterThan(100, page.nextPageable())
+        then:
+            nextPage.content.isEmpty()
+            nextPage.cursors.isEmpty()
+            !nextPage.hasNext()
+    }
+
+    def "test paging backward is rejected"() {
+        given:
+            def page = bookRepository.searchByTotalPagesGreaterThan(100, Pageable.from(0, 3, Sort.of(Sort.Order.asc("totalPages"))))
+        when:
+            bookRepository.searchByTotalPagesGreaterThan(100, page.nextPageable()).previousPageable().with {
+                bookRepository.searchByTotalPagesGreaterThan(100, it)
+            }
+        then:
+            thrown(UnsupportedOperationException)
+    }
+
+    def "test the page size of the query options"() {
+        given:
+            bookRepository.saveAll((1..3).collect { new CosmosBook("Paged", it) })
+            queryPagesCounter.operationNames.clear()
+        when:
+            def books = bookRepository.findByTitle("Paged")
+        then:"The items are fetched two at a time"
+            books.size() == 3
+            queryPagesCounter.operationNames.count(CosmosDiagnosticsProcessor.QUERY_ITEMS) >= 2
+    }
+
+    @Requires(property = "spec.name", value = "CosmosCursoredPageSpec")
+    @Singleton
+    static class QueryPagesCounter implements CosmosDiagnosticsProcessor {
+
+        final List<String> operationNames = new CopyOnWriteArrayList<>()
+
+        @Override
+        void processDiagnostics(String operationName, CosmosDiagnostics cosmosDiagnostics, String activityId, double requestCharge) {
+            operationNames.add(operationName)
+        }
+    }
+}
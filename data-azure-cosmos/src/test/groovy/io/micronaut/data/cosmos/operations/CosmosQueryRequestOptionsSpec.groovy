@@ -0,0 +1,49 @@
+package io.micronaut.data.cosmos.operations
+
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.data.cosmos.annotation.CosmosQueryOptions
+import io.micronaut.data.cosmos.config.CosmosDatabaseConfiguration
+import io.micronaut.inject.annotation.MutableAnnotationMetadata
+import spock.lang.Specification
+
+class CosmosQueryRequestOptionsSpec extends Specification {
+
+    void "test the query settings of the configuration are applied"() {
+        given:
+            def querySettings = new CosmosDatabaseConfiguration.QuerySettings()
+            querySettings.maxDegreeOfParallelism = 4
+            querySettings.maxBufferedItemCount = 100
+
+        when:
+            def options = DefaultReactiveCosmosRepositoryOperations.createCosmosQueryRequestOptions(AnnotationMetadata.EMPTY_METADATA, querySettings, true)
+
+        then:
+            options.maxDegreeOfParallelism == 4
+            options.maxBufferedItemCount == 100
+            options.queryMetricsEnabled
+    }
+
+    void "test the query options of the method override the configuration"() {
+        given:
+            def querySettings = new CosmosDatabaseConfiguration.QuerySettings()
+            querySettings.maxDegreeOfParallelism = 4
+            querySettings.maxBufferedItemCount = 100
+            def annotationMetadata = new MutableAnnotationMetadata()
+            annotationMetadata.addAnnotation(CosmosQueryOptions.name, members)
+
+        when:
+            def options = DefaultReactiveCosmosRepositoryOperations.createCosmosQueryRequestOptions(annotationMetadata, querySettings, false)
+
+        then:
+            options.maxDegreeOfParallelism == maxDegreeOfParallelism
+            options.maxBufferedItemCount == maxBufferedItemCount
+
+        where:
+            members                                               | maxDegreeOfParallelism | maxBufferedItemCount
+            [:]                                                   | 4                      | 100
+            [maxDegreeOfParallelism: 0]                           | 0                      | 100
+            [maxDegreeOfParallelism: -1]                          | -1                     | 100
+            [maxDegreeOfParallelism: 8, maxBufferedItemCount: 10] | 8                      | 10
+            [maxBufferedItemCount: -1]                            | 4                      | 100
+    }
+}
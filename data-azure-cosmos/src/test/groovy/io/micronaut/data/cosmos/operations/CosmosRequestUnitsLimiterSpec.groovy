@@ -0,0 +1,79 @@
+package io.micronaut.data.cosmos.operations
+
+import spock.lang.Specification
+
+class CosmosRequestUnitsLimiterSpec extends Specification {
+
+    void "test operations within the budget are not delayed"() {
+        given:
+            def limiter = new CosmosRequestUnitsLimiter(100)
+
+        when:
+            long start = System.nanoTime()
+            def reservedCharges = (1..10).collect { limiter.acquire().block() }
+
+        then:
+            reservedCharges.every { it == 1d }
+            System.nanoTime() - start < 100_000_000L
+    }
+
+    void "test the bucket is corrected by the charge reserved for the operation"() {
+        given:
+            def limiter = new CosmosRequestUnitsLimiter(100)
+
+        when:
+            double first = limiter.acquire().block()
+            double second = limiter.acquire().block()
+            limiter.record(200, 11, first)
+
+        then:
+            first == 1d
+            second == 1d
+            Math.abs(limiter.@tokens - 88) < 0.01
+            Math.abs(limiter.@estimatedCharge - 3) < 0.0001
+
+        when:"the response of the second operation matches its reservation"
+            limiter.record(200, 1, second)
+
+        then:"the bucket is not corrected by the changed estimate"
+            Math.abs(limiter.@tokens - 88) < 0.01
+            Math.abs(limiter.acquire().block() - 2.6) < 0.0001
+    }
+
+    void "test throttled responses lower the rate"() {
+        given:
+            def limiter = new CosmosRequestUnitsLimiter(10)
+
+        when:
+            double reservedCharge = limiter.acquire().block()
+            limiter.record(429, 0, reservedCharge)
+
+        then:
+            limiter.@rate == 5d
+            limiter.@tokens <= 0d
+
+        when:
+            long start = System.nanoTime()
+            limiter.acquire().block()
+
+        then:"the operation waits for the tokens refilled at the lowered rate"
+            System.nanoTime() - start >= 150_000_000L
+
+        when:
+            limiter.record(200, 1, 1)
+
+        then:
+            Math.abs(limiter.@rate - 5.1) < 0.0001
+    }
+
+    void "test throttled responses don't lower the rate under the minimum"() {
+        given:
+            def limiter = new CosmosRequestUnitsLimiter(100)
+
+        when:
+            10.times { limiter.record(429, 0, 1) }
+
+        then:
+            limiter.@rate == 5d
+    }
+}
@@ -3,7 +3,10 @@ package io.micronaut.data.azure.repositories;
 import com.azure.cosmos.models.PartitionKey;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.azure.entities.CosmosBook;
+import io.micronaut.data.cosmos.annotation.CosmosBulkOptions;
+import io.micronaut.data.cosmos.annotation.CosmosQueryOptions;
 import io.micronaut.data.cosmos.annotation.CosmosRepository;
+import io.micronaut.data.model.CursoredPage;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Slice;
 import io.micronaut.data.repository.PageableRepository;
@@ -19,9 +22,21 @@ public abstract class CosmosBookRepository implements PageableRepository<CosmosB
 
     public abstract Optional<CosmosBook> queryById(String id, PartitionKey partitionKey);
 
+    public abstract List<CosmosBook> findByIdIn(List<String> ids);
+
     public abstract CosmosBook searchByTitle(String title);
 
+    public abstract long updateByTitle(String title, int totalPages);
+
+    @CosmosBulkOptions(microBatchSize = 2, maxMicroBatchConcurrency = 1, requestUnitsPerSecond = 100)
+    public abstract long deleteByTitle(String title);
+
     public abstract Slice<CosmosBook> list(Pageable pageable);
 
     public abstract List<CosmosBook> findByTotalPagesGreaterThan(int totalPages, Pageable pageable);
+
+    public abstract CursoredPage<CosmosBook> searchByTotalPagesGreaterThan(int totalPages, Pageable pageable);
+
+    @CosmosQueryOptions(pageSize = 2, maxDegreeOfParallelism = 0)
+    public abstract List<CosmosBook> findByTitle(String title);
 }
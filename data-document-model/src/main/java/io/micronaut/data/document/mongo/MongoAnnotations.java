@@ -35,6 +35,8 @@ public interface MongoAnnotations {
     String SORT = "io.micronaut.data.mongodb.annotation.MongoSort";
     String PROJECTION = "io.micronaut.data.mongodb.annotation.MongoProjection";
     String COLLATION = "io.micronaut.data.mongodb.annotation.MongoCollation";
+    String WATCH = "io.micronaut.data.mongodb.annotation.MongoWatch";
+    String UPSERT = "io.micronaut.data.mongodb.annotation.MongoUpsert";
 
     String FILTER_ROLE = "filter";
     String PIPELINE_ROLE = "pipeline";
@@ -46,6 +48,9 @@ public interface MongoAnnotations {
 
     String EXECUTOR_REPOSITORY = "io.micronaut.data.mongodb.repository.MongoQueryExecutor";
     String REACTIVE_EXECUTOR_REPOSITORY = "io.micronaut.data.mongodb.repository.MongoReactiveQueryExecutor";
+    String WATCH_INTERCEPTOR = "io.micronaut.data.mongodb.intercept.MongoWatchInterceptor";
+    String UPSERT_INTERCEPTOR = "io.micronaut.data.mongodb.intercept.MongoUpsertInterceptor";
+    String UPSERT_RESULT = "io.micronaut.data.mongodb.operations.MongoUpsertResult";
 
     String BSON = "org.bson.conversions.Bson";
     String FIND_OPTIONS_BEAN = "io.micronaut.data.mongodb.operations.options.MongoFindOptions";
@@ -54,4 +59,21 @@ public interface MongoAnnotations {
     String DELETE_OPTIONS_BEAN = "com.mongodb.client.model.DeleteOptions";
     String PAGEABLE_BEAN = "io.micronaut.data.model.Pageable";
 
+    /**
+     * The {@code Query} member with the query serialized as Base64 encoded BSON.
+     * The query value is wrapped in a document under the {@link #BSON_TEMPLATE_VALUE} key,
+     * the paths of its parameter placeholders are stored under the {@link #BSON_TEMPLATE_PARAMETERS} key.
+     */
+    String QUERY_BSON = "bson";
+    /**
+     * The {@code Query} member with the update serialized as Base64 encoded BSON.
+     */
+    String UPDATE_BSON = "updateBson";
+    String BSON_TEMPLATE_VALUE = "v";
+    /**
+     * The template key of the parameter placeholder paths in the document order.
+     * Each path is an array of the document keys and the array indexes leading to the placeholder.
+     */
+    String BSON_TEMPLATE_PARAMETERS = "p";
+
 }
@@ -19,10 +19,12 @@ import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Introspected;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.annotation.MappedEntity;
 import io.micronaut.data.annotation.ParameterExpression;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.TypeRole;
+import io.micronaut.data.document.model.query.builder.MongoQueryBuilder2;
 import io.micronaut.data.document.mongo.MongoAnnotations;
 import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.model.query.BindingParameter;
@@ -41,11 +43,23 @@ import io.micronaut.inject.annotation.MutableAnnotationMetadata;
 import io.micronaut.inject.ast.ClassElement;
 import io.micronaut.inject.ast.MethodElement;
 import io.micronaut.inject.ast.ParameterElement;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 /**
@@ -180,11 +194,19 @@ public class MongoRawQueryMethodMatcher implements MethodMatcher {
         }
         boolean encodeEntityParameters = persistentEntity != null || operationType == DataMethod.OperationType.INSERT;
 
+        String queryBson = encodeBsonTemplate(matchContext, queryResult.getQuery());
+        String updateBson = queryResult.getUpdate() == null ? null : encodeBsonTemplate(matchContext, queryResult.getUpdate());
         methodElement.annotate(Query.class, builder -> {
             if (queryResult.getUpdate() != null) {
                 builder.member("update", queryResult.getUpdate());
+                if (updateBson != null) {
+                    builder.member(MongoAnnotations.UPDATE_BSON, updateBson);
+                }
             }
             builder.value(queryResult.getQuery());
+            if (queryBson != null) {
+                builder.member(MongoAnnotations.QUERY_BSON, queryBson);
+            }
         });
 
         methodMatchInfo
@@ -193,6 +215,67 @@ public class MongoRawQueryMethodMatcher implements MethodMatcher {
                 .countQueryResult(null);
     }
 
+    /**
+     * Validates the query JSON and serializes it into the binary BSON read by the runtime without parsing the JSON again.
+     * The paths of the parameter placeholders are stored next to the value, so the runtime replaces the parameters
+     * without scanning the whole template on every execution.
+     * The invalid JSON is reported as a warning and left to be parsed at the runtime.
+     *
+     * @param matchContext The match context
+     * @param json         The query JSON
+     * @return The Base64 encoded BSON or null if the JSON is not valid
+     */
+    @Nullable
+    private static String encodeBsonTemplate(MethodMatchContext matchContext, String json) {
+        BsonValue value;
+        try {
+            value = json.startsWith("[") ? BsonArray.parse(json) : BsonDocument.parse(json);
+        } catch (RuntimeException e) {
+            matchContext.getVisitorContext().warn("Invalid MongoDB query JSON: " + json + " (" + e.getMessage() + ")", matchContext.getMethodElement());
+            return null;
+        }
+        BsonArray parameterPaths = new BsonArray();
+        collectParameterPaths(value, new ArrayList<>(), parameterPaths);
+        BsonDocument template = new BsonDocument(MongoAnnotations.BSON_TEMPLATE_VALUE, value)
+                .append(MongoAnnotations.BSON_TEMPLATE_PARAMETERS, parameterPaths);
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            new BsonDocumentCodec().encode(writer, template, EncoderContext.builder().build());
+        }
+        return Base64.getEncoder().encodeToString(buffer.toByteArray());
+    }
+
+    /**
+     * Collects the paths of the parameter placeholders and of the regular expressions referencing parameters in the document order.
+     * A path is an array of the document keys and the array indexes leading to the placeholder.
+     *
+     * @param value          The value
+     * @param path           The path of the value
+     * @param parameterPaths The collected paths
+     */
+    private static void collectParameterPaths(BsonValue value, List<BsonValue> path, BsonArray parameterPaths) {
+        if (value instanceof BsonDocument document) {
+            if (document.containsKey(MongoQueryBuilder2.QUERY_PARAMETER_PLACEHOLDER)) {
+                parameterPaths.add(new BsonArray(new ArrayList<>(path)));
+                return;
+            }
+            for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+                path.add(new BsonString(entry.getKey()));
+                collectParameterPaths(entry.getValue(), path, parameterPaths);
+                path.remove(path.size() - 1);
+            }
+        } else if (value instanceof BsonArray array) {
+            for (int i = 0; i < array.size(); i++) {
+                path.add(new BsonInt32(i));
+                collectParameterPaths(array.get(i), path, parameterPaths);
+                path.remove(path.size() - 1);
+            }
+        } else if (value instanceof BsonRegularExpression regularExpression
+                && regularExpression.getPattern().contains(MongoQueryBuilder2.QUERY_PARAMETER_PLACEHOLDER)) {
+            parameterPaths.add(new BsonArray(new ArrayList<>(path)));
+        }
+    }
+
     private QueryResult getQueryResult(MethodMatchContext matchContext,
                                        List<ParameterElement> parameters,
                                        ParameterElement entityParam,
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.document.processor.matchers;
+
+import io.micronaut.data.document.mongo.MongoAnnotations;
+import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.model.PersistentEntity;
+import io.micronaut.data.processor.visitors.MatchFailedException;
+import io.micronaut.data.processor.visitors.MethodMatchContext;
+import io.micronaut.data.processor.visitors.finders.MethodMatchInfo;
+import io.micronaut.data.processor.visitors.finders.MethodMatcher;
+import io.micronaut.data.processor.visitors.finders.TypeUtils;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.MethodElement;
+
+import java.util.stream.Stream;
+
+/**
+ * Matches the bulk upsert methods annotated with `MongoUpsert`.
+ *
+ * @since 4.12.0
+ */
+public class MongoUpsertMethodMatcher implements MethodMatcher {
+
+    @Override
+    public final int getOrder() {
+        // should run before `MongoExecutorQueryMethodMatcher`
+        return DEFAULT_POSITION - 2003;
+    }
+
+    @Override
+    public MethodMatch match(MethodMatchContext matchContext) {
+        if (!matchContext.getMethodElement().hasAnnotation(MongoAnnotations.UPSERT)) {
+            return null;
+        }
+        return methodMatchContext -> {
+            MethodElement methodElement = methodMatchContext.getMethodElement();
+            ClassElement rootEntity = methodMatchContext.getRootEntity().getClassElement();
+            if (methodMatchContext.getParameters().length != 1) {
+                throw new MatchFailedException("Upsert method must have a single parameter of the entities", methodElement);
+            }
+            ClassElement parameterType = methodMatchContext.getParameters()[0].getGenericType();
+            boolean isContainer = parameterType.isAssignable(Iterable.class) || parameterType.isAssignable(Stream.class);
+            ClassElement entityType = isContainer ? parameterType.getFirstTypeArgument().orElse(null) : parameterType;
+            if (entityType == null || !entityType.isAssignable(rootEntity.getName())) {
+                throw new MatchFailedException("Upsert method parameter must be the entity, an Iterable or a Stream of the entity: " + rootEntity.getName(), methodElement);
+            }
+            ClassElement returnType = methodMatchContext.getReturnType();
+            if (!TypeUtils.isVoid(returnType) && !returnType.isAssignable(MongoAnnotations.UPSERT_RESULT)) {
+                throw new MatchFailedException("Upsert method must return void or MongoUpsertResult", methodElement);
+            }
+            PersistentEntity persistentEntity = methodMatchContext.getRootEntity();
+            for (String key : methodElement.stringValues(MongoAnnotations.UPSERT, "key")) {
+                if (persistentEntity.getPropertyByName(key) == null) {
+                    throw new MatchFailedException("Upsert key property doesn't exist: " + key, methodElement);
+                }
+            }
+            ClassElement interceptor = methodMatchContext.getVisitorContext().getClassElement(MongoAnnotations.UPSERT_INTERCEPTOR)
+                .orElseThrow(() -> new MatchFailedException("Upsert interceptor is not on the classpath", methodElement));
+            return new MethodMatchInfo(DataMethod.OperationType.INSERT, methodMatchContext.getRootEntity(), interceptor);
+        };
+    }
+}
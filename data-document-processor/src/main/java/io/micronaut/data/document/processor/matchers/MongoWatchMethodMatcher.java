@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.document.processor.matchers;
+
+import io.micronaut.data.document.mongo.MongoAnnotations;
+import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.processor.visitors.MatchFailedException;
+import io.micronaut.data.processor.visitors.MethodMatchContext;
+import io.micronaut.data.processor.visitors.finders.MethodMatchInfo;
+import io.micronaut.data.processor.visitors.finders.MethodMatcher;
+import io.micronaut.data.processor.visitors.finders.TypeUtils;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.MethodElement;
+
+/**
+ * Matches the change stream methods annotated with `MongoWatch`.
+ *
+ * @since 4.12.0
+ */
+public class MongoWatchMethodMatcher implements MethodMatcher {
+
+    @Override
+    public final int getOrder() {
+        // should run before `MongoExecutorQueryMethodMatcher`
+        return DEFAULT_POSITION - 2002;
+    }
+
+    @Override
+    public MethodMatch match(MethodMatchContext matchContext) {
+        if (!matchContext.getMethodElement().hasAnnotation(MongoAnnotations.WATCH)) {
+            return null;
+        }
+        return methodMatchContext -> {
+            MethodElement methodElement = methodMatchContext.getMethodElement();
+            if (methodMatchContext.getParameters().length > 0) {
+                throw new MatchFailedException("Change stream method cannot have parameters", methodElement);
+            }
+            if (!TypeUtils.isReactiveType(methodMatchContext.getReturnType())) {
+                throw new MatchFailedException("Change stream method must return a reactive type", methodElement);
+            }
+            ClassElement interceptor = methodMatchContext.getVisitorContext().getClassElement(MongoAnnotations.WATCH_INTERCEPTOR)
+                .orElseThrow(() -> new MatchFailedException("Change stream interceptor is not on the classpath", methodElement));
+            return new MethodMatchInfo(DataMethod.OperationType.QUERY, methodMatchContext.getRootEntity(), interceptor);
+        };
+    }
+}
@@ -4,6 +4,10 @@ import io.micronaut.data.annotation.Query
 import io.micronaut.data.document.mongo.MongoAnnotations
 import io.micronaut.data.intercept.annotation.DataMethod
 import io.micronaut.data.mongodb.annotation.MongoSort
+import org.bson.BsonArray
+import org.bson.BsonDocument
+import org.bson.BsonValue
+import org.bson.RawBsonDocument
 
 class BuildMongoQuerySpec extends AbstractDataSpec {
 
@@ -162,6 +166,55 @@ interface MyInterface2 extends GenericRepository<Book, String> {
             collation == '{ locale: \'en_US\', numericOrdering: true}'
     }
 
+    void "test query serialized into BSON"() {
+        given:
+            def repository = buildRepository('test.MyInterface2', """
+import io.micronaut.data.mongodb.annotation.*;
+import io.micronaut.data.document.tck.entities.Book;
+
+@MongoRepository
+interface MyInterface2 extends GenericRepository<Book, String> {
+
+    @MongoFindQuery(\"{title:{\$eq: :t}}\")
+    List<Book> listBooks(String t);
+
+    @MongoFindQuery(\"{totalPages:{\$gt: 100}}\")
+    List<Book> listLongBooks();
+
+    @MongoAggregateQuery(\"[{\$match: {title:{\$eq: :t}}}, {\$sort: { title : 1 }}]\")
+    List<Book> aggregateBooks(String t);
+
+    @MongoFindQuery(\"{\$or: [{title:{\$in: [:t1, :t2]}}, {totalPages: :p}]}\")
+    List<Book> findByTitles(String t1, String t2, int p);
+
+}
+"""
+            )
+
+        when:
+            def listBooks = repository.getRequiredMethod("listBooks", String)
+            def listLongBooks = repository.getRequiredMethod("listLongBooks")
+            def aggregateBooks = repository.getRequiredMethod("aggregateBooks", String)
+            def findByTitles = repository.getRequiredMethod("findByTitles", String, String, int)
+        then:
+            decodeBson(listBooks.stringValue(Query, MongoAnnotations.QUERY_BSON).get()) == BsonDocument.parse('{title:{$eq: {$mn_qp:0}}}')
+            decodeParameterPaths(listBooks.stringValue(Query, MongoAnnotations.QUERY_BSON).get()) == BsonArray.parse('[["title", "$eq"]]')
+            decodeBson(listLongBooks.stringValue(Query, MongoAnnotations.QUERY_BSON).get()) == BsonDocument.parse('{totalPages:{$gt: 100}}')
+            decodeParameterPaths(listLongBooks.stringValue(Query, MongoAnnotations.QUERY_BSON).get()).isEmpty()
+            decodeBson(aggregateBooks.stringValue(Query, MongoAnnotations.QUERY_BSON).get()) == BsonArray.parse('[{$match: {title:{$eq: {$mn_qp:0}}}}, {$sort: { title : 1 }}]')
+            decodeParameterPaths(aggregateBooks.stringValue(Query, MongoAnnotations.QUERY_BSON).get()) == BsonArray.parse('[[0, "$match", "title", "$eq"]]')
+            decodeBson(findByTitles.stringValue(Query, MongoAnnotations.QUERY_BSON).get()) == BsonDocument.parse('{$or: [{title:{$in: [{$mn_qp:0}, {$mn_qp:1}]}}, {totalPages: {$mn_qp:2}}]}')
+            decodeParameterPaths(findByTitles.stringValue(Query, MongoAnnotations.QUERY_BSON).get()) == BsonArray.parse('[["$or", 0, "title", "$in", 0], ["$or", 0, "title", "$in", 1], ["$or", 1, "totalPages"]]')
+    }
+
+    private static BsonValue decodeBson(String encoded) {
+        return new RawBsonDocument(Base64.decoder.decode(encoded)).get(MongoAnnotations.BSON_TEMPLATE_VALUE)
+    }
+
+    private static BsonArray decodeParameterPaths(String encoded) {
+        return new RawBsonDocument(Base64.decoder.decode(encoded)).getArray(MongoAnnotations.BSON_TEMPLATE_PARAMETERS)
+    }
+
     void "test find query method2"() {
         given:
             def repository = buildRepository('test.MyInterface2', """
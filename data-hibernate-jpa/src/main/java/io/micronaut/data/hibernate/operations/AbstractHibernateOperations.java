@@ -29,7 +29,11 @@ import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.data.annotation.QueryHint;
 import io.micronaut.data.jpa.annotation.EntityGraph;
+import io.micronaut.data.model.CursoredPage;
+import io.micronaut.data.model.CursoredPageable;
+import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Pageable.Cursor;
 import io.micronaut.data.model.Pageable.Mode;
 import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.query.builder.jpa.JpaQueryBuilder;
@@ -45,7 +49,7 @@ import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.mapper.BeanIntrospectionMapper;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
-import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersPreparedQuery;
+import io.micronaut.data.runtime.operations.internal.query.CursoredPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersStoredQuery;
 import io.micronaut.data.runtime.query.PreparedQueryDecorator;
 import io.micronaut.data.runtime.query.StoredQueryDecorator;
@@ -57,6 +61,7 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.validation.constraints.NotNull;
 import org.hibernate.graph.AttributeNode;
@@ -93,6 +98,7 @@ public abstract class AbstractHibernateOperations<S, Q, P extends Q> implements
     private static final JpaQueryBuilder QUERY_BUILDER = new JpaQueryBuilder();
     private static final String ENTITY_GRAPH_FETCH = "jakarta.persistence.fetchgraph";
     private static final String ENTITY_GRAPH_LOAD = "jakarta.persistence.loadgraph";
+    private static final String CURSOR_PARAMETER_PREFIX = "cursor_";
 
     protected final ConversionService dataConversionService;
     protected final RuntimeEntityRegistry runtimeEntityRegistry;
@@ -111,7 +117,7 @@ public abstract class AbstractHibernateOperations<S, Q, P extends Q> implements
 
     @Override
     public <E, R> PreparedQuery<E, R> decorate(PreparedQuery<E, R> preparedQuery) {
-        return new DefaultBindableParametersPreparedQuery<>(preparedQuery);
+        return new HibernatePreparedQuery<>(preparedQuery);
     }
 
     @Override
@@ -347,9 +353,6 @@ public abstract class AbstractHibernateOperations<S, Q, P extends Q> implements
         String queryStr = preparedQuery.getQuery();
         Pageable pageable = preparedQuery.getPageable();
         if (pageable != Pageable.UNPAGED) {
-            if (pageable.getMode() != Mode.OFFSET) {
-                throw new UnsupportedOperationException("Pageable mode " + pageable.getMode() + " is not supported by hibernate operations");
-            }
             if (preparedQuery.isNative()) {
                 // Native queries don't support setting the order
                 Sort sort = pageable.getSort();
@@ -368,6 +371,18 @@ public abstract class AbstractHibernateOperations<S, Q, P extends Q> implements
                                        PreparedQuery<T, R> preparedQuery,
                                        Pageable pageable,
                                        ResultCollector<R> resultCollector) {
+        if (pageable instanceof CursoredPageable cursored) {
+            if (preparedQuery.isNative()) {
+                throw new UnsupportedOperationException("Cursored pagination is not supported by hibernate operations for native queries");
+            }
+            if (preparedQuery.isRawQuery()) {
+                throw new UnsupportedOperationException("Cursored pagination is not supported by hibernate operations for custom @Query queries, the cursor predicate can only be added to the generated queries: " + preparedQuery.getName());
+            }
+            RuntimePersistentEntity<T> persistentEntity = getEntity(preparedQuery.getRootEntity());
+            cursored = CursoredPreparedQuery.enhancePageable(cursored, persistentEntity);
+            queryStr = appendCursorPredicate(queryStr, cursored, persistentEntity);
+            pageable = cursored;
+        }
         if (preparedQuery.isDtoProjection()) {
             P q;
             if (preparedQuery.isNative()) {
@@ -528,8 +543,111 @@ public abstract class AbstractHibernateOperations<S, Q, P extends Q> implements
         };
     }
 
+    /**
+     * Append the keyset predicate of the cursor to the JPQL query.
+     * The predicate selects the rows strictly after the cursor in the order of the sort, which already contains the id.
+     * Only the queries generated by {@link #QUERY_BUILDER} are supported, they use the builder's root alias and
+     * don't group the results.
+     *
+     * @param query            The query
+     * @param cursored         The enhanced cursored pageable
+     * @param persistentEntity The persistent entity
+     * @return The query
+     */
+    private String appendCursorPredicate(String query, CursoredPageable cursored, RuntimePersistentEntity<?> persistentEntity) {
+        Optional<Cursor> optionalCursor = cursored.cursor();
+        if (optionalCursor.isEmpty()) {
+            return query;
+        }
+        List<Sort.Order> orders = cursored.getSort().getOrderBy();
+        if (orders.size() != optionalCursor.get().size()) {
+            throw new IllegalArgumentException("The cursor must match the sorting size");
+        }
+        String alias = QUERY_BUILDER.getAliasName(persistentEntity);
+        StringBuilder predicate = new StringBuilder("(");
+        for (int i = 0; i < orders.size(); ++i) {
+            predicate.append("(");
+            for (int j = 0; j <= i; ++j) {
+                predicate.append(alias).append('.').append(orders.get(j).getProperty());
+                if (i == j) {
+                    predicate.append(orders.get(i).isAscending() ? " > " : " < ");
+                } else {
+                    predicate.append(" = ");
+                }
+                predicate.append(':').append(CURSOR_PARAMETER_PREFIX).append(j);
+                if (i != j) {
+                    predicate.append(" AND ");
+                }
+            }
+            predicate.append(")");
+            if (i < orders.size() - 1) {
+                predicate.append(" OR ");
+            }
+        }
+        predicate.append(")");
+
+        if (query.contains(" GROUP BY ") || query.contains(" HAVING ")) {
+            throw new UnsupportedOperationException("Cursored pagination is not supported by hibernate operations for grouped queries: " + query);
+        }
+        int orderByIndex = query.lastIndexOf(" ORDER BY ");
+        String end = orderByIndex > -1 ? query.substring(orderByIndex) : "";
+        String start = orderByIndex > -1 ? query.substring(0, orderByIndex) : query;
+        int whereIndex = start.indexOf(" WHERE ");
+        if (whereIndex > -1) {
+            int conditionIndex = whereIndex + " WHERE ".length();
+            return start.substring(0, conditionIndex) + "(" + start.substring(conditionIndex) + ") AND " + predicate + end;
+        }
+        return start + " WHERE " + predicate + end;
+    }
+
+    private void bindCursor(Q q, CursoredPageable cursored, RuntimePersistentEntity<?> persistentEntity) {
+        Optional<Cursor> optionalCursor = cursored.cursor();
+        if (optionalCursor.isEmpty()) {
+            return;
+        }
+        Cursor cursor = optionalCursor.get();
+        List<Sort.Order> orders = cursored.getSort().getOrderBy();
+        for (int i = 0; i < orders.size(); ++i) {
+            setParameter(q, CURSOR_PARAMETER_PREFIX + i, getCursorValue(cursor.get(i), orders.get(i), persistentEntity));
+        }
+    }
+
+    private Object getCursorValue(Object value, Sort.Order order, RuntimePersistentEntity<?> persistentEntity) {
+        RuntimePersistentProperty<?> property = persistentEntity.getPropertyByName(order.getProperty());
+        if (property == null) {
+            throw new IllegalStateException("Entity " + persistentEntity + " must contain property " + order.getProperty());
+        }
+        // The cursor values can be deserialized to a different type, for example an integer for a long id
+        if (value == null || property.getType().isInstance(value)) {
+            return value;
+        }
+        return dataConversionService.convertRequired(value, property.getType());
+    }
+
+    /**
+     * Create the page of the paged query results.
+     *
+     * @param results  The results
+     * @param pageable The pageable
+     * @param total    The total count
+     * @param entity   The entity type
+     * @param <R>      The result type
+     * @return The page, cursored if the pageable is cursored
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected final <R> Page<R> createPage(List<R> results, Pageable pageable, Long total, Class<?> entity) {
+        if (pageable instanceof CursoredPageable) {
+            List<Cursor> cursors = CursoredPreparedQuery.cursorsOf((List) results, pageable, (RuntimePersistentEntity) getEntity(entity));
+            return CursoredPage.of(results, pageable, cursors, total);
+        }
+        return Page.of(results, pageable, total);
+    }
+
     private <T, R> void bindPreparedQuery(P q, @NonNull PreparedQuery<T, R> preparedQuery, Pageable pageable, S currentSession) {
         bindParameters(q, preparedQuery, true);
+        if (pageable instanceof CursoredPageable cursored) {
+            bindCursor(q, cursored, getEntity(preparedQuery.getRootEntity()));
+        }
         bindPageable(q, pageable, preparedQuery.getRootEntity());
         bindQueryHints(q, preparedQuery, currentSession);
     }
@@ -617,15 +735,12 @@ public abstract class AbstractHibernateOperations<S, Q, P extends Q> implements
             // no pagination
             return;
         }
-        if (pageable.getMode() != Mode.OFFSET) {
-            throw new UnsupportedOperationException("Pageable mode " + pageable.getMode() + " is not supported by hibernate operations");
-        }
-
         int max = pageable.getSize();
         if (max > 0) {
             setMaxResults(q, max);
         }
-        long offset = pageable.getOffset();
+        // The cursored pages are selected by the keyset predicate
+        long offset = pageable.getMode() == Mode.OFFSET ? pageable.getOffset() : 0;
         if (offset > 0) {
             setOffset(q, (int) offset);
         }
@@ -649,6 +764,15 @@ public abstract class AbstractHibernateOperations<S, Q, P extends Q> implements
         Class<T> entity = pagedQuery.getRootEntity();
         CriteriaQuery<T> query = criteriaBuilder.createQuery(pagedQuery.getRootEntity());
         Root<T> root = query.from(entity);
+        if (pageable instanceof CursoredPageable cursored) {
+            RuntimePersistentEntity<T> persistentEntity = getEntity(entity);
+            cursored = CursoredPreparedQuery.enhancePageable(cursored, persistentEntity);
+            Predicate predicate = buildCursorPredicate(criteriaBuilder, root, cursored, persistentEntity);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+            pageable = cursored;
+        }
         bindCriteriaSort(query, root, criteriaBuilder, pageable);
         P q = createQuery(session, query);
         bindPageable(q, pageable.withoutSort(), entity);
@@ -666,6 +790,38 @@ public abstract class AbstractHibernateOperations<S, Q, P extends Q> implements
         resultCollector.collect(countQ);
     }
 
+    @Nullable
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate buildCursorPredicate(CriteriaBuilder builder, Root<?> root, CursoredPageable cursored, RuntimePersistentEntity<?> persistentEntity) {
+        Optional<Cursor> optionalCursor = cursored.cursor();
+        if (optionalCursor.isEmpty()) {
+            return null;
+        }
+        Cursor cursor = optionalCursor.get();
+        List<Sort.Order> orders = cursored.getSort().getOrderBy();
+        if (orders.size() != cursor.size()) {
+            throw new IllegalArgumentException("The cursor must match the sorting size");
+        }
+        List<Predicate> predicates = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); ++i) {
+            List<Predicate> conditions = new ArrayList<>(i + 1);
+            for (int j = 0; j <= i; ++j) {
+                Sort.Order order = orders.get(j);
+                Expression<Comparable> path = root.get(order.getProperty());
+                Comparable value = (Comparable) getCursorValue(cursor.get(j), order, persistentEntity);
+                if (i != j) {
+                    conditions.add(builder.equal(path, value));
+                } else if (order.isAscending()) {
+                    conditions.add(builder.greaterThan(path, value));
+                } else {
+                    conditions.add(builder.lessThan(path, value));
+                }
+            }
+            predicates.add(builder.and(conditions.toArray(new Predicate[0])));
+        }
+        return builder.or(predicates.toArray(new Predicate[0]));
+    }
+
     private <T> void bindCriteriaSort(CriteriaQuery<T> criteriaQuery, Root<?> root, CriteriaBuilder builder, @NonNull Sort sort) {
         List<Order> orders = new ArrayList<>();
         for (Sort.Order order : sort.getOrderBy()) {
@@ -293,10 +293,11 @@ final class HibernateJpaOperations extends AbstractHibernateOperations<Session,
 
     @Override
     public <R> Page<R> findPage(@NonNull PagedQuery<R> pagedQuery) {
-        return executeRead(session -> Page.of(
+        return executeRead(session -> createPage(
             findPaged(session, pagedQuery),
             pagedQuery.getPageable(),
-            countOf(session, pagedQuery, pagedQuery.getPageable())
+            countOf(session, pagedQuery, pagedQuery.getPageable()),
+            pagedQuery.getRootEntity()
         ));
     }
 
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.hibernate.operations;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.data.runtime.operations.internal.query.CursoredPreparedQuery;
+import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersPreparedQuery;
+
+/**
+ * The Hibernate prepared query. Allows the page interceptors to create the cursors of the cursored pages.
+ *
+ * @param <E> The entity type
+ * @param <R> The result type
+ * @since 4.12.0
+ */
+@Internal
+final class HibernatePreparedQuery<E, R> extends DefaultBindableParametersPreparedQuery<E, R> implements CursoredPreparedQuery<E, R> {
+
+    HibernatePreparedQuery(PreparedQuery<E, R> preparedQuery) {
+        super(preparedQuery);
+    }
+
+}
@@ -15,6 +15,8 @@
  */
 package io.micronaut.data.hibernate
 
+import io.micronaut.data.model.CursoredPage
+import io.micronaut.data.model.CursoredPageable
 import io.micronaut.data.model.Page
 import io.micronaut.data.model.Pageable
 import io.micronaut.data.model.Slice
@@ -165,6 +167,59 @@ class PageSpec extends Specification {
         page.content[0].name.startsWith("K")
     }
 
+    void "test cursored pageable findBy"() {
+        when:"The people are paged with a cursor"
+        List<String> names = []
+        List<Page<Person>> pages = []
+        Pageable pageable = CursoredPageable.from(10, Sort.of(Sort.Order.asc("name")))
+        Page<Person> page = personRepository.findByNameLike("A%", pageable)
+        while (true) {
+            pages << page
+            names.addAll(page.content*.name)
+            if (!page.hasNext()) {
+                break
+            }
+            page = personRepository.findByNameLike("A%", page.nextPageable())
+        }
+
+        then:"All the people are returned once in order"
+        pages.every { it instanceof CursoredPage }
+        pages[0].totalSize == 50
+        names.size() == 50
+        names.toUnique().size() == 50
+        names == names.toSorted()
+
+        when:"The previous page is selected"
+        def previous = personRepository.findByNameLike("A%", pages[2].previousPageable())
+
+        then:"it is correct"
+        previous.content*.name == pages[1].content*.name
+    }
+
+    void "test cursored pageable findAll"() {
+        when:"The people are paged with a cursor"
+        Page<Person> page = crudRepository.findAll(CursoredPageable.from(10, Sort.of(Sort.Order.desc("age"))))
+        Page<Person> next = crudRepository.findAll(page.nextPageable())
+
+        then:"The pages follow the sort and the id"
+        page instanceof CursoredPage
+        page.totalSize == 1300
+        page.content.size() == 10
+        next.content.size() == 10
+        page.content*.age.every { it == 24 }
+        next.content*.age.every { it == 24 }
+        page.content*.id.max() < next.content*.id.min()
+    }
+
+    void "test cursored pageable custom query is rejected"() {
+        when:"A custom query is paged with a cursor"
+        personRepository.searchByName("A%", CursoredPageable.from(10, Sort.of(Sort.Order.asc("name"))))
+
+        then:"The cursor predicate is not appended to the custom query"
+        def e = thrown(UnsupportedOperationException)
+        e.message.contains("custom @Query")
+    }
+
     void "test pageable sort"() {
         when: "All the people are count"
         def count = crudRepository.count()
@@ -32,6 +32,9 @@ interface PersonRepository extends GenericRepository<Person, Long> {
 
     Page<Person> list(Pageable pageable)
 
+    @Query(value = "SELECT p FROM Person p WHERE p.name LIKE :name", countQuery = "SELECT count(p) FROM Person p WHERE p.name LIKE :name")
+    Page<Person> searchByName(String name, Pageable pageable)
+
     List<Person> listTop10(Sort sort)
 
     Slice<Person> find(Pageable pageable)
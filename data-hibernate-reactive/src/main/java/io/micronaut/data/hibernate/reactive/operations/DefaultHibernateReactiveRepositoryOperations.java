@@ -249,7 +249,7 @@ final class DefaultHibernateReactiveRepositoryOperations extends AbstractHiberna
     public <R> Mono<Page<R>> findPage(PagedQuery<R> pagedQuery) {
         return operation(session -> findPaged(session, pagedQuery).collectList()
                 .flatMap(resultList -> countOf(session, pagedQuery.getRootEntity(), pagedQuery.getPageable())
-                        .map(total -> Page.of(resultList, pagedQuery.getPageable(), total))));
+                        .map(total -> createPage(resultList, pagedQuery.getPageable(), total, pagedQuery.getRootEntity()))));
     }
 
     @Override
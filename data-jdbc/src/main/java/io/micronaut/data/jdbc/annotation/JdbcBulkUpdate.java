@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.annotation;
+
+import io.micronaut.core.annotation.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Updates multiple entities by one statement per chunk instead of a batch of the statements per entity.
+ * The statement joins the table with the rows of the values, for example {@code UPDATE ... FROM (VALUES ...)} on Postgres,
+ * {@code UPDATE ... INNER JOIN} on MySQL and {@code MERGE} on Oracle and H2.
+ * The version of the versioned entities is matched in the join and the count of the updated rows is verified.
+ *
+ * <p>Only applies to the update methods of the synchronous operations without a custom query, the entities with duplicate identities
+ * or the partial updates are updated by the batch.</p>
+ *
+ * @since 4.12.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE})
+@Documented
+@Inherited
+@Experimental
+public @interface JdbcBulkUpdate {
+
+    /**
+     * The maximum number of the entities updated by one statement. The statements are also limited by the number of the parameters
+     * supported by the database.
+     *
+     * @return The chunk size
+     */
+    int chunkSize() default 500;
+}
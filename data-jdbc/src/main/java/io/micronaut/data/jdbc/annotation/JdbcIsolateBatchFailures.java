@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.annotation;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.data.jdbc.runtime.JdbcBatchFailureHandler;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Isolates the entities failing in a batch insert or update instead of failing the whole operation.
+ * The failed batch is rolled back and split in halves that are executed again until the failing entities are found.
+ * The failing entities are passed to the handler and the rest of the entities are inserted or updated in the batches.
+ *
+ * <p>The batches are isolated by savepoints in a transaction. Outside a transaction each successful batch is committed.
+ * The connection failures are not isolated. Only applies to the operations executed by the JDBC batches.</p>
+ *
+ * @since 4.12.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE})
+@Documented
+@Inherited
+@Experimental
+public @interface JdbcIsolateBatchFailures {
+
+    /**
+     * @return The bean handling the failed entities
+     */
+    Class<? extends JdbcBatchFailureHandler> value();
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.annotation;
+
+import io.micronaut.core.annotation.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Updates only the changed columns of the entity instead of all the columns.
+ * The changed properties are supplied by the entity implementing {@link io.micronaut.data.jdbc.runtime.ChangeTrackedEntity}
+ * or computed as a difference to the snapshot of the entity loaded in the same transaction.
+ * The entity without the changed properties is updated fully.
+ *
+ * <p>The statements are cached per set of the changed properties. The auto-populated properties, the version and the properties
+ * that can be modified in place, like the embedded and JSON properties, are always updated.
+ * Only applies to the update methods of the synchronous operations without a custom query.</p>
+ *
+ * @since 4.12.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.TYPE})
+@Documented
+@Inherited
+@Experimental
+public @interface JdbcPartialUpdate {
+}
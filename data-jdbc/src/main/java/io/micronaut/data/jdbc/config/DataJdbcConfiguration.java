@@ -55,6 +55,7 @@ public class DataJdbcConfiguration implements Named, Toggleable {
      */
     private boolean allowConnectionPerOperation = true;
     private boolean enabled = true;
+    private boolean writeBehind = false;
 
     /**
      * The configuration.
@@ -178,6 +179,25 @@ public class DataJdbcConfiguration implements Named, Toggleable {
         this.schemaGenerateNames = schemaGenerateNames;
     }
 
+    /**
+     * @return Whether the inserts and updates of the entities are deferred until the transaction commit
+     * @since 4.12.0
+     */
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Sets whether the inserts and updates of the entities in a transaction are deferred and executed as batches
+     * before the transaction commit or before a query touching the modified table.
+     *
+     * @param writeBehind Whether to defer the writes
+     * @since 4.12.0
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
     @Override
     public boolean isEnabled() {
         return enabled;
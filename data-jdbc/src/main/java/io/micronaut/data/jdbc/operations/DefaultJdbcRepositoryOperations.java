@@ -26,13 +26,20 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.order.Ordered;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.data.annotation.IgnoreWhere;
+import io.micronaut.data.annotation.Where;
+import io.micronaut.data.annotation.repeatable.WhereSpecifications;
 import io.micronaut.data.connection.ConnectionDefinition;
 import io.micronaut.data.connection.ConnectionOperations;
 import io.micronaut.data.connection.annotation.Connectable;
 import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.exceptions.OptimisticLockException;
+import io.micronaut.data.jdbc.annotation.JdbcBulkUpdate;
+import io.micronaut.data.jdbc.annotation.JdbcIsolateBatchFailures;
 import io.micronaut.data.jdbc.config.DataJdbcConfiguration;
 import io.micronaut.data.jdbc.convert.JdbcConversionContext;
 import io.micronaut.data.jdbc.mapper.ColumnIndexCallableResultReader;
@@ -43,10 +50,13 @@ import io.micronaut.data.jdbc.mapper.JdbcQueryStatement;
 import io.micronaut.data.jdbc.mapper.JdbcTupleMapper;
 import io.micronaut.data.jdbc.mapper.SqlResultConsumer;
 import io.micronaut.data.jdbc.runtime.ConnectionCallback;
+import io.micronaut.data.jdbc.runtime.JdbcBatchFailureHandler;
 import io.micronaut.data.jdbc.runtime.PreparedStatementCallback;
 import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.Embedded;
 import io.micronaut.data.model.JsonDataType;
 import io.micronaut.data.model.Page;
+import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.query.JoinPath;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
@@ -90,12 +100,18 @@ import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.SyncCascadeOperations;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 import io.micronaut.data.runtime.operations.internal.sql.AbstractSqlRepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.sql.PooledIdAllocator;
 import io.micronaut.data.runtime.operations.internal.sql.SqlJsonColumnMapperProvider;
+import io.micronaut.data.runtime.operations.internal.sql.SqlBulkStatement;
+import io.micronaut.data.runtime.operations.internal.sql.SqlMultiRowInsert;
 import io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
 import io.micronaut.data.runtime.support.AbstractConversionContext;
 import io.micronaut.json.JsonMapper;
+import io.micronaut.transaction.TransactionDefinition;
 import io.micronaut.transaction.TransactionOperations;
+import io.micronaut.transaction.TransactionStatus;
+import io.micronaut.transaction.support.TransactionSynchronization;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Named;
 import jakarta.persistence.Tuple;
@@ -106,13 +122,18 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -121,12 +142,15 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -160,6 +184,9 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     private final ColumnIndexCallableResultReader columnIndexCallableResultReader;
     private final Map<Dialect, List<SqlExceptionMapper>> sqlExceptionMappers = new EnumMap<>(Dialect.class);
+    private final JdbcEntitySnapshots entitySnapshots = new JdbcEntitySnapshots();
+    private final Map<Connection, JdbcWriteBehindQueue> writeBehindQueues = new ConcurrentHashMap<>();
+    private final BeanContext beanContext;
 
     /**
      * Default constructor.
@@ -211,6 +238,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             attributeConverterRegistry,
             jsonMapper,
             sqlJsonColumnMapperProvider);
+        this.beanContext = beanContext;
         this.schemaTenantResolver = schemaTenantResolver;
         this.schemaHandler = schemaHandler;
         this.connectionOperations = connectionOperations;
@@ -349,6 +377,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     }
 
     private <T, R> R findOne(Connection connection, SqlPreparedQuery<T, R> preparedQuery) {
+        flushWriteBehind(connection, preparedQuery);
         try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, false, true)) {
             preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
             try (ResultSet rs = ps.executeQuery()) {
@@ -374,6 +403,9 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     preparedQuery.getParameterInRole(SqlResultConsumer.ROLE, SqlResultConsumer.class)
                         .ifPresent(consumer -> consumer.accept(result, newMappingContext(rs)));
                 }
+                if (result != null && isSnapshotted(connection, preparedQuery.getPersistentEntity())) {
+                    snapshot(connection, preparedQuery, result);
+                }
                 return result;
             }
         } catch (SQLException e) {
@@ -382,9 +414,16 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     }
 
     private <T, R> List<R> findAll(Connection connection, SqlPreparedQuery<T, R> preparedQuery, boolean applyPageable) {
+        flushWriteBehind(connection, preparedQuery);
         try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, !applyPageable, false)) {
             preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
-            return findAll(preparedQuery, ps);
+            List<R> results = findAll(preparedQuery, ps);
+            if (isSnapshotted(connection, preparedQuery.getPersistentEntity())) {
+                for (R result : results) {
+                    snapshot(connection, preparedQuery, result);
+                }
+            }
+            return results;
         } catch (Throwable e) {
             throw new DataAccessException("Error executing SQL Query: " + preparedQuery.getQuery() + " " + e.getMessage(), e);
         }
@@ -429,6 +468,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     public <T> boolean exists(@NonNull PreparedQuery<T, Boolean> pq) {
         SqlPreparedQuery<T, Boolean> preparedQuery = getSqlPreparedQuery(pq);
         return executeRead(connection -> {
+            flushWriteBehind(connection, preparedQuery);
             try {
                 try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, false, true)) {
                     preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
@@ -454,6 +494,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
         Class<R> resultType = preparedQuery.getResultType();
         AtomicBoolean finished = new AtomicBoolean();
+        flushWriteBehind(connection, preparedQuery);
 
         PreparedStatement ps;
         try {
@@ -545,6 +586,8 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     public Optional<Number> executeUpdate(@NonNull PreparedQuery<?, Number> pq) {
         SqlPreparedQuery<?, Number> preparedQuery = getSqlPreparedQuery(pq);
         return executeWrite(connection -> {
+            // The statement can change the rows of the deferred operations through other tables, for example by cascades or triggers
+            flushWriteBehind(connection);
             try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, true, false)) {
                 preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
                 int result = ps.executeUpdate();
@@ -567,6 +610,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return executeWrite(connection -> {
             try {
                 if (preparedQuery.isProcedure()) {
+                    flushWriteBehind(connection);
                     return callProcedure(connection, preparedQuery);
                 } else {
                     return findAll(connection, preparedQuery, false);
@@ -610,9 +654,17 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @Override
     public <T> Optional<Number> deleteAll(@NonNull DeleteBatchOperation<T> operation) {
         return Optional.ofNullable(executeWrite(connection -> {
+            flushWriteBehind(connection);
             SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
+            removeSnapshots(connection, persistentEntity, operation);
+            SqlBulkStatement<T> bulkDelete = findBulkDelete(ctx, persistentEntity, storedQuery);
+            if (bulkDelete != null) {
+                JdbcBulkOperations<T> op = new JdbcBulkOperations<>(ctx, persistentEntity, operation, bulkDelete, bulkDelete.getMaxRows());
+                op.delete();
+                return op.rowsUpdated;
+            }
             if (isSupportsBatchDelete(persistentEntity, storedQuery.getDialect())) {
                 JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
                 op.delete();
@@ -633,18 +685,23 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     public <T> int delete(@NonNull DeleteOperation<T> operation) {
         return executeWrite(connection -> {
             SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
+            removeSnapshots(connection, storedQuery.getPersistentEntity(), List.of(operation.getEntity()));
+            // The delete is not deferred to report the deleted rows
+            flushWriteBehind(connection);
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery.getPersistentEntity(), operation.getEntity(), storedQuery);
             op.delete();
-            return op;
-        }, operation.getInvocationContext()).rowsUpdated;
+            return op.rowsUpdated;
+        }, operation.getInvocationContext());
     }
 
     @Override
     public <E, R> R deleteReturning(DeleteReturningOperation<E, R> operation) {
         return executeWrite(connection -> {
+            flushWriteBehind(connection);
             SqlStoredQuery<E, R> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
+            removeSnapshots(connection, storedQuery.getPersistentEntity(), List.of(operation.getEntity()));
             JdbcEntityOperations<E> op = new JdbcEntityOperations<>(ctx, storedQuery.getPersistentEntity(), operation.getEntity(), storedQuery);
             op.delete();
             return (R) op.getEntity();
@@ -654,9 +711,11 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @Override
     public <E, R> List<R> deleteAllReturning(DeleteReturningBatchOperation<E, R> operation) {
         return executeWrite(connection -> {
+            flushWriteBehind(connection);
             SqlStoredQuery<E, R> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             RuntimePersistentEntity<E> persistentEntity = storedQuery.getPersistentEntity();
+            removeSnapshots(connection, persistentEntity, operation);
             if (isSupportsBatchDelete(persistentEntity, storedQuery.getDialect())) {
                 JdbcEntitiesOperations<E> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
                 op.delete();
@@ -676,8 +735,15 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     public <T> T update(@NonNull UpdateOperation<T> operation) {
         return executeWrite(connection -> {
             SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
+            if (writeBehind(connection, JdbcWriteBehindQueue.Kind.UPDATE, operation, storedQuery, operation.getEntity())) {
+                return operation.getEntity();
+            }
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
-            JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery.getPersistentEntity(), operation.getEntity(), storedQuery);
+            RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
+            if (isPartialUpdate(storedQuery)) {
+                return updatePartially(ctx, persistentEntity, operation.getEntity(), storedQuery);
+            }
+            JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, persistentEntity, operation.getEntity(), storedQuery);
             op.update();
             return op.getEntity();
         }, operation.getInvocationContext());
@@ -687,19 +753,40 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @Override
     public <T> Iterable<T> updateAll(@NonNull UpdateBatchOperation<T> operation) {
         return executeWrite(connection -> {
+            flushWriteBehind(connection);
             final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             final RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
+            boolean partialUpdate = isPartialUpdate(storedQuery);
             if (!isSupportsBatchUpdate(persistentEntity, storedQuery)) {
+                UnaryOperator<T> update = entity -> {
+                    if (partialUpdate) {
+                        return updatePartially(ctx, persistentEntity, entity, storedQuery);
+                    }
+                    JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, persistentEntity, entity, storedQuery);
+                    op.update();
+                    return op.getEntity();
+                };
+                JdbcBatchFailureHandler failureHandler = findBatchFailureHandler(ctx);
+                if (failureHandler != null) {
+                    return executeIsolatingFailures(ctx, failureHandler, operation, update);
+                }
                 return operation.split()
                     .stream()
-                    .map(updateOp -> {
-                        JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, persistentEntity, updateOp.getEntity(), storedQuery);
-                        op.update();
-                        return op.getEntity();
-                    })
+                    .map(updateOp -> update.apply(updateOp.getEntity()))
                     .toList();
             }
+            if (partialUpdate) {
+                return updateAllPartially(ctx, persistentEntity, operation, storedQuery);
+            }
+            int bulkChunkSize = findBulkUpdateChunkSize(ctx, persistentEntity, storedQuery);
+            if (bulkChunkSize > 0 && hasUniqueIds(persistentEntity, operation)) {
+                SqlBulkStatement<T> bulkUpdate = resolveEntityBulkUpdate(ctx.annotationMetadata, ctx.repositoryType,
+                    persistentEntity.getIntrospection().getBeanType(), persistentEntity);
+                JdbcBulkOperations<T> op = new JdbcBulkOperations<>(ctx, persistentEntity, operation, bulkUpdate, bulkChunkSize);
+                op.update();
+                return op.getEntities();
+            }
             JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
             op.update();
             return op.getEntities();
@@ -711,11 +798,14 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     public <T> T persist(@NonNull InsertOperation<T> operation) {
         return executeWrite(connection -> {
             final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
+            if (writeBehind(connection, JdbcWriteBehindQueue.Kind.INSERT, operation, storedQuery, operation.getEntity())) {
+                return operation.getEntity();
+            }
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery, storedQuery.getPersistentEntity(), operation.getEntity(), true);
             op.persist();
-            return op;
-        }, operation.getInvocationContext()).getEntity();
+            return op.getEntity();
+        }, operation.getInvocationContext());
     }
 
     @Nullable
@@ -750,10 +840,25 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @NonNull
     public <T> Iterable<T> persistAll(@NonNull InsertBatchOperation<T> operation) {
         return executeWrite(connection -> {
+            flushWriteBehind(connection);
             final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             final RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             if (!isSupportsBatchInsert(persistentEntity, storedQuery)) {
+                JdbcBatchFailureHandler failureHandler = findBatchFailureHandler(ctx);
+                if (failureHandler != null) {
+                    return executeIsolatingFailures(ctx, failureHandler, operation, entity -> {
+                        JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery, persistentEntity, entity, true);
+                        op.persist();
+                        return op.getEntity();
+                    });
+                }
+                SqlMultiRowInsert multiRowInsert = SqlMultiRowInsert.of(persistentEntity, storedQuery);
+                if (multiRowInsert != null) {
+                    JdbcMultiRowInsertOperations<T> op = new JdbcMultiRowInsertOperations<>(ctx, persistentEntity, operation, storedQuery, multiRowInsert);
+                    op.persist();
+                    return op.getEntities();
+                }
                 return operation.split().stream()
                     .map(persistOp -> {
                         JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery, persistentEntity, persistOp.getEntity(), true);
@@ -770,6 +875,339 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         }, operation.getInvocationContext());
     }
 
+    @Override
+    @NonNull
+    public <T> T upsert(@NonNull InsertOperation<T> operation) {
+        return executeWrite(connection -> {
+            flushWriteBehind(connection);
+            final RuntimePersistentEntity<T> persistentEntity = getEntity(operation.getRootEntity());
+            final SqlStoredQuery<T, T> storedQuery = resolveEntityUpsert(operation.getAnnotationMetadata(), operation.getRepositoryType(), operation.getRootEntity(), persistentEntity);
+            JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
+            JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery, persistentEntity, operation.getEntity(), true);
+            op.persist();
+            return op;
+        }, operation.getInvocationContext()).getEntity();
+    }
+
+    @Override
+    @NonNull
+    public <T> Iterable<T> upsertAll(@NonNull InsertBatchOperation<T> operation) {
+        return executeWrite(connection -> {
+            flushWriteBehind(connection);
+            final RuntimePersistentEntity<T> persistentEntity = getEntity(operation.getRootEntity());
+            final SqlStoredQuery<T, T> storedQuery = resolveEntityUpsert(operation.getAnnotationMetadata(), operation.getRepositoryType(), operation.getRootEntity(), persistentEntity);
+            JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
+            if (!isSupportsBatchUpsert(persistentEntity, storedQuery.getDialect())) {
+                return operation.split().stream()
+                    .map(upsertOp -> {
+                        JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery, persistentEntity, upsertOp.getEntity(), true);
+                        op.persist();
+                        return op.getEntity();
+                    })
+                    .toList();
+            }
+            JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery, true);
+            op.persist();
+            return op.getEntities();
+        }, operation.getInvocationContext());
+    }
+
+    private <T> T updatePartially(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, T entity, SqlStoredQuery<T, ?> storedQuery) {
+        JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, persistentEntity, entity, resolvePartialUpdate(ctx, persistentEntity, entity, storedQuery));
+        op.update();
+        if (isSnapshotted(ctx.connection, persistentEntity)) {
+            snapshot(ctx.connection, persistentEntity, op.getEntity());
+        }
+        return op.getEntity();
+    }
+
+    /**
+     * Groups the entities by the changed properties and updates each group in a batch.
+     *
+     * @param ctx              The operation context
+     * @param persistentEntity The persistent entity
+     * @param entities         The entities
+     * @param storedQuery      The update of all the properties
+     * @param <T>              The entity type
+     * @return The updated entities in the original order
+     */
+    private <T> List<T> updateAllPartially(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery) {
+        List<T> values = CollectionUtils.iterableToList(entities);
+        Map<SqlStoredQuery<T, ?>, List<Integer>> batches = new LinkedHashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            batches.computeIfAbsent(resolvePartialUpdate(ctx, persistentEntity, values.get(i), storedQuery), query -> new ArrayList<>()).add(i);
+        }
+        List<T> results = new ArrayList<>(values);
+        for (Map.Entry<SqlStoredQuery<T, ?>, List<Integer>> batch : batches.entrySet()) {
+            List<Integer> indexes = batch.getValue();
+            JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, indexes.stream().map(values::get).toList(), batch.getKey());
+            op.update();
+            List<T> updated = op.getEntities();
+            for (int i = 0; i < indexes.size(); i++) {
+                results.set(indexes.get(i), updated.get(i));
+            }
+        }
+        if (isSnapshotted(ctx.connection, persistentEntity)) {
+            for (T result : results) {
+                snapshot(ctx.connection, persistentEntity, result);
+            }
+        }
+        return results;
+    }
+
+    private <T> SqlStoredQuery<T, ?> resolvePartialUpdate(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, T entity, SqlStoredQuery<T, ?> storedQuery) {
+        BitSet changedProperties = entitySnapshots.changedProperties(ctx.connection, persistentEntity, entity);
+        if (changedProperties == null) {
+            return storedQuery;
+        }
+        return resolveEntityPartialUpdate(ctx.annotationMetadata, ctx.repositoryType, persistentEntity.getIntrospection().getBeanType(), persistentEntity, changedProperties);
+    }
+
+    /**
+     * Resolves the chunk size of the bulk update declared by {@link JdbcBulkUpdate} on the method, the repository or the entity.
+     *
+     * @param ctx              The operation context
+     * @param persistentEntity The persistent entity
+     * @param storedQuery      The stored query
+     * @return The chunk size or zero if the bulk update doesn't apply
+     */
+    private int findBulkUpdateChunkSize(JdbcOperationContext ctx, RuntimePersistentEntity<?> persistentEntity, SqlStoredQuery<?, ?> storedQuery) {
+        if (storedQuery.getOperationType() != StoredQuery.OperationType.UPDATE
+            || storedQuery.isRawQuery()
+            || storedQuery.isJsonEntity()
+            || !storedQuery.getDialect().supportsBulkUpdate()
+            || !persistentEntity.hasIdentity()
+            // The duplicates of the embedded and the composite identities cannot be detected by their equality
+            || persistentEntity.hasCompositeIdentity()
+            || persistentEntity.getIdentity() instanceof Embedded
+            || ctx.annotationMetadata.hasAnnotation(JdbcIsolateBatchFailures.class)) {
+            return 0;
+        }
+        return ctx.annotationMetadata.intValue(JdbcBulkUpdate.class, "chunkSize")
+            .or(() -> persistentEntity.getAnnotationMetadata().intValue(JdbcBulkUpdate.class, "chunkSize"))
+            .orElse(0);
+    }
+
+    /**
+     * Resolves the delete by the list of the identities if the stored query deletes the entity by the identity and the version only.
+     *
+     * @param ctx              The operation context
+     * @param persistentEntity The persistent entity
+     * @param storedQuery      The stored query
+     * @param <T>              The entity type
+     * @return The bulk delete or null if the stored query cannot be replaced
+     */
+    @Nullable
+    private <T> SqlBulkStatement<T> findBulkDelete(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, SqlStoredQuery<T, ?> storedQuery) {
+        if (storedQuery.getOperationType() != StoredQuery.OperationType.DELETE
+            || storedQuery.isRawQuery()
+            || storedQuery.isJsonEntity()
+            || persistentEntity.getIdentityProperties().isEmpty()
+            || hasWhere(ctx.annotationMetadata, persistentEntity)) {
+            return null;
+        }
+        Set<String> paths = new HashSet<>();
+        for (PersistentProperty identity : persistentEntity.getIdentityProperties()) {
+            paths.add(identity.getName());
+        }
+        if (persistentEntity.getVersion() != null) {
+            paths.add(persistentEntity.getVersion().getName());
+        }
+        for (QueryParameterBinding binding : storedQuery.getQueryBindings()) {
+            String[] propertyPath = binding.getPropertyPath();
+            if (propertyPath == null || propertyPath.length == 0 || !paths.contains(propertyPath[0])) {
+                return null;
+            }
+        }
+        SqlBulkStatement<T> bulkDelete = resolveEntityBulkDelete(ctx.annotationMetadata, ctx.repositoryType,
+            persistentEntity.getIntrospection().getBeanType(), persistentEntity);
+        SqlStoredQuery<T, T> bulkQuery = bulkDelete.getStoredQuery();
+        if (bulkQuery.getQueryBindings().size() != storedQuery.getQueryBindings().size()
+            || bulkQuery.isOptimisticLock() != storedQuery.isOptimisticLock()) {
+            return null;
+        }
+        return bulkDelete;
+    }
+
+    /**
+     * The additional criteria of {@link Where} declared on the repository, the method or the entity are not part of the bulk delete.
+     *
+     * @param annotationMetadata The annotation metadata of the operation
+     * @param persistentEntity   The persistent entity
+     * @return true if the stored query includes the criteria of {@link Where}
+     */
+    private boolean hasWhere(AnnotationMetadata annotationMetadata, RuntimePersistentEntity<?> persistentEntity) {
+        if (annotationMetadata.hasAnnotation(IgnoreWhere.class)) {
+            return false;
+        }
+        return annotationMetadata.hasStereotype(WhereSpecifications.class)
+            || persistentEntity.getAnnotationMetadata().hasStereotype(WhereSpecifications.class);
+    }
+
+    @Nullable
+    private JdbcBatchFailureHandler findBatchFailureHandler(JdbcOperationContext ctx) {
+        return ctx.annotationMetadata.classValue(JdbcIsolateBatchFailures.class)
+            .map(type -> (JdbcBatchFailureHandler) beanContext.getBean(type))
+            .orElse(null);
+    }
+
+    /**
+     * Executes the operation of each entity isolated by a savepoint, or committed if the connection is not in a transaction,
+     * when the entities cannot be batched and bisected by {@link JdbcEntitiesOperations}.
+     *
+     * @param ctx            The operation context
+     * @param failureHandler The handler of the failed entities
+     * @param entities       The entities
+     * @param operation      The operation of one entity
+     * @param <T>            The entity type
+     * @return The entities that didn't fail
+     */
+    private <T> List<T> executeIsolatingFailures(JdbcOperationContext ctx, JdbcBatchFailureHandler failureHandler, Iterable<T> entities, UnaryOperator<T> operation) {
+        Connection connection = ctx.connection;
+        try {
+            boolean autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                List<T> results = new ArrayList<>();
+                for (T entity : entities) {
+                    Savepoint savepoint = autoCommit ? null : connection.setSavepoint();
+                    T result;
+                    try {
+                        result = operation.apply(entity);
+                    } catch (DataAccessException e) {
+                        rollback(connection, savepoint);
+                        if (e.getCause() instanceof SQLException sqlException
+                            && sqlException.getSQLState() != null && sqlException.getSQLState().startsWith("08")) {
+                            // The connection failure cannot be isolated
+                            throw e;
+                        }
+                        failureHandler.onFailure(entity, e);
+                        continue;
+                    }
+                    if (savepoint == null) {
+                        connection.commit();
+                    } else {
+                        releaseSavepoint(connection, savepoint);
+                    }
+                    results.add(result);
+                }
+                return results;
+            } catch (Throwable e) {
+                if (autoCommit) {
+                    rollbackOnFailure(connection, e);
+                }
+                throw e;
+            } finally {
+                if (autoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error isolating the failures of the batch: " + sqlException.getMessage(), sqlException));
+        }
+    }
+
+    private static void rollback(Connection connection, @Nullable Savepoint savepoint) throws SQLException {
+        if (savepoint == null) {
+            connection.rollback();
+        } else {
+            connection.rollback(savepoint);
+        }
+    }
+
+    /**
+     * Rolls back the uncommitted statements of the failed operation, keeping the original failure.
+     *
+     * @param connection The connection
+     * @param failure    The failure of the operation
+     */
+    private static void rollbackOnFailure(Connection connection, Throwable failure) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static void releaseSavepoint(Connection connection, Savepoint savepoint) throws SQLException {
+        try {
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLFeatureNotSupportedException e) {
+            // Oracle releases the savepoints with the transaction
+        }
+    }
+
+    /**
+     * The rows of one statement cannot update the same row multiple times.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entities         The entities
+     * @param <T>              The entity type
+     * @return true if the identities of the entities are unique
+     */
+    private <T> boolean hasUniqueIds(RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities) {
+        BeanProperty<T, Object> idProperty = persistentEntity.getIdentity().getProperty();
+        Set<Object> ids = new HashSet<>();
+        for (T entity : entities) {
+            Object id = idProperty.get(entity);
+            if (id == null || !ids.add(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isPartialUpdate(SqlStoredQuery<?, ?> storedQuery) {
+        return storedQuery.getOperationType() == StoredQuery.OperationType.UPDATE
+            && !storedQuery.isRawQuery()
+            && !storedQuery.isJsonEntity()
+            && JdbcEntitySnapshots.isPartialUpdate(storedQuery.getPersistentEntity());
+    }
+
+    /**
+     * The entities are only snapshotted in the transaction of the connection, the snapshots are released when the transaction completes.
+     *
+     * @param connection       The connection
+     * @param persistentEntity The persistent entity
+     * @return true if the loaded entities should be snapshotted
+     */
+    private boolean isSnapshotted(Connection connection, RuntimePersistentEntity<?> persistentEntity) {
+        return JdbcEntitySnapshots.isPartialUpdate(persistentEntity)
+            && transactionOperations.findTransactionStatus().map(status -> status.getConnection() == connection).orElse(false);
+    }
+
+    private <T> void removeSnapshots(Connection connection, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities) {
+        if (JdbcEntitySnapshots.isPartialUpdate(persistentEntity)) {
+            for (T entity : entities) {
+                entitySnapshots.remove(connection, persistentEntity, entity);
+            }
+        }
+    }
+
+    private <T, R> void snapshot(Connection connection, SqlPreparedQuery<T, R> preparedQuery, R result) {
+        RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
+        Class<T> type = persistentEntity.getIntrospection().getBeanType();
+        if (type.isInstance(result)) {
+            snapshot(connection, persistentEntity, type.cast(result));
+        }
+    }
+
+    private <T> void snapshot(Connection connection, RuntimePersistentEntity<T> persistentEntity, T entity) {
+        if (entitySnapshots.open(connection)) {
+            TransactionStatus<?> status = transactionOperations.findTransactionStatus().orElseThrow();
+            status.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(Status completionStatus) {
+                    entitySnapshots.release(connection);
+                }
+            });
+        }
+        entitySnapshots.snapshot(connection, persistentEntity, entity);
+    }
+
     private <I> I executeRead(Function<Connection, I> fn, AnnotationMetadata annotationMetadata) {
         if (!jdbcConfiguration.isAllowConnectionPerOperation() && connectionOperations.findConnectionStatus().isEmpty()) {
             throw connectionNotFoundAndNewNotAllowed();
@@ -792,6 +1230,121 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         });
     }
 
+    /**
+     * Defers the entity operation to the write-behind queue of the current transaction.
+     * The queue is flushed instead if the operation cannot be deferred, to keep the order of the statements.
+     *
+     * @param connection  The connection
+     * @param kind        The kind of the operation
+     * @param operation   The operation
+     * @param storedQuery The stored query
+     * @param entity      The entity
+     * @param <T>         The entity type
+     * @return true if the operation was deferred
+     */
+    private <T> boolean writeBehind(Connection connection, JdbcWriteBehindQueue.Kind kind, EntityOperation<T> operation, SqlStoredQuery<T, ?> storedQuery, T entity) {
+        if (!jdbcConfiguration.isWriteBehind() || !isWriteBehindSupported(kind, storedQuery)) {
+            flushWriteBehind(connection);
+            return false;
+        }
+        TransactionStatus<?> status = transactionOperations.findTransactionStatus().orElse(null);
+        if (status == null || status.getConnection() != connection || status.getTransactionDefinition().isReadOnly().orElse(false)
+            || isNestedTransaction(status)) {
+            flushWriteBehind(connection);
+            return false;
+        }
+        JdbcWriteBehindQueue queue = writeBehindQueues.get(connection);
+        if (queue == null) {
+            queue = new JdbcWriteBehindQueue();
+            writeBehindQueues.put(connection, queue);
+            status.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public int getOrder() {
+                    return Ordered.HIGHEST_PRECEDENCE;
+                }
+
+                @Override
+                public void beforeSavepoint() {
+                    // The deferred operations must not be rolled back with the nested transaction
+                    flushWriteBehind(connection);
+                }
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    flushWriteBehind(connection);
+                }
+
+                @Override
+                public void afterCompletion(Status completionStatus) {
+                    writeBehindQueues.remove(connection);
+                }
+            });
+        }
+        queue.add(kind, operation, storedQuery, entity);
+        return true;
+    }
+
+    /**
+     * The operations of a nested transaction are rolled back to its savepoint, they cannot be deferred past the nested transaction.
+     *
+     * @param status The transaction status
+     * @return true if the status is a nested transaction of an existing transaction
+     */
+    private static boolean isNestedTransaction(TransactionStatus<?> status) {
+        return !status.isNewTransaction()
+            && status.getTransactionDefinition().getPropagationBehavior() == TransactionDefinition.Propagation.NESTED;
+    }
+
+    private boolean isWriteBehindSupported(JdbcWriteBehindQueue.Kind kind, SqlStoredQuery<?, ?> storedQuery) {
+        RuntimePersistentEntity<?> persistentEntity = storedQuery.getPersistentEntity();
+        if (storedQuery.isRawQuery() || !JdbcWriteBehindQueue.isDeferrable(kind, persistentEntity)) {
+            return false;
+        }
+        return switch (kind) {
+            case INSERT -> storedQuery.getOperationType() == StoredQuery.OperationType.INSERT
+                && isSupportsBatchInsert(persistentEntity, storedQuery);
+            case UPDATE -> storedQuery.getOperationType() == StoredQuery.OperationType.UPDATE
+                && !isPartialUpdate(storedQuery);
+        };
+    }
+
+    private void flushWriteBehind(Connection connection, SqlStoredQuery<?, ?> query) {
+        if (writeBehindQueues.isEmpty()) {
+            return;
+        }
+        JdbcWriteBehindQueue queue = writeBehindQueues.get(connection);
+        if (queue != null && (query.isRawQuery() || queue.touches(query.getQuery()))) {
+            flushWriteBehind(connection);
+        }
+    }
+
+    private void flushWriteBehind(Connection connection) {
+        if (writeBehindQueues.isEmpty()) {
+            return;
+        }
+        JdbcWriteBehindQueue queue = writeBehindQueues.get(connection);
+        if (queue == null) {
+            return;
+        }
+        // The event listeners of the flushed entities can defer more operations
+        for (List<JdbcWriteBehindQueue.Batch<?>> batches = queue.drain(); !batches.isEmpty(); batches = queue.drain()) {
+            for (JdbcWriteBehindQueue.Batch<?> batch : batches) {
+                executeWriteBehind(connection, batch);
+            }
+        }
+    }
+
+    private <T> void executeWriteBehind(Connection connection, JdbcWriteBehindQueue.Batch<T> batch) {
+        SqlStoredQuery<T, ?> storedQuery = batch.storedQuery;
+        RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
+        JdbcOperationContext ctx = createContext(batch.operation, connection, storedQuery);
+        switch (batch.kind) {
+            case INSERT -> new JdbcEntitiesOperations<>(ctx, persistentEntity, batch.entities, storedQuery, true).persist();
+            case UPDATE -> new JdbcEntitiesOperations<>(ctx, persistentEntity, batch.entities, storedQuery).update();
+        }
+    }
+
     private DataAccessException connectionNotFoundAndNewNotAllowed() {
         return new DataAccessException("Connection is required for this operation. Annotate with @" + Connectable.class + ", @Transactional or enable `isAllowConnectionPerOperation`.");
     }
@@ -844,6 +1397,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @Override
     public <R> R execute(@NonNull ConnectionCallback<R> callback) {
         return executeWrite(connection -> {
+            flushWriteBehind(connection);
             try {
                 return callback.call(connection);
             } catch (SQLException e) {
@@ -861,6 +1415,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             QUERY_LOG.debug("Executing Query: {}", sql);
         }
         ConnectionContext connectionCtx = getConnectionCtx();
+        flushWriteBehind(connectionCtx.connection);
         try {
             R result = null;
             try {
@@ -1019,6 +1574,30 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return new JdbcOperationContext(operation.getAnnotationMetadata(), operation.getInvocationContext(), operation.getRepositoryType(), storedQuery.getDialect(), connection);
     }
 
+    /**
+     * Selects the next identity of the pooled sequence, querying the database only when the allocated block is exhausted.
+     *
+     * @param ctx               the operation context
+     * @param pooledIdAllocator the allocator of the entity sequence
+     * @return the next identity
+     */
+    private long nextPooledId(JdbcOperationContext ctx, PooledIdAllocator pooledIdAllocator) {
+        return pooledIdAllocator.nextId(() -> {
+            String query = pooledIdAllocator.getQuery();
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing SQL query: {}", query);
+            }
+            try (PreparedStatement ps = ctx.connection.prepareStatement(query); ResultSet resultSet = ps.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new DataAccessException("Sequence query returned no value: " + query);
+                }
+                return resultSet.getLong(1);
+            } catch (SQLException e) {
+                throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error selecting the next sequence value: " + sqlException.getMessage(), sqlException));
+            }
+        });
+    }
+
     /**
      * Gets the generated id on record insert.
      *
@@ -1182,6 +1761,15 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
+            if (insert) {
+                PooledIdAllocator pooledIdAllocator = findPooledIdAllocator(persistentEntity, storedQuery);
+                if (pooledIdAllocator != null) {
+                    BeanProperty<T, Object> idProperty = persistentEntity.getIdentity().getProperty();
+                    if (idProperty.get(entity) == null) {
+                        entity = updateEntityId(idProperty, entity, nextPooledId(ctx, pooledIdAllocator));
+                    }
+                }
+            }
             try {
                 if (storedQuery.getOperationType() == StoredQuery.OperationType.INSERT_RETURNING
                     || storedQuery.getOperationType() == StoredQuery.OperationType.UPDATE_RETURNING
@@ -1242,16 +1830,16 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         }
     }
 
-    private final class JdbcEntitiesOperations<T> extends AbstractSyncEntitiesOperations<JdbcOperationContext, T, SQLException> {
-
-        private final SqlStoredQuery<T, ?> storedQuery;
-        private int rowsUpdated;
+    /**
+     * The base of the JDBC operations over multiple entities sharing a stored query.
+     *
+     * @param <T> The entity type
+     */
+    private abstract class AbstractJdbcEntitiesOperations<T> extends AbstractSyncEntitiesOperations<JdbcOperationContext, T, SQLException> {
 
-        private JdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery) {
-            this(ctx, persistentEntity, entities, storedQuery, false);
-        }
+        protected final SqlStoredQuery<T, ?> storedQuery;
 
-        private JdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery, boolean insert) {
+        protected AbstractJdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery, boolean insert) {
             super(ctx,
                 DefaultJdbcRepositoryOperations.this.cascadeOperations,
                 DefaultJdbcRepositoryOperations.this.conversionService,
@@ -1269,6 +1857,39 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             }
         }
 
+        /**
+         * Assigns the identities allocated from the pooled sequence to the entities without one.
+         */
+        protected void assignPooledIds() {
+            PooledIdAllocator pooledIdAllocator = findPooledIdAllocator(persistentEntity, storedQuery);
+            if (pooledIdAllocator == null) {
+                return;
+            }
+            BeanProperty<T, Object> idProperty = persistentEntity.getIdentity().getProperty();
+            for (Data d : entities) {
+                if (!d.vetoed && idProperty.get(d.entity) == null) {
+                    d.entity = updateEntityId(idProperty, d.entity, nextPooledId(ctx, pooledIdAllocator));
+                }
+            }
+        }
+    }
+
+    private final class JdbcEntitiesOperations<T> extends AbstractJdbcEntitiesOperations<T> {
+
+        @Nullable
+        private final JdbcBatchFailureHandler failureHandler;
+        private final Set<Data> failed = new HashSet<>();
+        private int rowsUpdated;
+
+        private JdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery) {
+            this(ctx, persistentEntity, entities, storedQuery, false);
+        }
+
+        private JdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery, boolean insert) {
+            super(ctx, persistentEntity, entities, storedQuery, insert);
+            this.failureHandler = storedQuery.getOperationType() == StoredQuery.OperationType.DELETE ? null : findBatchFailureHandler(ctx);
+        }
+
         private PreparedStatement prepare(Connection connection) throws SQLException {
             if (insert) {
                 Dialect dialect = storedQuery.getDialect();
@@ -1290,11 +1911,8 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             }
         }
 
-        private void setParameters(PreparedStatement stmt, SqlStoredQuery<T, ?> storedQuery) throws SQLException {
-            for (Data d : entities) {
-                if (d.vetoed) {
-                    continue;
-                }
+        private void setParameters(PreparedStatement stmt, List<Data> rows) throws SQLException {
+            for (Data d : rows) {
                 storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, stmt, storedQuery), ctx.invocationContext, d.entity, d.previousValues);
                 stmt.addBatch();
             }
@@ -1309,9 +1927,28 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 || storedQuery.getOperationType() == StoredQuery.OperationType.UPDATE_RETURNING) {
                 throw new IllegalStateException("Batch operations don't support returning operations");
             }
+            if (insert) {
+                assignPooledIds();
+            }
+            List<Data> rows = entities.stream().filter(d -> !d.vetoed).toList();
+            try {
+                if (failureHandler != null) {
+                    executeIsolatingFailures(rows);
+                    return;
+                }
+                rowsUpdated = Arrays.stream(executeBatch(rows)).sum();
+                if (storedQuery.isOptimisticLock()) {
+                    checkOptimisticLocking(rows.size(), rowsUpdated);
+                }
+            } catch (SQLException e) {
+                throw toDataAccessException(e);
+            }
+        }
+
+        private int[] executeBatch(List<Data> rows) throws SQLException {
             try (PreparedStatement ps = prepare(ctx.connection)) {
-                setParameters(ps, storedQuery);
-                rowsUpdated = Arrays.stream(ps.executeBatch()).sum();
+                setParameters(ps, rows);
+                int[] updateCounts = ps.executeBatch();
                 if (hasGeneratedId) {
                     RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
                     List<Object> ids = new ArrayList<>();
@@ -1322,10 +1959,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                         }
                     }
                     Iterator<Object> iterator = ids.iterator();
-                    for (Data d : entities) {
-                        if (d.vetoed) {
-                            continue;
-                        }
+                    for (Data d : rows) {
                         if (!iterator.hasNext()) {
                             throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
                         } else {
@@ -1334,17 +1968,224 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                         }
                     }
                 }
-                if (storedQuery.isOptimisticLock()) {
-                    int expected = (int) entities.stream().filter(d -> !d.vetoed).count();
-                    checkOptimisticLocking(expected, rowsUpdated);
+                return updateCounts;
+            }
+        }
+
+        /**
+         * Executes the batch isolated by a savepoint, or committed if the connection is not in a transaction,
+         * and bisects the failed batch until the failing entities are found.
+         *
+         * @param rows The rows
+         * @throws SQLException The connection failure
+         */
+        private void executeIsolatingFailures(List<Data> rows) throws SQLException {
+            Connection connection = ctx.connection;
+            boolean autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                bisect(rows, autoCommit);
+            } catch (Throwable e) {
+                if (autoCommit) {
+                    rollbackOnFailure(connection, e);
                 }
+                throw e;
+            } finally {
+                if (autoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        }
+
+        private void bisect(List<Data> rows, boolean commit) throws SQLException {
+            if (rows.isEmpty()) {
+                return;
+            }
+            Connection connection = ctx.connection;
+            Savepoint savepoint = commit ? null : connection.setSavepoint();
+            int[] updateCounts;
+            try {
+                updateCounts = executeBatch(rows);
             } catch (SQLException e) {
-                throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing batch SQL UPDATE: " + sqlException.getMessage(), sqlException));
+                rollback(connection, savepoint);
+                String sqlState = e.getSQLState();
+                if (sqlState != null && sqlState.startsWith("08")) {
+                    // The connection failure cannot be isolated
+                    throw e;
+                }
+                if (rows.size() == 1) {
+                    fail(rows.get(0), toDataAccessException(e));
+                    return;
+                }
+                int middle = rows.size() / 2;
+                bisect(rows.subList(0, middle), commit);
+                bisect(rows.subList(middle, rows.size()), commit);
+                return;
+            }
+            if (savepoint == null) {
+                connection.commit();
+            } else {
+                releaseSavepoint(connection, savepoint);
+            }
+            for (int i = 0; i < rows.size(); i++) {
+                int updateCount = i < updateCounts.length ? updateCounts[i] : Statement.SUCCESS_NO_INFO;
+                if (updateCount == 0 && storedQuery.isOptimisticLock()) {
+                    fail(rows.get(i), new OptimisticLockException("Execute update returned unexpected row count. Expected: 1 got: 0"));
+                } else if (updateCount > 0) {
+                    rowsUpdated += updateCount;
+                }
+            }
+        }
+
+        private void fail(Data d, DataAccessException cause) {
+            d.vetoed = true;
+            failed.add(d);
+            failureHandler.onFailure(d.entity, cause);
+        }
+
+        private DataAccessException toDataAccessException(SQLException e) {
+            return sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing batch SQL UPDATE: " + sqlException.getMessage(), sqlException));
+        }
+
+        @Override
+        public List<T> getEntities() {
+            if (failed.isEmpty()) {
+                return super.getEntities();
             }
+            return entities.stream().filter(d -> !failed.contains(d)).map(d -> d.entity).collect(Collectors.toList());
         }
 
     }
 
+    private final class JdbcMultiRowInsertOperations<T> extends AbstractJdbcEntitiesOperations<T> {
+
+        private final SqlMultiRowInsert multiRowInsert;
+
+        private JdbcMultiRowInsertOperations(JdbcOperationContext ctx,
+                                             RuntimePersistentEntity<T> persistentEntity,
+                                             Iterable<T> entities,
+                                             SqlStoredQuery<T, ?> storedQuery,
+                                             SqlMultiRowInsert multiRowInsert) {
+            super(ctx, persistentEntity, entities, storedQuery, true);
+            this.multiRowInsert = multiRowInsert;
+        }
+
+        @Override
+        protected void execute() {
+            assignPooledIds();
+            List<Data> toInsert = entities.stream().filter(d -> !d.vetoed).toList();
+            int rowsPerStatement = multiRowInsert.getRowsPerStatement();
+            for (int from = 0; from < toInsert.size(); from += rowsPerStatement) {
+                List<Data> rows = toInsert.subList(from, Math.min(from + rowsPerStatement, toInsert.size()));
+                String query = multiRowInsert.getQuery(rows.size());
+                if (QUERY_LOG.isDebugEnabled()) {
+                    QUERY_LOG.debug("Executing SQL query: {}", query);
+                }
+                try (PreparedStatement ps = ctx.connection.prepareStatement(query,
+                    hasGeneratedId && !multiRowInsert.isReturnsIdentity() ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS)) {
+                    JdbcParameterBinder binder = new JdbcParameterBinder(ctx.connection, ps, storedQuery);
+                    for (Data d : rows) {
+                        storedQuery.bindParameters(binder, ctx.invocationContext, d.entity, d.previousValues);
+                    }
+                    if (multiRowInsert.isReturnsIdentity()) {
+                        // The identities are selected by the last statement of the batch
+                        boolean isResultSet = ps.execute();
+                        while (!isResultSet && ps.getUpdateCount() != -1) {
+                            isResultSet = ps.getMoreResults();
+                        }
+                        if (!isResultSet) {
+                            throw new DataAccessException("Failed to read the generated IDs of the multi-row SQL INSERT");
+                        }
+                        try (ResultSet resultSet = ps.getResultSet()) {
+                            updateGeneratedIds(rows, resultSet);
+                        }
+                    } else {
+                        ps.executeUpdate();
+                        if (hasGeneratedId) {
+                            try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                                updateGeneratedIds(rows, generatedKeys);
+                            }
+                        }
+                    }
+                } catch (SQLException e) {
+                    throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing multi-row SQL INSERT: " + sqlException.getMessage(), sqlException));
+                }
+            }
+        }
+
+        private void updateGeneratedIds(List<Data> rows, ResultSet resultSet) throws SQLException {
+            RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+            for (Data d : rows) {
+                if (!resultSet.next()) {
+                    throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
+                }
+                Object id = getGeneratedIdentity(resultSet, identity, storedQuery.getDialect());
+                d.entity = updateEntityId(identity.getProperty(), d.entity, id);
+            }
+        }
+    }
+
+    private final class JdbcBulkOperations<T> extends AbstractSyncEntitiesOperations<JdbcOperationContext, T, SQLException> {
+
+        private final SqlBulkStatement<T> bulkStatement;
+        private final int chunkSize;
+        private int rowsUpdated;
+
+        private JdbcBulkOperations(JdbcOperationContext ctx,
+                                   RuntimePersistentEntity<T> persistentEntity,
+                                   Iterable<T> entities,
+                                   SqlBulkStatement<T> bulkStatement,
+                                   int chunkSize) {
+            super(ctx,
+                DefaultJdbcRepositoryOperations.this.cascadeOperations,
+                DefaultJdbcRepositoryOperations.this.conversionService,
+                entityEventRegistry, persistentEntity, entities, false);
+            this.bulkStatement = bulkStatement;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void collectAutoPopulatedPreviousValues() {
+            SqlStoredQuery<T, T> storedQuery = bulkStatement.getStoredQuery();
+            for (Data d : entities) {
+                if (d.vetoed) {
+                    continue;
+                }
+                d.previousValues = storedQuery.collectAutoPopulatedPreviousValues(d.entity);
+            }
+        }
+
+        @Override
+        protected void execute() {
+            SqlStoredQuery<T, T> storedQuery = bulkStatement.getStoredQuery();
+            List<Data> toUpdate = entities.stream().filter(d -> !d.vetoed).toList();
+            rowsUpdated = 0;
+            int from = 0;
+            while (from < toUpdate.size()) {
+                int rows = bulkStatement.nextChunk(toUpdate.size() - from, chunkSize);
+                String query = bulkStatement.getQuery(rows);
+                if (QUERY_LOG.isDebugEnabled()) {
+                    QUERY_LOG.debug("Executing SQL query: {}", query);
+                }
+                try (PreparedStatement ps = ctx.connection.prepareStatement(query)) {
+                    JdbcParameterBinder binder = new JdbcParameterBinder(ctx.connection, ps, storedQuery);
+                    for (Data d : toUpdate.subList(from, from + rows)) {
+                        storedQuery.bindParameters(binder, ctx.invocationContext, d.entity, d.previousValues);
+                    }
+                    rowsUpdated += ps.executeUpdate();
+                } catch (SQLException e) {
+                    throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing bulk SQL " + storedQuery.getOperationType() + ": " + sqlException.getMessage(), sqlException));
+                }
+                from += rows;
+            }
+            if (storedQuery.isOptimisticLock()) {
+                checkOptimisticLocking(toUpdate.size(), rowsUpdated);
+            }
+        }
+    }
+
     @SuppressWarnings("VisibilityModifier")
     protected static class JdbcOperationContext extends OperationContext {
 
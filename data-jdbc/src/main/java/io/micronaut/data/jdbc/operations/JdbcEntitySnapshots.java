@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.operations;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.data.annotation.AutoPopulated;
+import io.micronaut.data.jdbc.annotation.JdbcPartialUpdate;
+import io.micronaut.data.jdbc.runtime.ChangeTrackedEntity;
+import io.micronaut.data.model.Association;
+import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.time.temporal.TemporalAccessor;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The snapshots of the {@link JdbcPartialUpdate} entities loaded in the transaction of a connection.
+ * The snapshots are released when the transaction completes, the pooled connection is reused by the next transactions.
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class JdbcEntitySnapshots {
+
+    private final Map<Connection, Map<SnapshotKey, Object[]>> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * @param persistentEntity The persistent entity
+     * @return true if the entity is updated partially
+     */
+    static boolean isPartialUpdate(RuntimePersistentEntity<?> persistentEntity) {
+        return persistentEntity.getIdentity() != null && persistentEntity.getAnnotationMetadata().hasAnnotation(JdbcPartialUpdate.class);
+    }
+
+    /**
+     * Opens the snapshots of the connection.
+     *
+     * @param connection The connection
+     * @return true if the snapshots were not open and should be released by {@link #release(Connection)}
+     */
+    boolean open(Connection connection) {
+        return snapshots.putIfAbsent(connection, Collections.synchronizedMap(new HashMap<>())) == null;
+    }
+
+    /**
+     * Releases the snapshots of the connection.
+     *
+     * @param connection The connection
+     */
+    void release(Connection connection) {
+        snapshots.remove(connection);
+    }
+
+    /**
+     * Snapshots the loaded or the updated entity.
+     *
+     * @param connection       The connection
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <T>              The entity type
+     */
+    <T> void snapshot(Connection connection, RuntimePersistentEntity<T> persistentEntity, T entity) {
+        Object id = persistentEntity.getIdentity().getProperty().get(entity);
+        if (id == null) {
+            return;
+        }
+        Object[] values = new Object[persistentEntity.getPersistentProperties().size()];
+        int index = 0;
+        for (RuntimePersistentProperty<T> property : persistentEntity.getPersistentProperties()) {
+            if (isComparable(property)) {
+                values[index] = property.getProperty().get(entity);
+            }
+            index++;
+        }
+        Map<SnapshotKey, Object[]> connectionSnapshots = snapshots.get(connection);
+        if (connectionSnapshots != null) {
+            connectionSnapshots.put(new SnapshotKey(persistentEntity.getName(), id), values);
+        }
+    }
+
+    /**
+     * Removes the snapshot of the deleted entity.
+     *
+     * @param connection       The connection
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <T>              The entity type
+     */
+    <T> void remove(Connection connection, RuntimePersistentEntity<T> persistentEntity, T entity) {
+        Object id = persistentEntity.getIdentity().getProperty().get(entity);
+        Map<SnapshotKey, Object[]> connectionSnapshots = id == null ? null : snapshots.get(connection);
+        if (connectionSnapshots != null) {
+            connectionSnapshots.remove(new SnapshotKey(persistentEntity.getName(), id));
+        }
+    }
+
+    /**
+     * Resolves the properties to update: the properties supplied by {@link ChangeTrackedEntity} or changed since the snapshot.
+     *
+     * @param connection       The connection
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <T>              The entity type
+     * @return The indexes of the properties in {@link RuntimePersistentEntity#getPersistentProperties()} or null if the changes are unknown
+     */
+    @Nullable
+    <T> BitSet changedProperties(Connection connection, RuntimePersistentEntity<T> persistentEntity, T entity) {
+        Set<String> changedProperties = entity instanceof ChangeTrackedEntity changeTrackedEntity ? changeTrackedEntity.changedProperties() : null;
+        Object[] snapshot = null;
+        if (changedProperties == null) {
+            Object id = persistentEntity.getIdentity().getProperty().get(entity);
+            Map<SnapshotKey, Object[]> connectionSnapshots = id == null ? null : snapshots.get(connection);
+            snapshot = connectionSnapshots == null ? null : connectionSnapshots.get(new SnapshotKey(persistentEntity.getName(), id));
+            if (snapshot == null) {
+                return null;
+            }
+        }
+        BitSet changed = new BitSet();
+        int index = 0;
+        for (RuntimePersistentProperty<T> property : persistentEntity.getPersistentProperties()) {
+            if (isUpdatable(property)) {
+                boolean isChanged;
+                if (property.isAutoPopulated()) {
+                    isChanged = true;
+                } else if (changedProperties != null) {
+                    isChanged = changedProperties.contains(property.getName());
+                } else {
+                    isChanged = !isComparable(property) || !Objects.deepEquals(snapshot[index], property.getProperty().get(entity));
+                }
+                if (isChanged) {
+                    changed.set(index);
+                }
+            }
+            index++;
+        }
+        return changed;
+    }
+
+    private static boolean isUpdatable(RuntimePersistentProperty<?> property) {
+        return !(property instanceof Association association && association.isForeignKey())
+            && !property.isGenerated()
+            && property.getAnnotationMetadata().booleanValue(AutoPopulated.class, AutoPopulated.UPDATABLE).orElse(true);
+    }
+
+    /**
+     * Only the values that cannot be modified in place are compared, the other properties are always updated.
+     *
+     * @param property The property
+     * @return true if the snapshotted value can be compared
+     */
+    private static boolean isComparable(RuntimePersistentProperty<?> property) {
+        if (property instanceof Association || property.getDataType() == DataType.JSON) {
+            return false;
+        }
+        Class<?> type = property.getType();
+        return type.isPrimitive() || type.isEnum() || ClassUtils.isJavaLangType(type)
+            || TemporalAccessor.class.isAssignableFrom(type)
+            || type == BigDecimal.class || type == BigInteger.class || type == UUID.class;
+    }
+
+    private record SnapshotKey(String entity, Object id) {
+    }
+}
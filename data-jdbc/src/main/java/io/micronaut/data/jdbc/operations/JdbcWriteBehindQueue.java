@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.operations;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.data.model.runtime.EntityOperation;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The inserts and updates deferred until the transaction is committed or a query touching the table is executed.
+ * The consecutive operations of the same kind and entity are executed as one batch,
+ * the repeated insert or update of the same entity in the last batch only keeps the latest instance.
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class JdbcWriteBehindQueue {
+
+    private final List<Batch<?>> batches = new ArrayList<>();
+    private final Map<EntityKey, Position> positions = new HashMap<>();
+    private final Set<String> tables = new HashSet<>();
+
+    /**
+     * The entity can be deferred if the instance returned by the operation is complete: the identity is assigned,
+     * no event listener populates the entity, like the auto-populated properties and the version, and the instance is not copied.
+     *
+     * @param kind             The kind of the operation
+     * @param persistentEntity The persistent entity
+     * @return true if the operation can be deferred
+     */
+    static boolean isDeferrable(Kind kind, RuntimePersistentEntity<?> persistentEntity) {
+        RuntimePersistentProperty<?> identity = persistentEntity.getIdentity();
+        if (identity == null || identity.getProperty().isReadOnly()) {
+            return false;
+        }
+        boolean populated = switch (kind) {
+            case INSERT -> identity.isGenerated() || persistentEntity.hasPrePersistEventListeners();
+            case UPDATE -> persistentEntity.hasPreUpdateEventListeners();
+        };
+        if (populated) {
+            return false;
+        }
+        for (RuntimePersistentProperty<?> property : persistentEntity.getPersistentProperties()) {
+            if (property.getProperty().isReadOnly()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the entity to the last batch or starts a new batch.
+     *
+     * @param kind        The kind of the operation
+     * @param operation   The operation
+     * @param storedQuery The stored query
+     * @param entity      The entity
+     * @param <T>         The entity type
+     */
+    @SuppressWarnings("unchecked")
+    <T> void add(Kind kind, EntityOperation<T> operation, SqlStoredQuery<T, ?> storedQuery, T entity) {
+        RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
+        Object id = persistentEntity.getIdentity().getProperty().get(entity);
+        EntityKey key = id == null ? null : new EntityKey(persistentEntity.getName(), id);
+        Batch<?> last = batches.isEmpty() ? null : batches.get(batches.size() - 1);
+        if (key != null) {
+            Position position = positions.get(key);
+            if (position != null && position.batch == last && (kind == Kind.UPDATE || kind == last.kind)) {
+                ((Batch<T>) last).entities.set(position.index, entity);
+                return;
+            }
+        }
+        Batch<T> batch;
+        if (last != null && last.kind == kind
+            && last.operation.getRepositoryType() == operation.getRepositoryType()
+            && last.storedQuery.getQuery().equals(storedQuery.getQuery())) {
+            batch = (Batch<T>) last;
+        } else {
+            batch = new Batch<>(kind, operation, storedQuery);
+            batches.add(batch);
+            tables.add(persistentEntity.getPersistedName().toLowerCase(Locale.ROOT));
+        }
+        if (key != null) {
+            positions.put(key, new Position(batch, batch.entities.size()));
+        }
+        batch.entities.add(entity);
+    }
+
+    /**
+     * @param sql The query
+     * @return true if the query references a table with a deferred operation
+     */
+    boolean touches(String sql) {
+        if (tables.isEmpty()) {
+            return false;
+        }
+        String query = sql.toLowerCase(Locale.ROOT);
+        for (String table : tables) {
+            if (query.contains(table)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the deferred batches.
+     *
+     * @return The batches in the order of the operations
+     */
+    List<Batch<?>> drain() {
+        if (batches.isEmpty()) {
+            return List.of();
+        }
+        List<Batch<?>> drained = new ArrayList<>(batches);
+        batches.clear();
+        positions.clear();
+        tables.clear();
+        return drained;
+    }
+
+    /**
+     * The kind of the deferred operation.
+     */
+    enum Kind {
+        INSERT, UPDATE
+    }
+
+    /**
+     * The consecutive operations executed together.
+     *
+     * @param <T> The entity type
+     */
+    static final class Batch<T> {
+
+        final Kind kind;
+        final EntityOperation<T> operation;
+        final SqlStoredQuery<T, ?> storedQuery;
+        final List<T> entities = new ArrayList<>();
+
+        private Batch(Kind kind, EntityOperation<T> operation, SqlStoredQuery<T, ?> storedQuery) {
+            this.kind = kind;
+            this.operation = operation;
+            this.storedQuery = storedQuery;
+        }
+    }
+
+    private record Position(Batch<?> batch, int index) {
+    }
+
+    private record EntityKey(String entity, Object id) {
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.runtime;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Set;
+
+/**
+ * Implemented by the {@link io.micronaut.data.jdbc.annotation.JdbcPartialUpdate} entities tracking their own changes.
+ *
+ * @since 4.12.0
+ */
+@Experimental
+public interface ChangeTrackedEntity {
+
+    /**
+     * The names of the persistent properties changed since the entity was loaded.
+     * The set is not cleared by the update, it's up to the entity to reset it.
+     *
+     * @return The changed properties or null if the changes are unknown
+     */
+    @Nullable
+    Set<String> changedProperties();
+}
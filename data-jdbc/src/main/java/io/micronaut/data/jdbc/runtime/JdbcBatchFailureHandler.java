@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.runtime;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.exceptions.DataAccessException;
+
+/**
+ * Receives the entities that failed in a batch isolated by {@link io.micronaut.data.jdbc.annotation.JdbcIsolateBatchFailures}.
+ *
+ * @since 4.12.0
+ */
+@Experimental
+@FunctionalInterface
+public interface JdbcBatchFailureHandler {
+
+    /**
+     * Invoked for each entity that was not inserted or updated. The entity is not returned by the operation.
+     *
+     * @param entity The failed entity
+     * @param cause  The failure, {@link io.micronaut.data.exceptions.OptimisticLockException} if the versioned entity is stale
+     */
+    void onFailure(@NonNull Object entity, @NonNull DataAccessException cause);
+}
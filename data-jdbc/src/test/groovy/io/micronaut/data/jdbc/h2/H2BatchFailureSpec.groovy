@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Index
+import io.micronaut.data.annotation.Indexes
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.exceptions.DataAccessException
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.jdbc.annotation.JdbcIsolateBatchFailures
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.runtime.JdbcBatchFailureHandler
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.TransactionOperations
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+import java.sql.Connection
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+class H2BatchFailureSpec extends Specification {
+
+    @Inject
+    BatchFailureItemRepository itemRepository
+
+    @Inject
+    BatchFailureCollector collector
+
+    @Inject
+    TransactionOperations<Connection> transactionOperations
+
+    void cleanup() {
+        itemRepository.deleteAll()
+        collector.failures.clear()
+    }
+
+    void "test failing entities are isolated from the batch insert"() {
+        when:
+        def saved = itemRepository.saveAll(["a", "b", "a", "c", "b", "d"].collect { new BatchFailureItem(code: it) })
+
+        then:
+        saved*.code == ["a", "b", "c", "d"]
+        saved.every { it.id != null }
+        collector.failures.keySet()*.code == ["a", "b"]
+        collector.failures.values().every { it instanceof DataAccessException }
+        itemRepository.findAll()*.code.sort() == ["a", "b", "c", "d"]
+    }
+
+    void "test failing entities are isolated from the batch insert in a transaction"() {
+        when:
+        def saved = transactionOperations.executeWrite {
+            itemRepository.saveAll(["a", "a", "b"].collect { new BatchFailureItem(code: it) })
+        }
+
+        then:
+        saved*.code == ["a", "b"]
+        collector.failures.size() == 1
+        itemRepository.findAll()*.code.sort() == ["a", "b"]
+    }
+
+    void "test stale entities are isolated from the batch update"() {
+        given:
+        def items = itemRepository.saveAll(["a", "b", "c"].collect { new BatchFailureItem(code: it) })
+
+        when:
+        items[1].version = 5
+        items.each { it.code = it.code + "2" }
+        def updated = itemRepository.updateAll(items)
+
+        then:
+        updated*.code == ["a2", "c2"]
+        collector.failures.keySet()*.code == ["b2"]
+        collector.failures.values().first() instanceof OptimisticLockException
+        itemRepository.findAll()*.code.sort() == ["a2", "b", "c2"]
+    }
+}
+
+@Singleton
+class BatchFailureCollector implements JdbcBatchFailureHandler {
+
+    final Map<Object, DataAccessException> failures = Collections.synchronizedMap(new LinkedHashMap<>())
+
+    @Override
+    void onFailure(Object entity, DataAccessException cause) {
+        failures.put(entity, cause)
+    }
+}
+
+@Indexes(@Index(columns = "code", unique = true))
+@MappedEntity
+class BatchFailureItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String code
+    @Version
+    Long version
+}
+
+@JdbcIsolateBatchFailures(BatchFailureCollector)
+@JdbcRepository(dialect = Dialect.H2)
+interface BatchFailureItemRepository extends CrudRepository<BatchFailureItem, Long> {
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.annotation.Embeddable
+import io.micronaut.data.annotation.EmbeddedId
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.annotation.Where
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+class H2BulkDeleteSpec extends Specification {
+
+    @Inject
+    BulkDeleteItemRepository itemRepository
+
+    @Inject
+    BulkDeleteWhereItemRepository whereItemRepository
+
+    @Inject
+    BulkDeleteVersionedItemRepository versionedItemRepository
+
+    @Inject
+    BulkDeleteCompositeItemRepository compositeItemRepository
+
+    void cleanup() {
+        itemRepository.deleteAll()
+        versionedItemRepository.deleteAll()
+        compositeItemRepository.deleteAll()
+    }
+
+    void "test delete of the entities by the list of the identities"() {
+        given:
+        def items = itemRepository.saveAll((1..5).collect { new BulkDeleteItem(name: "item" + it) })
+
+        when:
+        itemRepository.deleteAll(items.subList(0, 3))
+
+        then:
+        itemRepository.findAll()*.name.sort() == ["item4", "item5"]
+    }
+
+    void "test delete of the entities keeps the criteria of the repository where"() {
+        given:
+        def items = itemRepository.saveAll([new BulkDeleteItem(name: "a"), new BulkDeleteItem(name: "kept"), new BulkDeleteItem(name: "b")])
+
+        when:
+        whereItemRepository.deleteAll(items)
+
+        then:
+        itemRepository.findAll()*.name == ["kept"]
+    }
+
+    void "test delete of the versioned entities checks the versions"() {
+        given:
+        def items = versionedItemRepository.saveAll((1..3).collect { new BulkDeleteVersionedItem(name: "item" + it) })
+
+        when:
+        versionedItemRepository.deleteAll(items.subList(0, 2))
+
+        then:
+        versionedItemRepository.findAll()*.name == ["item3"]
+
+        when:"The entity is stale"
+        def stale = versionedItemRepository.findAll()
+        stale[0].version = 5
+        versionedItemRepository.deleteAll(stale)
+
+        then:
+        thrown(OptimisticLockException)
+        versionedItemRepository.count() == 1
+    }
+
+    void "test delete of the entities with a composite identity"() {
+        given:
+        compositeItemRepository.saveAll([
+            new BulkDeleteCompositeItem(id: new BulkDeleteCompositeId(first: 1, second: 1), name: "a"),
+            new BulkDeleteCompositeItem(id: new BulkDeleteCompositeId(first: 1, second: 2), name: "b"),
+            new BulkDeleteCompositeItem(id: new BulkDeleteCompositeId(first: 2, second: 1), name: "c")
+        ])
+
+        when:
+        compositeItemRepository.deleteAll(compositeItemRepository.findAll().findAll { it.name != "b" })
+
+        then:
+        compositeItemRepository.findAll()*.name == ["b"]
+    }
+}
+
+@MappedEntity
+class BulkDeleteItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+}
+
+@MappedEntity
+class BulkDeleteVersionedItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @Version
+    Long version
+}
+
+@Embeddable
+class BulkDeleteCompositeId {
+    int first
+    int second
+}
+
+@MappedEntity
+class BulkDeleteCompositeItem {
+    @EmbeddedId
+    BulkDeleteCompositeId id
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface BulkDeleteItemRepository extends CrudRepository<BulkDeleteItem, Long> {
+}
+
+@Where("@.name <> 'kept'")
+@JdbcRepository(dialect = Dialect.H2)
+interface BulkDeleteWhereItemRepository extends CrudRepository<BulkDeleteItem, Long> {
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface BulkDeleteVersionedItemRepository extends CrudRepository<BulkDeleteVersionedItem, Long> {
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface BulkDeleteCompositeItemRepository extends CrudRepository<BulkDeleteCompositeItem, BulkDeleteCompositeId> {
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.annotation.Embeddable
+import io.micronaut.data.annotation.EmbeddedId
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.jdbc.annotation.JdbcBulkUpdate
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+class H2BulkUpdateSpec extends Specification {
+
+    @Inject
+    BulkUpdateItemRepository itemRepository
+
+    @Inject
+    BulkUpdateVersionedItemRepository versionedItemRepository
+
+    @Inject
+    BulkUpdateCompositeItemRepository compositeItemRepository
+
+    void cleanup() {
+        itemRepository.deleteAll()
+        versionedItemRepository.deleteAll()
+        compositeItemRepository.deleteAll()
+    }
+
+    void "test bulk update of the entities split into chunks"() {
+        given:
+        def items = itemRepository.saveAll((1..5).collect { new BulkUpdateItem(name: "item" + it, quantity: it) })
+
+        when:
+        items.each { it.quantity *= 10 }
+        def updated = itemRepository.updateAll(items)
+
+        then:
+        updated*.name == items*.name
+        itemRepository.findAll().sort { it.name }*.quantity == [10, 20, 30, 40, 50]
+    }
+
+    void "test bulk update of the entities with duplicate identities"() {
+        given:
+        def item = itemRepository.save(new BulkUpdateItem(name: "a", quantity: 1))
+
+        when:"The entities are updated one by one, the last value wins"
+        itemRepository.updateAll([new BulkUpdateItem(id: item.id, name: "a", quantity: 2), new BulkUpdateItem(id: item.id, name: "a", quantity: 3)])
+
+        then:
+        itemRepository.findById(item.id).get().quantity == 3
+    }
+
+    void "test update of the entities with duplicate embedded identities"() {
+        given:
+        compositeItemRepository.save(new BulkUpdateCompositeItem(id: new BulkUpdateCompositeId(first: 1, second: 1), quantity: 1))
+
+        when:"The embedded identities without equals are not recognized as duplicates by the bulk update"
+        compositeItemRepository.updateAll([
+            new BulkUpdateCompositeItem(id: new BulkUpdateCompositeId(first: 1, second: 1), quantity: 2),
+            new BulkUpdateCompositeItem(id: new BulkUpdateCompositeId(first: 1, second: 1), quantity: 3)
+        ])
+
+        then:
+        compositeItemRepository.findAll()*.quantity == [3]
+    }
+
+    void "test bulk update increments and checks the versions"() {
+        given:
+        def items = versionedItemRepository.saveAll((1..3).collect { new BulkUpdateVersionedItem(name: "item" + it, quantity: it) })
+
+        when:
+        items.each { it.quantity++ }
+        def updated = versionedItemRepository.updateAll(items)
+
+        then:
+        updated*.version == [1L, 1L, 1L]
+        versionedItemRepository.findAll()*.version == [1L, 1L, 1L]
+
+        when:"One of the entities is stale"
+        def stale = versionedItemRepository.findAll().sort { it.name }
+        stale[1].version = 0
+        stale.each { it.quantity++ }
+        versionedItemRepository.updateAll(stale)
+
+        then:
+        thrown(OptimisticLockException)
+    }
+}
+
+@MappedEntity
+class BulkUpdateItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    int quantity
+}
+
+@MappedEntity
+class BulkUpdateVersionedItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    int quantity
+    @Version
+    Long version
+}
+
+@Embeddable
+class BulkUpdateCompositeId {
+    int first
+    int second
+}
+
+@MappedEntity
+class BulkUpdateCompositeItem {
+    @EmbeddedId
+    BulkUpdateCompositeId id
+    int quantity
+}
+
+@JdbcBulkUpdate(chunkSize = 2)
+@JdbcRepository(dialect = Dialect.H2)
+interface BulkUpdateItemRepository extends CrudRepository<BulkUpdateItem, Long> {
+}
+
+@JdbcBulkUpdate
+@JdbcRepository(dialect = Dialect.H2)
+interface BulkUpdateVersionedItemRepository extends CrudRepository<BulkUpdateVersionedItem, Long> {
+}
+
+@JdbcBulkUpdate
+@JdbcRepository(dialect = Dialect.H2)
+interface BulkUpdateCompositeItemRepository extends CrudRepository<BulkUpdateCompositeItem, BulkUpdateCompositeId> {
+}
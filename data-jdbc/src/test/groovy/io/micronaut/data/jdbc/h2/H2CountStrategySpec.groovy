@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+@H2DBProperties
+class H2CountStrategySpec extends Specification {
+
+    @Inject
+    H2CountStrategyPersonRepository repository
+
+    void setup() {
+        repository.deleteAll()
+        repository.saveAll((1..20).collect { new Person(name: "Person $it", age: it) })
+    }
+
+    void "test at least count strategy"() {
+        when:
+        def page = repository.findByNameLike("Person%", Pageable.from(0, 2))
+
+        then:
+        page.content.size() == 2
+        page.totalSize == 5
+
+        when:"The last page is requested"
+        page = repository.findByNameLike("Person%", Pageable.from(6, 3))
+
+        then:"The total is derived from the page"
+        page.content.size() == 2
+        page.totalSize == 20
+    }
+
+    void "test cached count strategy"() {
+        when:
+        def page = repository.findByAgeGreaterThan(10, Pageable.from(0, 2))
+
+        then:
+        page.totalSize == 10
+
+        when:"A new person is added"
+        repository.save(new Person(name: "Person 21", age: 21))
+        page = repository.findByAgeGreaterThan(10, Pageable.from(1, 2))
+
+        then:"The total is cached"
+        page.totalSize == 10
+
+        when:"Different parameters are used"
+        page = repository.findByAgeGreaterThan(15, Pageable.from(0, 2))
+
+        then:"The total is counted"
+        page.totalSize == 6
+    }
+
+    void "test estimated count strategy falls back to the exact count"() {
+        when:
+        def page = repository.findAll(Pageable.from(0, 2))
+
+        then:
+        page.totalSize == 20
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.connection.ConnectionOperations
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.jdbc.annotation.JdbcPartialUpdate
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.runtime.ChangeTrackedEntity
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.TransactionOperations
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.sql.Connection
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+class H2PartialUpdateSpec extends Specification {
+
+    @Inject
+    PartialUpdateItemRepository itemRepository
+
+    @Inject
+    PartialUpdateVersionedItemRepository versionedItemRepository
+
+    @Inject
+    PartialUpdateTrackedItemRepository trackedItemRepository
+
+    @Inject
+    PartialUpdateAssignedItemRepository assignedItemRepository
+
+    @Inject
+    TransactionOperations<Connection> transactionOperations
+
+    @Inject
+    ConnectionOperations<Connection> connectionOperations
+
+    void cleanup() {
+        itemRepository.deleteAll()
+        versionedItemRepository.deleteAll()
+        trackedItemRepository.deleteAll()
+        assignedItemRepository.deleteAll()
+    }
+
+    void "test update of the entity loaded in a transaction only sets the changed columns"() {
+        given:
+        def id = itemRepository.save(new PartialUpdateItem(name: "a", quantity: 1)).id
+
+        when:
+        transactionOperations.executeWrite {
+            def item = itemRepository.findById(id).get()
+            itemRepository.updateQuantity(id, 10)
+            item.name = "b"
+            itemRepository.update(item)
+        }
+        def item = itemRepository.findById(id).get()
+
+        then:"The concurrently changed quantity is not overwritten"
+        item.name == "b"
+        item.quantity == 10
+    }
+
+    void "test update of the entity loaded outside of a transaction sets all columns"() {
+        given:
+        def item = itemRepository.save(new PartialUpdateItem(name: "a", quantity: 1))
+
+        when:
+        itemRepository.updateQuantity(item.id, 10)
+        item.name = "b"
+        itemRepository.update(item)
+        item = itemRepository.findById(item.id).get()
+
+        then:
+        item.name == "b"
+        item.quantity == 1
+    }
+
+    void "test the snapshots are released when the transaction completes"() {
+        given:
+        def id = itemRepository.save(new PartialUpdateItem(name: "a", quantity: 1)).id
+
+        when:"The connection is reused by the next transaction"
+        connectionOperations.executeWrite {
+            def item = transactionOperations.executeWrite {
+                itemRepository.findById(id).get()
+            }
+            itemRepository.updateQuantity(id, 10)
+            transactionOperations.executeWrite {
+                item.name = "b"
+                itemRepository.update(item)
+            }
+        }
+        def item = itemRepository.findById(id).get()
+
+        then:"The entity loaded in the previous transaction is updated fully"
+        item.name == "b"
+        item.quantity == 1
+    }
+
+    void "test partial updates of all entities loaded in a transaction"() {
+        given:
+        def items = itemRepository.saveAll([new PartialUpdateItem(name: "a", quantity: 1), new PartialUpdateItem(name: "b", quantity: 1), new PartialUpdateItem(name: "c", quantity: 1)])
+
+        when:
+        def updated = transactionOperations.executeWrite {
+            def loaded = itemRepository.findAllByIdInList(items*.id).sort { it.name }
+            loaded[0].name = "a2"
+            loaded[1].quantity = 2
+            loaded[2].name = "c2"
+            itemRepository.updateAll(loaded)
+        }
+
+        then:"The updated entities keep their order"
+        updated*.name == ["a2", "b", "c2"]
+        itemRepository.findAllByIdInList(items*.id).sort { it.name }.collect { [it.name, it.quantity] } == [["a2", 1], ["b", 2], ["c2", 1]]
+    }
+
+    void "test partial update increments and checks the version"() {
+        given:
+        def id = versionedItemRepository.save(new PartialUpdateVersionedItem(name: "a", quantity: 1)).id
+
+        when:
+        def updated = transactionOperations.executeWrite {
+            def item = versionedItemRepository.findById(id).get()
+            item.name = "b"
+            versionedItemRepository.update(item)
+        }
+
+        then:
+        updated.version == 1
+        versionedItemRepository.findById(id).get().version == 1
+
+        when:"The stale entity is updated"
+        transactionOperations.executeWrite {
+            def item = versionedItemRepository.findById(id).get()
+            item.version = 0
+            item.quantity = 2
+            versionedItemRepository.update(item)
+        }
+
+        then:
+        thrown(OptimisticLockException)
+    }
+
+    void "test the snapshot of the deleted entity is not used by the entity inserted with the same identity"() {
+        given:
+        assignedItemRepository.save(new PartialUpdateAssignedItem(code: "x", name: "a", quantity: 1))
+
+        when:
+        transactionOperations.executeWrite {
+            assignedItemRepository.delete(assignedItemRepository.findById("x").get())
+            def item = assignedItemRepository.save(new PartialUpdateAssignedItem(code: "x", name: "a", quantity: 5))
+            item.quantity = 1
+            assignedItemRepository.update(item)
+        }
+
+        then:
+        assignedItemRepository.findById("x").get().quantity == 1
+    }
+
+    void "test update of the entity tracking its changes"() {
+        given:
+        def item = trackedItemRepository.save(new PartialUpdateTrackedItem(name: "a", quantity: 1))
+
+        when:
+        trackedItemRepository.updateQuantity(item.id, 10)
+        item.changeName("b")
+        trackedItemRepository.update(item)
+        item = trackedItemRepository.findById(item.id).get()
+
+        then:
+        item.name == "b"
+        item.quantity == 10
+    }
+}
+
+@JdbcPartialUpdate
+@MappedEntity
+class PartialUpdateItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    int quantity
+}
+
+@JdbcPartialUpdate
+@MappedEntity
+class PartialUpdateVersionedItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    int quantity
+    @Version
+    Long version
+}
+
+@JdbcPartialUpdate
+@MappedEntity
+class PartialUpdateTrackedItem implements ChangeTrackedEntity {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    int quantity
+    private Set<String> changes = new HashSet<>()
+
+    void changeName(String name) {
+        this.name = name
+        changes.add("name")
+    }
+
+    @Override
+    Set<String> changedProperties() {
+        return changes
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface PartialUpdateItemRepository extends CrudRepository<PartialUpdateItem, Long> {
+
+    List<PartialUpdateItem> findAllByIdInList(List<Long> ids)
+
+    void updateQuantity(@Id Long id, int quantity)
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface PartialUpdateVersionedItemRepository extends CrudRepository<PartialUpdateVersionedItem, Long> {
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface PartialUpdateTrackedItemRepository extends CrudRepository<PartialUpdateTrackedItem, Long> {
+
+    void updateQuantity(@Id Long id, int quantity)
+}
+
+@JdbcPartialUpdate
+@MappedEntity
+class PartialUpdateAssignedItem {
+    @Id
+    String code
+    String name
+    int quantity
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface PartialUpdateAssignedItemRepository extends CrudRepository<PartialUpdateAssignedItem, String> {
+}
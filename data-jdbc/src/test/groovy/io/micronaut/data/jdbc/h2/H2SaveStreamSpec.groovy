@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.annotation.ChunkSize
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.event.PrePersist
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.util.function.Consumer
+import java.util.stream.IntStream
+import java.util.stream.Stream
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+class H2SaveStreamSpec extends Specification {
+
+    @Inject
+    StreamItemRepository itemRepository
+
+    void cleanup() {
+        itemRepository.deleteAll()
+    }
+
+    void "test save a stream of entities"() {
+        when:
+        def count = itemRepository.insertAll(IntStream.range(0, 2500).mapToObj { new StreamItem(name: "item" + it) })
+
+        then:
+        count == 2500
+        itemRepository.count() == 2500
+    }
+
+    void "test save a stream of entities in chunks"() {
+        given:
+        def chunks = []
+        def closed = false
+
+        when:
+        def stream = Stream.of("a", "b", "c", "d", "e").map { new StreamItem(name: it) }.onClose { closed = true }
+        itemRepository.saveAll(stream, { List<StreamItem> chunk -> chunks << chunk.collect { it.name + it.id } } as Consumer)
+
+        then:
+        closed
+        chunks.size() == 3
+        chunks*.size() == [2, 2, 1]
+        chunks.flatten().every { !it.endsWith("null") }
+        itemRepository.findAll()*.prePersisted.every()
+    }
+
+    void "test an empty stream"() {
+        expect:
+        itemRepository.insertAll(Stream.empty()) == 0
+    }
+}
+
+@MappedEntity
+class StreamItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    boolean prePersisted
+
+    @PrePersist
+    void prePersist() {
+        prePersisted = true
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface StreamItemRepository extends CrudRepository<StreamItem, Long> {
+
+    long insertAll(Stream<StreamItem> items)
+
+    @ChunkSize(2)
+    void saveAll(Stream<StreamItem> items, Consumer<List<StreamItem>> callback)
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Index
+import io.micronaut.data.annotation.Indexes
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2
+import io.micronaut.data.model.runtime.RuntimePersistentEntity
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+class H2UpsertSpec extends Specification {
+
+    @Inject
+    H2UpsertBookRepository bookRepository
+
+    @Inject
+    H2UpsertProductRepository productRepository
+
+    void cleanup() {
+        bookRepository.deleteAll()
+        productRepository.deleteAll()
+    }
+
+    void "test upsert by the assigned identity"() {
+        when:
+        bookRepository.upsertAll([new H2UpsertBook(isbn: "1", title: "A"), new H2UpsertBook(isbn: "2", title: "B")])
+        bookRepository.upsertAll([new H2UpsertBook(isbn: "2", title: "B2"), new H2UpsertBook(isbn: "3", title: "C")])
+        def single = bookRepository.upsert(new H2UpsertBook(isbn: "1", title: "A2"))
+
+        then:
+        single.title == "A2"
+        bookRepository.count() == 3
+        bookRepository.findAll().collectEntries { [it.isbn, it.title] } == ["1": "A2", "2": "B2", "3": "C"]
+    }
+
+    void "test upsert by the unique index"() {
+        when:
+        productRepository.upsertAll([new H2UpsertProduct(sku: "a", quantity: 1), new H2UpsertProduct(sku: "b", quantity: 1)])
+        productRepository.upsertAll([new H2UpsertProduct(sku: "b", quantity: 5), new H2UpsertProduct(sku: "c", quantity: 1)])
+
+        then:
+        productRepository.count() == 3
+        productRepository.findAll().collectEntries { [it.sku, it.quantity] } == ["a": 1, "b": 5, "c": 1]
+    }
+
+    void "test upsert by the escaped unique index columns"() {
+        when:
+        def query = new SqlQueryBuilder2(Dialect.H2)
+                .buildUpsert(AnnotationMetadata.EMPTY_METADATA, new RuntimePersistentEntity(H2UpsertProduct))
+                .query
+
+        then:
+        query.contains("KEY (\"sku\")")
+    }
+}
+
+@MappedEntity
+class H2UpsertBook {
+    @Id
+    String isbn
+    String title
+}
+
+@MappedEntity
+@Indexes(@Index(columns = "sku", unique = true))
+class H2UpsertProduct {
+    @Id
+    @GeneratedValue
+    Long id
+    String sku
+    int quantity
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface H2UpsertBookRepository extends CrudRepository<H2UpsertBook, String> {
+
+    H2UpsertBook upsert(H2UpsertBook book)
+
+    void upsertAll(List<H2UpsertBook> books)
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface H2UpsertProductRepository extends CrudRepository<H2UpsertProduct, Long> {
+
+    void upsertAll(List<H2UpsertProduct> products)
+}
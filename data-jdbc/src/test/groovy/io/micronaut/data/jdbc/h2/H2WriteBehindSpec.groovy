@@ -0,0 +1,261 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.annotation.event.PrePersist
+import io.micronaut.data.annotation.event.PreUpdate
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.TransactionDefinition
+import io.micronaut.transaction.TransactionOperations
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.sql.Connection
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+@Property(name = "datasources.default.write-behind", value = "true")
+class H2WriteBehindSpec extends Specification {
+
+    @Inject
+    WriteBehindItemRepository itemRepository
+
+    @Inject
+    WriteBehindEventItemRepository eventItemRepository
+
+    @Inject
+    WriteBehindCounterRepository counterRepository
+
+    @Inject
+    TransactionOperations<Connection> transactionOperations
+
+    void cleanup() {
+        itemRepository.deleteAll()
+        eventItemRepository.deleteAll()
+        counterRepository.deleteAll()
+    }
+
+    void "test inserts are deferred until a query touching the table"() {
+        when:
+        def result = transactionOperations.executeWrite {
+            ["a", "b", "c"].each { itemRepository.save(new WriteBehindItem(id: it, name: it)) }
+            [countRows("write_behind_item"), itemRepository.count()]
+        }
+
+        then:
+        result == [0L, 3L]
+        itemRepository.count() == 3
+    }
+
+    void "test deferred writes are flushed before the commit"() {
+        when:
+        transactionOperations.executeWrite {
+            def items = ["a", "b"].collect { itemRepository.save(new WriteBehindItem(id: it, name: it)) }
+            items[0].name = "a2"
+            itemRepository.update(items[0])
+            items[0].name = "a3"
+            itemRepository.update(items[0])
+            itemRepository.delete(items[1])
+        }
+
+        then:
+        itemRepository.findById("a").get().name == "a3"
+        !itemRepository.existsById("b")
+    }
+
+    void "test repeated updates are coalesced"() {
+        given:
+        def item = itemRepository.save(new WriteBehindItem(id: "a", name: "a"))
+
+        when:
+        def deferredName = transactionOperations.executeWrite {
+            3.times {
+                item.name = "a" + it
+                itemRepository.update(item)
+            }
+            selectName("a")
+        }
+
+        then:
+        deferredName == "a"
+        itemRepository.findById("a").get().name == "a2"
+    }
+
+    void "test deletes are not deferred"() {
+        given:
+        def item = itemRepository.save(new WriteBehindItem(id: "a", name: "a"))
+
+        when:
+        def rows = transactionOperations.executeWrite {
+            itemRepository.delete(item)
+            countRows("write_behind_item")
+        }
+
+        then:
+        rows == 0
+        itemRepository.count() == 0
+    }
+
+    void "test writes of the entities populated by the event listeners are not deferred"() {
+        when:
+        def result = transactionOperations.executeWrite {
+            def item = eventItemRepository.save(new WriteBehindEventItem(id: "a", name: "a"))
+            def inserted = [item.prePersisted, item.version, countRows("write_behind_event_item")]
+            item.name = "a2"
+            eventItemRepository.update(item)
+            inserted + [item.preUpdated, item.version]
+        }
+
+        then:"The returned instance is populated by the listeners"
+        result == [true, 0L, 1L, true, 1L]
+        eventItemRepository.findById("a").get().name == "a2"
+    }
+
+    void "test deferred writes are discarded on rollback"() {
+        when:
+        transactionOperations.executeWrite {
+            itemRepository.save(new WriteBehindItem(id: "a", name: "a"))
+            throw new IllegalStateException("rollback")
+        }
+
+        then:
+        thrown(IllegalStateException)
+        itemRepository.count() == 0
+    }
+
+    void "test deferred writes are flushed before an update of another table"() {
+        given:
+        counterRepository.save(new WriteBehindCounter(id: "c", total: 0))
+
+        when:
+        def rows = transactionOperations.executeWrite {
+            itemRepository.save(new WriteBehindItem(id: "a", name: "a"))
+            def deferred = countRows("write_behind_item")
+            counterRepository.updateTotal("c", 1)
+            [deferred, countRows("write_behind_item")]
+        }
+
+        then:
+        rows == [0L, 1L]
+        itemRepository.count() == 1
+        counterRepository.findById("c").get().total == 1
+    }
+
+    void "test deferred writes are not rolled back with a nested transaction"() {
+        given:
+        def nested = TransactionDefinition.of(TransactionDefinition.Propagation.NESTED)
+
+        when:
+        transactionOperations.execute(nested) {
+            itemRepository.save(new WriteBehindItem(id: "a", name: "a"))
+            try {
+                transactionOperations.execute(nested) {
+                    itemRepository.save(new WriteBehindItem(id: "b", name: "b"))
+                    throw new IllegalStateException("rollback")
+                }
+            } catch (IllegalStateException ignored) {
+            }
+            itemRepository.save(new WriteBehindItem(id: "c", name: "c"))
+        }
+
+        then:"The writes of the nested transaction are not deferred past its savepoint"
+        itemRepository.findAll()*.id.sort() == ["a", "c"]
+    }
+
+    void "test writes outside of a transaction are executed immediately"() {
+        when:
+        itemRepository.save(new WriteBehindItem(id: "a", name: "a"))
+
+        then:
+        itemRepository.count() == 1
+    }
+
+    /**
+     * Reads the table of the transaction connection bypassing the repository operations, which flush the deferred writes.
+     */
+    private long countRows(String table) {
+        transactionOperations.connection.createStatement().withCloseable {
+            def resultSet = it.executeQuery("SELECT COUNT(*) FROM \"" + table + "\"")
+            resultSet.next()
+            resultSet.getLong(1)
+        }
+    }
+
+    private String selectName(String id) {
+        transactionOperations.connection.prepareStatement("SELECT \"name\" FROM \"write_behind_item\" WHERE \"id\" = ?").withCloseable {
+            it.setString(1, id)
+            def resultSet = it.executeQuery()
+            resultSet.next()
+            resultSet.getString(1)
+        }
+    }
+}
+
+@MappedEntity
+class WriteBehindItem {
+    @Id
+    String id
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface WriteBehindItemRepository extends CrudRepository<WriteBehindItem, String> {
+}
+
+@MappedEntity
+class WriteBehindEventItem {
+    @Id
+    String id
+    String name
+    @Version
+    Long version
+    boolean prePersisted
+    boolean preUpdated
+
+    @PrePersist
+    void prePersist() {
+        prePersisted = true
+    }
+
+    @PreUpdate
+    void preUpdate() {
+        preUpdated = true
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface WriteBehindEventItemRepository extends CrudRepository<WriteBehindEventItem, String> {
+}
+
+@MappedEntity
+class WriteBehindCounter {
+    @Id
+    String id
+    int total
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface WriteBehindCounterRepository extends CrudRepository<WriteBehindCounter, String> {
+
+    void updateTotal(@Id String id, int total)
+}
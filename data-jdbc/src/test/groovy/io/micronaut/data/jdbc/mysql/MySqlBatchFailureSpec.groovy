@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.mysql
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Index
+import io.micronaut.data.annotation.Indexes
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.exceptions.DataAccessException
+import io.micronaut.data.jdbc.annotation.JdbcIsolateBatchFailures
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.runtime.JdbcBatchFailureHandler
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.transaction.TransactionOperations
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+
+class MySqlBatchFailureSpec extends Specification implements MySQLTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(properties)
+
+    @Shared
+    MySqlBatchFailureItemRepository itemRepository = applicationContext.getBean(MySqlBatchFailureItemRepository)
+
+    @Shared
+    MySqlBatchFailureCollector collector = applicationContext.getBean(MySqlBatchFailureCollector)
+
+    @Shared
+    TransactionOperations<Connection> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    def cleanup() {
+        itemRepository.deleteAll()
+        collector.failures.clear()
+    }
+
+    void "test failing entities with generated identities are isolated from the insert"() {
+        when:"The generated identities cannot be batched, the entities are inserted one by one"
+        def saved = itemRepository.saveAll(["a", "b", "a", "c"].collect { new MySqlBatchFailureItem(code: it) })
+
+        then:
+        saved*.code == ["a", "b", "c"]
+        saved.every { it.id != null }
+        collector.failures.keySet()*.code == ["a"]
+        itemRepository.findAll()*.code.sort() == ["a", "b", "c"]
+    }
+
+    void "test failing entities with generated identities are isolated from the insert in a transaction"() {
+        when:
+        def saved = transactionOperations.executeWrite {
+            itemRepository.saveAll(["a", "a", "b"].collect { new MySqlBatchFailureItem(code: it) })
+        }
+
+        then:
+        saved*.code == ["a", "b"]
+        collector.failures.size() == 1
+        itemRepository.findAll()*.code.sort() == ["a", "b"]
+    }
+}
+
+@Singleton
+class MySqlBatchFailureCollector implements JdbcBatchFailureHandler {
+
+    final Map<Object, DataAccessException> failures = Collections.synchronizedMap(new LinkedHashMap<>())
+
+    @Override
+    void onFailure(Object entity, DataAccessException cause) {
+        failures.put(entity, cause)
+    }
+}
+
+@Indexes(@Index(columns = "code", unique = true))
+@MappedEntity
+class MySqlBatchFailureItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String code
+}
+
+@JdbcIsolateBatchFailures(MySqlBatchFailureCollector)
+@JdbcRepository(dialect = Dialect.MYSQL)
+interface MySqlBatchFailureItemRepository extends CrudRepository<MySqlBatchFailureItem, Long> {
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.mysql.pooled
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.exceptions.DataAccessException
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.mysql.MySQLTestPropertyProvider
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.data.runtime.config.SchemaGenerate
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class MySqlPooledSequenceSpec extends Specification implements MySQLTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(properties)
+
+    @Shared
+    MySqlPooledSequenceRepo repository = applicationContext.getBean(MySqlPooledSequenceRepo)
+
+    @Override
+    SchemaGenerate schemaGenerate() {
+        // MySQL cannot create the sequence
+        return SchemaGenerate.NONE
+    }
+
+    @Override
+    List<String> packages() {
+        return [getClass().package.name]
+    }
+
+    void "test pooled sequence identities are rejected"() {
+        when:
+        repository.saveAll([new MySqlPooledSequenceEntity(name: "a"), new MySqlPooledSequenceEntity(name: "b")])
+
+        then:
+        def e = thrown(DataAccessException)
+        e.message.contains("Dialect MYSQL doesn't support sequences")
+
+        when:
+        repository.save(new MySqlPooledSequenceEntity(name: "single"))
+
+        then:
+        e = thrown(DataAccessException)
+        e.message.contains("allocationSize 10")
+    }
+}
+
+@MappedEntity
+class MySqlPooledSequenceEntity {
+
+    @GeneratedValue(value = GeneratedValue.Type.SEQUENCE, allocationSize = 10)
+    @Id
+    Long id
+
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.MYSQL)
+interface MySqlPooledSequenceRepo extends CrudRepository<MySqlPooledSequenceEntity, Long> {}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.postgres
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.jdbc.annotation.JdbcBulkUpdate
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class PostgresBulkUpdateSpec extends Specification implements PostgresTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(properties)
+
+    @Shared
+    PostgresBulkUpdateItemRepository itemRepository = applicationContext.getBean(PostgresBulkUpdateItemRepository)
+
+    @Shared
+    PostgresBulkUpdateVersionedItemRepository versionedItemRepository = applicationContext.getBean(PostgresBulkUpdateVersionedItemRepository)
+
+    def cleanup() {
+        itemRepository.deleteAll()
+        versionedItemRepository.deleteAll()
+    }
+
+    void "test bulk update of the entities split into chunks"() {
+        given:
+        def items = itemRepository.saveAll((1..5).collect { new PostgresBulkUpdateItem(name: "item" + it, quantity: it) })
+
+        when:"The typed values of the rows are cast in the values list"
+        items.each {
+            it.quantity *= 10
+            it.released = LocalDate.of(2026, 1, it.quantity.intdiv(10))
+        }
+        itemRepository.updateAll(items)
+
+        then:
+        itemRepository.findAll().sort { it.name }.collect { [it.quantity, it.released] } ==
+            (1..5).collect { [it * 10, LocalDate.of(2026, 1, it)] }
+    }
+
+    void "test bulk update of the entities with duplicate identities"() {
+        given:
+        def item = itemRepository.save(new PostgresBulkUpdateItem(name: "a", quantity: 1))
+
+        when:
+        itemRepository.updateAll([new PostgresBulkUpdateItem(id: item.id, name: "a", quantity: 2), new PostgresBulkUpdateItem(id: item.id, name: "a", quantity: 3)])
+
+        then:
+        itemRepository.findById(item.id).get().quantity == 3
+    }
+
+    void "test bulk update increments and checks the versions"() {
+        given:
+        def items = versionedItemRepository.saveAll((1..3).collect { new PostgresBulkUpdateVersionedItem(name: "item" + it, quantity: it) })
+
+        when:
+        items.each { it.quantity++ }
+        def updated = versionedItemRepository.updateAll(items)
+
+        then:
+        updated*.version == [1L, 1L, 1L]
+        versionedItemRepository.findAll()*.version == [1L, 1L, 1L]
+
+        when:"One of the entities is stale"
+        def stale = versionedItemRepository.findAll().sort { it.name }
+        stale[1].version = 0
+        stale.each { it.quantity++ }
+        versionedItemRepository.updateAll(stale)
+
+        then:
+        thrown(OptimisticLockException)
+    }
+}
+
+@MappedEntity
+class PostgresBulkUpdateItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    int quantity
+    LocalDate released
+}
+
+@MappedEntity
+class PostgresBulkUpdateVersionedItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    int quantity
+    @Version
+    Long version
+}
+
+@JdbcBulkUpdate(chunkSize = 2)
+@JdbcRepository(dialect = Dialect.POSTGRES)
+interface PostgresBulkUpdateItemRepository extends CrudRepository<PostgresBulkUpdateItem, Long> {
+}
+
+@JdbcBulkUpdate
+@JdbcRepository(dialect = Dialect.POSTGRES)
+interface PostgresBulkUpdateVersionedItemRepository extends CrudRepository<PostgresBulkUpdateVersionedItem, Long> {
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.postgres
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.transaction.SynchronousTransactionManager
+import io.micronaut.transaction.TransactionStatus
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+
+class PostgresPooledSequenceSpec extends Specification implements PostgresTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(properties)
+
+    @Shared
+    TestPooledSequenceRepo repository = applicationContext.getBean(TestPooledSequenceRepo)
+
+    @Shared
+    SynchronousTransactionManager<Connection> transactionManager = applicationContext.getBean(SynchronousTransactionManager)
+
+    void "test pooled sequence identities"() {
+        when:
+        def saved = repository.saveAll((1..25).collect { new TestPooledSequenceId(name: "name" + it) })
+        def single = repository.save(new TestPooledSequenceId(name: "single"))
+
+        then:
+        saved*.id == (1L..25L).toList()
+        single.id == 26L
+        repository.findById(26L).get().name == "single"
+        lastSequenceValue() == 21L
+    }
+
+    private long lastSequenceValue() {
+        transactionManager.executeRead({ TransactionStatus<Connection> status ->
+            status.connection.prepareStatement("select last_value from test_pooled_sequence_id_seq").withCloseable { ps ->
+                ps.executeQuery().withCloseable { rs ->
+                    rs.next()
+                    return rs.getLong(1)
+                }
+            }
+        })
+    }
+}
+
+@MappedEntity
+class TestPooledSequenceId {
+
+    @GeneratedValue(value = GeneratedValue.Type.SEQUENCE, allocationSize = 10)
+    @Id
+    Long id
+
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.POSTGRES)
+interface TestPooledSequenceRepo extends CrudRepository<TestPooledSequenceId, Long> {}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.postgres
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Index
+import io.micronaut.data.annotation.Indexes
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2
+import io.micronaut.data.model.runtime.RuntimePersistentEntity
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class PostgresUpsertSpec extends Specification implements PostgresTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(properties)
+
+    @Shared
+    UpsertBookRepository bookRepository = applicationContext.getBean(UpsertBookRepository)
+
+    @Shared
+    UpsertProductRepository productRepository = applicationContext.getBean(UpsertProductRepository)
+
+    def cleanup() {
+        bookRepository.deleteAll()
+        productRepository.deleteAll()
+    }
+
+    void "test upsert by the assigned identity"() {
+        when:
+        bookRepository.upsertAll([new UpsertBook(isbn: "1", title: "A"), new UpsertBook(isbn: "2", title: "B")])
+        bookRepository.upsertAll([new UpsertBook(isbn: "2", title: "B2"), new UpsertBook(isbn: "3", title: "C")])
+        def single = bookRepository.upsert(new UpsertBook(isbn: "1", title: "A2"))
+
+        then:
+        single.title == "A2"
+        bookRepository.count() == 3
+        bookRepository.findAll().collectEntries { [it.isbn, it.title] } == ["1": "A2", "2": "B2", "3": "C"]
+    }
+
+    void "test upsert by the unique index"() {
+        when:
+        def inserted = productRepository.upsertAll([new UpsertProduct(sku: "a", quantity: 1), new UpsertProduct(sku: "b", quantity: 1)])
+        def upserted = productRepository.upsertAll([new UpsertProduct(sku: "b", quantity: 5), new UpsertProduct(sku: "c", quantity: 1)])
+
+        then:
+        productRepository.count() == 3
+        upserted[0].id == inserted[1].id
+        upserted[1].id != null
+        productRepository.findById(inserted[1].id).get().quantity == 5
+    }
+
+    void "test upsert by the escaped unique index columns"() {
+        when:
+        def query = new SqlQueryBuilder2(Dialect.POSTGRES)
+                .buildUpsert(AnnotationMetadata.EMPTY_METADATA, new RuntimePersistentEntity(UpsertProduct))
+                .query
+
+        then:
+        query.contains("ON CONFLICT (\"sku\") DO UPDATE SET \"quantity\"=EXCLUDED.\"quantity\"")
+    }
+}
+
+@MappedEntity
+class UpsertBook {
+    @Id
+    String isbn
+    String title
+}
+
+@MappedEntity
+@Indexes(@Index(columns = "sku", unique = true))
+class UpsertProduct {
+    @Id
+    @GeneratedValue
+    Long id
+    String sku
+    int quantity
+}
+
+@JdbcRepository(dialect = Dialect.POSTGRES)
+interface UpsertBookRepository extends CrudRepository<UpsertBook, String> {
+
+    UpsertBook upsert(UpsertBook book)
+
+    void upsertAll(List<UpsertBook> books)
+}
+
+@JdbcRepository(dialect = Dialect.POSTGRES)
+interface UpsertProductRepository extends CrudRepository<UpsertProduct, Long> {
+
+    List<UpsertProduct> upsertAll(List<UpsertProduct> products)
+}
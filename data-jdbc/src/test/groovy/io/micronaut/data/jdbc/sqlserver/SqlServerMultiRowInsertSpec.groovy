@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.sqlserver
+
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+
+@MicronautTest(transactional = false)
+class SqlServerMultiRowInsertSpec extends Specification implements MSSQLTestPropertyProvider {
+
+    @Inject MultiRowItemRepository repository
+    @Inject DataSource dataSource
+
+    void cleanup() {
+        repository.deleteAll()
+    }
+
+    void "test the generated ids are assigned in the order of the entities"() {
+        given:
+            def items = (1..1200).collect { new MultiRowItem(name: "item-" + it) }
+
+        when:"The entities are inserted by more than one multi-row statement"
+            def saved = repository.saveAll(items)
+
+        then:
+            saved.size() == 1200
+            saved*.id.every { it != null }
+            saved*.id.toSet().size() == 1200
+            saved.every { repository.findById(it.id).get().name == it.name }
+    }
+
+    void "test the entities are inserted into a table with a trigger"() {
+        given:
+            dataSource.connection.withCloseable {
+                it.createStatement().withCloseable {
+                    it.execute("CREATE TRIGGER [multi_row_item_audit] ON [multi_row_item] AFTER INSERT AS BEGIN SET NOCOUNT ON; END")
+                }
+            }
+
+        when:
+            def saved = repository.saveAll([new MultiRowItem(name: "a"), new MultiRowItem(name: "b"), new MultiRowItem(name: "c")])
+
+        then:
+            saved*.id.every { it != null }
+            saved.collect { repository.findById(it.id).get().name } == ["a", "b", "c"]
+
+        cleanup:
+            dataSource.connection.withCloseable {
+                it.createStatement().withCloseable {
+                    it.execute("DROP TRIGGER [multi_row_item_audit]")
+                }
+            }
+    }
+}
+
+@MappedEntity
+class MultiRowItem {
+
+    @Id
+    @GeneratedValue
+    Long id
+
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.SQL_SERVER)
+interface MultiRowItemRepository extends CrudRepository<MultiRowItem, Long> {
+}
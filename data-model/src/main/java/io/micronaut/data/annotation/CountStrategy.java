@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import io.micronaut.core.annotation.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines how the total size of a {@link io.micronaut.data.model.Page} is computed by the find page methods.
+ *
+ * <p>By default, every page request that requires the total executes an exact count query.
+ * This annotation allows trading the exactness of the total for cheaper alternatives.</p>
+ *
+ * @since 4.12.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Documented
+@Inherited
+@Experimental
+public @interface CountStrategy {
+
+    /**
+     * @return The count strategy type
+     */
+    Type value() default Type.EXACT;
+
+    /**
+     * The time to live of the cached total, used by {@link Type#CACHED}.
+     *
+     * @return The duration string, for example {@code 10s}
+     */
+    String ttl() default "10s";
+
+    /**
+     * The maximum number of rows to be counted, used by {@link Type#AT_LEAST}.
+     *
+     * @return The limit
+     */
+    long limit() default 1000;
+
+    /**
+     * The count strategy type.
+     */
+    enum Type {
+        /**
+         * Execute the count query for every page.
+         */
+        EXACT,
+        /**
+         * Execute the count query and cache the result for the configured {@link #ttl()}.
+         * The result is cached per count query and its parameter values.
+         */
+        CACHED,
+        /**
+         * Read the estimated total from the database statistics.
+         * Falls back to the exact count if the estimate is not supported by the database or the query.
+         */
+        ESTIMATED,
+        /**
+         * Count up to the configured {@link #limit()} rows, the total is then the minimum of the actual count and the limit.
+         * Falls back to the exact count if the limited count is not supported by the database or the query.
+         */
+        AT_LEAST
+    }
+}
@@ -49,6 +49,16 @@ public @interface GeneratedValue {
      */
     String ref() default "";
 
+    /**
+     * In the case of sequence generators the number of identities allocated by a single call of the sequence.
+     * If greater than 1, the identities are assigned by the client from the pool of allocated values before the insert
+     * and the sequence must be incremented by the allocation size.
+     *
+     * @return The allocation size
+     * @since 4.12.0
+     */
+    int allocationSize() default 1;
+
     /**
      * The type of generation.
      */
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the identity of the entity by the client before it is inserted, without a database generated key.
+ * The time-ordered identities are appended to the end of the index, unlike the random UUIDs, and the entities can be inserted in a batch.
+ * The identity already set on the entity is not replaced.
+ *
+ * @since 4.12.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.FIELD})
+@Documented
+@AutoPopulated(updatable = false)
+public @interface IdGenerator {
+
+    /**
+     * @return The built-in generator
+     */
+    Type value() default Type.UUID_V7;
+
+    /**
+     * The bean implementing {@code io.micronaut.data.runtime.id.EntityIdGenerator} used instead of the built-in generator.
+     *
+     * @return The custom generator
+     */
+    Class<?> generator() default void.class;
+
+    /**
+     * The built-in generators.
+     */
+    enum Type {
+        /**
+         * The UUID version 7 with the millisecond timestamp, supports the {@link java.util.UUID} and {@link String} properties.
+         */
+        UUID_V7,
+        /**
+         * The 64-bit time-sorted identity composed of the millisecond timestamp, the node and the sequence,
+         * supports the {@link Long} properties.
+         */
+        TSID
+    }
+}
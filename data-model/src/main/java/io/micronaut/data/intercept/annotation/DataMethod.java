@@ -145,6 +145,12 @@ public @interface DataMethod {
      */
     String META_MEMBER_OPTIMISTIC_LOCK = "optimisticLock";
 
+    /**
+     * Does the query select the root entities only by the identity equal to or in the parameter.
+     * @since 4.12.0
+     */
+    String META_MEMBER_ID_LOOKUP = "idLookup";
+
     /**
      * The query builder to use.
      */
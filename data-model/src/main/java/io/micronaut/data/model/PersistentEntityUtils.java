@@ -18,7 +18,9 @@ package io.micronaut.data.model;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.naming.NameUtils;
+import io.micronaut.data.annotation.GeneratedValue;
 import io.micronaut.data.annotation.sql.JoinColumn;
 import io.micronaut.data.annotation.sql.JoinColumns;
 
@@ -44,6 +46,25 @@ public final class PersistentEntityUtils {
     private PersistentEntityUtils() {
     }
 
+    /**
+     * Returns the number of sequence values allocated by a single call of the sequence of the identity.
+     * The identity values of an allocation size greater than 1 are assigned by the client, see {@link GeneratedValue#allocationSize()}.
+     *
+     * @param identity The identity
+     * @return The allocation size or 1 if the identity is not generated by an explicit sequence
+     * @since 4.12.0
+     */
+    public static int getSequenceAllocationSize(@Nullable PersistentProperty identity) {
+        if (identity == null || !identity.isGenerated()) {
+            return 1;
+        }
+        AnnotationMetadata annotationMetadata = identity.getAnnotationMetadata();
+        if (annotationMetadata.enumValue(GeneratedValue.class, GeneratedValue.Type.class).orElse(null) != GeneratedValue.Type.SEQUENCE) {
+            return 1;
+        }
+        return Math.max(1, annotationMetadata.intValue(GeneratedValue.class, "allocationSize").orElse(1));
+    }
+
     /**
      * Check if the property is an association ID that can be accessed without join. In a case it's not an ID stored outside the associated table.
      * @param association The association
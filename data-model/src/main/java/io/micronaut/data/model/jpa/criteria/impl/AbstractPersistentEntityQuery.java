@@ -28,9 +28,12 @@ import io.micronaut.data.model.jpa.criteria.PersistentEntityCriteriaQuery;
 import io.micronaut.data.model.jpa.criteria.PersistentEntityQuery;
 import io.micronaut.data.model.jpa.criteria.PersistentEntityRoot;
 import io.micronaut.data.model.jpa.criteria.PersistentPropertyPath;
+import io.micronaut.data.model.jpa.criteria.impl.expression.IdExpression;
 import io.micronaut.data.model.jpa.criteria.impl.predicate.BinaryPredicate;
 import io.micronaut.data.model.jpa.criteria.impl.predicate.ConjunctionPredicate;
 import io.micronaut.data.model.jpa.criteria.impl.predicate.DisjunctionPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.InPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.PredicateBinaryOp;
 import io.micronaut.data.model.jpa.criteria.impl.selection.CompoundSelection;
 import io.micronaut.data.model.jpa.criteria.impl.util.Joiner;
 import io.micronaut.data.model.query.JoinPath;
@@ -41,6 +44,7 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.ParameterExpression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Selection;
@@ -369,6 +373,49 @@ public abstract class AbstractPersistentEntityQuery<T, Self extends PersistentEn
         return false;
     }
 
+    /**
+     * Is the query selecting the root entities only by the identity equal to or in a parameter.
+     * The query isn't ordered, limited or locked and can be executed as a lookup by the ids.
+     *
+     * @return true if the query is an id lookup
+     * @since 4.12.0
+     */
+    public final boolean isIdLookup() {
+        if (selection != null && selection != entityRoot) {
+            return false;
+        }
+        if (orders != null && !orders.isEmpty() || max != -1 || offset != 0 || forUpdate) {
+            return false;
+        }
+        Expression<?> restriction = predicate;
+        while (restriction instanceof ConjunctionPredicate conjunctionPredicate && conjunctionPredicate.getPredicates().size() == 1) {
+            restriction = conjunctionPredicate.getPredicates().iterator().next();
+        }
+        if (restriction instanceof BinaryPredicate binaryPredicate && binaryPredicate.getOp() == PredicateBinaryOp.EQUALS) {
+            return (isRootIdentity(binaryPredicate.getLeftExpression()) && binaryPredicate.getRightExpression() instanceof ParameterExpression<?>)
+                || (isRootIdentity(binaryPredicate.getRightExpression()) && binaryPredicate.getLeftExpression() instanceof ParameterExpression<?>);
+        }
+        if (restriction instanceof InPredicate<?> inPredicate) {
+            return isRootIdentity(inPredicate.getExpression())
+                && inPredicate.getValues().size() == 1
+                && inPredicate.getValues().get(0) instanceof ParameterExpression<?>;
+        }
+        return false;
+    }
+
+    private boolean isRootIdentity(Expression<?> expression) {
+        PersistentEntity persistentEntity = entityRoot.getPersistentEntity();
+        if (persistentEntity.hasCompositeIdentity()) {
+            return false;
+        }
+        if (expression instanceof IdExpression<?, ?>) {
+            return true;
+        }
+        return expression instanceof PersistentPropertyPath<?> pp
+            && pp.getAssociations().isEmpty()
+            && pp.getProperty() == persistentEntity.getIdentity();
+    }
+
     public final boolean hasVersionRestriction() {
         if (entityRoot.getPersistentEntity().getVersion() == null) {
             return false;
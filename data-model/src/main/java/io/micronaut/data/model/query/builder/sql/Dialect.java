@@ -213,4 +213,15 @@ public enum Dialect {
     public boolean supportsDeleteReturning() {
         return supportsDeleteReturning;
     }
+
+    /**
+     * Whether the dialect supports updating multiple rows with different values by one statement,
+     * joining the table with the rows of values.
+     *
+     * @return true if it does support
+     * @since 4.12.0
+     */
+    public boolean supportsBulkUpdate() {
+        return this != ANSI;
+    }
 }
@@ -45,6 +45,7 @@ import io.micronaut.data.model.JsonDataType;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Pageable.Mode;
 import io.micronaut.data.model.PersistentEntity;
+import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.PersistentPropertyPath;
 import io.micronaut.data.model.naming.NamingStrategy;
@@ -544,12 +545,12 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                     }
 
                     createSequenceStmt += " MINVALUE 1 START WITH 1";
+                    int allocationSize = PersistentEntityUtils.getSequenceAllocationSize(identity);
                     if (dialect == Dialect.ORACLE) {
                         createSequenceStmt += " CACHE 100 NOCYCLE";
-                    } else {
-                        if (isSqlServer) {
-                            createSequenceStmt += " INCREMENT BY 1";
-                        }
+                    }
+                    if (isSqlServer || allocationSize > 1) {
+                        createSequenceStmt += " INCREMENT BY " + allocationSize;
                     }
                     createStatements.add(createSequenceStmt);
                 }
@@ -1129,7 +1130,8 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                                 .flatMap(av -> av.enumValue(GeneratedValue.Type.class))
                                 .orElseGet(() -> selectAutoStrategy(property));
                             if (idGeneratorType == GeneratedValue.Type.SEQUENCE) {
-                                isSequence = true;
+                                // The pooled identities are assigned by the client and bound as a parameter
+                                isSequence = PersistentEntityUtils.getSequenceAllocationSize(property) == 1;
                             } else if (dialect != Dialect.MYSQL || property.getDataType() != DataType.UUID) {
                                 // Property skipped
                                 return;
@@ -25,6 +25,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.AutoPopulated;
 import io.micronaut.data.annotation.EntityRepresentation;
 import io.micronaut.data.annotation.GeneratedValue;
 import io.micronaut.data.annotation.Index;
@@ -255,6 +256,26 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
         return dropStatements.toArray(new String[0]);
     }
 
+    /**
+     * Builds the query selecting the next value of the sequence generating the identity of the entity.
+     *
+     * @param entity The entity
+     * @return The query
+     * @since 4.12.0
+     */
+    @NonNull
+    public String buildSelectNextSequenceValue(@NonNull PersistentEntity entity) {
+        PersistentProperty identity = entity.getIdentity();
+        if (identity == null) {
+            throw new IllegalArgumentException("Entity doesn't have an identity: " + entity.getName());
+        }
+        String sequenceStatement = getSequenceStatement(getUnescapedTableName(entity), identity);
+        if (dialect == Dialect.ORACLE) {
+            return "SELECT " + sequenceStatement + " FROM DUAL";
+        }
+        return "SELECT " + sequenceStatement;
+    }
+
     /**
      * Builds a join table insert statement for a given entity and association.
      *
@@ -524,12 +545,12 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
                     }
 
                     createSequenceStmt += " MINVALUE 1 START WITH 1";
+                    int allocationSize = PersistentEntityUtils.getSequenceAllocationSize(identity);
                     if (dialect == Dialect.ORACLE) {
                         createSequenceStmt += " CACHE 100 NOCYCLE";
-                    } else {
-                        if (isSqlServer) {
-                            createSequenceStmt += " INCREMENT BY 1";
-                        }
+                    }
+                    if (isSqlServer || allocationSize > 1) {
+                        createSequenceStmt += " INCREMENT BY " + allocationSize;
                     }
                     createStatements.add(createSequenceStmt);
                 }
@@ -804,6 +825,371 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
     @NonNull
     @Override
     public QueryResult buildInsert(AnnotationMetadata repositoryMetadata, InsertQueryDefinition definition) {
+        return buildInsert(repositoryMetadata, definition, false);
+    }
+
+    /**
+     * Builds an upsert statement for the given entity: an insert that updates the existing row on a conflict.
+     * The conflict target is the identity or, when the identity is generated by the database, the first unique {@link Index}.
+     *
+     * @param repositoryMetadata The repository annotation metadata
+     * @param entity             The entity
+     * @return The upsert statement
+     * @since 4.12.0
+     */
+    @NonNull
+    public QueryResult buildUpsert(AnnotationMetadata repositoryMetadata, PersistentEntity entity) {
+        if (isJsonEntity(repositoryMetadata, entity)) {
+            throw new IllegalStateException("Upsert is not supported for the JSON entity: " + entity.getName());
+        }
+        return buildInsert(repositoryMetadata, new InsertQueryDefinitionImpl(entity), true);
+    }
+
+    /**
+     * Builds an update statement of the given properties of the entity.
+     * The row is matched by the identity and, if the entity is versioned, by the previous version, which is also incremented.
+     *
+     * @param repositoryMetadata The repository annotation metadata
+     * @param entity             The entity
+     * @param propertyNames      The names of the updated persistent properties
+     * @return The update statement
+     * @since 4.12.0
+     */
+    @NonNull
+    public QueryResult buildPartialUpdate(AnnotationMetadata repositoryMetadata, PersistentEntity entity, Collection<String> propertyNames) {
+        if (isJsonEntity(repositoryMetadata, entity)) {
+            throw new IllegalStateException("Partial update is not supported for the JSON entity: " + entity.getName());
+        }
+        boolean escape = shouldEscape(entity);
+        NamingStrategy namingStrategy = getNamingStrategy(entity);
+        List<String> values = new ArrayList<>();
+        List<String> assignments = new ArrayList<>();
+        List<QueryParameterBinding> parameterBindings = new ArrayList<>();
+        BiConsumer<List<Association>, PersistentProperty> assignment = (associations, property) -> {
+            addWriteExpression(values, property);
+            parameterBindings.add(newEntityPropertyBinding(values.size(), asStringPath(associations, property), property, false));
+            assignments.add(getMappedColumn(namingStrategy, escape, associations, property) + "=" + values.get(values.size() - 1));
+        };
+        for (String propertyName : propertyNames) {
+            PersistentProperty property = entity.getPropertyByName(propertyName);
+            if (property == null) {
+                throw new MappingException("Entity " + entity.getName() + " has no persistent property: " + propertyName);
+            }
+            PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), property, assignment);
+        }
+        PersistentProperty version = entity.getVersion();
+        boolean versioned = version != null && !version.isGenerated();
+        if (versioned) {
+            assignment.accept(Collections.emptyList(), version);
+        }
+        List<String> conditions = new ArrayList<>();
+        for (PersistentProperty identity : entity.getIdentityProperties()) {
+            PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), identity, (associations, property) -> {
+                if (assignments.isEmpty()) {
+                    // Nothing to update, set the identity to itself to keep the statement valid
+                    String column = getMappedColumn(namingStrategy, escape, associations, property);
+                    assignments.add(column + "=" + column);
+                }
+                values.add(formatParameter(values.size() + 1).name());
+                parameterBindings.add(newEntityPropertyBinding(values.size(), asStringPath(associations, property), property, false));
+                conditions.add(getMappedColumn(namingStrategy, escape, associations, property) + "=" + values.get(values.size() - 1));
+            });
+        }
+        if (versioned) {
+            values.add(formatParameter(values.size() + 1).name());
+            parameterBindings.add(newEntityPropertyBinding(values.size(), new String[]{version.getName()}, version, true));
+            conditions.add(getMappedColumn(namingStrategy, escape, Collections.emptyList(), version) + "=" + values.get(values.size() - 1));
+        }
+        String query = "UPDATE " + getTableName(entity) + " SET " + String.join(",", assignments)
+            + " WHERE (" + String.join(" AND ", conditions) + CLOSE_BRACKET;
+        return QueryResult.of(
+            query,
+            Collections.emptyList(),
+            parameterBindings,
+            Collections.emptyMap()
+        );
+    }
+
+    /**
+     * Builds a statement updating the given number of entities at once, joining the table with the rows of the values.
+     * The parameter bindings are the bindings of one row, repeated for each row.
+     * The rows are matched by the identity and, if the entity is versioned, by the previous version, which is also incremented.
+     *
+     * @param repositoryMetadata The repository annotation metadata
+     * @param entity             The entity
+     * @param rows               The number of the rows
+     * @return The bulk update statement
+     * @since 4.12.0
+     */
+    @NonNull
+    public QueryResult buildBulkUpdate(AnnotationMetadata repositoryMetadata, PersistentEntity entity, int rows) {
+        if (isJsonEntity(repositoryMetadata, entity)) {
+            throw new IllegalStateException("Bulk update is not supported for the JSON entity: " + entity.getName());
+        }
+        if (!dialect.supportsBulkUpdate()) {
+            throw new IllegalStateException("Dialect: " + dialect + " doesn't support bulk update");
+        }
+        if (rows < 1) {
+            throw new IllegalArgumentException("The number of the rows must be positive: " + rows);
+        }
+        boolean escape = shouldEscape(entity);
+        NamingStrategy namingStrategy = getNamingStrategy(entity);
+        // The columns of a row: identity columns, updated columns, the new version and the previous version
+        List<Map.Entry<String, PersistentProperty>> rowColumns = new ArrayList<>();
+        List<QueryParameterBinding> parameterBindings = new ArrayList<>();
+        BiConsumer<List<Association>, PersistentProperty> column = (associations, property) -> {
+            rowColumns.add(Map.entry(getMappedColumn(namingStrategy, escape, associations, property), property));
+            parameterBindings.add(newEntityPropertyBinding(rowColumns.size(), asStringPath(associations, property), property, false));
+        };
+        for (PersistentProperty identity : entity.getIdentityProperties()) {
+            PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), identity, column);
+        }
+        int identityColumns = rowColumns.size();
+        for (PersistentProperty property : entity.getPersistentProperties()) {
+            if (!(property instanceof Association association && association.isForeignKey()) && !property.isGenerated()
+                && property.getAnnotationMetadata().booleanValue(AutoPopulated.class, AutoPopulated.UPDATABLE).orElse(true)) {
+                PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), property, column);
+            }
+        }
+        PersistentProperty version = entity.getVersion();
+        boolean versioned = version != null && !version.isGenerated();
+        if (versioned) {
+            column.accept(Collections.emptyList(), version);
+            rowColumns.add(Map.entry(getMappedColumn(namingStrategy, escape, Collections.emptyList(), version), version));
+            parameterBindings.add(newEntityPropertyBinding(rowColumns.size(), new String[]{version.getName()}, version, true));
+        }
+        int updatedColumns = rowColumns.size() - (versioned ? 1 : 0);
+        if (updatedColumns == identityColumns) {
+            throw new IllegalStateException("Bulk update requires an updatable property of the entity: " + entity.getName());
+        }
+        boolean isValues = dialect == Dialect.POSTGRES || dialect == Dialect.SQL_SERVER || dialect == Dialect.H2;
+        List<String> values = new ArrayList<>();
+        StringBuilder source = new StringBuilder(isValues ? "(VALUES " : "(");
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                source.append(isValues ? "," : " UNION ALL ");
+            }
+            source.append(isValues ? "(" : "SELECT ");
+            for (int i = 0; i < rowColumns.size(); i++) {
+                if (i > 0) {
+                    source.append(',');
+                }
+                PersistentProperty property = rowColumns.get(i).getValue();
+                boolean isPreviousVersion = versioned && i == rowColumns.size() - 1;
+                if (isPreviousVersion) {
+                    values.add(formatParameter(values.size() + 1).name());
+                } else {
+                    addWriteExpression(values, property);
+                }
+                String value = values.get(values.size() - 1);
+                String castType = value.equals(formatParameter(values.size()).name()) ? getBulkUpdateCastType(property.getDataType()) : null;
+                source.append(castType == null ? value : "CAST(" + value + " AS " + castType + ")");
+                if (!isValues && row == 0) {
+                    source.append(" c").append(i + 1);
+                }
+            }
+            source.append(isValues ? ")" : "");
+            if (dialect == Dialect.ORACLE) {
+                source.append(" FROM DUAL");
+            }
+        }
+        source.append(") v_");
+        if (isValues) {
+            source.append(IntStream.rangeClosed(1, rowColumns.size()).mapToObj(i -> "c" + i).collect(Collectors.joining(",", "(", ")")));
+        }
+        boolean qualifySet = dialect == Dialect.MYSQL || dialect == Dialect.SQL_SERVER;
+        List<String> assignments = new ArrayList<>();
+        for (int i = identityColumns; i < updatedColumns; i++) {
+            assignments.add((qualifySet ? "t_." : "") + rowColumns.get(i).getKey() + "=v_.c" + (i + 1));
+        }
+        List<String> identityConditions = new ArrayList<>();
+        for (int i = 0; i < identityColumns; i++) {
+            identityConditions.add("t_." + rowColumns.get(i).getKey() + "=v_.c" + (i + 1));
+        }
+        String join = String.join(" AND ", identityConditions);
+        String versionCondition = versioned ? "t_." + rowColumns.get(rowColumns.size() - 1).getKey() + "=v_.c" + rowColumns.size() : null;
+        String set = String.join(",", assignments);
+        String table = getTableName(entity);
+        String query = switch (dialect) {
+            case POSTGRES -> "UPDATE " + table + " t_ SET " + set + " FROM " + source
+                + " WHERE " + join + (versioned ? " AND " + versionCondition : "");
+            case SQL_SERVER -> "UPDATE t_ SET " + set + " FROM " + table + " t_ INNER JOIN " + source
+                + " ON " + join + (versioned ? " AND " + versionCondition : "");
+            case MYSQL -> "UPDATE " + table + " t_ INNER JOIN " + source
+                + " ON " + join + (versioned ? " AND " + versionCondition : "") + " SET " + set;
+            // Oracle cannot update the columns referenced in the ON clause
+            case ORACLE -> "MERGE INTO " + table + " t_ USING " + source + " ON (" + join + ") WHEN MATCHED THEN UPDATE SET " + set
+                + (versioned ? " WHERE " + versionCondition : "");
+            default -> "MERGE INTO " + table + " t_ USING " + source + " ON (" + join + ") WHEN MATCHED"
+                + (versioned ? " AND " + versionCondition : "") + " THEN UPDATE SET " + set;
+        };
+        return QueryResult.of(
+            query,
+            Collections.emptyList(),
+            parameterBindings,
+            Collections.emptyMap()
+        );
+    }
+
+    /**
+     * Builds a statement deleting the given number of entities at once by the list of the identities.
+     * The parameter bindings are the bindings of one row, repeated for each row.
+     * The composite identity and, if the entity is versioned, the version are matched as the row values
+     * or by the {@code OR} groups if the dialect doesn't support the row values in the {@code IN} list.
+     *
+     * @param repositoryMetadata The repository annotation metadata
+     * @param entity             The entity
+     * @param rows               The number of the rows
+     * @return The bulk delete statement
+     * @since 4.12.0
+     */
+    @NonNull
+    public QueryResult buildBulkDelete(AnnotationMetadata repositoryMetadata, PersistentEntity entity, int rows) {
+        if (isJsonEntity(repositoryMetadata, entity)) {
+            throw new IllegalStateException("Bulk delete is not supported for the JSON entity: " + entity.getName());
+        }
+        if (rows < 1) {
+            throw new IllegalArgumentException("The number of the rows must be positive: " + rows);
+        }
+        boolean escape = shouldEscape(entity);
+        NamingStrategy namingStrategy = getNamingStrategy(entity);
+        List<String> columns = new ArrayList<>();
+        List<QueryParameterBinding> parameterBindings = new ArrayList<>();
+        BiConsumer<List<Association>, PersistentProperty> column = (associations, property) -> {
+            columns.add(getMappedColumn(namingStrategy, escape, associations, property));
+            parameterBindings.add(newEntityPropertyBinding(columns.size(), asStringPath(associations, property), property, false));
+        };
+        for (PersistentProperty identity : entity.getIdentityProperties()) {
+            PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), identity, column);
+        }
+        if (columns.isEmpty()) {
+            throw new IllegalStateException("Bulk delete requires the identity of the entity: " + entity.getName());
+        }
+        PersistentProperty version = entity.getVersion();
+        if (version != null && !version.isGenerated()) {
+            column.accept(Collections.emptyList(), version);
+        }
+        // SQL Server doesn't support the row values in the IN list
+        boolean orGroups = columns.size() > 1 && (dialect == Dialect.SQL_SERVER || dialect == Dialect.ANSI);
+        List<String> rowValues = new ArrayList<>(rows);
+        int parameter = 0;
+        for (int row = 0; row < rows; row++) {
+            List<String> rowValue = new ArrayList<>(columns.size());
+            for (String c : columns) {
+                String value = formatParameter(++parameter).name();
+                rowValue.add(orGroups ? c + "=" + value : value);
+            }
+            if (orGroups) {
+                rowValues.add(OPEN_BRACKET + String.join(" AND ", rowValue) + CLOSE_BRACKET);
+            } else if (columns.size() > 1) {
+                rowValues.add(OPEN_BRACKET + String.join(",", rowValue) + CLOSE_BRACKET);
+            } else {
+                rowValues.add(rowValue.get(0));
+            }
+        }
+        String condition;
+        if (orGroups) {
+            condition = String.join(" OR ", rowValues);
+        } else if (columns.size() > 1) {
+            condition = OPEN_BRACKET + String.join(",", columns) + ") IN (" + String.join(",", rowValues) + CLOSE_BRACKET;
+        } else {
+            condition = columns.get(0) + " IN (" + String.join(",", rowValues) + CLOSE_BRACKET;
+        }
+        return QueryResult.of(
+            "DELETE FROM " + getTableName(entity) + " WHERE (" + condition + CLOSE_BRACKET,
+            Collections.emptyList(),
+            parameterBindings,
+            Collections.emptyMap()
+        );
+    }
+
+    /**
+     * Postgres and H2 cannot resolve the type of the parameters of the values, the values are cast to the type of the column.
+     *
+     * @param dataType The data type
+     * @return The type or null if the parameter is not cast
+     */
+    @Nullable
+    private String getBulkUpdateCastType(DataType dataType) {
+        if (dialect != Dialect.POSTGRES && dialect != Dialect.H2) {
+            return null;
+        }
+        String arraySuffix = dialect == Dialect.POSTGRES ? "[]" : " ARRAY";
+        return switch (dataType) {
+            case BIGDECIMAL -> "NUMERIC";
+            case BOOLEAN -> "BOOLEAN";
+            case BYTE, SHORT -> "SMALLINT";
+            case BYTE_ARRAY -> dialect == Dialect.POSTGRES ? "BYTEA" : "VARBINARY";
+            case CHARACTER -> "CHAR(1)";
+            case DATE -> "DATE";
+            case TIMESTAMP -> "TIMESTAMP";
+            case TIME -> "TIME";
+            case DOUBLE -> "DOUBLE PRECISION";
+            case FLOAT -> "REAL";
+            case INTEGER -> "INTEGER";
+            case LONG -> "BIGINT";
+            case STRING -> "VARCHAR";
+            case UUID -> "UUID";
+            case STRING_ARRAY -> "VARCHAR" + arraySuffix;
+            case SHORT_ARRAY -> "SMALLINT" + arraySuffix;
+            case INTEGER_ARRAY -> "INTEGER" + arraySuffix;
+            case LONG_ARRAY -> "BIGINT" + arraySuffix;
+            case FLOAT_ARRAY -> "REAL" + arraySuffix;
+            case DOUBLE_ARRAY -> "DOUBLE PRECISION" + arraySuffix;
+            case CHARACTER_ARRAY -> "CHAR(1)" + arraySuffix;
+            case BOOLEAN_ARRAY -> "BOOLEAN" + arraySuffix;
+            default -> null;
+        };
+    }
+
+    private String getMappedColumn(NamingStrategy namingStrategy, boolean escape, List<Association> associations, PersistentProperty property) {
+        String columnName = getMappedName(namingStrategy, associations, property);
+        return escape ? quote(columnName) : columnName;
+    }
+
+    private QueryParameterBinding newEntityPropertyBinding(int index, String[] path, PersistentProperty property, boolean previousValue) {
+        String key = String.valueOf(index);
+        return new QueryParameterBinding() {
+
+            @Override
+            public String getName() {
+                return key;
+            }
+
+            @Override
+            public String getKey() {
+                return key;
+            }
+
+            @Override
+            public DataType getDataType() {
+                return property.getDataType();
+            }
+
+            @Override
+            public JsonDataType getJsonDataType() {
+                return property.getJsonDataType();
+            }
+
+            @Override
+            public String[] getPropertyPath() {
+                return path;
+            }
+
+            @Override
+            public boolean isAutoPopulated() {
+                return previousValue;
+            }
+
+            @Override
+            public boolean isRequiresPreviousPopulatedValue() {
+                return previousValue;
+            }
+        };
+    }
+
+    @NonNull
+    private QueryResult buildInsert(AnnotationMetadata repositoryMetadata, InsertQueryDefinition definition, boolean isUpsert) {
         Selection<?> returningSelection = definition.returningSelection();
         if (returningSelection != null && !getDialect().supportsInsertReturning()) {
             throw new IllegalStateException("Dialect: " + getDialect() + " doesn't support INSERT ... RETURNING clause");
@@ -858,6 +1244,8 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
             List<String> columns = new ArrayList<>();
             List<String> resultColumns = new ArrayList<>();
             List<String> values = new ArrayList<>();
+            List<String> identityColumns = new ArrayList<>();
+            List<String> generatedIdentityColumns = new ArrayList<>();
 
             for (PersistentProperty prop : persistentProperties) {
                 PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), prop, (associations, property) -> {
@@ -962,6 +1350,7 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
                     if (isNotForeign(associations)) {
 
                         resultColumns.add(columnName);
+                        identityColumns.add(columnName);
 
                         Optional<AnnotationValue<GeneratedValue>> generated = property.findAnnotation(GeneratedValue.class);
                         if (generated.isPresent()) {
@@ -969,15 +1358,18 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
                                 .flatMap(av -> av.enumValue(GeneratedValue.Type.class))
                                 .orElseGet(() -> selectAutoStrategy(property));
                             if (idGeneratorType == GeneratedValue.Type.SEQUENCE) {
-                                isSequence = true;
+                                // The pooled identities are assigned by the client and bound as a parameter
+                                isSequence = PersistentEntityUtils.getSequenceAllocationSize(property) == 1;
                             } else if (dialect != Dialect.MYSQL || property.getDataType() != DataType.UUID) {
                                 // Property skipped
+                                generatedIdentityColumns.add(columnName);
                                 return;
                             }
                         }
                     }
 
                     if (isSequence) {
+                        generatedIdentityColumns.add(columnName);
                         values.add(getSequenceStatement(unescapedTableName, property));
                     } else {
                         addWriteExpression(values, property);
@@ -1022,7 +1414,9 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
                 " (" + String.join(",", columns) + CLOSE_BRACKET + " " +
                 "VALUES (" + String.join(String.valueOf(COMMA), values) + CLOSE_BRACKET;
 
-            if (definition.returningSelection() != null) {
+            if (isUpsert) {
+                builder = buildUpsert(entity, builder, columns, values, identityColumns, generatedIdentityColumns);
+            } else if (definition.returningSelection() != null) {
                 // TODO: proper selection of columns
                 builder += RETURNING + String.join(",", resultColumns);
             }
@@ -1035,6 +1429,94 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
         );
     }
 
+    private String buildUpsert(PersistentEntity entity,
+                               String insert,
+                               List<String> columns,
+                               List<String> values,
+                               List<String> identityColumns,
+                               List<String> generatedIdentityColumns) {
+        if (!generatedIdentityColumns.isEmpty() && dialect != Dialect.POSTGRES && dialect != Dialect.MYSQL && dialect != Dialect.H2) {
+            // MERGE statements cannot return the generated keys
+            throw new IllegalStateException("Dialect: " + dialect + " doesn't support an upsert of the entity with a database generated identity: " + entity.getName());
+        }
+        List<String> conflictColumns = resolveUpsertConflictColumns(entity, identityColumns, generatedIdentityColumns);
+        List<String> updateColumns = new ArrayList<>(columns);
+        updateColumns.removeAll(conflictColumns);
+        updateColumns.removeAll(identityColumns);
+        String tableName = getTableName(entity);
+        return switch (dialect) {
+            case POSTGRES -> {
+                // Always update at least one column, DO NOTHING doesn't return the row
+                List<String> setColumns = updateColumns.isEmpty() ? conflictColumns : updateColumns;
+                yield insert + " ON CONFLICT (" + String.join(",", conflictColumns) + ") DO UPDATE SET "
+                    + setColumns.stream().map(column -> column + "=EXCLUDED." + column).collect(Collectors.joining(","));
+            }
+            case MYSQL -> {
+                List<String> assignments = new ArrayList<>();
+                for (String column : generatedIdentityColumns) {
+                    // Makes the generated keys return the identity of the updated row
+                    assignments.add(column + "=LAST_INSERT_ID(" + column + ")");
+                }
+                for (String column : updateColumns) {
+                    assignments.add(column + "=VALUES(" + column + ")");
+                }
+                if (assignments.isEmpty()) {
+                    assignments.add(conflictColumns.get(0) + "=" + conflictColumns.get(0));
+                }
+                yield insert + " ON DUPLICATE KEY UPDATE " + String.join(",", assignments);
+            }
+            case H2 -> "MERGE INTO " + tableName + " (" + String.join(",", columns) + ") KEY ("
+                + String.join(",", conflictColumns) + ") VALUES (" + String.join(",", values) + ")";
+            case ORACLE, SQL_SERVER -> {
+                StringBuilder merge = new StringBuilder("MERGE INTO ").append(tableName).append(" t_ USING (SELECT ");
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0) {
+                        merge.append(',');
+                    }
+                    merge.append(values.get(i)).append(' ').append(columns.get(i));
+                }
+                if (dialect == Dialect.ORACLE) {
+                    merge.append(" FROM DUAL");
+                }
+                merge.append(") s_ ON (")
+                    .append(conflictColumns.stream().map(column -> "t_." + column + "=s_." + column).collect(Collectors.joining(" AND ")))
+                    .append(')');
+                if (!updateColumns.isEmpty()) {
+                    merge.append(" WHEN MATCHED THEN UPDATE SET ")
+                        .append(updateColumns.stream().map(column -> "t_." + column + "=s_." + column).collect(Collectors.joining(",")));
+                }
+                merge.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(",", columns)).append(") VALUES (")
+                    .append(columns.stream().map(column -> "s_." + column).collect(Collectors.joining(",")))
+                    .append(')');
+                if (dialect == Dialect.SQL_SERVER) {
+                    merge.append(';');
+                }
+                yield merge.toString();
+            }
+            default -> throw new IllegalStateException("Dialect: " + dialect + " doesn't support upserts");
+        };
+    }
+
+    private List<String> resolveUpsertConflictColumns(PersistentEntity entity, List<String> identityColumns, List<String> generatedIdentityColumns) {
+        if (!identityColumns.isEmpty() && generatedIdentityColumns.isEmpty()) {
+            return identityColumns;
+        }
+        return entity.findAnnotation(Indexes.class)
+            .map(indexes -> indexes.getAnnotations(VALUE_MEMBER, Index.class))
+            .orElse(Collections.emptyList())
+            .stream()
+            .filter(index -> index.booleanValue("unique").orElse(false))
+            .findFirst()
+            .map(index -> {
+                // The conflict columns are compared with the escaped columns of the insert
+                boolean escape = shouldEscape(entity);
+                return Arrays.stream(index.stringValues("columns"))
+                    .map(column -> escape ? quote(column) : column)
+                    .toList();
+            })
+            .orElseThrow(() -> new MappingException("Upsert of the entity " + entity.getName() + " requires an assigned identity or a unique index"));
+    }
+
     private String[] asStringPath(List<Association> associations, PersistentProperty property) {
         if (associations.isEmpty()) {
             return new String[]{property.getName()};
@@ -183,6 +183,32 @@ public interface RepositoryOperations extends HintsCapableRepository, Applicatio
                 .toList();
     }
 
+    /**
+     * Inserts the entity or updates the existing row with the same identity or unique key.
+     * @param operation The operation
+     * @param <T> The generic type
+     * @return The entity, possibly mutated
+     * @since 4.12.0
+     */
+    @NonNull
+    default <T> T upsert(@NonNull InsertOperation<T> operation) {
+        throw new DataAccessException("Current repository: " + getClass() + " doesn't support method 'upsert'!");
+    }
+
+    /**
+     * Inserts the entities or updates the existing rows with the same identity or unique key.
+     * @param operation The operation
+     * @param <T> The generic type
+     * @return The entities, possibly mutated
+     * @since 4.12.0
+     */
+    @NonNull
+    default <T> Iterable<T> upsertAll(@NonNull InsertBatchOperation<T> operation) {
+        return operation.split().stream()
+                .map(this::upsert)
+                .toList();
+    }
+
     /**
      * Executes an update for the given query and parameter values. If it is possible to
      * return the number of objects updated, then do so.
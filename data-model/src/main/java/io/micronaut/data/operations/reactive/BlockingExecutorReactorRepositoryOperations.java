@@ -95,6 +95,18 @@ public interface BlockingExecutorReactorRepositoryOperations extends RepositoryO
         return blockOptional(reactive -> reactive.persistAll(operation).collectList().<Iterable<T>>map(it -> it)).orElse(operation);
     }
 
+    @NonNull
+    @Override
+    default <T> T upsert(@NonNull InsertOperation<T> operation) {
+        return blockOptional(reactive -> reactive.upsert(operation)).orElseGet(operation::getEntity);
+    }
+
+    @NonNull
+    @Override
+    default <T> Iterable<T> upsertAll(@NonNull InsertBatchOperation<T> operation) {
+        return blockOptional(reactive -> reactive.upsertAll(operation).collectList().<Iterable<T>>map(it -> it)).orElse(operation);
+    }
+
     @NonNull
     @Override
     default Optional<Number> executeUpdate(@NonNull PreparedQuery<?, Number> preparedQuery) {
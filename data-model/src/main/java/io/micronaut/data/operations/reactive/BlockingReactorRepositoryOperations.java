@@ -121,6 +121,26 @@ public interface BlockingReactorRepositoryOperations extends RepositoryOperation
             .orElse(operation);
     }
 
+    @NonNull
+    @Override
+    default <T> T upsert(@NonNull InsertOperation<T> operation) {
+        return reactive().upsert(operation)
+            .contextWrite(getContextView())
+            .blockOptional()
+            .orElseGet(operation::getEntity);
+    }
+
+    @NonNull
+    @Override
+    default <T> Iterable<T> upsertAll(@NonNull InsertBatchOperation<T> operation) {
+        return reactive().upsertAll(operation)
+            .contextWrite(getContextView())
+            .collectList()
+            .<Iterable<T>>map(it -> it)
+            .blockOptional()
+            .orElse(operation);
+    }
+
     @NonNull
     @Override
     default Optional<Number> executeUpdate(@NonNull PreparedQuery<?, Number> preparedQuery) {
@@ -17,6 +17,7 @@ package io.micronaut.data.operations.reactive;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.convert.ConversionServiceProvider;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.Page;
@@ -157,6 +158,31 @@ public interface ReactiveRepositoryOperations extends ConversionServiceProvider
     @NonNull
     <T> Publisher<T> persistAll(@NonNull InsertBatchOperation<T> operation);
 
+    /**
+     * Inserts the entity or updates the existing row with the same identity or unique key.
+     * @param operation The entity operation
+     * @param <T> The generic type
+     * @return A publisher that emits the entity
+     * @since 4.12.0
+     */
+    @NonNull
+    @SingleResult
+    default <T> Publisher<T> upsert(@NonNull InsertOperation<T> operation) {
+        return Publishers.just(new DataAccessException("Current repository: " + getClass() + " doesn't support method 'upsert'!"));
+    }
+
+    /**
+     * Inserts the entities or updates the existing rows with the same identity or unique key.
+     * @param operation The batch operation
+     * @param <T> The generic type
+     * @return The entities, possibly mutated
+     * @since 4.12.0
+     */
+    @NonNull
+    default <T> Publisher<T> upsertAll(@NonNull InsertBatchOperation<T> operation) {
+        return Publishers.just(new DataAccessException("Current repository: " + getClass() + " doesn't support method 'upsertAll'!"));
+    }
+
     /**
      * Executes an update for the given query and parameter values. If it is possible to
      * return the number of objects updated, then do so.
@@ -17,6 +17,7 @@ package io.micronaut.data.operations.reactive;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.runtime.DeleteBatchOperation;
 import io.micronaut.data.model.runtime.DeleteOperation;
@@ -93,6 +94,19 @@ public interface ReactorReactiveRepositoryOperations extends ReactiveRepositoryO
     @NonNull
     <T> Flux<T> persistAll(@NonNull InsertBatchOperation<T> operation);
 
+    @Override
+    @NonNull
+    @SingleResult
+    default <T> Mono<T> upsert(@NonNull InsertOperation<T> operation) {
+        return Mono.error(new DataAccessException("Current repository: " + getClass() + " doesn't support method 'upsert'!"));
+    }
+
+    @Override
+    @NonNull
+    default <T> Flux<T> upsertAll(@NonNull InsertBatchOperation<T> operation) {
+        return Flux.error(new DataAccessException("Current repository: " + getClass() + " doesn't support method 'upsertAll'!"));
+    }
+
     @Override
     @NonNull
     @SingleResult
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines a custom MongoDB's read preference of the query methods.
+ *
+ * <p>The read preference is not applied when the query is executed in an active transaction,
+ * MongoDB requires the transactional reads to use the primary.</p>
+ *
+ * @since 4.12.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE})
+@Documented
+@Inherited
+public @interface MongoReadPreference {
+
+    /**
+     * The read preference mode name, for example {@code secondaryPreferred} or {@code nearest}.
+     *
+     * @return The read preference mode
+     */
+    String value();
+
+    /**
+     * The tag sets represented in JSON, for example <code>{ "region": "east" }</code>.
+     * The tag sets are evaluated in the order they are defined.
+     *
+     * @return The tag sets
+     */
+    String[] tagSets() default {};
+
+    /**
+     * The maximum staleness of the secondaries in seconds, a negative value means no maximum.
+     *
+     * @return The max staleness
+     */
+    long maxStalenessSeconds() default -1;
+}
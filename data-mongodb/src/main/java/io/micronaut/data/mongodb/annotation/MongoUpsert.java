@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.annotation;
+
+import io.micronaut.core.annotation.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines a bulk upsert method of the repository entity collection.
+ * The method accepts a single entity, an {@link Iterable} or a {@link java.util.stream.Stream} of entities
+ * and returns {@code void} or {@link io.micronaut.data.mongodb.operations.MongoUpsertResult}.
+ *
+ * <p>Each entity replaces the document matching the key or is inserted if no such document exists.
+ * The entities are written in chunks with a single bulk write per chunk.</p>
+ *
+ * @since 4.12.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
+@Documented
+@Experimental
+public @interface MongoUpsert {
+
+    /**
+     * The properties of the unique key matching the existing documents, the identity is used if empty.
+     * The properties should be backed by a unique index.
+     *
+     * @return The key properties
+     */
+    String[] key() default {};
+
+    /**
+     * The number of entities written by a single bulk write.
+     *
+     * @return The chunk size
+     */
+    int chunkSize() default 1000;
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.annotation;
+
+import io.micronaut.core.annotation.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines a change stream method of the repository entity collection.
+ * The method must return a reactive type of {@link io.micronaut.data.mongodb.operations.MongoChangeEvent}
+ * and requires the reactive MongoDB driver.
+ *
+ * @since 4.12.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
+@Documented
+@Experimental
+public @interface MongoWatch {
+
+    /**
+     * The filter of the change events represented in JSON, applied as the `$match` stage of the change stream.
+     *
+     * @return The filter
+     */
+    String filter() default "";
+
+    /**
+     * The full document mode, for example {@code updateLookup} to include the current version of the updated document.
+     *
+     * @return The full document mode
+     */
+    String fullDocument() default "updateLookup";
+
+    /**
+     * The name of the resume token persisted by {@link io.micronaut.data.mongodb.operations.MongoResumeTokenStore}.
+     * The change stream resumes after the last stored token. The token of an event is stored when the event is
+     * acknowledged with {@link io.micronaut.data.mongodb.operations.MongoChangeEvent#acknowledge()} after processing.
+     * Resume tokens are not stored if the name is empty.
+     *
+     * @return The resume token name
+     */
+    String resumeToken() default "";
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.intercept;
+
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.intercept.DataInterceptor;
+import io.micronaut.data.intercept.RepositoryMethodKey;
+import io.micronaut.data.mongodb.annotation.MongoUpsert;
+import io.micronaut.data.mongodb.operations.MongoRepositoryOperations;
+import io.micronaut.data.mongodb.operations.MongoUpsertResult;
+import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.runtime.intercept.AbstractQueryInterceptor;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Interceptor for the bulk upsert methods defined with {@link MongoUpsert}.
+ *
+ * @param <T> The declaring type
+ * @since 4.12.0
+ */
+@Internal
+public final class MongoUpsertInterceptor<T> extends AbstractQueryInterceptor<T, Object> implements DataInterceptor<T, Object> {
+
+    /**
+     * Default constructor.
+     *
+     * @param operations The operations
+     */
+    MongoUpsertInterceptor(@NonNull RepositoryOperations operations) {
+        super(operations);
+    }
+
+    @Override
+    public Object intercept(RepositoryMethodKey methodKey, MethodInvocationContext<T, Object> context) {
+        if (!(operations instanceof MongoRepositoryOperations mongoOperations)) {
+            throw new DataAccessException("Upsert method requires the sync MongoDB driver: " + context.getExecutableMethod());
+        }
+        AnnotationValue<MongoUpsert> upsert = context.getAnnotation(MongoUpsert.class);
+        if (upsert == null) {
+            throw new IllegalStateException("Expected annotation @MongoUpsert on the method: " + context.getExecutableMethod());
+        }
+        Object entities = context.getParameterValues()[0];
+        if (entities == null) {
+            throw new IllegalArgumentException("Entities to upsert cannot be null");
+        }
+        MongoUpsertResult result;
+        if (entities instanceof Stream<?> stream) {
+            try (stream) {
+                result = upsertAll(mongoOperations, context, upsert, stream.iterator());
+            }
+        } else if (entities instanceof Iterable<?> iterable) {
+            result = upsertAll(mongoOperations, context, upsert, iterable.iterator());
+        } else {
+            result = upsertAll(mongoOperations, context, upsert, List.of(entities).iterator());
+        }
+        return context.getReturnType().isVoid() ? null : result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private MongoUpsertResult upsertAll(MongoRepositoryOperations mongoOperations,
+                                        MethodInvocationContext<T, Object> context,
+                                        AnnotationValue<MongoUpsert> upsert,
+                                        Iterator<?> entities) {
+        return mongoOperations.upsertAll(
+            (Class<Object>) getRequiredRootEntity(context),
+            context.getTarget().getClass(),
+            context.getAnnotationMetadata(),
+            (Iterator<Object>) entities,
+            List.of(upsert.stringValues("key")),
+            upsert.intValue("chunkSize").orElse(1000)
+        );
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.intercept;
+
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.changestream.FullDocument;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.intercept.DataInterceptor;
+import io.micronaut.data.intercept.RepositoryMethodKey;
+import io.micronaut.data.mongodb.annotation.MongoWatch;
+import io.micronaut.data.mongodb.operations.MongoReactorRepositoryOperations;
+import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.runtime.intercept.AbstractQueryInterceptor;
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+
+/**
+ * Interceptor for the change stream methods defined with {@link MongoWatch}.
+ *
+ * @param <T> The declaring type
+ * @since 4.12.0
+ */
+@Internal
+public final class MongoWatchInterceptor<T> extends AbstractQueryInterceptor<T, Object> implements DataInterceptor<T, Object> {
+
+    /**
+     * Default constructor.
+     *
+     * @param operations The operations
+     */
+    MongoWatchInterceptor(@NonNull RepositoryOperations operations) {
+        super(operations);
+    }
+
+    @Override
+    public Object intercept(RepositoryMethodKey methodKey, MethodInvocationContext<T, Object> context) {
+        if (!(operations instanceof MongoReactorRepositoryOperations reactorOperations)) {
+            throw new DataAccessException("Change stream method requires the reactive MongoDB driver: " + context.getExecutableMethod());
+        }
+        AnnotationValue<MongoWatch> watch = context.getAnnotation(MongoWatch.class);
+        if (watch == null) {
+            throw new IllegalStateException("Expected annotation @MongoWatch on the method: " + context.getExecutableMethod());
+        }
+        List<Bson> pipeline = watch.stringValue("filter")
+            .filter(StringUtils::isNotEmpty)
+            .map(filter -> List.of(Aggregates.match(BsonDocument.parse(filter))))
+            .orElse(List.of());
+        FullDocument fullDocument = FullDocument.fromString(watch.stringValue("fullDocument").orElse(FullDocument.UPDATE_LOOKUP.getValue()));
+        String resumeTokenName = watch.stringValue("resumeToken").filter(StringUtils::isNotEmpty).orElse(null);
+        Publisher<?> publisher = reactorOperations.watch(
+            getRequiredRootEntity(context),
+            context.getTarget().getClass(),
+            pipeline,
+            fullDocument,
+            resumeTokenName
+        );
+        return Publishers.convertPublisher(conversionService, publisher, context.getReturnType().getType());
+    }
+}
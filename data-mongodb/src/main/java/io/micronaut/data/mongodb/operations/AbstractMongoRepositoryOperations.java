@@ -15,14 +15,18 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.MongoNamespace;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.InsertOneOptions;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOptions;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.convert.ConversionService;
@@ -44,19 +48,28 @@ import io.micronaut.data.runtime.date.DateTimeProvider;
 import io.micronaut.data.runtime.mapper.BeanIntrospectionMapper;
 import io.micronaut.data.runtime.operations.internal.AbstractRepositoryOperations;
 import io.micronaut.data.runtime.query.MethodContextAwareStoredQueryDecorator;
+import io.micronaut.data.runtime.query.PageResults;
 import io.micronaut.data.runtime.query.PreparedQueryDecorator;
 import io.micronaut.data.runtime.query.internal.QueryResultStoredQuery;
+import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentWrapper;
 import org.bson.BsonNull;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 /**
@@ -72,6 +85,7 @@ abstract sealed class AbstractMongoRepositoryOperations<Dtb> extends AbstractRep
     permits DefaultMongoRepositoryOperations, DefaultReactiveMongoRepositoryOperations {
 
     protected static final BsonDocument EMPTY = new BsonDocument();
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
     protected static final Logger QUERY_LOG = DataSettings.QUERY_LOG;
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractMongoRepositoryOperations.class);
@@ -79,6 +93,8 @@ abstract sealed class AbstractMongoRepositoryOperations<Dtb> extends AbstractRep
     protected final MongoCollectionNameProvider collectionNameProvider;
     protected final MongoDatabaseNameProvider databaseNameProvider;
 
+    private final Map<ReadPreferenceCollectionKey, Object> readPreferenceCollections = new ConcurrentHashMap<>();
+
     /**
      * Default constructor.
      *
@@ -104,6 +120,10 @@ abstract sealed class AbstractMongoRepositoryOperations<Dtb> extends AbstractRep
         return MongoOptionsUtils.buildReplaceOptions(annotationMetadata).orElseGet(ReplaceOptions::new);
     }
 
+    protected final UpdateOptions getUpdateOptions(AnnotationMetadata annotationMetadata) {
+        return MongoOptionsUtils.buildUpdateOptions(annotationMetadata, true).orElseGet(UpdateOptions::new);
+    }
+
     protected final InsertOneOptions getInsertOneOptions(AnnotationMetadata annotationMetadata) {
         return MongoOptionsUtils.buildInsertOneOptions(annotationMetadata).orElseGet(InsertOneOptions::new);
     }
@@ -116,6 +136,28 @@ abstract sealed class AbstractMongoRepositoryOperations<Dtb> extends AbstractRep
         return MongoOptionsUtils.buildDeleteOptions(annotationMetadata, true).orElseGet(DeleteOptions::new);
     }
 
+    /**
+     * Returns the collection with the read preference applied, cached per collection and read preference.
+     *
+     * @param collection         The collection
+     * @param namespace          The collection namespace
+     * @param documentClass      The collection document class
+     * @param readPreference     The read preference
+     * @param withReadPreference The function applying the read preference
+     * @param <C>                The collection type
+     * @return The collection with the read preference
+     */
+    protected final <C> C getCollectionWithReadPreference(C collection,
+                                                          MongoNamespace namespace,
+                                                          Class<?> documentClass,
+                                                          ReadPreference readPreference,
+                                                          BiFunction<C, ReadPreference, C> withReadPreference) {
+        return (C) readPreferenceCollections.computeIfAbsent(
+            new ReadPreferenceCollectionKey(namespace, documentClass, readPreference),
+            key -> withReadPreference.apply(collection, readPreference)
+        );
+    }
+
     protected abstract Dtb getDatabase(PersistentEntity persistentEntity, Class<?> repository);
 
     protected abstract CodecRegistry getCodecRegistry(Dtb database);
@@ -161,6 +203,13 @@ abstract sealed class AbstractMongoRepositoryOperations<Dtb> extends AbstractRep
                                   BsonDocument result,
                                   boolean isDtoProjection) {
         if (resultType == BsonDocument.class) {
+            if (result instanceof RawBsonDocument rawBsonDocument) {
+                // Keep returning the mutable document
+                return (R) BSON_DOCUMENT_CODEC.decode(rawBsonDocument.asBsonReader(), DecoderContext.builder().build());
+            }
+            return (R) result;
+        }
+        if (resultType == RawBsonDocument.class && result instanceof RawBsonDocument) {
             return (R) result;
         }
 
@@ -193,6 +242,38 @@ abstract sealed class AbstractMongoRepositoryOperations<Dtb> extends AbstractRep
         return conversionService.convertRequired(MongoUtils.toValue(value), resultType);
     }
 
+    /**
+     * Converts the result of the facet page aggregation.
+     *
+     * @param codecRegistry The codec registry
+     * @param preparedQuery The prepared query
+     * @param result        The single document produced by the facet stage
+     * @param <T>           The entity type
+     * @param <R>           The result type
+     * @return The page results
+     */
+    protected <T, R> PageResults<R> convertFacetPageResult(CodecRegistry codecRegistry,
+                                                           MongoPreparedQuery<T, R> preparedQuery,
+                                                           @Nullable BsonDocument result) {
+        if (result == null) {
+            return new PageResults<>(List.of(), 0);
+        }
+        Class<R> resultType = preparedQuery.getResultType();
+        boolean isEntity = resultType.isAssignableFrom(preparedQuery.getRootEntity());
+        BsonArray contentDocuments = result.getArray(DefaultMongoPreparedQuery.FACET_CONTENT, new BsonArray());
+        List<R> content = new ArrayList<>(contentDocuments.size());
+        for (BsonValue document : contentDocuments) {
+            if (isEntity) {
+                content.add(MongoUtils.toValue(document.asDocument(), resultType, codecRegistry));
+            } else {
+                content.add(convertResult(codecRegistry, resultType, document.asDocument(), preparedQuery.isDtoProjection()));
+            }
+        }
+        BsonArray totalDocuments = result.getArray(DefaultMongoPreparedQuery.FACET_TOTAL, new BsonArray());
+        long total = totalDocuments.isEmpty() ? 0 : totalDocuments.get(0).asDocument().getNumber(DefaultMongoPreparedQuery.FACET_COUNT).longValue();
+        return new PageResults<>(content, total);
+    }
+
     /**
      * Attempts to convert a BSON document into an instance of the specified result type using introspection.
      *
@@ -309,4 +390,6 @@ abstract sealed class AbstractMongoRepositoryOperations<Dtb> extends AbstractRep
         }
     }
 
+    private record ReadPreferenceCollectionKey(MongoNamespace namespace, Class<?> documentClass, ReadPreference readPreference) {
+    }
 }
@@ -15,24 +15,37 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Facet;
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Sorts;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Pageable.Cursor;
 import io.micronaut.data.model.Pageable.Mode;
 import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import io.micronaut.data.mongodb.operations.options.MongoAggregationOptions;
 import io.micronaut.data.mongodb.operations.options.MongoFindOptions;
+import io.micronaut.data.runtime.operations.internal.query.CursoredPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersPreparedQuery;
 import io.micronaut.data.runtime.query.internal.DefaultPreparedQuery;
 import io.micronaut.data.runtime.query.internal.DelegatePreparedQuery;
 import io.micronaut.data.runtime.query.internal.DelegateStoredQuery;
+import io.micronaut.serde.config.annotation.SerdeConfig;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -44,7 +57,11 @@ import java.util.stream.Collectors;
  * @since 3.3.
  */
 @Internal
-final class DefaultMongoPreparedQuery<E, R> extends DefaultBindableParametersPreparedQuery<E, R> implements DelegatePreparedQuery<E, R>, MongoPreparedQuery<E, R> {
+final class DefaultMongoPreparedQuery<E, R> extends DefaultBindableParametersPreparedQuery<E, R> implements DelegatePreparedQuery<E, R>, MongoPreparedQuery<E, R>, CursoredPreparedQuery<E, R> {
+
+    static final String FACET_CONTENT = "content";
+    static final String FACET_TOTAL = "total";
+    static final String FACET_COUNT = "count";
 
     private final DefaultPreparedQuery<E, R> defaultPreparedQuery;
     private final MongoStoredQuery<E, R> mongoStoredQuery;
@@ -65,10 +82,26 @@ final class DefaultMongoPreparedQuery<E, R> extends DefaultBindableParametersPre
         return mongoStoredQuery.isAggregate();
     }
 
+    @Override
+    public ReadPreference getReadPreference() {
+        return mongoStoredQuery.getReadPreference();
+    }
+
     @Override
     public MongoAggregation getAggregation() {
         MongoAggregation aggregation = mongoStoredQuery.getAggregation(defaultPreparedQuery.getContext());
         Pageable pageable = getPageable();
+        if (pageable instanceof CursoredPageable cursoredPageable) {
+            List<Bson> pipeline = new ArrayList<>(aggregation.getPipeline());
+            cursoredPageable = CursoredPreparedQuery.enhancePageable(cursoredPageable, getPersistentEntity());
+            Bson cursorFilter = buildCursorFilter(cursoredPageable);
+            if (cursorFilter != null) {
+                pipeline.add(Aggregates.match(cursorFilter));
+            }
+            pipeline.add(Aggregates.sort(buildCursorSort(cursoredPageable.getSort())));
+            pipeline.add(Aggregates.limit(cursoredPageable.getSize()));
+            return new MongoAggregation(pipeline, aggregation.getOptions());
+        }
         if (pageable != Pageable.UNPAGED) {
             List<Bson> pipeline = new ArrayList<>(aggregation.getPipeline());
             applyPageable(pageable, pipeline);
@@ -81,6 +114,19 @@ final class DefaultMongoPreparedQuery<E, R> extends DefaultBindableParametersPre
     public MongoFind getFind() {
         MongoFind find = mongoStoredQuery.getFind(defaultPreparedQuery.getContext());
         Pageable pageable = defaultPreparedQuery.getPageable();
+        if (pageable instanceof CursoredPageable cursoredPageable) {
+            MongoFindOptions findOptions = find.getOptions();
+            MongoFindOptions options = findOptions == null ? new MongoFindOptions() : new MongoFindOptions(findOptions);
+            cursoredPageable = CursoredPreparedQuery.enhancePageable(cursoredPageable, getPersistentEntity());
+            Bson cursorFilter = buildCursorFilter(cursoredPageable);
+            if (cursorFilter != null) {
+                Bson filter = options.getFilter();
+                options.filter(filter == null ? cursorFilter : Filters.and(filter, cursorFilter));
+            }
+            options.limit(cursoredPageable.getSize()).skip(0);
+            options.sort(buildCursorSort(cursoredPageable.getSort()));
+            return new MongoFind(options);
+        }
         if (pageable != Pageable.UNPAGED) {
             if (pageable.getMode() != Mode.OFFSET) {
                 throw new UnsupportedOperationException("Mode " + pageable.getMode() + " is not supported by the MongoDB implementation");
@@ -99,6 +145,45 @@ final class DefaultMongoPreparedQuery<E, R> extends DefaultBindableParametersPre
         return find;
     }
 
+    @Override
+    public MongoAggregation getFacetPageAggregation() {
+        Pageable pageable = getPageable();
+        if (!mongoStoredQuery.isFacetPage() || pageable == Pageable.UNPAGED || pageable.getMode() != Mode.OFFSET) {
+            return null;
+        }
+        List<Bson> pipeline;
+        List<Bson> content = new ArrayList<>();
+        MongoAggregationOptions options;
+        if (isAggregate()) {
+            MongoAggregation aggregation = mongoStoredQuery.getAggregation(defaultPreparedQuery.getContext());
+            pipeline = new ArrayList<>(aggregation.getPipeline());
+            applyPageable(pageable, content);
+            options = aggregation.getOptions();
+        } else {
+            MongoFindOptions findOptions = mongoStoredQuery.getFind(defaultPreparedQuery.getContext()).getOptions();
+            pipeline = new ArrayList<>();
+            Bson filter = findOptions == null ? null : findOptions.getFilter();
+            if (filter != null) {
+                pipeline.add(Aggregates.match(filter));
+            }
+            Bson sort = findOptions == null ? null : findOptions.getSort();
+            if (sort != null && !pageable.getSort().isSorted()) {
+                content.add(Aggregates.sort(sort));
+            }
+            applyPageable(pageable, content);
+            Bson projection = findOptions == null ? null : findOptions.getProjection();
+            if (projection != null) {
+                content.add(Aggregates.project(projection));
+            }
+            options = findOptions == null || findOptions.getCollation() == null ? null : new MongoAggregationOptions().collation(findOptions.getCollation());
+        }
+        pipeline.add(Aggregates.facet(
+            new Facet(FACET_CONTENT, content),
+            new Facet(FACET_TOTAL, Aggregates.count(FACET_COUNT))
+        ));
+        return new MongoAggregation(pipeline, options);
+    }
+
     @Override
     public MongoUpdate getUpdateMany() {
         return mongoStoredQuery.getUpdateMany(defaultPreparedQuery.getContext());
@@ -114,6 +199,75 @@ final class DefaultMongoPreparedQuery<E, R> extends DefaultBindableParametersPre
         return defaultPreparedQuery;
     }
 
+    /**
+     * Build the keyset filter selecting the documents after the cursor: {@code (a > ?) OR (a = ? AND b > ?) ...}.
+     *
+     * @param cursoredPageable The pageable with the enhanced sort
+     * @return The filter or null if the cursor is not present
+     */
+    @Nullable
+    private Bson buildCursorFilter(CursoredPageable cursoredPageable) {
+        Optional<Cursor> optionalCursor = cursoredPageable.cursor();
+        if (optionalCursor.isEmpty()) {
+            return null;
+        }
+        Cursor cursor = optionalCursor.get();
+        List<Sort.Order> orders = cursoredPageable.getSort().getOrderBy();
+        if (orders.size() != cursor.size()) {
+            throw new IllegalArgumentException("The cursor must match the sorting size");
+        }
+        RuntimePersistentEntity<E> persistentEntity = getPersistentEntity();
+        List<Bson> conditions = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); ++i) {
+            List<Bson> and = new ArrayList<>(i + 1);
+            for (int j = 0; j <= i; ++j) {
+                RuntimePersistentProperty<E> property = persistentEntity.getPropertyByName(orders.get(j).getProperty());
+                if (property == null) {
+                    throw new IllegalArgumentException("Cannot sort on non-existent property path: " + orders.get(j).getProperty());
+                }
+                String fieldName = getFieldName(property);
+                Object value = getCursorValue(property, cursor.get(j));
+                if (i != j) {
+                    and.add(Filters.eq(fieldName, value));
+                } else if (orders.get(i).isAscending()) {
+                    and.add(Filters.gt(fieldName, value));
+                } else {
+                    and.add(Filters.lt(fieldName, value));
+                }
+            }
+            conditions.add(and.size() == 1 ? and.get(0) : Filters.and(and));
+        }
+        return conditions.size() == 1 ? conditions.get(0) : Filters.or(conditions);
+    }
+
+    private Bson buildCursorSort(Sort sort) {
+        RuntimePersistentEntity<E> persistentEntity = getPersistentEntity();
+        List<Bson> sorts = new ArrayList<>(sort.getOrderBy().size());
+        for (Sort.Order order : sort.getOrderBy()) {
+            RuntimePersistentProperty<E> property = persistentEntity.getPropertyByName(order.getProperty());
+            String fieldName = property == null ? order.getProperty() : getFieldName(property);
+            sorts.add(order.isAscending() ? Sorts.ascending(fieldName) : Sorts.descending(fieldName));
+        }
+        return Sorts.orderBy(sorts);
+    }
+
+    private String getFieldName(RuntimePersistentProperty<E> property) {
+        if (property.getOwner().getIdentity() == property) {
+            return MongoUtils.ID;
+        }
+        return property.getAnnotationMetadata()
+            .stringValue(SerdeConfig.class, SerdeConfig.PROPERTY)
+            .orElseGet(property::getName);
+    }
+
+    private Object getCursorValue(RuntimePersistentProperty<E> property, Object value) {
+        // Generated string ids are stored as ObjectId
+        if (value instanceof String string && property.getOwner().getIdentity() == property && property.isGenerated()) {
+            return new ObjectId(string);
+        }
+        return value;
+    }
+
     private int applyPageable(Pageable pageable, List<Bson> pipeline) {
         int limit = 0;
         if (pageable != Pageable.UNPAGED) {
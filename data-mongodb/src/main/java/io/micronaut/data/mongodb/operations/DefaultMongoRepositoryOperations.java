@@ -16,6 +16,7 @@
 package io.micronaut.data.mongodb.operations;
 
 import com.mongodb.CursorType;
+import com.mongodb.ReadPreference;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
@@ -28,8 +29,12 @@ import com.mongodb.client.MongoIterable;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
@@ -46,7 +51,6 @@ import io.micronaut.data.connection.ConnectionDefinition;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
-import io.micronaut.data.model.Pageable.Mode;
 import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
@@ -78,16 +82,22 @@ import io.micronaut.data.runtime.operations.internal.AbstractSyncEntitiesOperati
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntityOperations;
 import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.SyncCascadeOperations;
+import io.micronaut.data.runtime.query.PageResults;
+import io.micronaut.data.runtime.query.SingleQueryPageOperations;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Named;
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentWrapper;
+import org.bson.BsonNull;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -96,6 +106,7 @@ import java.util.Spliterators;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -116,10 +127,12 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
         MongoRepositoryOperations,
         AsyncCapableRepository,
         ReactiveCapableRepository,
+        SingleQueryPageOperations,
         SyncCascadeOperations.SyncCascadeOperationsHelper<DefaultMongoRepositoryOperations.MongoOperationContext> {
     private final MongoClient mongoClient;
     private final SyncCascadeOperations<MongoOperationContext> cascadeOperations;
     private final MongoConnectionOperations connectionOperations;
+    private final MongoEntitySnapshots entitySnapshots = new MongoEntitySnapshots();
     private ExecutorAsyncOperations asyncOperations;
     private ExecutorService executorService;
 
@@ -164,7 +177,11 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'find' with filter: {}", filter.toBsonDocument().toJson());
             }
-            return collection.find(clientSession, filter, type).first();
+            T entity = collection.find(clientSession, filter, type).first();
+            if (isSnapshotted(persistentEntity)) {
+                entitySnapshots.snapshot(clientSession, persistentEntity, entity, collection.getCodecRegistry());
+            }
+            return entity;
         });
     }
 
@@ -192,7 +209,7 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'aggregate' with pipeline: {}", aggregation.getPipeline().stream().map(e -> e.toBsonDocument().toJson()).toList());
             }
-            R result = aggregate(clientSession, preparedQuery, BsonDocument.class)
+            R result = aggregate(clientSession, preparedQuery, RawBsonDocument.class)
                     .map(bsonDocument -> convertResult(database.getCodecRegistry(), resultType, bsonDocument, false))
                     .first();
             if (result == null) {
@@ -207,7 +224,7 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'countDocuments' with filter: {}", filter.toBsonDocument().toJson());
             }
-            long count = getCollection(database, persistentEntity, BsonDocument.class)
+            long count = applyReadPreference(clientSession, preparedQuery, getCollection(database, persistentEntity, BsonDocument.class))
                     .countDocuments(clientSession, filter);
             return conversionService.convertRequired(count, resultType);
         }
@@ -218,7 +235,7 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
         return withClientSession(clientSession -> {
             MongoPreparedQuery<T, Boolean> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
             if (mongoPreparedQuery.isAggregate()) {
-                try (MongoCursor<BsonDocument> iterator = aggregate(clientSession, mongoPreparedQuery, BsonDocument.class).iterator()) {
+                try (MongoCursor<RawBsonDocument> iterator = aggregate(clientSession, mongoPreparedQuery, RawBsonDocument.class).iterator()) {
                     return iterator.hasNext();
                 }
             } else {
@@ -254,6 +271,19 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
         return withClientSession(clientSession -> findAll(clientSession, getMongoPreparedQuery(preparedQuery), false));
     }
 
+    @Override
+    public <E, R> PageResults<R> findPageResults(PreparedQuery<E, R> pq) {
+        MongoPreparedQuery<E, R> preparedQuery = getMongoPreparedQuery(pq);
+        MongoAggregation aggregation = preparedQuery.getFacetPageAggregation();
+        if (aggregation == null) {
+            return null;
+        }
+        return withClientSession(clientSession -> {
+            BsonDocument result = aggregate(clientSession, preparedQuery, aggregation, RawBsonDocument.class).first();
+            return convertFacetPageResult(getDatabase(preparedQuery).getCodecRegistry(), preparedQuery, result);
+        });
+    }
+
     @Override
     public <T, R> Stream<R> findStream(PreparedQuery<T, R> preparedQuery) {
         return withClientSession(clientSession -> {
@@ -286,7 +316,7 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
     }
 
     private <T, R> R findOneFiltered(ClientSession clientSession, MongoPreparedQuery<T, R> preparedQuery) {
-        return find(clientSession, preparedQuery)
+        return snapshotAll(clientSession, preparedQuery, find(clientSession, preparedQuery)
                 .limit(1)
                 .map(r -> {
                     Class<T> type = preparedQuery.getRootEntity();
@@ -295,7 +325,7 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
                         return (R) triggerPostLoad(preparedQuery.getAnnotationMetadata(), persistentEntity, type.cast(r));
                     }
                     return r;
-                }).first();
+                })).first();
     }
 
     private <T, R> R findOneAggregated(ClientSession clientSession, MongoPreparedQuery<T, R> preparedQuery) {
@@ -303,35 +333,32 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
         Class<T> type = preparedQuery.getRootEntity();
         Class<R> resultType = preparedQuery.getResultType();
         if (!resultType.isAssignableFrom(type)) {
-            BsonDocument result = aggregate(clientSession, preparedQuery, BsonDocument.class).first();
+            BsonDocument result = aggregate(clientSession, preparedQuery, RawBsonDocument.class).first();
             return convertResult(database.getCodecRegistry(), resultType, result, preparedQuery.isDtoProjection());
         }
-        return aggregate(clientSession, preparedQuery).map(r -> {
+        return snapshotAll(clientSession, preparedQuery, aggregate(clientSession, preparedQuery).map(r -> {
             RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
             if (type.isInstance(r)) {
                 return (R) triggerPostLoad(preparedQuery.getAnnotationMetadata(), persistentEntity, type.cast(r));
             }
             return r;
-        }).first();
+        })).first();
     }
 
     private <T, R> Iterable<R> findAllAggregated(ClientSession clientSession,
                                                  MongoPreparedQuery<T, R> preparedQuery,
                                                  boolean stream) {
         Pageable pageable = preparedQuery.getPageable();
-        if (pageable.getMode() != Mode.OFFSET) {
-            throw new UnsupportedOperationException("Mode " + pageable.getMode() + " is not supported by the MongoDB implementation");
-        }
         int limit = pageable == Pageable.UNPAGED ? -1 : pageable.getSize();
         Class<T> type = preparedQuery.getRootEntity();
         Class<R> resultType = preparedQuery.getResultType();
         MongoIterable<R> aggregate;
         if (!resultType.isAssignableFrom(type)) {
             MongoDatabase database = getDatabase(preparedQuery);
-            aggregate = aggregate(clientSession, preparedQuery, BsonDocument.class)
+            aggregate = aggregate(clientSession, preparedQuery, RawBsonDocument.class)
                     .map(result -> convertResult(database.getCodecRegistry(), resultType, result, preparedQuery.isDtoProjection()));
         } else {
-            aggregate = aggregate(clientSession, preparedQuery, resultType);
+            aggregate = snapshotAll(clientSession, preparedQuery, aggregate(clientSession, preparedQuery, resultType));
         }
         return stream ? aggregate : aggregate.into(new ArrayList<>(limit > 0 ? limit : 20));
     }
@@ -340,19 +367,16 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
                                                MongoPreparedQuery<T, R> preparedQuery,
                                                boolean stream) {
         Pageable pageable = preparedQuery.getPageable();
-        if (pageable.getMode() != Mode.OFFSET) {
-            throw new UnsupportedOperationException("Mode " + pageable.getMode() + " is not supported by the MongoDB implementation");
-        }
         int limit = pageable == Pageable.UNPAGED ? -1 : pageable.getSize();
         Class<T> type = preparedQuery.getRootEntity();
         Class<R> resultType = preparedQuery.getResultType();
         MongoIterable<R> findIterable;
         if (!resultType.isAssignableFrom(type)) {
             MongoDatabase database = getDatabase(preparedQuery);
-            findIterable = find(clientSession, preparedQuery, BsonDocument.class)
+            findIterable = find(clientSession, preparedQuery, RawBsonDocument.class)
                     .map(result -> convertResult(database.getCodecRegistry(), resultType, result, preparedQuery.isDtoProjection()));
         } else {
-            findIterable = find(clientSession, preparedQuery);
+            findIterable = snapshotAll(clientSession, preparedQuery, find(clientSession, preparedQuery));
         }
         return stream ? findIterable : findIterable.into(new ArrayList<>(limit > 0 ? limit : 20));
     }
@@ -369,7 +393,7 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
             logFind(find);
         }
         MongoDatabase database = getDatabase(preparedQuery);
-        MongoCollection<MR> collection = getCollection(database, preparedQuery.getPersistentEntity(), resultType);
+        MongoCollection<MR> collection = applyReadPreference(clientSession, preparedQuery, getCollection(database, preparedQuery.getPersistentEntity(), resultType));
         FindIterable<MR> findIterable = collection.find(clientSession, resultType);
         return applyFindOptions(find.getOptions(), findIterable);
     }
@@ -460,9 +484,15 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
     private <T, R, MR> AggregateIterable<MR> aggregate(ClientSession clientSession,
                                                        MongoPreparedQuery<T, R> preparedQuery,
                                                        Class<MR> resultType) {
+        return aggregate(clientSession, preparedQuery, preparedQuery.getAggregation(), resultType);
+    }
+
+    private <T, R, MR> AggregateIterable<MR> aggregate(ClientSession clientSession,
+                                                       MongoPreparedQuery<T, R> preparedQuery,
+                                                       MongoAggregation aggregation,
+                                                       Class<MR> resultType) {
         MongoDatabase database = getDatabase(preparedQuery);
-        MongoCollection<MR> collection = getCollection(database, preparedQuery.getPersistentEntity(), resultType);
-        MongoAggregation aggregation = preparedQuery.getAggregation();
+        MongoCollection<MR> collection = applyReadPreference(clientSession, preparedQuery, getCollection(database, preparedQuery.getPersistentEntity(), resultType));
         if (QUERY_LOG.isDebugEnabled()) {
             logAggregate(aggregation);
         }
@@ -557,6 +587,42 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
         });
     }
 
+    @Override
+    public <T> MongoUpsertResult upsertAll(Class<T> entityType,
+                                           Class<?> repositoryType,
+                                           AnnotationMetadata annotationMetadata,
+                                           Iterator<T> entities,
+                                           List<String> key,
+                                           int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The upsert chunk size must be positive: " + chunkSize);
+        }
+        RuntimePersistentEntity<T> persistentEntity = runtimeEntityRegistry.getEntity(entityType);
+        List<String> keyNames = new ArrayList<>(key.size());
+        for (String propertyName : key) {
+            RuntimePersistentProperty<T> property = persistentEntity.getPropertyByName(propertyName);
+            if (property == null) {
+                throw new DataAccessException("Entity " + persistentEntity.getName() + " doesn't have the upsert key property: " + propertyName);
+            }
+            keyNames.add(property.getPersistedName());
+        }
+        return withClientSession(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, annotationMetadata, repositoryType);
+            AtomicReference<MongoUpsertResult> result = new AtomicReference<>(MongoUpsertResult.EMPTY);
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (entities.hasNext()) {
+                chunk.add(entities.next());
+                if (chunk.size() == chunkSize || !entities.hasNext()) {
+                    MongoEntitiesOperation<T> op = createMongoUpsertManyOperation(ctx, persistentEntity, chunk, keyNames,
+                        bulkWriteResult -> result.set(result.get().plus(bulkWriteResult)));
+                    op.persist();
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            return result.get();
+        });
+    }
+
     @Override
     public <T> int delete(DeleteOperation<T> operation) {
         return withClientSession(clientSession -> {
@@ -644,6 +710,42 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
         return getCollection(persistentEntity, ctx.repositoryType, persistentEntity.getIntrospection().getBeanType());
     }
 
+    /**
+     * Snapshots the loaded entities updated with {@link io.micronaut.data.mongodb.annotation.MongoPartialUpdate}.
+     *
+     * @param clientSession The client session
+     * @param preparedQuery The prepared query
+     * @param iterable      The loaded entities
+     * @param <T>           The entity type
+     * @param <R>           The result type
+     * @return The iterable snapshotting the entities
+     */
+    private <T, R> MongoIterable<R> snapshotAll(ClientSession clientSession, MongoPreparedQuery<T, R> preparedQuery, MongoIterable<R> iterable) {
+        RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
+        if (!isSnapshotted(persistentEntity)) {
+            return iterable;
+        }
+        Class<T> type = preparedQuery.getRootEntity();
+        CodecRegistry codecRegistry = getDatabase(preparedQuery).getCodecRegistry();
+        return iterable.map(r -> {
+            if (type.isInstance(r)) {
+                entitySnapshots.snapshot(clientSession, persistentEntity, type.cast(r), codecRegistry);
+            }
+            return r;
+        });
+    }
+
+    /**
+     * The entities are only snapshotted in the session shared by multiple operations, otherwise the session ends with the operation.
+     *
+     * @param persistentEntity The persistent entity
+     * @return true if the loaded entities should be snapshotted
+     */
+    private boolean isSnapshotted(RuntimePersistentEntity<?> persistentEntity) {
+        return MongoEntitySnapshots.isPartialUpdate(persistentEntity)
+            && connectionOperations.findConnectionStatus().map(status -> !status.isNew()).orElse(false);
+    }
+
     private <K> K triggerPostLoad(AnnotationMetadata annotationMetadata, RuntimePersistentEntity<K> persistentEntity, K entity) {
         if (persistentEntity.hasPostLoadEventListeners()) {
             entity = triggerPostLoad(entity, persistentEntity, annotationMetadata);
@@ -677,6 +779,15 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
         return entity;
     }
 
+    private <MR> MongoCollection<MR> applyReadPreference(ClientSession clientSession, MongoPreparedQuery<?, ?> preparedQuery, MongoCollection<MR> collection) {
+        ReadPreference readPreference = preparedQuery.getReadPreference();
+        if (readPreference == null || clientSession.hasActiveTransaction()) {
+            // Reads in a transaction must use the primary
+            return collection;
+        }
+        return getCollectionWithReadPreference(collection, collection.getNamespace(), collection.getDocumentClass(), readPreference, MongoCollection::withReadPreference);
+    }
+
     private <T, R> MongoCollection<R> getCollection(MongoDatabase database, RuntimePersistentEntity<T> persistentEntity, Class<R> resultType) {
         return database.getCollection(collectionNameProvider.provide(persistentEntity), resultType);
     }
@@ -783,6 +894,7 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
 
             final MongoDatabase mongoDatabase = getDatabase(persistentEntity, ctx.repositoryType);
             final MongoCollection<BsonDocument> collection = getCollection(mongoDatabase, persistentEntity, BsonDocument.class);
+            final boolean snapshotted = isSnapshotted(persistentEntity);
             Bson filter;
 
             @Override
@@ -792,16 +904,28 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
 
             @Override
             protected void execute() throws RuntimeException {
-                if (QUERY_LOG.isDebugEnabled()) {
-                    QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
-                }
                 BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(entity, mongoDatabase.getCodecRegistry());
-                bsonDocument.remove("_id");
-                UpdateResult updateResult = collection.replaceOne(ctx.clientSession, filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata));
-                modifiedCount = updateResult.getModifiedCount();
+                BsonValue id = bsonDocument.remove("_id");
+                BsonDocument update = snapshotted ? entitySnapshots.diff(ctx.clientSession, persistentEntity, id, bsonDocument) : null;
+                if (update == null) {
+                    if (QUERY_LOG.isDebugEnabled()) {
+                        QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
+                    }
+                    UpdateResult updateResult = collection.replaceOne(ctx.clientSession, filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata));
+                    modifiedCount = updateResult.getModifiedCount();
+                } else if (!update.isEmpty()) {
+                    if (QUERY_LOG.isDebugEnabled()) {
+                        QUERY_LOG.debug("Executing Mongo 'updateOne' with filter: {} and update: {}", filter.toBsonDocument().toJson(), update.toJson());
+                    }
+                    UpdateResult updateResult = collection.updateOne(ctx.clientSession, filter, update, getUpdateOptions(ctx.annotationMetadata));
+                    modifiedCount = updateResult.getModifiedCount();
+                }
                 if (persistentEntity.getVersion() != null) {
                     checkOptimisticLocking(1, (int) modifiedCount);
                 }
+                if (snapshotted) {
+                    entitySnapshots.put(ctx.clientSession, persistentEntity, id, bsonDocument);
+                }
             }
 
         };
@@ -844,6 +968,7 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
 
             final MongoDatabase mongoDatabase = getDatabase(persistentEntity, ctx.repositoryType);
             final MongoCollection<BsonDocument> collection = getCollection(mongoDatabase, persistentEntity, BsonDocument.class);
+            final boolean snapshotted = isSnapshotted(persistentEntity);
             Map<Data, Bson> filters;
 
             @Override
@@ -854,24 +979,153 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
 
             @Override
             protected void execute() throws RuntimeException {
-                List<ReplaceOneModel<BsonDocument>> replaces = new ArrayList<>(entities.size());
+                List<WriteModel<BsonDocument>> replaces = new ArrayList<>(entities.size());
+                Map<BsonValue, BsonDocument> documents = snapshotted ? new LinkedHashMap<>() : Map.of();
                 for (Data d : entities) {
                     if (d.vetoed) {
                         continue;
                     }
                     Bson filter = filters.get(d);
-                    if (QUERY_LOG.isDebugEnabled()) {
-                        QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
-                    }
                     BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(d.entity, mongoDatabase.getCodecRegistry());
-                    bsonDocument.remove("_id");
-                    replaces.add(new ReplaceOneModel<>(filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata)));
+                    BsonValue id = bsonDocument.remove("_id");
+                    BsonDocument update = null;
+                    if (snapshotted) {
+                        update = entitySnapshots.diff(ctx.clientSession, persistentEntity, id, bsonDocument);
+                        documents.put(id, bsonDocument);
+                    }
+                    if (update == null) {
+                        if (QUERY_LOG.isDebugEnabled()) {
+                            QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
+                        }
+                        replaces.add(new ReplaceOneModel<>(filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata)));
+                    } else if (!update.isEmpty()) {
+                        if (QUERY_LOG.isDebugEnabled()) {
+                            QUERY_LOG.debug("Executing Mongo 'updateOne' with filter: {} and update: {}", filter.toBsonDocument().toJson(), update.toJson());
+                        }
+                        replaces.add(new UpdateOneModel<>(filter, update, getUpdateOptions(ctx.annotationMetadata)));
+                    }
+                }
+                if (replaces.isEmpty()) {
+                    return;
                 }
                 BulkWriteResult bulkWriteResult = collection.bulkWrite(ctx.clientSession, replaces);
                 modifiedCount = bulkWriteResult.getModifiedCount();
                 if (persistentEntity.getVersion() != null) {
                     checkOptimisticLocking(replaces.size(), (int) modifiedCount);
                 }
+                documents.forEach((id, document) -> entitySnapshots.put(ctx.clientSession, persistentEntity, id, document));
+            }
+        };
+    }
+
+    private <T> MongoEntitiesOperation<T> createMongoUpsertManyOperation(MongoOperationContext ctx,
+                                                                         RuntimePersistentEntity<T> persistentEntity,
+                                                                         Iterable<T> entities,
+                                                                         List<String> keyNames,
+                                                                         Consumer<BulkWriteResult> resultConsumer) {
+        return new MongoEntitiesOperation<>(ctx, persistentEntity, entities, true) {
+
+            @Override
+            protected void execute() throws RuntimeException {
+                MongoDatabase mongoDatabase = getDatabase(persistentEntity, ctx.repositoryType);
+                MongoCollection<BsonDocument> collection = getCollection(mongoDatabase, persistentEntity, BsonDocument.class);
+                ReplaceOptions replaceOptions = getReplaceOptions(ctx.annotationMetadata).upsert(true);
+                List<WriteModel<BsonDocument>> writes = new ArrayList<>(entities.size());
+                List<Data> written = new ArrayList<>(entities.size());
+                // The key filters of the written entities, null for the inserted entities
+                List<BsonDocument> keyFilters = new ArrayList<>(entities.size());
+                for (Data d : entities) {
+                    if (d.vetoed) {
+                        continue;
+                    }
+                    BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(d.entity, mongoDatabase.getCodecRegistry());
+                    BsonValue id = bsonDocument.get(MongoUtils.ID);
+                    if (id != null && id.isNull()) {
+                        bsonDocument.remove(MongoUtils.ID);
+                        id = null;
+                    }
+                    if (keyNames.isEmpty() && id == null) {
+                        // Nothing to match, the identity is generated by the insert
+                        writes.add(new InsertOneModel<>(bsonDocument));
+                        keyFilters.add(null);
+                    } else {
+                        BsonDocument filter = new BsonDocument();
+                        if (keyNames.isEmpty()) {
+                            filter.put(MongoUtils.ID, id);
+                        } else {
+                            for (String keyName : keyNames) {
+                                filter.put(keyName, bsonDocument.get(keyName, BsonNull.VALUE));
+                            }
+                        }
+                        writes.add(new ReplaceOneModel<>(filter, bsonDocument, replaceOptions));
+                        keyFilters.add(filter);
+                    }
+                    written.add(d);
+                }
+                if (writes.isEmpty()) {
+                    return;
+                }
+                if (QUERY_LOG.isDebugEnabled()) {
+                    QUERY_LOG.debug("Executing Mongo 'bulkWrite' upsert of {} documents for collection: {}", writes.size(), collection.getNamespace().getFullName());
+                }
+                BulkWriteResult bulkWriteResult = collection.bulkWrite(ctx.clientSession, writes);
+                if (hasGeneratedId) {
+                    BeanProperty<T, Object> idProperty = persistentEntity.getIdentity().getProperty();
+                    Map<Integer, BsonValue> generatedIds = new LinkedHashMap<>();
+                    bulkWriteResult.getInserts().forEach(insert -> generatedIds.put(insert.getIndex(), insert.getId()));
+                    bulkWriteResult.getUpserts().forEach(upsert -> generatedIds.put(upsert.getIndex(), upsert.getId()));
+                    generatedIds.forEach((index, generatedId) -> {
+                        Data d = written.get(index);
+                        if (idProperty.get(d.entity) == null) {
+                            d.entity = updateEntityId(idProperty, d.entity, generatedId);
+                        }
+                    });
+                }
+                if (!keyNames.isEmpty()) {
+                    readMatchedIds(collection, written, keyFilters);
+                }
+                modifiedCount = bulkWriteResult.getModifiedCount();
+                resultConsumer.accept(bulkWriteResult);
+            }
+
+            /**
+             * Reads the identities of the documents matched by the key and replaced by the entities without the identity.
+             * The replaced documents keep their identity, it's written back to the entities the same way as the generated identities.
+             *
+             * @param collection The collection
+             * @param written    The written entities
+             * @param keyFilters The key filters of the written entities
+             */
+            private void readMatchedIds(MongoCollection<BsonDocument> collection,
+                                        List<Data> written,
+                                        List<BsonDocument> keyFilters) {
+                BeanProperty<T, Object> idProperty = persistentEntity.getIdentity().getProperty();
+                Map<BsonDocument, List<Data>> missingIds = new LinkedHashMap<>();
+                for (int i = 0; i < written.size(); i++) {
+                    Data d = written.get(i);
+                    BsonDocument keyFilter = keyFilters.get(i);
+                    if (keyFilter != null && idProperty.get(d.entity) == null) {
+                        missingIds.computeIfAbsent(keyFilter, k -> new ArrayList<>()).add(d);
+                    }
+                }
+                if (missingIds.isEmpty()) {
+                    return;
+                }
+                List<String> projection = new ArrayList<>(keyNames);
+                projection.add(MongoUtils.ID);
+                Bson filter = Filters.or(new ArrayList<Bson>(missingIds.keySet()));
+                for (BsonDocument document : collection.find(ctx.clientSession, filter).projection(Projections.include(projection))) {
+                    BsonDocument key = new BsonDocument();
+                    for (String keyName : keyNames) {
+                        key.put(keyName, document.get(keyName, BsonNull.VALUE));
+                    }
+                    List<Data> matched = missingIds.get(key);
+                    if (matched != null) {
+                        for (Data d : matched) {
+                            d.entity = updateEntityId(idProperty, d.entity, document.get(MongoUtils.ID));
+                        }
+                    }
+                }
             }
         };
     }
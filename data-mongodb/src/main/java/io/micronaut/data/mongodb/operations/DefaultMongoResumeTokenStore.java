@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.data.mongodb.conf.RequiresReactiveMongo;
+import jakarta.inject.Singleton;
+import org.bson.BsonDocument;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default in-memory implementation of {@link MongoResumeTokenStore}.
+ *
+ * @since 4.12.0
+ */
+@Singleton
+@RequiresReactiveMongo
+@Requires(missingBeans = MongoResumeTokenStore.class)
+@Internal
+public final class DefaultMongoResumeTokenStore implements MongoResumeTokenStore {
+
+    private final Map<String, BsonDocument> resumeTokens = new ConcurrentHashMap<>();
+
+    @Override
+    public Publisher<BsonDocument> findResumeToken(String name) {
+        return Mono.fromSupplier(() -> resumeTokens.get(name));
+    }
+
+    @Override
+    public Publisher<Void> saveResumeToken(String name, BsonDocument resumeToken) {
+        return Mono.fromRunnable(() -> resumeTokens.put(name, resumeToken));
+    }
+
+}
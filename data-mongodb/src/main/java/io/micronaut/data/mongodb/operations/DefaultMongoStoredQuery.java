@@ -15,19 +15,25 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.ReadPreference;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.UpdateOptions;
 import io.micronaut.aop.InvocationContext;
+import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.document.model.query.builder.MongoQueryBuilder;
+import io.micronaut.data.document.mongo.MongoAnnotations;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.model.PersistentPropertyPath;
@@ -40,6 +46,7 @@ import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.model.runtime.convert.AttributeConverter;
 import io.micronaut.data.mongodb.annotation.MongoCollation;
+import io.micronaut.data.mongodb.annotation.MongoFacetPage;
 import io.micronaut.data.mongodb.annotation.MongoProjection;
 import io.micronaut.data.mongodb.annotation.MongoSort;
 import io.micronaut.data.mongodb.operations.options.MongoAggregationOptions;
@@ -48,12 +55,16 @@ import io.micronaut.data.mongodb.operations.options.MongoOptionsUtils;
 import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersStoredQuery;
 import io.micronaut.data.runtime.query.internal.DefaultStoredQuery;
 import io.micronaut.data.runtime.query.internal.DelegateStoredQuery;
+import io.micronaut.serde.config.annotation.SerdeConfig;
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.BsonObjectId;
 import org.bson.BsonRegularExpression;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
@@ -63,7 +74,9 @@ import org.slf4j.LoggerFactory;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -85,6 +98,7 @@ final class DefaultMongoStoredQuery<E, R> extends DefaultBindableParametersStore
     private static final Pattern MONGO_PARAM_PATTERN = Pattern.compile("\\W*(\\" + MongoQueryBuilder.QUERY_PARAMETER_PLACEHOLDER + ":(\\d)+)\\W*");
     private static final Logger LOG = LoggerFactory.getLogger(DefaultMongoStoredQuery.class);
     private static final BsonDocument EMPTY = new BsonDocument();
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
 
     private final StoredQuery<E, R> storedQuery;
     private final Supplier<CodecRegistry> codecRegistry;
@@ -97,6 +111,13 @@ final class DefaultMongoStoredQuery<E, R> extends DefaultBindableParametersStore
     private final AggregateData aggregateData;
     private final DeleteData deleteData;
     private final boolean isCount;
+    @Nullable
+    private final ReadPreference readPreference;
+    private final boolean facetPage;
+    /**
+     * The parameter placeholder paths of the templates serialized at the compilation time.
+     */
+    private final Map<Bson, List<BsonArray>> templateParameterPaths = new IdentityHashMap<>();
 
     DefaultMongoStoredQuery(StoredQuery<E, R> storedQuery,
                             Supplier<CodecRegistry> codecRegistry,
@@ -147,19 +168,23 @@ final class DefaultMongoStoredQuery<E, R> extends DefaultBindableParametersStore
                 findData = null;
             } else {
                 aggregateData = null;
-                findData = new FindData(BsonDocument.parse(query));
+                findData = new FindData(parseQuery(query));
             }
             isCount = operationType == OperationType.COUNT || storedQuery.isCount() || query.contains("$count");
+            readPreference = MongoOptionsUtils.buildReadPreference(storedQuery.getAnnotationMetadata()).orElse(null);
+            facetPage = !isCount && storedQuery.getAnnotationMetadata().hasAnnotation(MongoFacetPage.class);
         } else {
             aggregateData = null;
             findData = null;
             isCount = false;
+            readPreference = null;
+            facetPage = false;
         }
 
         if (operationType == OperationType.DELETE) {
             String query = storedQuery.getQuery();
             deleteData = new DeleteData(
-                    StringUtils.isEmpty(query) ? EMPTY : BsonDocument.parse(query),
+                    StringUtils.isEmpty(query) ? EMPTY : parseQuery(query),
                     getParameterInRole(MongoRoles.FILTER_ROLE),
                     getParameterInRole(MongoRoles.DELETE_OPTIONS_ROLE)
             );
@@ -173,7 +198,7 @@ final class DefaultMongoStoredQuery<E, R> extends DefaultBindableParametersStore
             }
             String query = storedQuery.getQuery();
             updateData = new UpdateData(
-                    BsonDocument.parse(updateJson), StringUtils.isEmpty(query) ? EMPTY : BsonDocument.parse(query),
+                    parseUpdate(updateJson), StringUtils.isEmpty(query) ? EMPTY : parseQuery(query),
                     getParameterInRole(MongoRoles.FILTER_ROLE),
                     getParameterInRole(MongoRoles.UPDATE_ROLE),
                     getParameterInRole(MongoRoles.UPDATE_OPTIONS_ROLE)
@@ -184,7 +209,9 @@ final class DefaultMongoStoredQuery<E, R> extends DefaultBindableParametersStore
     }
 
     private List<Bson> parseAggregation(String query, boolean isCount) {
-        List<Bson> pipeline = BsonArray.parse(query).stream().<Bson>map(BsonValue::asDocument).toList();
+        BsonValue template = findBsonTemplate(query, AnnotationMetadata.VALUE_MEMBER, MongoAnnotations.QUERY_BSON);
+        BsonArray array = template == null ? BsonArray.parse(query) : template.asArray();
+        List<Bson> pipeline = array.stream().<Bson>map(BsonValue::asDocument).toList();
         if (isCount && pipeline.stream().noneMatch(p -> p.toBsonDocument().containsKey("$count"))) {
             // We can probably remove sorting projection etc. or allow a user to specify a custom count pipeline
             List<Bson> countPipeline = new ArrayList<>(pipeline);
@@ -241,6 +268,16 @@ final class DefaultMongoStoredQuery<E, R> extends DefaultBindableParametersStore
         return aggregateData != null;
     }
 
+    @Override
+    public ReadPreference getReadPreference() {
+        return readPreference;
+    }
+
+    @Override
+    public boolean isFacetPage() {
+        return facetPage;
+    }
+
     @Override
     public MongoAggregation getAggregation(InvocationContext<?, ?> invocationContext) {
         if (aggregateData == null) {
@@ -290,10 +327,112 @@ final class DefaultMongoStoredQuery<E, R> extends DefaultBindableParametersStore
         return deleteData.getDeleteOne(entity);
     }
 
+    private BsonDocument parseQuery(String query) {
+        BsonValue template = findBsonTemplate(query, AnnotationMetadata.VALUE_MEMBER, MongoAnnotations.QUERY_BSON);
+        return template == null ? BsonDocument.parse(query) : template.asDocument();
+    }
+
+    private BsonDocument parseUpdate(String update) {
+        BsonValue template = findBsonTemplate(update, "update", MongoAnnotations.UPDATE_BSON);
+        return template == null ? BsonDocument.parse(update) : template.asDocument();
+    }
+
+    /**
+     * Finds the query serialized into BSON at the compilation time.
+     * The template without parameters is kept as the raw document, the template with parameters is copied
+     * into a mutable document because the parameters are replaced in its copies.
+     * The parameter placeholder paths precomputed by the processor are registered for each document,
+     * the parameters are replaced at these paths without scanning the document.
+     *
+     * @param json       The query JSON
+     * @param jsonMember The query member with the JSON
+     * @param bsonMember The query member with the BSON
+     * @return The BSON value or null if the template is missing or doesn't match the JSON
+     */
+    @Nullable
+    private BsonValue findBsonTemplate(String json, String jsonMember, String bsonMember) {
+        AnnotationMetadata annotationMetadata = storedQuery.getAnnotationMetadata();
+        String encoded = annotationMetadata.stringValue(Query.class, bsonMember).orElse(null);
+        if (encoded == null || !json.equals(annotationMetadata.stringValue(Query.class, jsonMember).orElse(null))) {
+            return null;
+        }
+        RawBsonDocument template = new RawBsonDocument(Base64.getDecoder().decode(encoded));
+        BsonValue value = template.get(MongoAnnotations.BSON_TEMPLATE_VALUE);
+        List<BsonArray> parameterPaths = template.getArray(MongoAnnotations.BSON_TEMPLATE_PARAMETERS).stream()
+            .map(BsonValue::asArray)
+            .toList();
+        if (parameterPaths.isEmpty()) {
+            return value;
+        }
+        if (value.isArray()) {
+            BsonArray stages = value.asArray();
+            BsonArray array = new BsonArray(stages.size());
+            for (int i = 0; i < stages.size(); i++) {
+                int stageIndex = i;
+                BsonDocument stage = toMutableDocument(stages.get(i).asDocument());
+                // The stage paths are relative to the stage document
+                templateParameterPaths.put(stage, parameterPaths.stream()
+                    .filter(path -> path.get(0).asInt32().getValue() == stageIndex)
+                    .map(path -> new BsonArray(path.getValues().subList(1, path.size())))
+                    .toList());
+                array.add(stage);
+            }
+            return array;
+        }
+        BsonDocument document = toMutableDocument(value.asDocument());
+        templateParameterPaths.put(document, parameterPaths);
+        return document;
+    }
+
+    private static BsonDocument toMutableDocument(BsonDocument document) {
+        return BSON_DOCUMENT_CODEC.decode(document.asBsonReader(), DecoderContext.builder().build());
+    }
+
+    /**
+     * Builds the projection including only the fields read by the DTO.
+     * The projection is only created when every DTO property is mapped to an entity property,
+     * otherwise the DTO might be reading a field not known by the entity.
+     *
+     * @return The projection or null
+     */
+    @Nullable
+    private BsonDocument buildDtoProjection() {
+        if (!storedQuery.isDtoProjection() || storedQuery.isCount()) {
+            return null;
+        }
+        BeanIntrospection<R> introspection = BeanIntrospector.SHARED.findIntrospection(storedQuery.getResultType()).orElse(null);
+        if (introspection == null) {
+            return null;
+        }
+        BsonDocument projection = new BsonDocument();
+        for (BeanProperty<R, Object> beanProperty : introspection.getBeanProperties()) {
+            RuntimePersistentProperty<E> property = persistentEntity.getPropertyByName(beanProperty.getName());
+            if (property == null || beanProperty.hasAnnotation(SerdeConfig.class)) {
+                return null;
+            }
+            String fieldName;
+            if (persistentEntity.getIdentity() == property) {
+                fieldName = MongoUtils.ID;
+            } else {
+                fieldName = property.getAnnotationMetadata().stringValue(SerdeConfig.class, SerdeConfig.PROPERTY).orElseGet(property::getName);
+            }
+            projection.append(fieldName, new BsonInt32(1));
+        }
+        return projection.isEmpty() ? null : projection;
+    }
+
     private boolean needsProcessing(Bson value) {
         if (value == null) {
             return false;
         }
+        if (value instanceof RawBsonDocument) {
+            // Only the templates without parameters are kept raw
+            return false;
+        }
+        List<BsonArray> parameterPaths = templateParameterPaths.get(value);
+        if (parameterPaths != null) {
+            return !parameterPaths.isEmpty();
+        }
         if (value instanceof BsonDocument) {
             return needsProcessingValue(value.toBsonDocument());
         }
@@ -342,11 +481,83 @@ final class DefaultMongoStoredQuery<E, R> extends DefaultBindableParametersStore
 
     private Bson replaceQueryParameters(Bson value, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
         if (value instanceof BsonDocument bsonDocument) {
+            List<BsonArray> parameterPaths = templateParameterPaths.get(value);
+            if (parameterPaths != null) {
+                if (parameterPaths.isEmpty()) {
+                    return value;
+                }
+                return replaceQueryParametersAtPaths(bsonDocument.clone(), parameterPaths, invocationContext, entity);
+            }
             return (BsonDocument) replaceQueryParametersInBsonValue(bsonDocument.clone(), invocationContext, entity);
         }
         throw new IllegalStateException("Unrecognized value: " + value);
     }
 
+    /**
+     * Replaces the parameters at the paths precomputed by the processor.
+     * The paths are processed in the reverse document order, replacing a parameter with multiple values
+     * doesn't shift the indexes of the paths not yet processed.
+     *
+     * @param document          The document copy
+     * @param parameterPaths    The parameter paths in the document order
+     * @param invocationContext The invocation context
+     * @param entity            The entity
+     * @return The document
+     */
+    private BsonDocument replaceQueryParametersAtPaths(BsonDocument document,
+                                                      List<BsonArray> parameterPaths,
+                                                      @Nullable InvocationContext<?, ?> invocationContext,
+                                                      @Nullable E entity) {
+        for (int i = parameterPaths.size() - 1; i >= 0; i--) {
+            BsonArray path = parameterPaths.get(i);
+            BsonValue parent = document;
+            for (int j = 0; j < path.size() - 1; j++) {
+                parent = getChild(parent, path.get(j));
+            }
+            BsonValue segment = path.get(path.size() - 1);
+            BsonValue bsonValue = getChild(parent, segment);
+            BsonValue newValue = replaceQueryParametersInBsonValue(bsonValue, invocationContext, entity);
+            if (bsonValue != newValue) {
+                if (parent.isDocument()) {
+                    parent.asDocument().put(segment.asString().getValue(), newValue);
+                } else {
+                    replaceArrayElement(parent.asArray(), segment.asInt32().getValue(), newValue);
+                }
+            }
+        }
+        return document;
+    }
+
+    private static BsonValue getChild(BsonValue value, BsonValue segment) {
+        if (segment.isInt32()) {
+            return value.asArray().get(segment.asInt32().getValue());
+        }
+        return value.asDocument().get(segment.asString().getValue());
+    }
+
+    /**
+     * Replaces the array element, the null value removes the element and the array value is expanded into the elements.
+     *
+     * @param array    The array
+     * @param index    The element index
+     * @param newValue The new value
+     * @return The number of the elements replacing the element
+     */
+    private static int replaceArrayElement(BsonArray array, int index, BsonValue newValue) {
+        if (newValue.isNull()) {
+            array.remove(index);
+            return 0;
+        }
+        if (newValue.isArray()) {
+            array.remove(index);
+            List<BsonValue> values = newValue.asArray().getValues();
+            array.addAll(index, values);
+            return values.size();
+        }
+        array.set(index, newValue);
+        return 1;
+    }
+
     private List<Bson> replaceQueryParametersInList(List<Bson> values, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
         values = new ArrayList<>(values);
         for (int i = 0; i < values.size(); i++) {
@@ -436,17 +647,7 @@ final class DefaultMongoStoredQuery<E, R> extends DefaultBindableParametersStore
                 BsonValue bsonValue = bsonArray.get(i);
                 BsonValue newValue = replaceQueryParametersInBsonValue(bsonValue, invocationContext, entity);
                 if (bsonValue != newValue) {
-                    if (newValue.isNull()) {
-                        bsonArray.remove(i);
-                        i -= 1;
-                    } else if (newValue.isArray()) {
-                        bsonArray.remove(i);
-                        List<BsonValue> values = newValue.asArray().getValues();
-                        bsonArray.addAll(i, values);
-                        i += values.size() - 1;
-                    } else {
-                        bsonArray.set(i, newValue);
-                    }
+                    i += replaceArrayElement(bsonArray, i, newValue) - 1;
                 }
             }
         } else if (value instanceof BsonRegularExpression bsonRegularExpression) {
@@ -731,7 +932,7 @@ final class DefaultMongoStoredQuery<E, R> extends DefaultBindableParametersStore
             this.optionsParameterIndex = getParameterIndexByName(optionsParameter);
             sort = storedQuery.getAnnotationMetadata().stringValue(MongoSort.class).map(BsonDocument::parse).orElse(null);
             sortNeedsProcessing = needsProcessing(sort);
-            projection = storedQuery.getAnnotationMetadata().stringValue(MongoProjection.class).map(BsonDocument::parse).orElse(null);
+            projection = storedQuery.getAnnotationMetadata().stringValue(MongoProjection.class).map(BsonDocument::parse).orElseGet(DefaultMongoStoredQuery.this::buildDtoProjection);
             projectionNeedsProcessing = needsProcessing(projection);
             this.filter = filter;
             this.filterNeedsProcessing = needsProcessing(filter);
@@ -16,13 +16,16 @@
 package io.micronaut.data.mongodb.operations;
 
 import com.mongodb.CursorType;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.changestream.FullDocument;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.ChangeStreamPublisher;
 import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.FindPublisher;
 import com.mongodb.reactivestreams.client.MongoClient;
@@ -65,10 +68,13 @@ import io.micronaut.data.runtime.operations.internal.AbstractReactiveEntitiesOpe
 import io.micronaut.data.runtime.operations.internal.AbstractReactiveEntityOperations;
 import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.ReactiveCascadeOperations;
+import io.micronaut.data.runtime.query.PageResults;
+import io.micronaut.data.runtime.query.ReactiveSingleQueryPageOperations;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentWrapper;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
@@ -81,6 +87,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -97,12 +104,14 @@ import java.util.function.Predicate;
 public final class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepositoryOperations<MongoDatabase>
     implements MongoReactorRepositoryOperations,
     ReactorReactiveRepositoryOperations,
+    ReactiveSingleQueryPageOperations,
     ReactiveCascadeOperations.ReactiveCascadeOperationsHelper<DefaultReactiveMongoRepositoryOperations.MongoOperationContext> {
 
     private static final Logger QUERY_LOG = DataSettings.QUERY_LOG;
     private final MongoClient mongoClient;
     private final ReactiveCascadeOperations<MongoOperationContext> cascadeOperations;
     private final ReactorConnectionOperations<ClientSession> connectionOperations;
+    private final MongoResumeTokenStore resumeTokenStore;
 
     /**
      * Default constructor.
@@ -116,6 +125,7 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
      * @param mongoClient                The reactive mongo client
      * @param collectionNameProvider     The collection name provider
      * @param connectionOperations       The connection operations
+     * @param resumeTokenStore           The change stream resume token store
      */
     DefaultReactiveMongoRepositoryOperations(@Parameter String serverName,
                                              BeanContext beanContext,
@@ -125,13 +135,15 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
                                              AttributeConverterRegistry attributeConverterRegistry,
                                              MongoClient mongoClient,
                                              MongoCollectionNameProvider collectionNameProvider,
-                                             @Parameter ReactorConnectionOperations<ClientSession> connectionOperations) {
+                                             @Parameter ReactorConnectionOperations<ClientSession> connectionOperations,
+                                             MongoResumeTokenStore resumeTokenStore) {
         super(dateTimeProvider, runtimeEntityRegistry, conversionService, attributeConverterRegistry, collectionNameProvider,
             beanContext.getBean(MongoDatabaseNameProvider.class, "Primary".equals(serverName) ? null : Qualifiers.byName(serverName))
         );
         this.mongoClient = mongoClient;
         this.cascadeOperations = new ReactiveCascadeOperations<>(conversionService, this);
         this.connectionOperations = connectionOperations;
+        this.resumeTokenStore = resumeTokenStore;
     }
 
     @Override
@@ -168,9 +180,9 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
         return withClientSession(clientSession -> {
             MongoPreparedQuery<T, Boolean> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
             if (mongoPreparedQuery.isAggregate()) {
-                return Flux.from(aggregate(clientSession, mongoPreparedQuery, BsonDocument.class)).hasElements();
+                return Flux.from(aggregate(clientSession, mongoPreparedQuery, RawBsonDocument.class)).hasElements();
             } else {
-                return Flux.from(find(clientSession, mongoPreparedQuery, BsonDocument.class).limit(1)).hasElements();
+                return Flux.from(find(clientSession, mongoPreparedQuery, RawBsonDocument.class).limit(1)).hasElements();
             }
         });
     }
@@ -190,6 +202,19 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
         return withClientSessionMany(clientSession -> findAll(clientSession, getMongoPreparedQuery(preparedQuery)));
     }
 
+    @Override
+    public <E, R> Mono<PageResults<R>> findPageResults(PreparedQuery<E, R> pq) {
+        MongoPreparedQuery<E, R> preparedQuery = getMongoPreparedQuery(pq);
+        MongoAggregation aggregation = preparedQuery.getFacetPageAggregation();
+        if (aggregation == null) {
+            return null;
+        }
+        CodecRegistry codecRegistry = getDatabase(preparedQuery).getCodecRegistry();
+        return withClientSession(clientSession -> Mono.from(aggregate(clientSession, preparedQuery, aggregation, RawBsonDocument.class).first())
+            .map(result -> convertFacetPageResult(codecRegistry, preparedQuery, result))
+            .switchIfEmpty(Mono.fromSupplier(() -> convertFacetPageResult(codecRegistry, preparedQuery, null))));
+    }
+
     @Override
     public <T> Mono<T> findOptional(Class<T> type, Object id) {
         return findOne(type, id);
@@ -348,7 +373,7 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'aggregate' with pipeline: {}", aggregation.getPipeline().stream().map(e -> e.toBsonDocument().toJson()).toList());
             }
-            return Mono.from(aggregate(clientSession, preparedQuery, BsonDocument.class).first())
+            return Mono.from(aggregate(clientSession, preparedQuery, RawBsonDocument.class).first())
                 .map(bsonDocument -> convertResult(database.getCodecRegistry(), resultType, bsonDocument, false))
                 .switchIfEmpty(Mono.defer(() -> Mono.just(conversionService.convertRequired(0, resultType))));
         } else {
@@ -359,7 +384,7 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'countDocuments' with filter: {}", filter.toBsonDocument().toJson());
             }
-            return Mono.from(getCollection(database, persistentEntity, BsonDocument.class)
+            return Mono.from(applyReadPreference(clientSession, preparedQuery, getCollection(database, persistentEntity, BsonDocument.class))
                     .countDocuments(clientSession, filter))
                 .map(count -> conversionService.convertRequired(count, resultType));
         }
@@ -382,7 +407,7 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
         Class<T> type = preparedQuery.getRootEntity();
         if (!resultType.isAssignableFrom(type)) {
             MongoDatabase database = getDatabase(preparedQuery);
-            return Mono.from(aggregate(clientSession, preparedQuery, BsonDocument.class).first())
+            return Mono.from(aggregate(clientSession, preparedQuery, RawBsonDocument.class).first())
                 .map(bsonDocument -> convertResult(database.getCodecRegistry(), resultType, bsonDocument, preparedQuery.isDtoProjection()));
         }
         return Mono.from(aggregate(clientSession, preparedQuery).first())
@@ -401,7 +426,7 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
         Flux<R> aggregate;
         if (!resultType.isAssignableFrom(type)) {
             MongoDatabase database = getDatabase(preparedQuery);
-            aggregate = Flux.from(aggregate(clientSession, preparedQuery, BsonDocument.class))
+            aggregate = Flux.from(aggregate(clientSession, preparedQuery, RawBsonDocument.class))
                 .map(result -> convertResult(database.getCodecRegistry(), resultType, result, isDtoProjection));
         } else {
             aggregate = Flux.from(aggregate(clientSession, preparedQuery));
@@ -421,7 +446,7 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
             logFind(find);
         }
         MongoDatabase database = getDatabase(preparedQuery);
-        MongoCollection<MR> collection = getCollection(database, preparedQuery.getPersistentEntity(), resultType);
+        MongoCollection<MR> collection = applyReadPreference(clientSession, preparedQuery, getCollection(database, preparedQuery.getPersistentEntity(), resultType));
         FindPublisher<MR> findIterable = collection.find(clientSession, resultType);
         return applyFindOptions(find.getOptions(), findIterable);
     }
@@ -512,9 +537,15 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
     private <T, R, MR> AggregatePublisher<MR> aggregate(ClientSession clientSession,
                                                         MongoPreparedQuery<T, R> preparedQuery,
                                                         Class<MR> resultType) {
+        return aggregate(clientSession, preparedQuery, preparedQuery.getAggregation(), resultType);
+    }
+
+    private <T, R, MR> AggregatePublisher<MR> aggregate(ClientSession clientSession,
+                                                        MongoPreparedQuery<T, R> preparedQuery,
+                                                        MongoAggregation aggregation,
+                                                        Class<MR> resultType) {
         MongoDatabase database = getDatabase(preparedQuery);
-        MongoCollection<MR> collection = getCollection(database, preparedQuery.getPersistentEntity(), resultType);
-        MongoAggregation aggregation = preparedQuery.getAggregation();
+        MongoCollection<MR> collection = applyReadPreference(clientSession, preparedQuery, getCollection(database, preparedQuery.getPersistentEntity(), resultType));
         if (QUERY_LOG.isDebugEnabled()) {
             logAggregate(aggregation);
         }
@@ -645,6 +676,15 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
         return getCollection(persistentEntity, ctx.repositoryType, persistentEntity.getIntrospection().getBeanType());
     }
 
+    private <MR> MongoCollection<MR> applyReadPreference(ClientSession clientSession, MongoPreparedQuery<?, ?> preparedQuery, MongoCollection<MR> collection) {
+        ReadPreference readPreference = preparedQuery.getReadPreference();
+        if (readPreference == null || clientSession.hasActiveTransaction()) {
+            // Reads in a transaction must use the primary
+            return collection;
+        }
+        return getCollectionWithReadPreference(collection, collection.getNamespace(), collection.getDocumentClass(), readPreference, MongoCollection::withReadPreference);
+    }
+
     private <T, R> MongoCollection<R> getCollection(MongoDatabase database, RuntimePersistentEntity<T> persistentEntity, Class<R> resultType) {
         return database.getCollection(collectionNameProvider.provide(persistentEntity), resultType);
     }
@@ -684,6 +724,29 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
         return Mono.from(collection.insertMany(ctx.clientSession, associations, getInsertManyOptions(ctx.annotationMetadata))).then();
     }
 
+    @Override
+    public <E> Flux<MongoChangeEvent<E>> watch(Class<E> entityType,
+                                               @Nullable Class<?> repositoryType,
+                                               List<Bson> pipeline,
+                                               FullDocument fullDocument,
+                                               @Nullable String resumeTokenName) {
+        RuntimePersistentEntity<E> persistentEntity = runtimeEntityRegistry.getEntity(entityType);
+        MongoCollection<E> collection = getCollection(persistentEntity, repositoryType, entityType);
+        Mono<BsonDocument> resumeToken = resumeTokenName == null ? Mono.empty() : Mono.from(resumeTokenStore.findResumeToken(resumeTokenName));
+        return resumeToken.map(Optional::of).defaultIfEmpty(Optional.empty()).flatMapMany(token -> {
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing Mongo 'watch' for collection: {} with pipeline: {}", collection.getNamespace().getFullName(),
+                    pipeline.stream().map(e -> e.toBsonDocument().toJson()).toList());
+            }
+            ChangeStreamPublisher<E> changeStream = collection.watch(pipeline, entityType).fullDocument(fullDocument);
+            if (token.isPresent()) {
+                changeStream = changeStream.resumeAfter(token.get());
+            }
+            // The token is stored when the event is acknowledged after processing, not when it is received
+            return Flux.from(changeStream).map(document -> MongoChangeEvent.of(document, resumeTokenStore, resumeTokenName));
+        });
+    }
+
     @Override
     public <T> Mono<T> withClientSession(Function<ClientSession, Mono<T>> function) {
         return connectionOperations.withConnectionMono(status -> function.apply(status.getConnection()));
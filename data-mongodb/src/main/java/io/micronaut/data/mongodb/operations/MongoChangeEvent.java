@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.reactivestreams.Publisher;
+
+import java.util.Objects;
+
+/**
+ * The change event of the MongoDB's change stream.
+ *
+ * @param <E> The entity type
+ * @since 4.12.0
+ */
+@Experimental
+public final class MongoChangeEvent<E> {
+
+    private final OperationType operationType;
+    private final BsonDocument documentKey;
+    private final E fullDocument;
+    private final UpdateDescription updateDescription;
+    private final BsonDocument resumeToken;
+    private final BsonTimestamp clusterTime;
+    @Nullable
+    private final MongoResumeTokenStore resumeTokenStore;
+    @Nullable
+    private final String resumeTokenName;
+
+    /**
+     * @param operationType     The operation type
+     * @param documentKey       The key of the changed document
+     * @param fullDocument      The full document, depends on the full document mode
+     * @param updateDescription The updated and removed fields of the update operation
+     * @param resumeToken       The resume token of the event
+     * @param clusterTime       The cluster time of the change
+     */
+    public MongoChangeEvent(@NonNull OperationType operationType,
+                            @Nullable BsonDocument documentKey,
+                            @Nullable E fullDocument,
+                            @Nullable UpdateDescription updateDescription,
+                            @NonNull BsonDocument resumeToken,
+                            @Nullable BsonTimestamp clusterTime) {
+        this(operationType, documentKey, fullDocument, updateDescription, resumeToken, clusterTime, null, null);
+    }
+
+    private MongoChangeEvent(OperationType operationType,
+                             BsonDocument documentKey,
+                             E fullDocument,
+                             UpdateDescription updateDescription,
+                             BsonDocument resumeToken,
+                             BsonTimestamp clusterTime,
+                             @Nullable MongoResumeTokenStore resumeTokenStore,
+                             @Nullable String resumeTokenName) {
+        this.operationType = operationType;
+        this.documentKey = documentKey;
+        this.fullDocument = fullDocument;
+        this.updateDescription = updateDescription;
+        this.resumeToken = resumeToken;
+        this.clusterTime = clusterTime;
+        this.resumeTokenStore = resumeTokenStore;
+        this.resumeTokenName = resumeTokenName;
+    }
+
+    /**
+     * Creates the change event from the driver's change stream document.
+     *
+     * @param document The change stream document
+     * @param <E>      The entity type
+     * @return The change event
+     */
+    @NonNull
+    public static <E> MongoChangeEvent<E> of(@NonNull ChangeStreamDocument<E> document) {
+        return of(document, null, null);
+    }
+
+    /**
+     * Creates the change event from the driver's change stream document, acknowledging the event stores its resume token.
+     *
+     * @param document         The change stream document
+     * @param resumeTokenStore The resume token store
+     * @param resumeTokenName  The resume token name
+     * @param <E>              The entity type
+     * @return The change event
+     */
+    @NonNull
+    static <E> MongoChangeEvent<E> of(@NonNull ChangeStreamDocument<E> document,
+                                      @Nullable MongoResumeTokenStore resumeTokenStore,
+                                      @Nullable String resumeTokenName) {
+        return new MongoChangeEvent<>(
+            document.getOperationType(),
+            document.getDocumentKey(),
+            document.getFullDocument(),
+            document.getUpdateDescription(),
+            document.getResumeToken(),
+            document.getClusterTime(),
+            resumeTokenStore,
+            resumeTokenName
+        );
+    }
+
+    /**
+     * @return The operation type
+     */
+    @NonNull
+    public OperationType operationType() {
+        return operationType;
+    }
+
+    /**
+     * @return The key of the changed document
+     */
+    @Nullable
+    public BsonDocument documentKey() {
+        return documentKey;
+    }
+
+    /**
+     * @return The full document, depends on the full document mode
+     */
+    @Nullable
+    public E fullDocument() {
+        return fullDocument;
+    }
+
+    /**
+     * @return The updated and removed fields of the update operation
+     */
+    @Nullable
+    public UpdateDescription updateDescription() {
+        return updateDescription;
+    }
+
+    /**
+     * @return The resume token of the event
+     */
+    @NonNull
+    public BsonDocument resumeToken() {
+        return resumeToken;
+    }
+
+    /**
+     * @return The cluster time of the change
+     */
+    @Nullable
+    public BsonTimestamp clusterTime() {
+        return clusterTime;
+    }
+
+    /**
+     * Acknowledges the event once it is processed. The resume token of the event is stored with the
+     * {@link MongoResumeTokenStore} and a new subscription of the change stream resumes after this event.
+     * The events that are not acknowledged are received again, the processing is at-least-once.
+     * Completes without storing anything if the change stream method doesn't define a resume token name.
+     *
+     * @return The publisher completing when the resume token is stored
+     */
+    @NonNull
+    public Publisher<Void> acknowledge() {
+        if (resumeTokenStore == null || resumeTokenName == null) {
+            return Publishers.empty();
+        }
+        return resumeTokenStore.saveResumeToken(resumeTokenName, resumeToken);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MongoChangeEvent<?> that)) {
+            return false;
+        }
+        return operationType == that.operationType
+            && Objects.equals(documentKey, that.documentKey)
+            && Objects.equals(fullDocument, that.fullDocument)
+            && Objects.equals(updateDescription, that.updateDescription)
+            && Objects.equals(resumeToken, that.resumeToken)
+            && Objects.equals(clusterTime, that.clusterTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operationType, documentKey, fullDocument, updateDescription, resumeToken, clusterTime);
+    }
+
+    @Override
+    public String toString() {
+        return "MongoChangeEvent{" +
+            "operationType=" + operationType +
+            ", documentKey=" + documentKey +
+            ", fullDocument=" + fullDocument +
+            ", updateDescription=" + updateDescription +
+            ", resumeToken=" + resumeToken +
+            ", clusterTime=" + clusterTime +
+            '}';
+    }
+}
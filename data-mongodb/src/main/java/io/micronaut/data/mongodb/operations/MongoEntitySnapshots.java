@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations;
+
+import com.mongodb.client.ClientSession;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.mongodb.annotation.MongoPartialUpdate;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The snapshots of the {@link MongoPartialUpdate} entities loaded in a client session.
+ * The snapshots are released together with the session.
+ *
+ * @since 4.12.0
+ */
+@Internal
+final class MongoEntitySnapshots {
+
+    private static final String ID = "_id";
+    private static final String SET = "$set";
+    private static final String UNSET = "$unset";
+
+    private final Map<ClientSession, Map<SnapshotKey, BsonDocument>> snapshots = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * @param persistentEntity The persistent entity
+     * @return true if the entity is updated partially
+     */
+    static boolean isPartialUpdate(RuntimePersistentEntity<?> persistentEntity) {
+        return persistentEntity.getAnnotationMetadata().hasAnnotation(MongoPartialUpdate.class);
+    }
+
+    /**
+     * Snapshots the loaded entity.
+     *
+     * @param clientSession    The client session
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param codecRegistry    The codec registry
+     * @param <T>              The entity type
+     * @return the entity
+     */
+    <T> T snapshot(ClientSession clientSession, RuntimePersistentEntity<T> persistentEntity, T entity, CodecRegistry codecRegistry) {
+        if (entity != null) {
+            // Clone to encode the current state of the entity, the wrapper is encoded lazily
+            BsonDocument document = BsonDocumentWrapper.asBsonDocument(entity, codecRegistry).clone();
+            BsonValue id = document.remove(ID);
+            if (id != null) {
+                put(clientSession, persistentEntity, id, document);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Replaces the snapshot with the written document.
+     *
+     * @param clientSession    The client session
+     * @param persistentEntity The persistent entity
+     * @param id               The id
+     * @param document         The document without the id
+     */
+    void put(ClientSession clientSession, RuntimePersistentEntity<?> persistentEntity, BsonValue id, BsonDocument document) {
+        snapshots.computeIfAbsent(clientSession, session -> Collections.synchronizedMap(new HashMap<>()))
+            .put(new SnapshotKey(persistentEntity.getName(), id), document);
+    }
+
+    /**
+     * Creates the update of the fields changed since the snapshot.
+     *
+     * @param clientSession    The client session
+     * @param persistentEntity The persistent entity
+     * @param id               The id
+     * @param document         The document without the id
+     * @return The update, empty if nothing changed, or null if there is no snapshot
+     */
+    @Nullable
+    BsonDocument diff(ClientSession clientSession, RuntimePersistentEntity<?> persistentEntity, BsonValue id, BsonDocument document) {
+        Map<SnapshotKey, BsonDocument> sessionSnapshots = snapshots.get(clientSession);
+        BsonDocument snapshot = sessionSnapshots == null ? null : sessionSnapshots.get(new SnapshotKey(persistentEntity.getName(), id));
+        if (snapshot == null) {
+            return null;
+        }
+        BsonDocument set = new BsonDocument();
+        for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+            if (!entry.getValue().equals(snapshot.get(entry.getKey()))) {
+                set.put(entry.getKey(), entry.getValue());
+            }
+        }
+        BsonDocument unset = new BsonDocument();
+        for (String field : snapshot.keySet()) {
+            if (!document.containsKey(field)) {
+                unset.put(field, new BsonString(""));
+            }
+        }
+        BsonDocument update = new BsonDocument();
+        if (!set.isEmpty()) {
+            update.put(SET, set);
+        }
+        if (!unset.isEmpty()) {
+            update.put(UNSET, unset);
+        }
+        return update;
+    }
+
+    private record SnapshotKey(String entity, BsonValue id) {
+    }
+}
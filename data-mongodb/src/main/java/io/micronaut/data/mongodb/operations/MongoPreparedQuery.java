@@ -15,7 +15,9 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.ReadPreference;
 import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 
@@ -40,11 +42,32 @@ public interface MongoPreparedQuery<E, R> extends PreparedQuery<E, R> {
      */
     boolean isAggregate();
 
+    /**
+     * @return The read preference of the query or null if the default should be used
+     * @since 4.12.0
+     */
+    @Nullable
+    default ReadPreference getReadPreference() {
+        return null;
+    }
+
     /**
      * @return The data to execute the aggregation
      */
     MongoAggregation getAggregation();
 
+    /**
+     * The aggregation finding the page content and the total count with a single {@code $facet} stage.
+     * The aggregation results in a single document with the {@code content} and the {@code total} fields.
+     *
+     * @return The data to execute the aggregation or null if the query doesn't support it
+     * @since 4.12.0
+     */
+    @Nullable
+    default MongoAggregation getFacetPageAggregation() {
+        return null;
+    }
+
     /**
      * @return The data to execute the find
      */
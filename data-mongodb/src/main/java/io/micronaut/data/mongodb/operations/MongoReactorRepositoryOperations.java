@@ -15,11 +15,16 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.client.model.changestream.FullDocument;
 import com.mongodb.reactivestreams.client.ClientSession;
 import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import org.bson.conversions.Bson;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -46,4 +51,22 @@ public interface MongoReactorRepositoryOperations extends MongoReactiveRepositor
      */
     <T> Flux<T> withClientSessionMany(Function<ClientSession, Flux<T>> function);
 
+    /**
+     * Opens a change stream of the entity collection.
+     *
+     * @param entityType      The entity type
+     * @param repositoryType  The repository type
+     * @param pipeline        The change stream pipeline
+     * @param fullDocument    The full document mode
+     * @param resumeTokenName The name of the resume token in {@link MongoResumeTokenStore} or null if the tokens shouldn't be stored
+     * @param <E>             The entity type
+     * @return The change events
+     * @since 4.12.0
+     */
+    <E> Flux<MongoChangeEvent<E>> watch(@NonNull Class<E> entityType,
+                                        @Nullable Class<?> repositoryType,
+                                        @NonNull List<Bson> pipeline,
+                                        @NonNull FullDocument fullDocument,
+                                        @Nullable String resumeTokenName);
+
 }
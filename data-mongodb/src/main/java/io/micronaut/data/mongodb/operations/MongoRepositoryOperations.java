@@ -15,8 +15,15 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.operations.RepositoryOperations;
 
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * Mongo DB repository operations.
  *
@@ -24,4 +31,30 @@ import io.micronaut.data.operations.RepositoryOperations;
  * @since 3.3.0
  */
 public interface MongoRepositoryOperations extends RepositoryOperations {
+
+    /**
+     * Replaces the documents matching the key of the entities or inserts the entities if no document matches.
+     * The entities are consumed in chunks, each chunk is written with a single bulk write.
+     * The entities without a generated identity are always inserted when the key is the identity.
+     *
+     * @param entityType         The entity type
+     * @param repositoryType     The repository type
+     * @param annotationMetadata The annotation metadata
+     * @param entities           The entities
+     * @param key                The properties of the unique key or empty to match the identity
+     * @param chunkSize          The number of entities written by a single bulk write
+     * @param <T>                The entity type
+     * @return The upsert result
+     * @since 4.12.0
+     */
+    @Experimental
+    @NonNull
+    default <T> MongoUpsertResult upsertAll(@NonNull Class<T> entityType,
+                                            @Nullable Class<?> repositoryType,
+                                            @NonNull AnnotationMetadata annotationMetadata,
+                                            @NonNull Iterator<T> entities,
+                                            @NonNull List<String> key,
+                                            int chunkSize) {
+        throw new UnsupportedOperationException("The upsertAll is required to be implemented.");
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import org.bson.BsonDocument;
+import org.reactivestreams.Publisher;
+
+/**
+ * Stores the resume tokens of the change streams defined with {@link io.micronaut.data.mongodb.annotation.MongoWatch}.
+ * The default implementation keeps the tokens in memory, a custom bean can persist them to survive the restarts.
+ *
+ * @since 4.12.0
+ */
+@Experimental
+public interface MongoResumeTokenStore {
+
+    /**
+     * Finds the last stored resume token.
+     *
+     * @param name The resume token name
+     * @return The publisher emitting the token or empty if there is no token stored
+     */
+    @NonNull
+    Publisher<BsonDocument> findResumeToken(@NonNull String name);
+
+    /**
+     * Stores the resume token of the last processed change event.
+     *
+     * @param name        The resume token name
+     * @param resumeToken The resume token
+     * @return The publisher completing when the token is stored
+     */
+    @NonNull
+    Publisher<Void> saveResumeToken(@NonNull String name, @NonNull BsonDocument resumeToken);
+
+}
@@ -15,8 +15,10 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.ReadPreference;
 import io.micronaut.aop.InvocationContext;
 import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.StoredQuery;
 
@@ -41,6 +43,23 @@ public interface MongoStoredQuery<E, R> extends StoredQuery<E, R> {
      */
     boolean isAggregate();
 
+    /**
+     * @return The read preference of the query or null if the default should be used
+     * @since 4.12.0
+     */
+    @Nullable
+    default ReadPreference getReadPreference() {
+        return null;
+    }
+
+    /**
+     * @return Whether the pages should be found with a single facet aggregation
+     * @since 4.12.0
+     */
+    default boolean isFacetPage() {
+        return false;
+    }
+
     /**
      * @param invocationContext The invocation context to have query parameters extracted from
      * @return The data to execute the aggregation
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations;
+
+import com.mongodb.bulk.BulkWriteResult;
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * The result of the bulk upsert.
+ *
+ * @param insertedCount The number of inserted documents
+ * @param matchedCount  The number of documents matched by the key
+ * @param modifiedCount The number of matched documents that were modified
+ * @since 4.12.0
+ */
+@Experimental
+public record MongoUpsertResult(long insertedCount, long matchedCount, long modifiedCount) {
+
+    /**
+     * The result of an upsert without any entities.
+     */
+    public static final MongoUpsertResult EMPTY = new MongoUpsertResult(0, 0, 0);
+
+    /**
+     * Adds the counts of the bulk write.
+     *
+     * @param bulkWriteResult The bulk write result
+     * @return The new result
+     */
+    @NonNull
+    MongoUpsertResult plus(@NonNull BulkWriteResult bulkWriteResult) {
+        return new MongoUpsertResult(
+            insertedCount + bulkWriteResult.getInsertedCount() + bulkWriteResult.getUpserts().size(),
+            matchedCount + bulkWriteResult.getMatchedCount(),
+            modifiedCount + bulkWriteResult.getModifiedCount()
+        );
+    }
+}
@@ -16,6 +16,9 @@
 package io.micronaut.data.mongodb.operations.options;
 
 import com.mongodb.CursorType;
+import com.mongodb.ReadPreference;
+import com.mongodb.Tag;
+import com.mongodb.TagSet;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.CollationAlternate;
 import com.mongodb.client.model.CollationCaseFirst;
@@ -30,15 +33,20 @@ import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.connection.annotation.Connectable;
 import io.micronaut.data.mongodb.annotation.MongoAggregateOptions;
 import io.micronaut.data.mongodb.annotation.MongoCollation;
 import io.micronaut.data.mongodb.annotation.MongoDeleteOptions;
+import io.micronaut.data.mongodb.annotation.MongoReadPreference;
 import io.micronaut.data.mongodb.annotation.MongoUpdateOptions;
+import io.micronaut.transaction.annotation.Transactional;
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Mongo internal utils for building options.
@@ -158,6 +166,40 @@ public final class MongoOptionsUtils {
         return Optional.of(options);
     }
 
+    /**
+     * Builds the read preference of the query method. The read-only methods default to {@link ReadPreference#secondaryPreferred()}.
+     *
+     * @param annotationMetadata The annotation metadata
+     * @return The read preference
+     * @since 4.12.0
+     */
+    public static Optional<ReadPreference> buildReadPreference(AnnotationMetadata annotationMetadata) {
+        AnnotationValue<MongoReadPreference> readPreferenceAnn = annotationMetadata.getAnnotation(MongoReadPreference.class);
+        if (readPreferenceAnn == null) {
+            if (annotationMetadata.booleanValue(Transactional.class, "readOnly").orElse(false)
+                || annotationMetadata.booleanValue(Connectable.class, "readOnly").orElse(false)) {
+                return Optional.of(ReadPreference.secondaryPreferred());
+            }
+            return Optional.empty();
+        }
+        String mode = readPreferenceAnn.stringValue().orElseThrow(() -> new IllegalStateException("Read preference mode is required"));
+        List<TagSet> tagSets = Arrays.stream(readPreferenceAnn.stringValues("tagSets"))
+            .map(BsonDocument::parse)
+            .map(MongoOptionsUtils::bsonDocumentAsTagSet)
+            .toList();
+        long maxStalenessSeconds = readPreferenceAnn.longValue("maxStalenessSeconds").orElse(-1);
+        if (maxStalenessSeconds < 0) {
+            return Optional.of(tagSets.isEmpty() ? ReadPreference.valueOf(mode) : ReadPreference.valueOf(mode, tagSets));
+        }
+        return Optional.of(ReadPreference.valueOf(mode, tagSets, maxStalenessSeconds, TimeUnit.SECONDS));
+    }
+
+    private static TagSet bsonDocumentAsTagSet(BsonDocument tagSetDocument) {
+        return new TagSet(tagSetDocument.entrySet().stream()
+            .map(e -> new Tag(e.getKey(), e.getValue().asString().getValue()))
+            .toList());
+    }
+
     public static Collation bsonDocumentAsCollation(@Nullable BsonDocument collationDocument) {
         if (collationDocument == null) {
             return null;
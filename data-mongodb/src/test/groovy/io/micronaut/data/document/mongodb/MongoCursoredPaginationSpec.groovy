@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.document.mongodb
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.model.CursoredPage
+import io.micronaut.data.model.CursoredPageable
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.Sort
+import io.micronaut.data.mongodb.annotation.MongoRepository
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class MongoCursoredPaginationSpec extends Specification implements MongoTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    CursoredTaskRepository repository = applicationContext.getBean(CursoredTaskRepository)
+
+    def setup() {
+        repository.saveAll((1..50).collect { new CursoredTask(name: "Task " + it, priority: it % 5) })
+    }
+
+    def cleanup() {
+        repository.deleteAll()
+    }
+
+    void "test cursored pagination forward and backward"() {
+        given:
+        def pageable = CursoredPageable.from(10, Sort.of(Sort.Order.desc("priority")))
+
+        when:
+        CursoredPage<CursoredTask> page = repository.findByNameStartsWith("Task", pageable)
+        def seen = [] as Set
+        def allIds = []
+        while (true) {
+            allIds.addAll(page.content*.id)
+            seen.addAll(page.content*.id)
+            if (!page.hasNext()) {
+                break
+            }
+            page = repository.findByNameStartsWith("Task", page.nextPageable())
+        }
+
+        then:
+        allIds.size() == 50
+        seen.size() == 50
+        page.totalSize == 50
+
+        when:
+        def previous = repository.findByNameStartsWith("Task", page.previousPageable())
+
+        then:
+        previous.content*.id == allIds[40..49]
+    }
+
+    void "test cursored pagination with sort by id"() {
+        when:
+        def page = repository.findByNameStartsWith("Task", CursoredPageable.from(20, Sort.unsorted()))
+        def next = repository.findByNameStartsWith("Task", page.nextPageable())
+        def last = repository.findByNameStartsWith("Task", next.nextPageable())
+
+        then:
+        page.content.size() == 20
+        next.content.size() == 20
+        last.content.size() == 10
+        (page.content*.id + next.content*.id + last.content*.id).toSet().size() == 50
+        !last.hasNext()
+    }
+}
+
+@MongoRepository
+interface CursoredTaskRepository extends CrudRepository<CursoredTask, String> {
+
+    CursoredPage<CursoredTask> findByNameStartsWith(String name, Pageable pageable)
+
+}
+
+@MappedEntity
+class CursoredTask {
+    @Id
+    @GeneratedValue
+    String id
+
+    String name
+
+    int priority
+}
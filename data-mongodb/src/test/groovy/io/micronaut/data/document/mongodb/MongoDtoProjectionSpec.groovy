@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.document.mongodb
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.mongodb.annotation.MongoFindQuery
+import io.micronaut.data.mongodb.annotation.MongoRepository
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.serde.annotation.Serdeable
+import org.bson.BsonDocument
+import org.bson.BsonString
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class MongoDtoProjectionSpec extends Specification implements MongoTestPropertyProvider {
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    ProjectedItemRepository repository = applicationContext.getBean(ProjectedItemRepository)
+
+    def setup() {
+        repository.saveAll((1..3).collect { new ProjectedItem(name: "item" + it, description: "description" + it, tags: (1..100).collect { "tag" + it }) })
+    }
+
+    def cleanup() {
+        repository.deleteAll()
+    }
+
+    void 'test DTO projection'() {
+        when:
+            List<ProjectedItemDto> dtos = repository.findByNameInOrderByName(["item1", "item3"])
+        then:
+            dtos*.name == ["item1", "item3"]
+            dtos*.description == ["description1", "description3"]
+    }
+
+    void 'test BsonDocument result stays mutable'() {
+        when:
+            List<BsonDocument> documents = repository.queryByName("item2")
+        then:
+            documents.size() == 1
+            documents[0].getString("name").value == "item2"
+        when:
+            documents[0].put("name", new BsonString("changed"))
+        then:
+            documents[0].getString("name").value == "changed"
+    }
+}
+
+@MongoRepository
+interface ProjectedItemRepository extends CrudRepository<ProjectedItem, String> {
+
+    List<ProjectedItemDto> findByNameInOrderByName(List<String> names);
+
+    @MongoFindQuery(filter = "{name: :name}")
+    List<BsonDocument> queryByName(String name);
+}
+
+@MappedEntity
+class ProjectedItem {
+    @Id
+    @GeneratedValue
+    String id
+    String name
+    String description
+    List<String> tags
+}
+
+@Introspected
+@Serdeable
+class ProjectedItemDto {
+    String name
+    String description
+}
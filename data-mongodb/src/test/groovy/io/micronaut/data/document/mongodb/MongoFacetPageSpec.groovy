@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.document.mongodb
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.model.Page
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.Sort
+import io.micronaut.data.mongodb.annotation.MongoAggregateQuery
+import io.micronaut.data.mongodb.annotation.MongoFacetPage
+import io.micronaut.data.mongodb.annotation.MongoRepository
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class MongoFacetPageSpec extends Specification implements MongoTestPropertyProvider {
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    FacetPageItemRepository repository = applicationContext.getBean(FacetPageItemRepository)
+
+    def setup() {
+        repository.saveAll((1..25).collect { new FacetPageItem(name: it % 2 == 0 ? "even" : "odd", position: it) })
+    }
+
+    def cleanup() {
+        repository.deleteAll()
+    }
+
+    void 'test find page'() {
+        when:
+            Page<FacetPageItem> page = repository.findByName("odd", Pageable.from(1, 5, Sort.of(Sort.Order.asc("position"))))
+        then:
+            page.totalSize == 13
+            page.totalPages == 3
+            page.content*.position == [11, 13, 15, 17, 19]
+            page.content.every { it.id != null && it.name == "odd" }
+    }
+
+    void 'test find empty page'() {
+        when:
+            Page<FacetPageItem> page = repository.findByName("none", Pageable.from(0, 5))
+        then:
+            page.totalSize == 0
+            page.content.isEmpty()
+    }
+
+    void 'test find aggregated page'() {
+        when:
+            Page<FacetPageItem> page = repository.queryByName("even", Pageable.from(0, 5, Sort.of(Sort.Order.desc("position"))))
+        then:
+            page.totalSize == 12
+            page.content*.position == [24, 22, 20, 18, 16]
+    }
+}
+
+@MongoFacetPage
+@MongoRepository
+interface FacetPageItemRepository extends CrudRepository<FacetPageItem, String> {
+
+    Page<FacetPageItem> findByName(String name, Pageable pageable);
+
+    @MongoAggregateQuery("[{\$match: {name: :name}}]")
+    Page<FacetPageItem> queryByName(String name, Pageable pageable);
+}
+
+@MappedEntity
+class FacetPageItem {
+    @Id
+    @GeneratedValue
+    String id
+    String name
+    int position
+}
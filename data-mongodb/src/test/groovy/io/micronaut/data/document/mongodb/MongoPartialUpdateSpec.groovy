@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.document.mongodb
+
+import com.mongodb.client.MongoClient
+import com.mongodb.client.MongoCollection
+import com.mongodb.client.model.Filters
+import com.mongodb.client.model.Updates
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.mongodb.annotation.MongoPartialUpdate
+import io.micronaut.data.mongodb.annotation.MongoRepository
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.transaction.TransactionOperations
+import org.bson.BsonDocument
+import org.bson.types.ObjectId
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class MongoPartialUpdateSpec extends Specification implements MongoTestPropertyProvider {
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    PartialUpdateItemRepository repository = applicationContext.getBean(PartialUpdateItemRepository)
+
+    @Shared
+    TransactionOperations<?> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    @Shared
+    MongoCollection<BsonDocument> collection = applicationContext.getBean(MongoClient).getDatabase("test").getCollection("partial_update_item", BsonDocument)
+
+    def cleanup() {
+        repository.deleteAll()
+    }
+
+    void 'test update changed fields in transaction'() {
+        given:
+            PartialUpdateItem item = repository.save(new PartialUpdateItem(name: "a", status: "new", note: "note"))
+            setUnmappedField(item.id)
+        when:
+            transactionOperations.executeWrite {
+                PartialUpdateItem loaded = repository.findById(item.id).get()
+                loaded.status = "done"
+                loaded.note = null
+                repository.update(loaded)
+            }
+            BsonDocument document = findDocument(item.id)
+        then:
+            document.getString("status").value == "done"
+            document.getString("name").value == "a"
+            !document.containsKey("note")
+            document.getInt64("version").value == 1L
+            document.getString("unmapped").value == "kept"
+    }
+
+    void 'test update all changed fields in transaction'() {
+        given:
+            List<PartialUpdateItem> items = repository.saveAll([new PartialUpdateItem(name: "a", status: "new"), new PartialUpdateItem(name: "b", status: "new")])
+            items.each { setUnmappedField(it.id) }
+        when:
+            transactionOperations.executeWrite {
+                List<PartialUpdateItem> loaded = repository.findAll()
+                loaded.each { it.status = "done" }
+                repository.updateAll(loaded)
+            }
+        then:
+            items.every {
+                BsonDocument document = findDocument(it.id)
+                document.getString("status").value == "done" && document.getString("unmapped").value == "kept"
+            }
+    }
+
+    void 'test replace without snapshot'() {
+        given:
+            PartialUpdateItem item = repository.save(new PartialUpdateItem(name: "a", status: "new"))
+            setUnmappedField(item.id)
+        when:
+            PartialUpdateItem loaded = repository.findById(item.id).get()
+            loaded.status = "done"
+            repository.update(loaded)
+            BsonDocument document = findDocument(item.id)
+        then:
+            document.getString("status").value == "done"
+            !document.containsKey("unmapped")
+    }
+
+    void 'test optimistic lock of partial update'() {
+        given:
+            PartialUpdateItem item = repository.save(new PartialUpdateItem(name: "a", status: "new"))
+        when:
+            transactionOperations.executeWrite {
+                PartialUpdateItem loaded = repository.findById(item.id).get()
+                collection.updateOne(Filters.eq("_id", new ObjectId(item.id)), Updates.inc("version", 1L))
+                loaded.status = "done"
+                repository.update(loaded)
+            }
+        then:
+            thrown(OptimisticLockException)
+    }
+
+    private void setUnmappedField(String id) {
+        collection.updateOne(Filters.eq("_id", new ObjectId(id)), Updates.set("unmapped", "kept"))
+    }
+
+    private BsonDocument findDocument(String id) {
+        return collection.find(Filters.eq("_id", new ObjectId(id))).first()
+    }
+}
+
+@MongoRepository
+interface PartialUpdateItemRepository extends CrudRepository<PartialUpdateItem, String> {
+}
+
+@MongoPartialUpdate
+@MappedEntity
+class PartialUpdateItem {
+    @Id
+    @GeneratedValue
+    String id
+    @Version
+    Long version
+    String name
+    String status
+    String note
+}
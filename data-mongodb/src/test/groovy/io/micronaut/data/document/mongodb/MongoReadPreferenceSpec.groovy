@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.document.mongodb
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.mongodb.annotation.MongoAggregateQuery
+import io.micronaut.data.mongodb.annotation.MongoReadPreference
+import io.micronaut.data.mongodb.annotation.MongoRepository
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.transaction.TransactionOperations
+import io.micronaut.transaction.annotation.ReadOnly
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class MongoReadPreferenceSpec extends Specification implements MongoTestPropertyProvider {
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    ReadPreferenceItemRepository repository = applicationContext.getBean(ReadPreferenceItemRepository)
+
+    @Shared
+    TransactionOperations<?> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    def setup() {
+        repository.saveAll(["a", "b", "b"].collect { new ReadPreferenceItem(name: it) })
+    }
+
+    def cleanup() {
+        repository.deleteAll()
+    }
+
+    void 'test repository read preference'() {
+        expect:
+            repository.findByName("b").size() == 2
+            repository.countByName("b") == 2
+            repository.existsByName("a")
+    }
+
+    void 'test method read preference'() {
+        expect:
+            repository.findAllByNameOrderByName("b").size() == 2
+            repository.queryAllNames("b").size() == 2
+    }
+
+    void 'test read only method'() {
+        expect:
+            repository.findOneByName("a").name == "a"
+    }
+
+    void 'test read preference in transaction'() {
+        when:
+            def count = transactionOperations.executeWrite { repository.countByName("b") }
+        then:
+            count == 2
+    }
+}
+
+@MongoReadPreference("secondaryPreferred")
+@MongoRepository
+interface ReadPreferenceItemRepository extends CrudRepository<ReadPreferenceItem, String> {
+
+    List<ReadPreferenceItem> findByName(String name);
+
+    long countByName(String name);
+
+    boolean existsByName(String name);
+
+    @ReadOnly
+    ReadPreferenceItem findOneByName(String name);
+
+    @MongoReadPreference(value = "nearest", tagSets = ["{}"], maxStalenessSeconds = 90L)
+    List<ReadPreferenceItem> findAllByNameOrderByName(String name);
+
+    @MongoReadPreference("primaryPreferred")
+    @MongoAggregateQuery("[{\$match: {name: :name}}]")
+    List<ReadPreferenceItem> queryAllNames(String name);
+}
+
+@MappedEntity
+class ReadPreferenceItem {
+    @Id
+    @GeneratedValue
+    String id
+    String name
+}
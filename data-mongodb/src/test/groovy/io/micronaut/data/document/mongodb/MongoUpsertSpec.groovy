@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.document.mongodb
+
+import com.mongodb.client.MongoClient
+import com.mongodb.client.MongoCollection
+import com.mongodb.client.model.IndexOptions
+import com.mongodb.client.model.Indexes
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.mongodb.annotation.MongoRepository
+import io.micronaut.data.mongodb.annotation.MongoUpsert
+import io.micronaut.data.mongodb.operations.MongoUpsertResult
+import io.micronaut.data.repository.CrudRepository
+import org.bson.BsonDocument
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.stream.Stream
+
+class MongoUpsertSpec extends Specification implements MongoTestPropertyProvider {
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    UpsertItemRepository repository = applicationContext.getBean(UpsertItemRepository)
+
+    @Shared
+    MongoCollection<BsonDocument> collection = applicationContext.getBean(MongoClient).getDatabase("test").getCollection("upsert_item", BsonDocument)
+
+    def setupSpec() {
+        collection.createIndex(Indexes.ascending("sku"), new IndexOptions().unique(true))
+    }
+
+    def cleanup() {
+        repository.deleteAll()
+    }
+
+    void 'test upsert by unique key'() {
+        when:
+            MongoUpsertResult result = repository.upsertBySku(["a", "b", "c"].collect { new UpsertItem(sku: it, quantity: 1) })
+        then:
+            result == new MongoUpsertResult(3, 0, 0)
+            repository.count() == 3
+
+        when:
+            Map<String, String> existingIds = repository.findAll().collectEntries { [(it.sku): it.id] }
+            List<UpsertItem> items = [new UpsertItem(sku: "a", quantity: 1), new UpsertItem(sku: "b", quantity: 2), new UpsertItem(sku: "d", quantity: 1)]
+            result = repository.upsertBySku(items)
+        then:
+            result == new MongoUpsertResult(1, 2, 1)
+            repository.count() == 4
+            repository.findAll().find { it.sku == "b" }.quantity == 2
+        and:"The matched entities get the identity of the replaced documents"
+            items[0].id == existingIds["a"]
+            items[1].id == existingIds["b"]
+            items[2].id
+            repository.findById(items[2].id).get().sku == "d"
+    }
+
+    void 'test upsert stream by identity'() {
+        given:
+            List<UpsertItem> items = repository.saveAll(["a", "b"].collect { new UpsertItem(sku: it, quantity: 1) })
+        when:
+            MongoUpsertResult result = repository.upsertAll(Stream.of(
+                new UpsertItem(id: items[0].id, sku: "a", quantity: 5),
+                new UpsertItem(id: items[1].id, sku: "b", quantity: 1),
+                new UpsertItem(sku: "c", quantity: 1)
+            ))
+        then:
+            result == new MongoUpsertResult(1, 2, 1)
+            repository.findById(items[0].id).get().quantity == 5
+            repository.count() == 3
+    }
+
+    void 'test upsert is idempotent'() {
+        given:
+            UpsertItem item = new UpsertItem(sku: "a", quantity: 1)
+        when:
+            repository.upsertBySku(item)
+            repository.upsertBySku(item)
+        then:
+            repository.count() == 1
+    }
+}
+
+@MongoRepository
+interface UpsertItemRepository extends CrudRepository<UpsertItem, String> {
+
+    @MongoUpsert(key = "sku", chunkSize = 2)
+    MongoUpsertResult upsertBySku(List<UpsertItem> items);
+
+    @MongoUpsert(key = "sku")
+    void upsertBySku(UpsertItem item);
+
+    @MongoUpsert(chunkSize = 2)
+    MongoUpsertResult upsertAll(Stream<UpsertItem> items);
+}
+
+@MappedEntity
+class UpsertItem {
+    @Id
+    @GeneratedValue
+    String id
+    String sku
+    int quantity
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.document.mongodb.reactive
+
+import com.mongodb.client.model.changestream.OperationType
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.mongodb.annotation.MongoRepository
+import io.micronaut.data.mongodb.annotation.MongoWatch
+import io.micronaut.data.mongodb.operations.MongoChangeEvent
+import io.micronaut.data.mongodb.operations.MongoResumeTokenStore
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import io.reactivex.Flowable
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class MongoReactiveWatchSpec extends Specification implements MongoSelectReactiveDriver {
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    WatchedItemRepository repository = applicationContext.getBean(WatchedItemRepository)
+
+    @Shared
+    MongoResumeTokenStore resumeTokenStore = applicationContext.getBean(MongoResumeTokenStore)
+
+    def cleanup() {
+        repository.deleteAll().block()
+    }
+
+    void 'test watch inserted entities'() {
+        given:
+            def events = repository.watchInserts().take(2).collectList().toFuture()
+            // Give the change stream time to open
+            sleep(1000)
+        when:
+            repository.saveAll([new WatchedItem(name: "a"), new WatchedItem(name: "b")]).collectList().block()
+            List<MongoChangeEvent<WatchedItem>> received = events.get(10, TimeUnit.SECONDS)
+        then:
+            received*.operationType() == [OperationType.INSERT, OperationType.INSERT]
+            received*.fullDocument()*.name == ["a", "b"]
+            !Mono.from(resumeTokenStore.findResumeToken("watched-items")).block()
+
+        when:"The first event is acknowledged"
+            Mono.from(received[0].acknowledge()).block()
+
+        then:"Its token is stored"
+            Mono.from(resumeTokenStore.findResumeToken("watched-items")).block() == received[0].resumeToken()
+
+        when:"The change stream is opened again"
+            List<MongoChangeEvent<WatchedItem>> resumed = repository.watchInserts().take(1).collectList().block(Duration.ofSeconds(10))
+
+        then:"It resumes after the acknowledged event"
+            resumed*.fullDocument()*.name == ["b"]
+            resumed[0].resumeToken() == received[1].resumeToken()
+    }
+
+    void 'test watch with the declared reactive type'() {
+        given:
+            def changeStream = repository.watchAll()
+            def events = Flux.from(changeStream).take(1).collectList().toFuture()
+            sleep(1000)
+        when:
+            repository.save(new WatchedItem(name: "c")).block()
+            List<MongoChangeEvent<WatchedItem>> received = events.get(10, TimeUnit.SECONDS)
+        then:
+            changeStream instanceof Flowable
+            received*.fullDocument()*.name == ["c"]
+            Mono.from(received[0].acknowledge()).block() == null
+    }
+
+    void 'test watch filtered changes'() {
+        given:
+            def item = repository.save(new WatchedItem(name: "a")).block()
+            def events = repository.watchUpdates().take(1).collectList().toFuture()
+            sleep(1000)
+        when:
+            item.name = "b"
+            repository.update(item).block()
+            List<MongoChangeEvent<WatchedItem>> received = events.get(10, TimeUnit.SECONDS)
+        then:
+            received.size() == 1
+            received[0].operationType() in [OperationType.UPDATE, OperationType.REPLACE]
+            received[0].fullDocument().name == "b"
+    }
+}
+
+@MongoRepository
+interface WatchedItemRepository extends ReactorCrudRepository<WatchedItem, String> {
+
+    @MongoWatch(filter = "{ operationType: 'insert' }", resumeToken = "watched-items")
+    Flux<MongoChangeEvent<WatchedItem>> watchInserts();
+
+    @MongoWatch(filter = "{ operationType: { \$in: ['update', 'replace'] } }")
+    Flux<MongoChangeEvent<WatchedItem>> watchUpdates();
+
+    @MongoWatch
+    Flowable<MongoChangeEvent<WatchedItem>> watchAll();
+}
+
+@MappedEntity
+class WatchedItem {
+    @Id
+    @GeneratedValue
+    String id
+    String name
+}
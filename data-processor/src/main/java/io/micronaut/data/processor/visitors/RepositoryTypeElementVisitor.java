@@ -424,6 +424,9 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
             if (methodInfo.isOptimisticLock()) {
                 annotationBuilder.member(DataMethod.META_MEMBER_OPTIMISTIC_LOCK, true);
             }
+            if (methodInfo.isIdLookup()) {
+                annotationBuilder.member(DataMethod.META_MEMBER_ID_LOOKUP, true);
+            }
 
             // include the roles
             methodInfo.getParameterRoles().forEach(annotationBuilder::member);
@@ -43,6 +43,7 @@ public final class MethodMatchInfo {
     private final Map<String, String> parameterRoles = new HashMap<>(2);
     private boolean dto;
     private boolean optimisticLock;
+    private boolean idLookup;
 
     private QueryResult queryResult;
     private QueryResult countQueryResult;
@@ -159,6 +160,11 @@ public final class MethodMatchInfo {
         return this;
     }
 
+    public MethodMatchInfo idLookup(boolean idLookup) {
+        this.idLookup = idLookup;
+        return this;
+    }
+
     public ClassElement getInterceptor() {
         return interceptor;
     }
@@ -175,6 +181,14 @@ public final class MethodMatchInfo {
         return isRawQuery;
     }
 
+    /**
+     * @return Whether the query selects the entities only by the identity
+     * @since 4.12.0
+     */
+    public boolean isIdLookup() {
+        return idLookup;
+    }
+
     public boolean isEncodeEntityParameters() {
         return encodeEntityParameters;
     }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.processor.visitors.finders;
+
+import io.micronaut.data.annotation.DataAnnotationUtils;
+import io.micronaut.data.annotation.TypeRole;
+import io.micronaut.data.intercept.SaveStreamInterceptor;
+import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.processor.visitors.MatchFailedException;
+import io.micronaut.data.processor.visitors.MethodMatchContext;
+import io.micronaut.inject.annotation.AnnotationMetadataHierarchy;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.processing.ProcessingException;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A save method persisting a {@link Stream} of the entities in the fixed-size chunks.
+ * The method can declare an additional {@link Consumer} parameter that receives every persisted chunk.
+ *
+ * @since 4.12.0
+ */
+public class SaveStreamMethodMatcher extends AbstractMethodMatcher {
+
+    /**
+     * The default constructor.
+     */
+    public SaveStreamMethodMatcher() {
+        super(MethodNameParser.builder()
+            .match(QueryMatchId.PREFIX, "save", "persist", "insert")
+            .tryMatch(QueryMatchId.ALL_OR_ONE, ALL_OR_ONE)
+            .takeRest(QueryMatchId.PROJECTION)
+            .build());
+    }
+
+    @Override
+    public int getOrder() {
+        // should run before the save method matcher
+        return DEFAULT_POSITION - 100;
+    }
+
+    @Override
+    protected MethodMatch match(MethodMatchContext matchContext, List<MethodNameParser.Match> matches) {
+        List<ParameterElement> parameters = matchContext.getParametersNotInRole();
+        ParameterElement streamParameter = parameters.stream()
+            .filter(p -> isStreamOfEntity(p.getGenericType()))
+            .findFirst()
+            .orElse(null);
+        if (streamParameter == null) {
+            return null;
+        }
+        MethodElement methodElement = matchContext.getMethodElement();
+        if (parameters.size() > 2 || parameters.size() == 2
+            && parameters.stream().noneMatch(p -> p != streamParameter && p.getGenericType().isAssignable(Consumer.class))) {
+            throw new ProcessingException(methodElement, "Save method of a stream requires the stream of the entities and an optional consumer of the persisted chunks");
+        }
+        if (!TypeUtils.doesReturnVoid(methodElement) && !TypeUtils.doesMethodProducesANumber(methodElement)) {
+            ClassElement producingItem = TypeUtils.getMethodProducingItemType(methodElement);
+            throw new ProcessingException(methodElement, "Unsupported return type for a save method of a stream: " + producingItem.getName());
+        }
+        return mc -> {
+            ClassElement returnType = mc.getReturnType();
+            if (TypeUtils.isReactiveOrFuture(returnType)) {
+                throw new MatchFailedException("Save method of a stream doesn't support reactive or async return types", methodElement);
+            }
+            FindersUtils.InterceptorMatch entry = FindersUtils.typeAndInterceptorEntry(mc, returnType.getType(), SaveStreamInterceptor.class);
+            MethodMatchInfo methodMatchInfo = new MethodMatchInfo(
+                DataMethod.OperationType.INSERT,
+                entry.returnType(),
+                entry.interceptor()
+            );
+            if (!mc.supportsImplicitQueries()) {
+                AnnotationMetadataHierarchy annotationMetadataHierarchy = new AnnotationMetadataHierarchy(
+                    mc.getRepositoryClass().getAnnotationMetadata(),
+                    mc.getAnnotationMetadata()
+                );
+                methodMatchInfo
+                    .encodeEntityParameters(!DataAnnotationUtils.hasJsonEntityRepresentationAnnotation(mc.getAnnotationMetadata()))
+                    .queryResult(
+                        mc.getQueryBuilder().buildInsert(annotationMetadataHierarchy, mc.getRootEntity())
+                    );
+            }
+            methodMatchInfo.addParameterRole(TypeRole.ENTITIES, streamParameter.getName());
+            return methodMatchInfo;
+        };
+    }
+
+    private static boolean isStreamOfEntity(ClassElement type) {
+        return type.isAssignable(Stream.class) && TypeUtils.hasPersistedTypeArgument(type);
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.processor.visitors.finders;
+
+import io.micronaut.data.annotation.TypeRole;
+import io.micronaut.data.intercept.UpsertInterceptor;
+import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.intercept.reactive.UpsertReactiveInterceptor;
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
+import io.micronaut.data.processor.visitors.MatchFailedException;
+import io.micronaut.data.processor.visitors.MethodMatchContext;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.processing.ProcessingException;
+
+import java.util.List;
+
+/**
+ * An upsert method inserting an entity or entities and updating the existing rows on a conflict.
+ * The upsert statement is resolved at runtime, only the SQL repositories support it.
+ *
+ * @since 4.12.0
+ */
+public class UpsertMethodMatcher extends AbstractMethodMatcher {
+
+    /**
+     * The default constructor.
+     */
+    public UpsertMethodMatcher() {
+        super(MethodNameParser.builder()
+            .match(QueryMatchId.PREFIX, "upsert")
+            .tryMatch(QueryMatchId.ALL_OR_ONE, ALL_OR_ONE)
+            .takeRest(QueryMatchId.PROJECTION)
+            .build());
+    }
+
+    @Override
+    protected MethodMatch match(MethodMatchContext matchContext, List<MethodNameParser.Match> matches) {
+        MethodElement methodElement = matchContext.getMethodElement();
+        if (!(matchContext.getQueryBuilder() instanceof SqlQueryBuilder)) {
+            throw new ProcessingException(methodElement, "Upsert methods are only supported by the SQL repositories");
+        }
+        if (!TypeUtils.doesReturnVoid(methodElement)
+            && !TypeUtils.doesMethodProducesANumber(methodElement)
+            && !TypeUtils.doesMethodProducesAnEntityIterableOfAnEntity(methodElement)) {
+            ClassElement producingItem = TypeUtils.getMethodProducingItemType(methodElement);
+            throw new ProcessingException(methodElement, "Unsupported return type for an upsert method: " + producingItem.getName());
+        }
+        List<ParameterElement> parameters = matchContext.getParametersNotInRole();
+        if (parameters.size() != 1
+            || !TypeUtils.isEntity(parameters.get(0).getGenericType()) && !TypeUtils.isIterableOfEntity(parameters.get(0).getGenericType())) {
+            throw new ProcessingException(methodElement, "Upsert method requires a single parameter of the entity or an iterable of the entities");
+        }
+        return mc -> {
+            ParameterElement parameter = parameters.get(0);
+            ClassElement returnType = mc.getReturnType();
+            if (FindersUtils.isFutureType(methodElement, returnType)) {
+                throw new MatchFailedException("Upsert method doesn't support async return types", methodElement);
+            }
+            FindersUtils.InterceptorMatch entry;
+            if (FindersUtils.isReactiveType(returnType)) {
+                entry = FindersUtils.typeAndInterceptorEntry(mc, returnType.getFirstTypeArgument().orElse(null), UpsertReactiveInterceptor.class);
+            } else {
+                entry = FindersUtils.typeAndInterceptorEntry(mc, returnType.getType(), UpsertInterceptor.class);
+            }
+            MethodMatchInfo methodMatchInfo = new MethodMatchInfo(
+                DataMethod.OperationType.INSERT,
+                entry.returnType(),
+                entry.interceptor()
+            );
+            if (TypeUtils.isIterableOfEntity(parameter.getGenericType())) {
+                methodMatchInfo.addParameterRole(TypeRole.ENTITIES, parameter.getName());
+            } else {
+                methodMatchInfo.addParameterRole(TypeRole.ENTITY, parameter.getName());
+            }
+            return methodMatchInfo;
+        };
+    }
+
+}
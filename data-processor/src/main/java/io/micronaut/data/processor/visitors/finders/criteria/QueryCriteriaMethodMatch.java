@@ -384,6 +384,7 @@ public class QueryCriteriaMethodMatch extends AbstractCriteriaMethodMatch {
 
         final AnnotationMetadata annotationMetadata = matchContext.getMethodElement();
         QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery).buildQuery(annotationMetadata, matchContext.getQueryBuilder());
+        boolean idLookup = ((AbstractPersistentEntityCriteriaQuery<?>) criteriaQuery).isIdLookup() && hasNoWhereAndJoinDeclaration(matchContext);
 
         ClassElement genericReturnType = matchContext.getReturnType();
         if (TypeUtils.isReactiveOrFuture(genericReturnType)) {
@@ -403,6 +404,7 @@ public class QueryCriteriaMethodMatch extends AbstractCriteriaMethodMatch {
         )
             .dto(result.isDto())
             .optimisticLock(optimisticLock)
+            .idLookup(idLookup)
             .queryResult(queryResult)
             .countQueryResult(countQueryResult);
     }
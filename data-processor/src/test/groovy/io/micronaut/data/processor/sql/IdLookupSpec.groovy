@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.processor.sql
+
+import io.micronaut.data.intercept.annotation.DataMethod
+import io.micronaut.data.processor.visitors.AbstractDataSpec
+
+class IdLookupSpec extends AbstractDataSpec {
+
+    void "test id lookup methods are flagged"() {
+        given:
+            def repository = buildRepository('test.StudentRepository', """
+  import io.micronaut.data.jdbc.annotation.JdbcRepository;
+  import io.micronaut.data.model.query.builder.sql.Dialect;
+  import io.micronaut.data.tck.entities.Student;
+  @JdbcRepository(dialect= Dialect.MYSQL)
+  @io.micronaut.context.annotation.Executable
+  interface StudentRepository extends GenericRepository<Student, Long> {
+    Optional<Student> queryById(Long id);
+
+    List<Student> findByIdIn(List<Long> ids);
+
+    List<Student> findByIdInOrderByName(List<Long> ids);
+
+    Optional<Student> findByIdAndName(Long id, String name);
+
+    String findNameById(Long id);
+
+    Optional<Student> findByName(String name);
+  }
+  """)
+
+        expect:
+            repository.findPossibleMethods(method).findFirst().get()
+                .booleanValue(DataMethod, DataMethod.META_MEMBER_ID_LOOKUP).orElse(false) == idLookup
+
+        where:
+            method                  | idLookup
+            "queryById"             | true
+            "findByIdIn"            | true
+            "findByIdInOrderByName" | false
+            "findByIdAndName"       | false
+            "findNameById"          | false
+            "findByName"            | false
+    }
+}
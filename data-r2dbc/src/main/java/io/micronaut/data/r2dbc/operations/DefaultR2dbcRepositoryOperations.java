@@ -81,6 +81,7 @@ import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.ReactiveCascadeOperations;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 import io.micronaut.data.runtime.operations.internal.sql.AbstractSqlRepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.sql.PooledIdAllocator;
 import io.micronaut.data.runtime.operations.internal.sql.SqlJsonColumnMapperProvider;
 import io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
@@ -477,6 +478,24 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             .map((Number n) -> n.longValue());
     }
 
+    private Mono<Long> nextPooledId(R2dbcOperationContext ctx, PooledIdAllocator pooledIdAllocator) {
+        return Mono.defer(() -> {
+            Long id = pooledIdAllocator.tryNextId();
+            if (id != null) {
+                return Mono.just(id);
+            }
+            String query = pooledIdAllocator.getQuery();
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing SQL query: {}", query);
+            }
+            return executeAndMapEachRow(ctx.connection.createStatement(query), row -> row.get(0, Number.class))
+                .onErrorResume(errorHandler(ctx.dialect))
+                .next()
+                .switchIfEmpty(Mono.error(() -> new DataAccessException("Sequence query returned no value: " + query)))
+                .map(value -> pooledIdAllocator.allocate(value.longValue()));
+        });
+    }
+
     private <T> Function<? super Throwable, ? extends Publisher<? extends T>> errorHandler(Dialect dialect) {
         return throwable -> {
             if (throwable instanceof R2dbcException r2dbcException) {
@@ -662,6 +681,42 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             });
         }
 
+        @NonNull
+        @Override
+        public <T> Mono<T> upsert(@NonNull InsertOperation<T> operation) {
+            return executeWriteMono(operation, status -> {
+                final RuntimePersistentEntity<T> persistentEntity = getEntity(operation.getRootEntity());
+                final SqlStoredQuery<T, T> storedQuery = resolveEntityUpsert(operation.getAnnotationMetadata(), operation.getRepositoryType(), operation.getRootEntity(), persistentEntity);
+                final R2dbcOperationContext ctx = createContext(operation, status, storedQuery);
+                R2dbcEntityOperations<T> op = new R2dbcEntityOperations<>(ctx, storedQuery, persistentEntity, operation.getEntity(), true);
+                op.persist();
+                return op.getEntity();
+            });
+        }
+
+        @NonNull
+        @Override
+        public <T> Flux<T> upsertAll(@NonNull InsertBatchOperation<T> operation) {
+            return executeWriteFlux(operation, status -> {
+                final RuntimePersistentEntity<T> persistentEntity = getEntity(operation.getRootEntity());
+                final SqlStoredQuery<T, T> storedQuery = resolveEntityUpsert(operation.getAnnotationMetadata(), operation.getRepositoryType(), operation.getRootEntity(), persistentEntity);
+                final R2dbcOperationContext ctx = createContext(operation, status, storedQuery);
+                if (!isSupportsBatchUpsert(persistentEntity, storedQuery.getDialect())) {
+                    return concatMono(
+                        operation.split().stream()
+                            .map(upsertOp -> {
+                                R2dbcEntityOperations<T> op = new R2dbcEntityOperations<>(ctx, storedQuery, persistentEntity, upsertOp.getEntity(), true);
+                                op.persist();
+                                return op.getEntity();
+                            })
+                    );
+                }
+                R2dbcEntitiesOperations<T> op = new R2dbcEntitiesOperations<>(ctx, storedQuery, persistentEntity, operation, true);
+                op.persist();
+                return op.getEntities();
+            });
+        }
+
         @NonNull
         @Override
         public <T> Mono<T> update(@NonNull UpdateOperation<T> operation) {
@@ -987,6 +1042,19 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
+            PooledIdAllocator pooledIdAllocator = insert ? findPooledIdAllocator(persistentEntity, storedQuery) : null;
+            if (pooledIdAllocator != null) {
+                BeanProperty<T, Object> idProperty = persistentEntity.getIdentity().getProperty();
+                data = data.flatMap(d -> {
+                    if (d.vetoed || idProperty.get(d.entity) != null) {
+                        return Mono.just(d);
+                    }
+                    return nextPooledId(ctx, pooledIdAllocator).map(id -> {
+                        d.entity = updateEntityId(idProperty, d.entity, id);
+                        return d;
+                    });
+                });
+            }
             Statement statement = prepare(ctx.connection);
             setParameters(statement, storedQuery);
             if (hasGeneratedId) {
@@ -1082,6 +1150,14 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
+            PooledIdAllocator pooledIdAllocator = insert ? findPooledIdAllocator(persistentEntity, storedQuery) : null;
+            if (pooledIdAllocator != null) {
+                BeanProperty<T, Object> idProperty = persistentEntity.getIdentity().getProperty();
+                entities = entities.flatMap(list -> Flux.fromIterable(list)
+                    .filter(d -> !d.vetoed && idProperty.get(d.entity) == null)
+                    .concatMap(d -> nextPooledId(ctx, pooledIdAllocator).doOnNext(id -> d.entity = updateEntityId(idProperty, d.entity, id)))
+                    .then(Mono.just(list)));
+            }
             Statement statement;
             if (hasGeneratedId) {
                 statement = ctx.connection.createStatement(storedQuery.getQuery());
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.event.listeners;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.annotation.IdGenerator;
+import io.micronaut.data.annotation.event.PrePersist;
+import io.micronaut.data.event.EntityEventContext;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import io.micronaut.data.runtime.id.EntityIdGenerator;
+import io.micronaut.data.runtime.id.TsidIdGenerator;
+import io.micronaut.data.runtime.id.UuidV7IdGenerator;
+import jakarta.inject.Singleton;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * An event listener that handles {@link IdGenerator}.
+ *
+ * @since 4.12.0
+ */
+@Singleton
+public class IdGeneratingEntityEventListener extends AutoPopulatedEntityEventListener {
+
+    private final BeanContext beanContext;
+    private final Map<RuntimePersistentProperty<Object>, EntityIdGenerator> generators = new ConcurrentHashMap<>(10);
+
+    /**
+     * Default constructor.
+     *
+     * @param beanContext The bean context
+     */
+    public IdGeneratingEntityEventListener(BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    @NonNull
+    @Override
+    protected List<Class<? extends Annotation>> getEventTypes() {
+        return List.of(PrePersist.class);
+    }
+
+    @NonNull
+    @Override
+    protected Predicate<RuntimePersistentProperty<Object>> getPropertyPredicate() {
+        return prop -> prop.getAnnotationMetadata().hasAnnotation(IdGenerator.class);
+    }
+
+    @Override
+    public boolean prePersist(@NonNull EntityEventContext<Object> context) {
+        for (RuntimePersistentProperty<Object> property : getApplicableProperties(context.getPersistentEntity())) {
+            Object value = property.getProperty().get(context.getEntity());
+            if (value != null && !(property.getType().isPrimitive() && value instanceof Number number && number.longValue() == 0)) {
+                // Skip existing value
+                continue;
+            }
+            EntityIdGenerator generator = generators.computeIfAbsent(property, this::findGenerator);
+            context.setProperty(property.getProperty(), generator.generate(property));
+        }
+        return true;
+    }
+
+    private EntityIdGenerator findGenerator(RuntimePersistentProperty<Object> property) {
+        AnnotationMetadata annotationMetadata = property.getAnnotationMetadata();
+        Class<?> generatorType = annotationMetadata.classValue(IdGenerator.class, "generator")
+            .filter(type -> type != void.class)
+            .orElse(null);
+        if (generatorType != null) {
+            if (!EntityIdGenerator.class.isAssignableFrom(generatorType)) {
+                throw new IllegalStateException("The identity generator: " + generatorType.getName() + " of the property: " + property.getName()
+                    + " must implement: " + EntityIdGenerator.class.getName());
+            }
+            return (EntityIdGenerator) beanContext.getBean(generatorType);
+        }
+        IdGenerator.Type type = annotationMetadata.enumValue(IdGenerator.class, IdGenerator.Type.class).orElse(IdGenerator.Type.UUID_V7);
+        return switch (type) {
+            case UUID_V7 -> beanContext.getBean(UuidV7IdGenerator.class);
+            case TSID -> beanContext.getBean(TsidIdGenerator.class);
+        };
+    }
+}
@@ -17,6 +17,7 @@ package io.micronaut.data.runtime.event.listeners;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.data.annotation.IdGenerator;
 import io.micronaut.data.annotation.event.PrePersist;
 import io.micronaut.data.event.EntityEventContext;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
@@ -36,7 +37,8 @@ import java.util.function.Predicate;
  */
 @Singleton
 public class UUIDGeneratingEntityEventListener extends AutoPopulatedEntityEventListener {
-    private static final Predicate<RuntimePersistentProperty<Object>> UUID_PREDICATE = p -> p.getType() == UUID.class;
+    private static final Predicate<RuntimePersistentProperty<Object>> UUID_PREDICATE = p -> p.getType() == UUID.class
+        && !p.getAnnotationMetadata().hasAnnotation(IdGenerator.class);
 
     @NonNull
     @Override
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.id;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+
+/**
+ * Generates the identity of the entity annotated with {@link io.micronaut.data.annotation.IdGenerator}.
+ * The implementations must be thread-safe.
+ *
+ * @since 4.12.0
+ */
+public interface EntityIdGenerator {
+
+    /**
+     * Generates a new identity.
+     *
+     * @param property The identity property
+     * @return The identity
+     */
+    @NonNull
+    Object generate(@NonNull RuntimePersistentProperty<?> property);
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.id;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import jakarta.inject.Singleton;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates the UUIDs version 7. The 48-bit millisecond timestamp is followed by a 12-bit counter
+ * that orders the UUIDs generated in the same millisecond, the rest is random.
+ * The timestamp and the counter are incremented atomically, so the generated UUIDs are monotonic
+ * even if the clock moves backwards or the counter overflows.
+ *
+ * @since 4.12.0
+ */
+@Singleton
+public final class UuidV7IdGenerator implements EntityIdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+
+    private final AtomicLong state = new AtomicLong();
+
+    @Override
+    @NonNull
+    public Object generate(@NonNull RuntimePersistentProperty<?> property) {
+        UUID uuid = next();
+        if (property.getType() == String.class) {
+            return uuid.toString();
+        }
+        if (property.getType() != UUID.class) {
+            throw new IllegalStateException("UUID version 7 cannot be assigned to the property: " + property.getName() + " of type: " + property.getType());
+        }
+        return uuid;
+    }
+
+    /**
+     * @return The next UUID
+     */
+    @NonNull
+    public UUID next() {
+        long timestampAndCounter = nextTimestampAndCounter();
+        long mostSigBits = (timestampAndCounter >>> COUNTER_BITS) << 16 | VERSION | (timestampAndCounter & 0xFFFL);
+        long leastSigBits = ThreadLocalRandom.current().nextLong() >>> 2 | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private long nextTimestampAndCounter() {
+        long now = System.currentTimeMillis();
+        while (true) {
+            long last = state.get();
+            long next;
+            if (now > last >>> COUNTER_BITS) {
+                // Start the counter in the lower half to leave room for the UUIDs generated in the same millisecond
+                next = now << COUNTER_BITS | ThreadLocalRandom.current().nextInt(1 << (COUNTER_BITS - 1));
+            } else {
+                next = last + 1;
+            }
+            if (state.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -17,7 +17,11 @@ package io.micronaut.data.runtime.intercept;
 
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.data.annotation.CountStrategy;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.model.CursoredPage;
@@ -26,12 +30,20 @@ import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Pageable.Cursor;
 import io.micronaut.data.model.Pageable.Mode;
+import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.operations.RepositoryOperations;
-import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery;
+import io.micronaut.data.runtime.operations.internal.query.CursoredPreparedQuery;
+import io.micronaut.data.runtime.query.CountQueryResolver;
+import io.micronaut.data.runtime.query.PageResults;
+import io.micronaut.data.runtime.query.SingleQueryPageOperations;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An abstract base implementation of query interceptor for page interceptors
@@ -45,6 +57,15 @@ import java.util.List;
  */
 public abstract class DefaultAbstractFindPageInterceptor<T, R> extends AbstractQueryInterceptor<T, R> {
 
+    private static final int MAX_CACHED_COUNTS = 1024;
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(10);
+    private static final long DEFAULT_LIMIT = 1000;
+
+    private final Map<RepositoryMethodKey, CountStrategyDefinition> countStrategies = new ConcurrentHashMap<>(50);
+    private final Map<CountCacheKey, CachedCount> cachedCounts = new ConcurrentLinkedHashMap.Builder<CountCacheKey, CachedCount>()
+        .maximumWeightedCapacity(MAX_CACHED_COUNTS)
+        .build();
+
     /**
      * Default constructor.
      * @param datastore The operations
@@ -58,28 +79,36 @@ public abstract class DefaultAbstractFindPageInterceptor<T, R> extends AbstractQ
         Class<R> returnType = context.getReturnType().getType();
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
-
-            Iterable<?> iterable = operations.findAll(preparedQuery);
-            List<R> results = (List<R>) CollectionUtils.iterableToList(iterable);
             Pageable pageable = getPageable(context);
+
+            List<R> results;
             Long totalCount = null;
-            if (pageable.requestTotal()) {
-                PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
-                Number n = operations.findOne(countQuery);
-                totalCount = n != null ? n.longValue() : null;
+            PageResults<?> pageResults = null;
+            if (pageable.requestTotal() && operations instanceof SingleQueryPageOperations singleQueryPageOperations) {
+                pageResults = singleQueryPageOperations.findPageResults(preparedQuery);
+            }
+            if (pageResults != null) {
+                results = (List<R>) pageResults.content();
+                totalCount = pageResults.total();
+            } else {
+                Iterable<?> iterable = operations.findAll(preparedQuery);
+                results = (List<R>) CollectionUtils.iterableToList(iterable);
+                if (pageable.requestTotal()) {
+                    totalCount = findTotalCount(methodKey, context, pageable, results);
+                }
             }
 
             Page<R> page;
             if (pageable.getMode() == Mode.OFFSET) {
                 page = Page.of(results, pageable, totalCount);
-            } else if (preparedQuery instanceof DefaultSqlPreparedQuery<?, ?> sqlPreparedQuery) {
+            } else if (preparedQuery instanceof CursoredPreparedQuery<?, ?> cursoredPreparedQuery) {
                 List<Cursor> cursors;
                 List<Object> resultList = (List<Object>) results;
                 if (preparedQuery.getResultDataType() == DataType.ENTITY) {
-                    cursors = sqlPreparedQuery.createCursors(resultList, pageable);
-                } else if (sqlPreparedQuery.isDtoProjection()) {
-                    RuntimePersistentEntity<Object> runtimePersistentEntity = (RuntimePersistentEntity<Object>) operations.getEntity(sqlPreparedQuery.getResultType());
-                    cursors = sqlPreparedQuery.createCursors(resultList, pageable, runtimePersistentEntity);
+                    cursors = cursoredPreparedQuery.createCursors(resultList, pageable);
+                } else if (cursoredPreparedQuery.isDtoProjection()) {
+                    RuntimePersistentEntity<Object> runtimePersistentEntity = (RuntimePersistentEntity<Object>) operations.getEntity(cursoredPreparedQuery.getResultType());
+                    cursors = cursoredPreparedQuery.createCursors(resultList, pageable, runtimePersistentEntity);
                 } else {
                     throw new IllegalStateException("CursoredPage cannot produce projection result");
                 }
@@ -104,4 +133,102 @@ public abstract class DefaultAbstractFindPageInterceptor<T, R> extends AbstractQ
             }
         }
     }
+
+    /**
+     * Find the total count of the page using the {@link CountStrategy} of the method.
+     *
+     * @param methodKey The method key
+     * @param context   The context
+     * @param pageable  The pageable
+     * @param results   The page results
+     * @return The total count or null
+     * @since 4.12.0
+     */
+    @Nullable
+    protected Long findTotalCount(RepositoryMethodKey methodKey, MethodInvocationContext<T, R> context, Pageable pageable, List<R> results) {
+        CountStrategyDefinition strategy = countStrategies.computeIfAbsent(methodKey, key -> CountStrategyDefinition.of(context, conversionService));
+        if (strategy.type != CountStrategy.Type.EXACT && pageable.getMode() == Mode.OFFSET && !pageable.isUnpaged()
+            && results.size() < pageable.getSize() && (!results.isEmpty() || pageable.getOffset() == 0)) {
+            // The last page, the total is known without counting
+            return pageable.getOffset() + results.size();
+        }
+        PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
+        return switch (strategy.type) {
+            case CACHED -> findCachedCount(countQuery, strategy.ttl);
+            case ESTIMATED -> findEstimatedCount(countQuery);
+            case AT_LEAST -> {
+                Long count = findLimitedCount(countQuery, strategy.limit);
+                yield count == null ? null : Math.max(count, pageable.getOffset() + results.size());
+            }
+            default -> findCount(countQuery);
+        };
+    }
+
+    private Long findCachedCount(PreparedQuery<?, Number> countQuery, Duration ttl) {
+        List<Object> values = new ArrayList<>();
+        for (Object value : countQuery.getParameterArray()) {
+            if (!(value instanceof Pageable) && !(value instanceof Sort)) {
+                values.add(value);
+            }
+        }
+        CountCacheKey key = new CountCacheKey(countQuery.getRepositoryType(), countQuery.getQuery(), values);
+        long now = System.nanoTime();
+        CachedCount cachedCount = cachedCounts.get(key);
+        if (cachedCount != null && now - cachedCount.expiresAt < 0) {
+            return cachedCount.count;
+        }
+        Long count = findCount(countQuery);
+        if (count != null) {
+            // The least recently used count is evicted when the cache is full
+            cachedCounts.put(key, new CachedCount(count, now + ttl.toNanos()));
+        }
+        return count;
+    }
+
+    private Long findEstimatedCount(PreparedQuery<?, Number> countQuery) {
+        if (operations instanceof CountQueryResolver countQueryResolver) {
+            PreparedQuery<?, Number> estimatedQuery = countQueryResolver.resolveEstimatedCountQuery(countQuery);
+            if (estimatedQuery != null) {
+                Long count = findCount(estimatedQuery);
+                // Negative or missing estimate means the statistics are not collected yet
+                if (count != null && count >= 0) {
+                    return count;
+                }
+            }
+        }
+        return findCount(countQuery);
+    }
+
+    private Long findLimitedCount(PreparedQuery<?, Number> countQuery, long limit) {
+        if (operations instanceof CountQueryResolver countQueryResolver) {
+            PreparedQuery<?, Number> limitedQuery = countQueryResolver.resolveLimitedCountQuery(countQuery, limit);
+            if (limitedQuery != null) {
+                return findCount(limitedQuery);
+            }
+        }
+        return findCount(countQuery);
+    }
+
+    private Long findCount(PreparedQuery<?, Number> countQuery) {
+        Number n = operations.findOne(countQuery);
+        return n != null ? n.longValue() : null;
+    }
+
+    private record CountStrategyDefinition(CountStrategy.Type type, Duration ttl, long limit) {
+
+        static CountStrategyDefinition of(MethodInvocationContext<?, ?> context, ConversionService conversionService) {
+            CountStrategy.Type type = context.enumValue(CountStrategy.class, CountStrategy.Type.class).orElse(CountStrategy.Type.EXACT);
+            Duration ttl = context.stringValue(CountStrategy.class, "ttl")
+                .flatMap(value -> conversionService.convert(value, Duration.class))
+                .orElse(DEFAULT_TTL);
+            long limit = context.longValue(CountStrategy.class, "limit").orElse(DEFAULT_LIMIT);
+            return new CountStrategyDefinition(type, ttl, limit);
+        }
+    }
+
+    private record CountCacheKey(Class<?> repositoryType, String query, List<Object> values) {
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.intercept;
+
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.data.annotation.ChunkSize;
+import io.micronaut.data.annotation.TypeRole;
+import io.micronaut.data.intercept.RepositoryMethodKey;
+import io.micronaut.data.intercept.SaveStreamInterceptor;
+import io.micronaut.data.operations.RepositoryOperations;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Default implementation of {@link SaveStreamInterceptor}.
+ * The entities are pulled lazily from the stream and persisted in the chunks of {@link ChunkSize},
+ * each chunk is released after it's persisted and passed to the optional callback parameter.
+ *
+ * @param <T> The declaring type
+ * @param <R> The return type
+ * @since 4.12.0
+ */
+public class DefaultSaveStreamInterceptor<T, R> extends AbstractQueryInterceptor<T, R>
+        implements SaveStreamInterceptor<T, R> {
+
+    /**
+     * Default constructor.
+     * @param operations The operations
+     */
+    protected DefaultSaveStreamInterceptor(@NonNull RepositoryOperations operations) {
+        super(operations);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public R intercept(RepositoryMethodKey methodKey, MethodInvocationContext<T, R> context) {
+        int chunkSize = context.intValue(ChunkSize.class).orElse(ChunkSize.DEFAULT);
+        if (chunkSize <= 0) {
+            throw new IllegalStateException("The chunk size must be positive: " + chunkSize);
+        }
+        Consumer<List<Object>> callback = findCallback(context);
+        long count = 0;
+        try (Stream<Object> stream = getRequiredParameterInRole(context, TypeRole.ENTITIES, Stream.class)) {
+            Iterator<Object> iterator = stream.iterator();
+            List<Object> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    count += persistChunk(context, chunk, callback);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                count += persistChunk(context, chunk, callback);
+            }
+        }
+        ReturnType<R> rt = context.getReturnType();
+        if (rt.isVoid()) {
+            return null;
+        }
+        return operations.getConversionService().convert(count, rt.asArgument())
+                .orElseThrow(() -> new IllegalStateException("Unsupported return type: " + rt.getType()));
+    }
+
+    private int persistChunk(MethodInvocationContext<T, R> context, List<Object> chunk, @Nullable Consumer<List<Object>> callback) {
+        Iterable<Object> persisted = operations.persistAll(getInsertBatchOperation(context, chunk));
+        if (callback == null) {
+            return count(persisted);
+        }
+        List<Object> persistedChunk = new ArrayList<>(chunk.size());
+        persisted.forEach(persistedChunk::add);
+        callback.accept(persistedChunk);
+        return persistedChunk.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private Consumer<List<Object>> findCallback(MethodInvocationContext<T, R> context) {
+        for (Object value : context.getParameterValues()) {
+            if (value instanceof Consumer<?> consumer) {
+                return (Consumer<List<Object>>) consumer;
+            }
+        }
+        return null;
+    }
+}
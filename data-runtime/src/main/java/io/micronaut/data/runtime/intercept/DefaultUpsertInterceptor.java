@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.intercept;
+
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.data.intercept.RepositoryMethodKey;
+import io.micronaut.data.intercept.UpsertInterceptor;
+import io.micronaut.data.operations.RepositoryOperations;
+
+import java.util.Optional;
+
+/**
+ * Default implementation of {@link UpsertInterceptor}.
+ *
+ * @param <T> The declaring type
+ * @param <R> The return type
+ * @since 4.12.0
+ */
+public class DefaultUpsertInterceptor<T, R> extends AbstractQueryInterceptor<T, R>
+        implements UpsertInterceptor<T, R> {
+
+    /**
+     * Default constructor.
+     * @param operations The operations
+     */
+    protected DefaultUpsertInterceptor(@NonNull RepositoryOperations operations) {
+        super(operations);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public R intercept(RepositoryMethodKey methodKey, MethodInvocationContext<T, R> context) {
+        ReturnType<R> rt = context.getReturnType();
+        Optional<Iterable<Object>> entities = findEntitiesParameter(context, Object.class);
+        Object result;
+        long count;
+        if (entities.isPresent()) {
+            Iterable<Object> rs = operations.upsertAll(getInsertBatchOperation(context, entities.get()));
+            result = rs;
+            count = isNumber(rt.getType()) ? count(rs) : 0;
+        } else {
+            Object entity = getEntityParameter(context, Object.class);
+            result = operations.upsert(getInsertOperation(context, entity));
+            count = 1;
+        }
+        if (rt.isVoid()) {
+            return null;
+        }
+        if (isNumber(rt.getType())) {
+            return operations.getConversionService().convert(count, rt.asArgument())
+                    .orElseThrow(() -> new IllegalStateException("Unsupported return type: " + rt.getType()));
+        }
+        if (entities.isPresent()) {
+            return operations.getConversionService().convert(result, rt.asArgument())
+                    .orElseThrow(() -> new IllegalStateException("Unsupported iterable return type: " + rt.getType()));
+        }
+        return (R) result;
+    }
+}
@@ -24,7 +24,7 @@ import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.operations.RepositoryOperations;
-import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery;
+import io.micronaut.data.runtime.operations.internal.query.CursoredPreparedQuery;
 import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
@@ -91,8 +91,8 @@ public class FindPageSpecificationInterceptor extends AbstractSpecificationInter
             page = Page.of(resultList, pageable, count);
         } else {
             PreparedQuery<?, ?> preparedQuery = (PreparedQuery<?, ?>) context.getAttribute(PREPARED_QUERY_KEY).orElse(null);
-            if (preparedQuery instanceof DefaultSqlPreparedQuery<?, ?> sqlPreparedQuery) {
-                List<Pageable.Cursor> cursors = sqlPreparedQuery.createCursors(resultList, pageable);
+            if (preparedQuery instanceof CursoredPreparedQuery<?, ?> cursoredPreparedQuery) {
+                List<Pageable.Cursor> cursors = cursoredPreparedQuery.createCursors(resultList, pageable);
                 page = CursoredPage.of(resultList, pageable, cursors, count);
             } else {
                 throw new UnsupportedOperationException("Only offset pageable mode is supported by this query implementation");
@@ -24,7 +24,7 @@ import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.operations.RepositoryOperations;
-import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery;
+import io.micronaut.data.runtime.operations.internal.query.CursoredPreparedQuery;
 import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
@@ -110,8 +110,8 @@ public class FindPageReactiveSpecificationInterceptor extends AbstractReactiveSp
             page = Page.of(list, pageable, count);
         } else {
             PreparedQuery<?, ?> preparedQuery = (PreparedQuery<?, ?>) context.getAttribute(PREPARED_QUERY_KEY).orElse(null);
-            if (preparedQuery instanceof DefaultSqlPreparedQuery<?, ?> sqlPreparedQuery) {
-                List<Pageable.Cursor> cursors = sqlPreparedQuery.createCursors(list, pageable);
+            if (preparedQuery instanceof CursoredPreparedQuery<?, ?> cursoredPreparedQuery) {
+                List<Pageable.Cursor> cursors = cursoredPreparedQuery.createCursors(list, pageable);
                 page = CursoredPage.of(list, pageable, cursors, count);
             } else {
                 throw new UnsupportedOperationException("Only offset pageable mode is supported by this query implementation");
@@ -27,7 +27,9 @@ import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.operations.RepositoryOperations;
-import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery;
+import io.micronaut.data.runtime.operations.internal.query.CursoredPreparedQuery;
+import io.micronaut.data.runtime.query.PageResults;
+import io.micronaut.data.runtime.query.ReactiveSingleQueryPageOperations;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 
@@ -54,35 +56,40 @@ public class DefaultFindPageReactiveInterceptor extends AbstractPublisherInterce
     public Publisher<?> interceptPublisher(RepositoryMethodKey methodKey, MethodInvocationContext<Object, Object> context) {
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
+            if (reactiveOperations instanceof ReactiveSingleQueryPageOperations singleQueryPageOperations) {
+                Publisher<? extends PageResults<?>> pageResults = singleQueryPageOperations.findPageResults(preparedQuery);
+                if (pageResults != null) {
+                    return Flux.from(pageResults)
+                        .map(results -> createPage(preparedQuery, (List<Object>) results.content(), results.total()));
+                }
+            }
             PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
 
             return Flux.from(reactiveOperations.findOne(countQuery))
                 .flatMap(total -> {
                     Flux<Object> resultList = Flux.from(reactiveOperations.findAll(preparedQuery));
-                    return resultList.collectList().map(list -> {
-                            Pageable pageable = preparedQuery.getPageable();
-                            Page page;
-                            if (pageable.getMode() == Pageable.Mode.OFFSET) {
-                                page = Page.of(list, pageable, total.longValue());
-                            } else if (preparedQuery instanceof DefaultSqlPreparedQuery<?, ?> sqlPreparedQuery) {
-                                List<Pageable.Cursor> cursors;
-                                if (preparedQuery.getResultDataType() == DataType.ENTITY) {
-                                    cursors = sqlPreparedQuery.createCursors(list, pageable);
-                                } else if (sqlPreparedQuery.isDtoProjection()) {
-                                    RuntimePersistentEntity<Object> runtimePersistentEntity = (RuntimePersistentEntity<Object>) operations.getEntity(sqlPreparedQuery.getResultType());
-                                    cursors = sqlPreparedQuery.createCursors(list, pageable, runtimePersistentEntity);
-                                } else {
-                                    throw new IllegalStateException("CursoredPage cannot produce projection result");
-                                }
-                                page = CursoredPage.of(list, pageable, cursors, total.longValue());
-                            } else {
-                                throw new UnsupportedOperationException("Only offset pageable mode is supported by this query implementation");
-                            }
-                            return page;
-                        }
-                    );
+                    return resultList.collectList().map(list -> createPage(preparedQuery, list, total.longValue()));
                 });
         }
         return reactiveOperations.findPage(getPagedQuery(context));
     }
+
+    private Page<Object> createPage(PreparedQuery<?, ?> preparedQuery, List<Object> list, long total) {
+        Pageable pageable = preparedQuery.getPageable();
+        if (pageable.getMode() == Pageable.Mode.OFFSET) {
+            return Page.of(list, pageable, total);
+        } else if (preparedQuery instanceof CursoredPreparedQuery<?, ?> cursoredPreparedQuery) {
+            List<Pageable.Cursor> cursors;
+            if (preparedQuery.getResultDataType() == DataType.ENTITY) {
+                cursors = cursoredPreparedQuery.createCursors(list, pageable);
+            } else if (cursoredPreparedQuery.isDtoProjection()) {
+                RuntimePersistentEntity<Object> runtimePersistentEntity = (RuntimePersistentEntity<Object>) operations.getEntity(cursoredPreparedQuery.getResultType());
+                cursors = cursoredPreparedQuery.createCursors(list, pageable, runtimePersistentEntity);
+            } else {
+                throw new IllegalStateException("CursoredPage cannot produce projection result");
+            }
+            return CursoredPage.of(list, pageable, cursors, total);
+        }
+        throw new UnsupportedOperationException("Only offset pageable mode is supported by this query implementation");
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.intercept.reactive;
+
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.intercept.RepositoryMethodKey;
+import io.micronaut.data.intercept.reactive.UpsertReactiveInterceptor;
+import io.micronaut.data.operations.RepositoryOperations;
+import org.reactivestreams.Publisher;
+
+import java.util.Optional;
+
+/**
+ * Default implementation of {@link UpsertReactiveInterceptor}.
+ *
+ * @since 4.12.0
+ */
+public class DefaultUpsertReactiveInterceptor extends AbstractCountOrEntityPublisherInterceptor
+        implements UpsertReactiveInterceptor<Object, Object> {
+    /**
+     * Default constructor.
+     *
+     * @param operations The operations
+     */
+    protected DefaultUpsertReactiveInterceptor(@NonNull RepositoryOperations operations) {
+        super(operations);
+    }
+
+    @Override
+    public Publisher<?> interceptPublisher(RepositoryMethodKey methodKey, MethodInvocationContext<Object, Object> context) {
+        Optional<Iterable<Object>> entities = findEntitiesParameter(context, Object.class);
+        if (entities.isPresent()) {
+            return reactiveOperations.upsertAll(getInsertBatchOperation(context, entities.get()));
+        }
+        Object entity = getEntityParameter(context, Object.class);
+        return reactiveOperations.upsert(getInsertOperation(context, entity));
+    }
+}
@@ -20,6 +20,7 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.data.annotation.Relation;
 import io.micronaut.data.event.EntityEventContext;
 import io.micronaut.data.event.EntityEventListener;
+import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.runtime.event.DefaultEntityEventContext;
@@ -74,7 +75,8 @@ public abstract class AbstractReactiveEntitiesOperations<Ctx extends OperationCo
         this.ctx = ctx;
         this.cascadeOperations = cascadeOperations;
         this.insert = insert;
-        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated();
+        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated()
+            && PersistentEntityUtils.getSequenceAllocationSize(persistentEntity.getIdentity()) == 1;
         Objects.requireNonNull(entities, "Entities cannot be null");
         this.entities = Flux.fromIterable(entities).map(entity -> {
             Data data = new Data();
@@ -21,6 +21,7 @@ import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.Relation;
 import io.micronaut.data.event.EntityEventContext;
 import io.micronaut.data.event.EntityEventListener;
+import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.runtime.event.DefaultEntityEventContext;
@@ -77,7 +78,8 @@ public abstract class AbstractSyncEntitiesOperations<Ctx extends OperationContex
         this.conversionService = conversionService;
         this.ctx = ctx;
         this.insert = insert;
-        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated();
+        this.hasGeneratedId = insert && persistentEntity.getIdentity() != null && persistentEntity.getIdentity().isGenerated()
+            && PersistentEntityUtils.getSequenceAllocationSize(persistentEntity.getIdentity()) == 1;
         Objects.requireNonNull(entities, "Entities cannot be null");
         Stream<T> stream;
         if (entities instanceof Collection collection) {
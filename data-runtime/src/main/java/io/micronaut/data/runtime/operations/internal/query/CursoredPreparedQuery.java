@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.query;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.data.model.CursoredPageable;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Pageable.Cursor;
+import io.micronaut.data.model.Pageable.Mode;
+import io.micronaut.data.model.PersistentEntity;
+import io.micronaut.data.model.PersistentProperty;
+import io.micronaut.data.model.Sort;
+import io.micronaut.data.model.Sort.Order;
+import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The prepared query supporting {@link CursoredPageable}.
+ *
+ * @param <E> The entity type
+ * @param <R> The result type
+ * @since 4.12.0
+ */
+@Internal
+public interface CursoredPreparedQuery<E, R> extends PreparedQuery<E, R> {
+
+    /**
+     * @return The persistent entity
+     */
+    RuntimePersistentEntity<E> getPersistentEntity();
+
+    /**
+     * Create the cursors from the scan results.
+     *
+     * @param results  The scanning results
+     * @param pageable The pageable sent by user
+     * @return The cursors
+     */
+    default List<Cursor> createCursors(List<Object> results, Pageable pageable) {
+        return createCursors(results, pageable, (RuntimePersistentEntity<Object>) getPersistentEntity());
+    }
+
+    /**
+     * Create the cursors from the scan results.
+     *
+     * @param results                 The scanning results
+     * @param pageable                The pageable sent by user
+     * @param runtimePersistentEntity The runtime persistent entity. Actual repository persistent
+     *                                entity type or custom runtime persistent entity in case of DTO projection.
+     * @return The cursors
+     */
+    default List<Cursor> createCursors(List<Object> results, Pageable pageable, RuntimePersistentEntity<Object> runtimePersistentEntity) {
+        return cursorsOf(results, pageable, runtimePersistentEntity);
+    }
+
+    /**
+     * Create the cursors from the scan results. Used by operations that page without a prepared query.
+     *
+     * @param results                 The scanning results
+     * @param pageable                The pageable sent by user
+     * @param runtimePersistentEntity The runtime persistent entity
+     * @return The cursors or null if the pageable is not cursored
+     */
+    static List<Cursor> cursorsOf(List<Object> results, Pageable pageable, RuntimePersistentEntity<Object> runtimePersistentEntity) {
+        if (pageable.getMode() != Mode.CURSOR_NEXT && pageable.getMode() != Mode.CURSOR_PREVIOUS) {
+            return null;
+        }
+        if (CollectionUtils.isEmpty(results)) {
+            return List.of();
+        }
+        if (pageable.getMode() == Mode.CURSOR_PREVIOUS) {
+            Collections.reverse(results);
+        }
+        Sort sort = enhanceCursoredSort(pageable.getSort(), false, runtimePersistentEntity);
+        List<Cursor> cursors = new ArrayList<>(results.size());
+        for (Object result : results) {
+            List<Object> cursorElements = new ArrayList<>(sort.getOrderBy().size());
+            for (Order order : sort.getOrderBy()) {
+                RuntimePersistentProperty<Object> property = runtimePersistentEntity.getPropertyByName(order.getProperty());
+                if (property == null) {
+                    throw new IllegalStateException("Entity " + runtimePersistentEntity + " must contain property " + order.getProperty());
+                }
+                cursorElements.add(property.getProperty().get(result));
+            }
+            cursors.add(Cursor.of(cursorElements));
+        }
+        return cursors;
+    }
+
+    /**
+     * Create a sort for the cursored pagination. The sort must produce a unique
+     * sorting on the rows. Therefore, we make sure id is present in it.
+     *
+     * @param sort             The sort
+     * @param isBackwards      Whether the pagination is backwards
+     * @param persistentEntity The persistent entity
+     * @return The sort
+     */
+    static Sort enhanceCursoredSort(Sort sort, boolean isBackwards, PersistentEntity persistentEntity) {
+        List<Order> orders = new ArrayList<>(sort.getOrderBy());
+        for (PersistentProperty idProperty : persistentEntity.getIdentityProperties()) {
+            String name = idProperty.getName();
+            if (orders.stream().noneMatch(o -> o.getProperty().equals(name))) {
+                orders.add(Order.asc(name));
+            }
+        }
+        sort = Sort.of(orders);
+        if (isBackwards && sort.isSorted()) {
+            return Sort.of(sort.getOrderBy().stream().map(Order::reverse).toList());
+        }
+        return sort;
+    }
+
+    /**
+     * Enhance the pageable with the sort required by the cursored pagination.
+     *
+     * @param cursored         The pageable
+     * @param persistentEntity The persistent entity
+     * @return The pageable
+     */
+    static CursoredPageable enhancePageable(CursoredPageable cursored, PersistentEntity persistentEntity) {
+        return cursored.withSort(enhanceCursoredSort(cursored.getSort(), cursored.isBackward(), persistentEntity));
+    }
+}
@@ -22,6 +22,7 @@ import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.data.annotation.AutoPopulated;
@@ -62,6 +63,7 @@ import io.micronaut.data.runtime.mapper.sql.SqlJsonValueMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlResultEntityTypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlTypeMapper;
 import io.micronaut.data.runtime.operations.internal.AbstractRepositoryOperations;
+import io.micronaut.data.runtime.query.CountQueryResolver;
 import io.micronaut.data.runtime.query.MethodContextAwareStoredQueryDecorator;
 import io.micronaut.data.runtime.query.PreparedQueryDecorator;
 import io.micronaut.data.runtime.query.internal.BasicStoredQuery;
@@ -76,11 +78,13 @@ import org.slf4j.Logger;
 import java.io.IOException;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
@@ -102,6 +106,7 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     extends AbstractRepositoryOperations implements ApplicationContextProvider,
     PreparedQueryDecorator,
     MethodContextAwareStoredQueryDecorator,
+    CountQueryResolver,
     HintsCapableRepository {
 
     protected static final Logger QUERY_LOG = DataSettings.QUERY_LOG;
@@ -119,7 +124,12 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     protected final Map<Class, String> repositoriesWithHardcodedDataSource = new HashMap<>(10);
     private final Map<QueryKey, SqlStoredQuery> entityInserts = new ConcurrentHashMap<>(10);
     private final Map<QueryKey, SqlStoredQuery> entityUpdates = new ConcurrentHashMap<>(10);
+    private final Map<QueryKey, SqlStoredQuery> entityUpserts = new ConcurrentHashMap<>(10);
+    private final Map<QueryKey, SqlBulkStatement> entityBulkUpdates = new ConcurrentHashMap<>(10);
+    private final Map<QueryKey, SqlBulkStatement> entityBulkDeletes = new ConcurrentHashMap<>(10);
+    private final Map<QueryKey, String> entityCounts = new ConcurrentHashMap<>(10);
     private final Map<Association, String> associationInserts = new ConcurrentHashMap<>(10);
+    private final Map<RuntimePersistentEntity<?>, Optional<PooledIdAllocator>> pooledIdAllocators = new ConcurrentHashMap<>(10);
 
     /**
      * Default constructor.
@@ -181,6 +191,42 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         return new DefaultSqlPreparedQuery<>(preparedQuery);
     }
 
+    @Override
+    public <E> PreparedQuery<E, Number> resolveLimitedCountQuery(PreparedQuery<E, Number> countQuery, long limit) {
+        if (countQuery instanceof DefaultSqlPreparedQuery<E, Number> sqlPreparedQuery && !sqlPreparedQuery.isRawQuery()) {
+            return CountSqlPreparedQuery.limited(sqlPreparedQuery, resolveEntityCount(sqlPreparedQuery), limit);
+        }
+        return null;
+    }
+
+    @Override
+    public <E> PreparedQuery<E, Number> resolveEstimatedCountQuery(PreparedQuery<E, Number> countQuery) {
+        if (countQuery instanceof DefaultSqlPreparedQuery<E, Number> sqlPreparedQuery && !sqlPreparedQuery.isRawQuery()) {
+            return CountSqlPreparedQuery.estimated(sqlPreparedQuery, resolveEntityCount(sqlPreparedQuery));
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the count of all the entities built from the query model, the reference for the alternative count queries.
+     *
+     * @param countQuery The count query
+     * @param <E>        The entity type
+     * @return The count query of all the entities
+     */
+    private <E> String resolveEntityCount(DefaultSqlPreparedQuery<E, Number> countQuery) {
+        Class<E> rootEntity = countQuery.getRootEntity();
+        return entityCounts.computeIfAbsent(new QueryKey(countQuery.getRepositoryType(), rootEntity), queryKey -> {
+            var criteriaBuilder = new RuntimeCriteriaBuilder(runtimeEntityRegistry);
+            var criteriaQuery = criteriaBuilder.createQuery();
+            var root = criteriaQuery.from(rootEntity);
+            criteriaQuery.select(criteriaBuilder.count(root));
+            return ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery)
+                .buildQuery(AnnotationMetadata.EMPTY_METADATA, countQuery.getQueryBuilder())
+                .getQuery();
+        });
+    }
+
     @Override
     public <E, R> StoredQuery<E, R> decorate(MethodInvocationContext<?, ?> context, StoredQuery<E, R> storedQuery) {
         Class<?> repositoryType = context.getTarget().getClass();
@@ -315,6 +361,32 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         });
     }
 
+    /**
+     * Resolves a stored upsert for the given entity.
+     *
+     * @param annotationMetadata The repository annotation metadata
+     * @param repositoryType     The repository type
+     * @param rootEntity         The root entity
+     * @param persistentEntity   The persistent entity
+     * @param <E>                The entity type
+     * @return The upsert
+     * @since 4.12.0
+     */
+    @NonNull
+    protected <E> SqlStoredQuery<E, E> resolveEntityUpsert(AnnotationMetadata annotationMetadata,
+                                                           Class<?> repositoryType,
+                                                           @NonNull Class<E> rootEntity,
+                                                           @NonNull RuntimePersistentEntity<E> persistentEntity) {
+
+        //noinspection unchecked
+        return entityUpserts.computeIfAbsent(new QueryKey(repositoryType, rootEntity), (queryKey) -> {
+            final SqlQueryBuilder2 queryBuilder = findQueryBuilder(repositoryType);
+            final QueryResult queryResult = queryBuilder.buildUpsert(annotationMetadata, persistentEntity);
+
+            return new DefaultSqlStoredQuery<>(QueryResultStoredQuery.single(OperationType.INSERT, "Custom upsert", AnnotationMetadata.EMPTY_METADATA, queryResult, rootEntity), persistentEntity, queryBuilder);
+        });
+    }
+
     /**
      * Builds a join table insert.
      *
@@ -377,6 +449,110 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         });
     }
 
+    /**
+     * Resolves a stored update of the given properties of the entity.
+     * The updates are cached per set of the properties.
+     *
+     * @param annotationMetadata The repository annotation metadata
+     * @param repositoryType     The repository type
+     * @param rootEntity         The root entity
+     * @param persistentEntity   The persistent entity
+     * @param properties         The indexes of the updated properties in {@link RuntimePersistentEntity#getPersistentProperties()}
+     * @param <E>                The entity type
+     * @return The update
+     * @since 4.12.0
+     */
+    @NonNull
+    protected <E> SqlStoredQuery<E, E> resolveEntityPartialUpdate(AnnotationMetadata annotationMetadata,
+                                                                  Class<?> repositoryType,
+                                                                  @NonNull Class<E> rootEntity,
+                                                                  @NonNull RuntimePersistentEntity<E> persistentEntity,
+                                                                  @NonNull BitSet properties) {
+
+        final QueryKey key = new QueryKey(repositoryType, rootEntity, (BitSet) properties.clone());
+        //noinspection unchecked
+        return entityUpdates.computeIfAbsent(key, (queryKey) -> {
+            final SqlQueryBuilder2 queryBuilder = findQueryBuilder(repositoryType);
+            final List<RuntimePersistentProperty<E>> persistentProperties = new ArrayList<>(persistentEntity.getPersistentProperties());
+            final List<String> propertyNames = queryKey.properties.stream()
+                .mapToObj(index -> persistentProperties.get(index).getName())
+                .toList();
+            final QueryResult queryResult = queryBuilder.buildPartialUpdate(annotationMetadata, persistentEntity, propertyNames);
+            return newEntityStoredQuery(OperationType.UPDATE, "Custom partial update", queryResult, rootEntity, persistentEntity, queryBuilder);
+        });
+    }
+
+    /**
+     * Resolves a bulk update of the entities of the given type.
+     *
+     * @param annotationMetadata The repository annotation metadata
+     * @param repositoryType     The repository type
+     * @param rootEntity         The root entity
+     * @param persistentEntity   The persistent entity
+     * @param <E>                The entity type
+     * @return The bulk update
+     * @since 4.12.0
+     */
+    @NonNull
+    protected <E> SqlBulkStatement<E> resolveEntityBulkUpdate(AnnotationMetadata annotationMetadata,
+                                                           Class<?> repositoryType,
+                                                           @NonNull Class<E> rootEntity,
+                                                           @NonNull RuntimePersistentEntity<E> persistentEntity) {
+
+        //noinspection unchecked
+        return entityBulkUpdates.computeIfAbsent(new QueryKey(repositoryType, rootEntity), (queryKey) -> {
+            final SqlQueryBuilder2 queryBuilder = findQueryBuilder(repositoryType);
+            final QueryResult queryResult = queryBuilder.buildBulkUpdate(annotationMetadata, persistentEntity, 1);
+            final SqlStoredQuery<E, E> storedQuery = newEntityStoredQuery(OperationType.UPDATE, "Custom bulk update", queryResult, rootEntity, persistentEntity, queryBuilder);
+            return new SqlBulkStatement<>(storedQuery, rows -> queryBuilder.buildBulkUpdate(annotationMetadata, persistentEntity, rows).getQuery());
+        });
+    }
+
+    /**
+     * Resolves a delete of the entities of the given type by the list of the identities.
+     *
+     * @param annotationMetadata The repository annotation metadata
+     * @param repositoryType     The repository type
+     * @param rootEntity         The root entity
+     * @param persistentEntity   The persistent entity
+     * @param <E>                The entity type
+     * @return The bulk delete
+     * @since 4.12.0
+     */
+    @NonNull
+    protected <E> SqlBulkStatement<E> resolveEntityBulkDelete(AnnotationMetadata annotationMetadata,
+                                                              Class<?> repositoryType,
+                                                              @NonNull Class<E> rootEntity,
+                                                              @NonNull RuntimePersistentEntity<E> persistentEntity) {
+
+        //noinspection unchecked
+        return entityBulkDeletes.computeIfAbsent(new QueryKey(repositoryType, rootEntity), (queryKey) -> {
+            final SqlQueryBuilder2 queryBuilder = findQueryBuilder(repositoryType);
+            final QueryResult queryResult = queryBuilder.buildBulkDelete(annotationMetadata, persistentEntity, 1);
+            final SqlStoredQuery<E, E> storedQuery = newEntityStoredQuery(OperationType.DELETE, "Custom bulk delete", queryResult, rootEntity, persistentEntity, queryBuilder);
+            return new SqlBulkStatement<>(storedQuery, rows -> queryBuilder.buildBulkDelete(annotationMetadata, persistentEntity, rows).getQuery());
+        });
+    }
+
+    private <E> SqlStoredQuery<E, E> newEntityStoredQuery(OperationType operationType,
+                                                          String name,
+                                                          QueryResult queryResult,
+                                                          Class<E> rootEntity,
+                                                          RuntimePersistentEntity<E> persistentEntity,
+                                                          SqlQueryBuilder2 queryBuilder) {
+        final boolean optimisticLock = persistentEntity.getVersion() != null && !persistentEntity.getVersion().isGenerated();
+        return new DefaultSqlStoredQuery<>(
+            QueryResultStoredQuery.single(operationType, name, AnnotationMetadata.EMPTY_METADATA, queryResult, rootEntity),
+            persistentEntity,
+            queryBuilder) {
+
+            @Override
+            public boolean isOptimisticLock() {
+                return optimisticLock;
+            }
+        };
+    }
+
     /**
      * Resolve SQL insert association operation.
      *
@@ -509,6 +685,32 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         throw new IllegalStateException("Expected for prepared query to be of type: SqlStoredQuery got: " + storedQuery.getClass().getName());
     }
 
+    /**
+     * Finds the allocator of the identities generated by a sequence with the allocation size greater than 1.
+     *
+     * @param persistentEntity The persistent entity
+     * @param sqlStoredQuery   The insert query
+     * @return The allocator or null if the identities are not pooled
+     * @throws DataAccessException if the dialect doesn't support sequences
+     * @since 4.12.0
+     */
+    @Nullable
+    protected final PooledIdAllocator findPooledIdAllocator(RuntimePersistentEntity<?> persistentEntity, SqlStoredQuery<?, ?> sqlStoredQuery) {
+        return pooledIdAllocators.computeIfAbsent(persistentEntity, entity -> {
+            int allocationSize = PersistentEntityUtils.getSequenceAllocationSize(entity.getIdentity());
+            if (allocationSize == 1) {
+                return Optional.empty();
+            }
+            if (sqlStoredQuery.getDialect() == Dialect.MYSQL) {
+                // MySQL has no sequences, the identities cannot be reserved in blocks
+                throw new DataAccessException("Dialect MYSQL doesn't support sequences, the identity of entity [" + entity.getName()
+                    + "] cannot be allocated with allocationSize " + allocationSize + ". Use GeneratedValue.Type.IDENTITY or an identity assigned by the client.");
+            }
+            String query = sqlStoredQuery.getQueryBuilder().buildSelectNextSequenceValue(entity);
+            return Optional.of(new PooledIdAllocator(allocationSize, query));
+        }).orElse(null);
+    }
+
     /**
      * Does supports batch for update queries.
      *
@@ -533,12 +735,14 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
      */
     protected boolean isSupportsBatchInsert(PersistentEntity persistentEntity, Dialect dialect) {
         // Oracle and MySql doesn't support a batch with returning generated ID: "DML Returning cannot be batched"
+        // The pooled identities are assigned before the insert
+        boolean isPooledId = PersistentEntityUtils.getSequenceAllocationSize(persistentEntity.getIdentity()) > 1;
         return switch (dialect) {
-            case SQL_SERVER -> false;
+            case SQL_SERVER -> isPooledId;
             case MYSQL, ORACLE -> {
                 if (persistentEntity.getIdentity() != null) {
                     // Oracle and MySql doesn't support a batch with returning generated ID: "DML Returning cannot be batched"
-                    yield !persistentEntity.getIdentity().isGenerated();
+                    yield !persistentEntity.getIdentity().isGenerated() || isPooledId;
                 }
                 yield false;
             }
@@ -546,6 +750,22 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         };
     }
 
+    /**
+     * Does supports batch for upsert queries.
+     *
+     * @param persistentEntity The persistent entity
+     * @param dialect          The dialect
+     * @return true if supported
+     * @since 4.12.0
+     */
+    protected boolean isSupportsBatchUpsert(PersistentEntity persistentEntity, Dialect dialect) {
+        PersistentProperty identity = persistentEntity.getIdentity();
+        if (identity == null || !identity.isGenerated() || PersistentEntityUtils.getSequenceAllocationSize(identity) > 1) {
+            return true;
+        }
+        return isSupportsBatchInsert(persistentEntity, dialect);
+    }
+
     /**
      * Does supports batch for update queries.
      *
@@ -780,10 +1000,17 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     private class QueryKey {
         final Class repositoryType;
         final Class entityType;
+        @Nullable
+        final BitSet properties;
 
         QueryKey(Class repositoryType, Class entityType) {
+            this(repositoryType, entityType, null);
+        }
+
+        QueryKey(Class repositoryType, Class entityType, @Nullable BitSet properties) {
             this.repositoryType = repositoryType;
             this.entityType = entityType;
+            this.properties = properties;
         }
 
         @Override
@@ -796,12 +1023,13 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
             }
             QueryKey queryKey = (QueryKey) o;
             return repositoryType.equals(queryKey.repositoryType) &&
-                entityType.equals(queryKey.entityType);
+                entityType.equals(queryKey.entityType) &&
+                Objects.equals(properties, queryKey.properties);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(repositoryType, entityType);
+            return Objects.hash(repositoryType, entityType, properties);
         }
     }
 
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.MappedEntity;
+import io.micronaut.data.annotation.sql.SqlMembers;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+
+/**
+ * The count query used by the count strategies other than exact.
+ * The query either limits the count of the original query or reads the estimated count from the database statistics.
+ * The original count query is compared to the count of all the entities built from the query model,
+ * only the queries extending it by the joins and the criteria can be limited.
+ *
+ * @param <E> The entity type
+ * @param <R> The result type
+ * @since 4.12.0
+ */
+@Internal
+final class CountSqlPreparedQuery<E, R> extends DefaultSqlPreparedQuery<E, R> {
+
+    private final long limit;
+    @Nullable
+    private final String selectClause;
+    @Nullable
+    private final String estimatedQuery;
+
+    private CountSqlPreparedQuery(DefaultSqlPreparedQuery<E, R> countQuery, long limit, @Nullable String selectClause, @Nullable String estimatedQuery) {
+        super(countQuery.getPreparedQueryDelegate(), countQuery.sqlStoredQuery);
+        this.limit = limit;
+        this.selectClause = selectClause;
+        this.estimatedQuery = estimatedQuery;
+    }
+
+    /**
+     * Creates a count query that counts at most the given number of rows.
+     *
+     * @param countQuery  The exact count query
+     * @param entityCount The count of all the entities built from the query model
+     * @param limit       The limit
+     * @param <E>         The entity type
+     * @param <R>         The result type
+     * @return The limited query or null if the count query cannot be limited
+     */
+    @Nullable
+    static <E, R> CountSqlPreparedQuery<E, R> limited(@NonNull DefaultSqlPreparedQuery<E, R> countQuery, @NonNull String entityCount, long limit) {
+        // SQL Server requires ORDER BY for the limit clause
+        if (limit <= 0 || countQuery.getDialect() == Dialect.SQL_SERVER || !countQuery.getQuery().startsWith(entityCount)) {
+            return null;
+        }
+        int fromIndex = entityCount.indexOf(" FROM ");
+        if (fromIndex < 0) {
+            return null;
+        }
+        return new CountSqlPreparedQuery<>(countQuery, limit, entityCount.substring(0, fromIndex + " FROM ".length()), null);
+    }
+
+    /**
+     * Creates a query that reads the estimated table size from the database statistics.
+     * Only supported for the count of all the entities without any criteria.
+     *
+     * @param countQuery  The exact count query
+     * @param entityCount The count of all the entities built from the query model
+     * @param <E>         The entity type
+     * @param <R>         The result type
+     * @return The estimated query or null if not supported
+     */
+    @Nullable
+    static <E, R> CountSqlPreparedQuery<E, R> estimated(@NonNull DefaultSqlPreparedQuery<E, R> countQuery, @NonNull String entityCount) {
+        if (!countQuery.getQuery().equals(entityCount) || !countQuery.getQueryBindings().isEmpty()) {
+            return null;
+        }
+        RuntimePersistentEntity<E> persistentEntity = countQuery.getPersistentEntity();
+        String estimatedQuery = switch (countQuery.getDialect()) {
+            case POSTGRES -> "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass('"
+                + escapeLiteral(countQuery.getQueryBuilder().getTableName(persistentEntity)) + "')";
+            case MYSQL -> {
+                String schema = persistentEntity.getAnnotationMetadata().stringValue(MappedEntity.class, SqlMembers.SCHEMA).orElse(null);
+                yield "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = "
+                    + (StringUtils.isNotEmpty(schema) ? "'" + escapeLiteral(schema) + "'" : "DATABASE()")
+                    + " AND TABLE_NAME = '" + escapeLiteral(persistentEntity.getPersistedName()) + "'";
+            }
+            default -> null;
+        };
+        if (estimatedQuery == null) {
+            return null;
+        }
+        return new CountSqlPreparedQuery<>(countQuery, 0, null, estimatedQuery);
+    }
+
+    private static String escapeLiteral(String value) {
+        return value.replace("'", "''");
+    }
+
+    @Override
+    public String getQuery() {
+        if (estimatedQuery != null) {
+            return estimatedQuery;
+        }
+        String countQuery = super.getQuery();
+        return "SELECT COUNT(*) FROM (SELECT 1 FROM " + countQuery.substring(selectClause.length())
+            + getQueryBuilder().buildLimitAndOffset(limit, 0) + ") count_";
+    }
+}
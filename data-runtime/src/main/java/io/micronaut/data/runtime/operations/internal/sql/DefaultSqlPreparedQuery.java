@@ -28,7 +28,6 @@ import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Pageable.Cursor;
 import io.micronaut.data.model.Pageable.Mode;
 import io.micronaut.data.model.PersistentEntity;
-import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.Sort.Order;
 import io.micronaut.data.model.query.builder.AbstractSqlLikeQueryBuilder;
@@ -40,6 +39,7 @@ import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.QueryResultInfo;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import io.micronaut.data.runtime.operations.internal.query.CursoredPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.query.DummyPreparedQuery;
 import io.micronaut.data.runtime.query.internal.DelegatePreparedQuery;
@@ -62,7 +62,7 @@ import java.util.Optional;
  * @since 3.5.0
  */
 @Internal
-public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPreparedQuery<E, R> implements SqlPreparedQuery<E, R>, DelegatePreparedQuery<E, R> {
+public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPreparedQuery<E, R> implements SqlPreparedQuery<E, R>, DelegatePreparedQuery<E, R>, CursoredPreparedQuery<E, R> {
 
     protected List<QueryParameterBinding> cursorQueryBindings;
     protected List<RuntimePersistentProperty<Object>> cursorProperties;
@@ -218,24 +218,11 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
     }
 
     public static Sort enhanceCursoredSort(Sort sort, boolean isBackwards, PersistentEntity persistentEntity) {
-        // Create a sort for the cursored pagination. The sort must produce a unique
-        // sorting on the rows. Therefore, we make sure id is present in it.
-        List<Order> orders = new ArrayList<>(sort.getOrderBy());
-        for (PersistentProperty idProperty: persistentEntity.getIdentityProperties()) {
-            String name = idProperty.getName();
-            if (orders.stream().noneMatch(o -> o.getProperty().equals(name))) {
-                orders.add(Order.asc(name));
-            }
-        }
-        sort = Sort.of(orders);
-        if (isBackwards) {
-            return reverseSort(sort);
-        }
-        return sort;
+        return CursoredPreparedQuery.enhanceCursoredSort(sort, isBackwards, persistentEntity);
     }
 
     public static CursoredPageable enhancePageable(CursoredPageable cursored, PersistentEntity persistentEntity) {
-        return cursored.withSort(enhanceCursoredSort(cursored.getSort(), cursored.isBackward(), persistentEntity));
+        return CursoredPreparedQuery.enhancePageable(cursored, persistentEntity);
     }
 
     @Override
@@ -287,19 +274,6 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         }
     }
 
-    /**
-     * A utility method for reversing the sort.
-     *
-     * @param sort The current sort
-     * @return reversed sort
-     */
-    private static Sort reverseSort(Sort sort) {
-        if (!sort.isSorted()) {
-            return sort;
-        }
-        return Sort.of(sort.getOrderBy().stream().map(Order::reverse).toList());
-    }
-
     @NonNull
     private String buildCursorPagination(@NonNull CursoredPageable cursoredPageable, int paramIndex, @Nullable String tableAlias) {
         RuntimePersistentEntity<Object> persistentEntity = (RuntimePersistentEntity<Object>) getPersistentEntity();
@@ -382,6 +356,7 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
      * @since 4.8.0
      */
     @Internal
+    @Override
     public List<Cursor> createCursors(List<Object> results, Pageable pageable) {
         return createCursors(results, pageable, (RuntimePersistentEntity<Object>) getPersistentEntity());
     }
@@ -398,6 +373,7 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
      * @since 4.8.0
      */
     @Internal
+    @Override
     public List<Cursor> createCursors(List<Object> results, Pageable pageable, RuntimePersistentEntity<Object> runtimePersistentEntity) {
         if (pageable.getMode() != Mode.CURSOR_NEXT && pageable.getMode() != Mode.CURSOR_PREVIOUS) {
             return null;
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * The client side allocator of the identities generated by a sequence incremented by the allocation size.
+ * Each value of the sequence allocates a block of identities starting with the value, the identities
+ * of the current block are shared by the concurrent inserts without locking.
+ * A block replaced by a concurrently allocated block is abandoned, leaving a gap in the identities.
+ *
+ * @since 4.12.0
+ */
+@Internal
+public final class PooledIdAllocator {
+
+    private final int allocationSize;
+    private final String query;
+    private final AtomicReference<Block> block = new AtomicReference<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param allocationSize The allocation size
+     * @param query          The query selecting the next value of the sequence
+     */
+    PooledIdAllocator(int allocationSize, @NonNull String query) {
+        this.allocationSize = allocationSize;
+        this.query = query;
+    }
+
+    /**
+     * @return The query selecting the next value of the sequence
+     */
+    @NonNull
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns the next identity, allocating a new block if the current one is exhausted.
+     *
+     * @param sequence The supplier of the next sequence value
+     * @return The identity
+     */
+    public long nextId(@NonNull LongSupplier sequence) {
+        Long id = tryNextId();
+        if (id != null) {
+            return id;
+        }
+        return allocate(sequence.getAsLong());
+    }
+
+    /**
+     * Returns the next identity of the current block.
+     *
+     * @return The identity or null if a new block must be allocated
+     */
+    @Nullable
+    public Long tryNextId() {
+        Block current = block.get();
+        if (current == null) {
+            return null;
+        }
+        long id = current.next.getAndIncrement();
+        return id < current.end ? id : null;
+    }
+
+    /**
+     * Starts a new block of identities from the sequence value.
+     *
+     * @param sequenceValue The sequence value
+     * @return The first identity of the block
+     */
+    public long allocate(long sequenceValue) {
+        block.set(new Block(sequenceValue + allocationSize, new AtomicLong(sequenceValue + 1)));
+        return sequenceValue;
+    }
+
+    private record Block(long end, AtomicLong next) {
+    }
+}
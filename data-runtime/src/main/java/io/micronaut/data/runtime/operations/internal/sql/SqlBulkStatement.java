@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * The statement processing multiple entities at once, for example the bulk update joining the table with the rows of the values
+ * or the delete by the list of the identities. The statements are cached per number of rows. The rows are split into the chunks
+ * of the maximum size and the remainder into the chunks sized by the powers of two to keep the number of the cached statements bounded.
+ *
+ * @param <E> The entity type
+ * @since 4.12.0
+ */
+@Internal
+public final class SqlBulkStatement<E> {
+
+    private static final int MAX_ROWS = 1000;
+    /**
+     * SQL Server allows at most 2100 parameters in a request, one of them is reserved for the driver.
+     */
+    static final int SQL_SERVER_MAX_PARAMETERS = 2099;
+    private static final int POSTGRES_MAX_PARAMETERS = 32767;
+    private static final int MAX_PARAMETERS = 65535;
+
+    private final SqlStoredQuery<E, E> storedQuery;
+    private final IntFunction<String> queryBuilder;
+    private final int maxRows;
+    private final Map<Integer, String> queries = new ConcurrentHashMap<>(10);
+
+    SqlBulkStatement(SqlStoredQuery<E, E> storedQuery, IntFunction<String> queryBuilder) {
+        this.storedQuery = storedQuery;
+        this.queryBuilder = queryBuilder;
+        int parameters = Math.max(1, storedQuery.getQueryBindings().size());
+        int maxParameters = switch (storedQuery.getDialect()) {
+            case SQL_SERVER -> SQL_SERVER_MAX_PARAMETERS;
+            case POSTGRES -> POSTGRES_MAX_PARAMETERS;
+            default -> MAX_PARAMETERS;
+        };
+        this.maxRows = Math.max(1, Math.min(MAX_ROWS, maxParameters / parameters));
+        queries.put(1, storedQuery.getQuery());
+    }
+
+    /**
+     * The query of one row, binds the parameters of each row.
+     *
+     * @return The stored query
+     */
+    @NonNull
+    public SqlStoredQuery<E, E> getStoredQuery() {
+        return storedQuery;
+    }
+
+    /**
+     * @return The maximum number of the rows of one statement
+     */
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Resolves the number of the rows processed by the next statement.
+     *
+     * @param remaining The number of the remaining rows
+     * @param chunkSize The requested chunk size
+     * @return The number of the rows
+     */
+    public int nextChunk(int remaining, int chunkSize) {
+        int rows = Math.max(1, Math.min(chunkSize, maxRows));
+        if (remaining >= rows) {
+            return rows;
+        }
+        return Integer.highestOneBit(remaining);
+    }
+
+    /**
+     * Builds the query processing the given number of rows.
+     *
+     * @param rows The number of rows
+     * @return The query
+     */
+    @NonNull
+    public String getQuery(int rows) {
+        return queries.computeIfAbsent(rows, queryBuilder::apply);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.PersistentEntity;
+import io.micronaut.data.model.PersistentEntityUtils;
+import io.micronaut.data.model.PersistentProperty;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.model.runtime.StoredQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * The multi-row insert of the dialects that cannot batch the inserts returning the generated identity.
+ * The single row insert query is rewritten to insert multiple rows with one statement.
+ * MySQL returns the generated keys of all the inserted rows.
+ * SQL Server doesn't guarantee the order of the rows returned by the {@code OUTPUT} clause of an insert
+ * and doesn't allow the clause without {@code INTO} on the tables with triggers, the rows are inserted
+ * by a {@code MERGE} whose source rows carry their ordinal. The ordinals and the generated identities
+ * are output into a table variable, which is read ordered by the ordinal.
+ *
+ * @since 4.12.0
+ */
+@Internal
+public final class SqlMultiRowInsert {
+
+    private static final String INSERT_INTO = "INSERT INTO ";
+    private static final String VALUES = " VALUES (";
+    private static final int SQL_SERVER_MAX_ROWS = 1000;
+    private static final int MYSQL_MAX_PARAMETERS = 65535;
+    private static final int MYSQL_MAX_ROWS = 1000;
+    private static final String SOURCE = "[mn_src]";
+    private static final String ORDINAL = "[mn_ord]";
+
+    private final String prefix;
+    private final String row;
+    private final String suffix;
+    private final int rowsPerStatement;
+    private final boolean returnsIdentity;
+
+    private SqlMultiRowInsert(String prefix, String row, String suffix, int rowsPerStatement, boolean returnsIdentity) {
+        this.prefix = prefix;
+        this.row = row;
+        this.suffix = suffix;
+        this.rowsPerStatement = rowsPerStatement;
+        this.returnsIdentity = returnsIdentity;
+    }
+
+    /**
+     * Creates the multi-row insert of the insert query.
+     *
+     * @param persistentEntity The persistent entity
+     * @param storedQuery      The insert query
+     * @return The multi-row insert or null if not supported
+     */
+    @Nullable
+    public static SqlMultiRowInsert of(@NonNull PersistentEntity persistentEntity, @NonNull SqlStoredQuery<?, ?> storedQuery) {
+        if (storedQuery.getOperationType() != StoredQuery.OperationType.INSERT) {
+            return null;
+        }
+        Dialect dialect = storedQuery.getDialect();
+        if (dialect != Dialect.SQL_SERVER && dialect != Dialect.MYSQL) {
+            return null;
+        }
+        String query = storedQuery.getQuery();
+        int valuesIndex = query.lastIndexOf(VALUES);
+        if (!query.startsWith(INSERT_INTO) || valuesIndex == -1 || !query.endsWith(")")) {
+            return null;
+        }
+        PersistentProperty identity = persistentEntity.getIdentity();
+        boolean hasGeneratedId = identity != null && identity.isGenerated()
+            && PersistentEntityUtils.getSequenceAllocationSize(identity) == 1;
+        if (hasGeneratedId && dialect == Dialect.MYSQL && identity.getDataType() == DataType.UUID) {
+            // The UUID is not an auto increment column
+            return null;
+        }
+        String prefix = query.substring(0, valuesIndex);
+        String row = query.substring(valuesIndex + VALUES.length() - 1);
+        int parameters = (int) row.chars().filter(c -> c == '?').count();
+        int maxParameters = dialect == Dialect.SQL_SERVER ? SqlBulkStatement.SQL_SERVER_MAX_PARAMETERS : MYSQL_MAX_PARAMETERS;
+        int maxRows = dialect == Dialect.SQL_SERVER ? SQL_SERVER_MAX_ROWS : MYSQL_MAX_ROWS;
+        int rowsPerStatement = parameters == 0 ? maxRows : Math.max(1, Math.min(maxRows, maxParameters / parameters));
+        if (hasGeneratedId && dialect == Dialect.SQL_SERVER) {
+            return ofSqlServerMerge(prefix, row, identity, rowsPerStatement);
+        }
+        return new SqlMultiRowInsert(prefix + " VALUES ", row, "", rowsPerStatement, false);
+    }
+
+    /**
+     * Creates the SQL Server insert returning the generated identities in the order of the rows.
+     *
+     * @param insert           The insert of the table and columns
+     * @param row              The values of one row
+     * @param identity         The generated identity
+     * @param rowsPerStatement The maximum number of rows inserted by one statement
+     * @return The multi-row insert or null if the identity type is not supported
+     */
+    @Nullable
+    private static SqlMultiRowInsert ofSqlServerMerge(String insert, String row, PersistentProperty identity, int rowsPerStatement) {
+        String identityType = switch (identity.getDataType()) {
+            case SHORT -> "SMALLINT";
+            case INTEGER -> "INT";
+            case LONG -> "BIGINT";
+            case UUID -> "UNIQUEIDENTIFIER";
+            default -> null;
+        };
+        int columnsIndex = insert.indexOf(" (", INSERT_INTO.length());
+        List<String> values = splitValues(row);
+        if (identityType == null || columnsIndex == -1 || values == null) {
+            return null;
+        }
+        String table = insert.substring(INSERT_INTO.length(), columnsIndex);
+        String columns = insert.substring(columnsIndex + 1);
+        StringJoiner sourceColumns = new StringJoiner(",", "(", "," + ORDINAL + ")");
+        StringJoiner sourceValues = new StringJoiner(",", "(", ")");
+        for (int i = 0; i < values.size(); i++) {
+            sourceColumns.add("[mn_c" + i + "]");
+            sourceValues.add(SOURCE + ".[mn_c" + i + "]");
+        }
+        String identityColumn = "[" + identity.getPersistedName() + "]";
+        String prefix = "SET NOCOUNT ON;"
+            + " DECLARE @mn_ids TABLE (" + ORDINAL + " INT, " + identityColumn + " " + identityType + ");"
+            + " MERGE INTO " + table + " USING (VALUES ";
+        String suffix = ") AS " + SOURCE + " " + sourceColumns + " ON 1 = 0"
+            + " WHEN NOT MATCHED THEN INSERT " + columns + " VALUES " + sourceValues
+            + " OUTPUT " + SOURCE + "." + ORDINAL + ", INSERTED." + identityColumn + " INTO @mn_ids;"
+            + " SELECT " + identityColumn + " FROM @mn_ids ORDER BY " + ORDINAL;
+        // The ordinal is appended to the values of every row
+        return new SqlMultiRowInsert(prefix, row.substring(0, row.length() - 1) + ",", suffix, rowsPerStatement, true);
+    }
+
+    /**
+     * Splits the values of the row into the values of the columns.
+     *
+     * @param row The row values in parentheses
+     * @return The values or null if the parentheses don't match
+     */
+    @Nullable
+    private static List<String> splitValues(String row) {
+        List<String> values = new ArrayList<>();
+        int depth = 0;
+        int start = 1;
+        for (int i = 0; i < row.length(); i++) {
+            char c = row.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0 && i != row.length() - 1) {
+                    return null;
+                }
+            } else if (c == ',' && depth == 1) {
+                values.add(row.substring(start, i));
+                start = i + 1;
+            }
+        }
+        if (depth != 0) {
+            return null;
+        }
+        values.add(row.substring(start, row.length() - 1));
+        return values;
+    }
+
+    /**
+     * Builds the query inserting the given number of rows.
+     *
+     * @param rows The number of rows
+     * @return The query
+     */
+    @NonNull
+    public String getQuery(int rows) {
+        StringBuilder builder = new StringBuilder(prefix.length() + suffix.length() + (row.length() + 6) * rows);
+        builder.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(row);
+            if (returnsIdentity) {
+                builder.append(i).append(')');
+            }
+        }
+        return builder.append(suffix).toString();
+    }
+
+    /**
+     * @return The maximum number of rows inserted by one statement
+     */
+    public int getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+
+    /**
+     * @return true if the statement returns the generated identities as the result set ordered by the rows
+     */
+    public boolean isReturnsIdentity() {
+        return returnsIdentity;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.query;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.runtime.PreparedQuery;
+
+/**
+ * Resolves the alternative count queries used by {@link io.micronaut.data.annotation.CountStrategy}.
+ * Implemented by the repository operations that can produce the queries.
+ *
+ * @since 4.12.0
+ */
+@Experimental
+public interface CountQueryResolver {
+
+    /**
+     * Resolve a count query that counts at most the given number of rows.
+     *
+     * @param countQuery The exact count query
+     * @param limit      The maximum number of rows to count
+     * @param <E>        The entity type
+     * @return The limited count query or null if not supported for the query
+     */
+    @Nullable
+    <E> PreparedQuery<E, Number> resolveLimitedCountQuery(@NonNull PreparedQuery<E, Number> countQuery, long limit);
+
+    /**
+     * Resolve a query that reads the estimated count from the database statistics.
+     *
+     * @param countQuery The exact count query
+     * @param <E>        The entity type
+     * @return The estimated count query or null if not supported for the query
+     */
+    @Nullable
+    <E> PreparedQuery<E, Number> resolveEstimatedCountQuery(@NonNull PreparedQuery<E, Number> countQuery);
+
+}
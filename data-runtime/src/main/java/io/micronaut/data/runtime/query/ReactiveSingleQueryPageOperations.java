@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.query;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.runtime.PreparedQuery;
+import org.reactivestreams.Publisher;
+
+/**
+ * The reactive variation of {@link SingleQueryPageOperations}.
+ *
+ * @since 4.12.0
+ */
+@Experimental
+public interface ReactiveSingleQueryPageOperations {
+
+    /**
+     * Find the page content and the total count.
+     *
+     * @param preparedQuery The paged query
+     * @param <E>           The entity type
+     * @param <R>           The result type
+     * @return The publisher of the page results or null if not supported for the query
+     */
+    @Nullable
+    <E, R> Publisher<PageResults<R>> findPageResults(@NonNull PreparedQuery<E, R> preparedQuery);
+
+}
@@ -0,0 +1,117 @@
+package io.micronaut.data.runtime.event.listeners
+
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.IdGenerator
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.event.PrePersist
+import io.micronaut.data.model.runtime.RuntimePersistentEntity
+import io.micronaut.data.runtime.event.DefaultEntityEventContext
+import io.micronaut.data.runtime.id.TsidIdGenerator
+import io.micronaut.data.runtime.id.UuidV7IdGenerator
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+@MicronautTest
+class IdGeneratingEntityEventListenerSpec extends Specification {
+
+    @Inject
+    IdGeneratingEntityEventListener entityEventListener
+
+    @Inject
+    UUIDGeneratingEntityEventListener uuidEntityEventListener
+
+    @Inject
+    UuidV7IdGenerator uuidV7IdGenerator
+
+    @Inject
+    TsidIdGenerator tsidIdGenerator
+
+    void "test UUID version 7 set"() {
+        given:
+            def persistentEntity = new RuntimePersistentEntity(UuidV7Entity)
+            def entity = new UuidV7Entity()
+            def event = new DefaultEntityEventContext(persistentEntity, entity)
+
+        when:
+            entityEventListener.supports(persistentEntity, PrePersist)
+            uuidEntityEventListener.supports(persistentEntity, PrePersist)
+            uuidEntityEventListener.prePersist(event)
+        then:"The random UUID is not assigned"
+            entity.id == null
+
+        when:
+            entityEventListener.prePersist(event)
+        then:
+            entity.id.version() == 7
+            entity.id.variant() == 2
+
+        when:"The identity is already set"
+            def id = entity.id
+            entityEventListener.prePersist(event)
+        then:
+            entity.id == id
+    }
+
+    void "test TSID set"() {
+        given:
+            def persistentEntity = new RuntimePersistentEntity(TsidEntity)
+            def entity = new TsidEntity()
+            def event = new DefaultEntityEventContext(persistentEntity, entity)
+
+        when:
+            entityEventListener.supports(persistentEntity, PrePersist)
+            entityEventListener.prePersist(event)
+        then:
+            entity.id > 0
+    }
+
+    void "test generated identities are monotonic"() {
+        given:
+            def uuids = (1..10_000).collect { uuidV7IdGenerator.next() }
+            def tsids = (1..10_000).collect { tsidIdGenerator.next() }
+
+        expect:
+            uuids == uuids.toSorted()
+            uuids.toSet().size() == uuids.size()
+            tsids == tsids.toSorted()
+            tsids.toSet().size() == tsids.size()
+    }
+
+    void "test generated identities are unique across threads"() {
+        given:
+            def ids = new ConcurrentLinkedQueue<Long>()
+            def executor = Executors.newFixedThreadPool(8)
+
+        when:
+            8.times {
+                executor.submit {
+                    10_000.times { ids.add(tsidIdGenerator.next()) }
+                }
+            }
+            executor.shutdown()
+            executor.awaitTermination(30, TimeUnit.SECONDS)
+
+        then:
+            ids.size() == 80_000
+            ids.toSet().size() == 80_000
+    }
+}
+
+@MappedEntity
+class UuidV7Entity {
+    @Id
+    @IdGenerator
+    UUID id
+}
+
+@MappedEntity
+class TsidEntity {
+    @Id
+    @IdGenerator(IdGenerator.Type.TSID)
+    Long id
+}
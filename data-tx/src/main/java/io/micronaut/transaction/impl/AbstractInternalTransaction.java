@@ -70,6 +70,15 @@ public abstract class AbstractInternalTransaction<C> implements InternalTransact
         return completed;
     }
 
+    @Override
+    public void triggerBeforeSavepoint() {
+        if (synchronizations != null) {
+            for (TransactionSynchronization synchronization : synchronizations) {
+                synchronization.beforeSavepoint();
+            }
+        }
+    }
+
     @Override
     public void triggerBeforeCommit() {
         if (synchronizations != null) {
@@ -167,5 +167,12 @@ public abstract sealed class DefaultTransactionStatus<C> extends AbstractInterna
             // The synchronization should be bound to the current TX
             existingTransaction.registerSynchronization(synchronization);
         }
+
+        @Override
+        public void triggerBeforeSavepoint() {
+            // The synchronizations of the current TX are registered in the existing TX
+            existingTransaction.triggerBeforeSavepoint();
+            super.triggerBeforeSavepoint();
+        }
     }
 }
@@ -66,6 +66,13 @@ public interface InternalTransaction<T> extends TransactionStatus<T> {
             "Transaction manager [" + getClass().getName() + "] does not support transaction suspension");
     }
 
+    /**
+     * Triggers {@link TransactionSynchronization#beforeSavepoint()} before the savepoint of the nested transaction is created.
+     *
+     * @since 4.12.0
+     */
+    void triggerBeforeSavepoint();
+
     void triggerBeforeCommit();
 
     void triggerAfterCommit();
@@ -347,6 +347,7 @@ public abstract class AbstractTransactionOperations<T extends InternalTransactio
         if (transaction.isNewTransaction()) {
             doBegin(transaction);
         } else if (transaction.isNestedTransaction()) {
+            transaction.triggerBeforeSavepoint();
             doNestedBegin(transaction);
         }
     }
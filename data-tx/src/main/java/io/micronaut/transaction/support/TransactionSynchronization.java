@@ -43,6 +43,16 @@ public interface TransactionSynchronization extends Ordered {
         UNKNOWN
     }
 
+    /**
+     * Invoked before the savepoint of a nested transaction is created.
+     * Can e.g. flush the pending SQL statements of the enclosing transaction,
+     * so they are not rolled back together with the nested transaction.
+     * @throws RuntimeException in case of errors; will be <b>propagated to the caller</b>
+     * @since 4.12.0
+     */
+    default void beforeSavepoint() {
+    }
+
     /**
      * Invoked before transaction commit (before "beforeCompletion").
      * Can e.g. flush transactional O/R Mapping sessions to the database.